@@ -35,6 +35,19 @@ public class JfmBuildMain {
 
     private static final String MAIN_SRC_PATH = "src/main/java";
 
+    /**
+     * Java 11+ versions of some classes, for the multi-release jar.
+     */
+    private static final String MAIN_JAVA11_SRC_PATH = "src/main/java11";
+    private static final String JAVA11_VERSION = "11";
+
+    /**
+     * Java 17+ versions of some classes, for the multi-release jar,
+     * using the Vector API (jdk.incubator.vector).
+     */
+    private static final String MAIN_JAVA17_SRC_PATH = "src/main/java17";
+    private static final String JAVA17_VERSION = "17";
+
     private static final String COMP_DIR_PATH = "build_comp";
 
     //--------------------------------------------------------------------------
@@ -58,6 +71,37 @@ public class JfmBuildMain {
                 COMP_DIR_PATH,
                 MAIN_SRC_PATH);
 
+        if (getJavaSpecVersion() >= 11) {
+            final JfmJavacHelper helper11 = new JfmJavacHelper(
+                    JAVA11_VERSION,
+                    JAVA11_VERSION,
+                    Arrays.asList(new String[]{COMP_DIR_PATH}));
+            helper11.compile(
+                    COMP_DIR_PATH + "/" + JfmJarBuilder.VERSIONS_DIR_PATH + "/" + JAVA11_VERSION,
+                    MAIN_JAVA11_SRC_PATH);
+        } else {
+            System.out.println("JDK < 11: not compiling " + MAIN_JAVA11_SRC_PATH);
+        }
+
+        if (getJavaSpecVersion() >= 17) {
+            final JfmJavacHelper helper17 = new JfmJavacHelper(
+                    Arrays.asList(new String[]{
+                            "-g:vars",
+                            "-Xlint:-options",
+                            "-source", JAVA17_VERSION,
+                            "-target", JAVA17_VERSION,
+                            "--add-modules", "jdk.incubator.vector"}),
+                    Arrays.asList(new String[]{COMP_DIR_PATH}),
+                    System.err);
+            helper17.compile(
+                    COMP_DIR_PATH + "/" + JfmJarBuilder.VERSIONS_DIR_PATH + "/" + JAVA17_VERSION,
+                    MAIN_JAVA17_SRC_PATH);
+        } else {
+            System.out.println("JDK < 17: not compiling " + MAIN_JAVA17_SRC_PATH);
+        }
+
+        JfmTabsGenerator.generateTabsResources(compDir);
+
         final String jarFilePath = "dist/" + JAR_FILE_NAME;
         JfmJarBuilder.createJarFile(
                 compDir,
@@ -66,4 +110,20 @@ public class JfmBuildMain {
         
         System.out.println("generated " + jarFilePath);
     }
+
+    //--------------------------------------------------------------------------
+    // PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    /**
+     * @return Java specification version of current JVM, as an int
+     *         (ex.: 6 for "1.6", 11 for "11").
+     */
+    private static int getJavaSpecVersion() {
+        String version = System.getProperty("java.specification.version");
+        if (version.startsWith("1.")) {
+            version = version.substring(2);
+        }
+        return Integer.parseInt(version);
+    }
 }
@@ -38,6 +38,12 @@ public class JfmJarBuilder {
     //--------------------------------------------------------------------------
     
     private static final String MODULE_NAME = "net.jafama";
+
+    /**
+     * Path, relatively to jar root, of the directory containing versioned
+     * classes, if any, in which case the jar is made multi-release.
+     */
+    static final String VERSIONS_DIR_PATH = "META-INF/versions";
     
     private static final int BUFFER_SIZE = 4096;
 
@@ -65,6 +71,10 @@ public class JfmJarBuilder {
             
             attributes.put(new Name("Automatic-Module-Name"), MODULE_NAME);
             
+            if (new File(filesRootDir, VERSIONS_DIR_PATH).isDirectory()) {
+                attributes.put(new Name("Multi-Release"), "true");
+            }
+            
             /*
              * We don't add "X-Compile-Source-JDK" and "X-Compile-Target-JDK"
              * attributes, because a jar could deliberately contain classes
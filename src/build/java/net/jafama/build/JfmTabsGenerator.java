@@ -0,0 +1,89 @@
+/*
+ * Copyright 2017 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama.build;
+
+import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+/**
+ * To generate look-up tables resources, from compiled classes,
+ * so that they don't have to be computed at run time.
+ */
+public class JfmTabsGenerator {
+
+    //--------------------------------------------------------------------------
+    // CONFIGURATION
+    //--------------------------------------------------------------------------
+    
+    private static final String CMN_CLASS_NAME = "net.jafama.CmnFastMath";
+
+    /**
+     * Must be consistent with CmnFastMath.TABS_RESOURCES_DIR.
+     */
+    private static final String TABS_RESOURCES_DIR_PATH = "net/jafama/tabs";
+
+    private static final String WRITE_METHOD_NAME = "writeTabsResources";
+
+    //--------------------------------------------------------------------------
+    // PUBLIC METHODS
+    //--------------------------------------------------------------------------
+
+    /**
+     * Must be called before tables resources are put into the specified
+     * directory, for tables to be computed and not loaded from them.
+     * 
+     * @param compDir Directory containing compiled classes, in which
+     *        resources are generated.
+     */
+    public static void generateTabsResources(File compDir) {
+        final File tabsDir = new File(compDir, TABS_RESOURCES_DIR_PATH);
+        JfmFsUtils.ensureEmptyDir(tabsDir);
+
+        final URL compDirUrl;
+        try {
+            compDirUrl = compDir.toURI().toURL();
+        } catch (MalformedURLException e) {
+            throw new RuntimeException(e);
+        }
+        // Null parent, for compiled classes not to be found elsewhere.
+        final URLClassLoader loader = new URLClassLoader(new URL[]{compDirUrl}, null);
+        try {
+            final Class<?> cmnClass = Class.forName(CMN_CLASS_NAME, true, loader);
+            final Method method = cmnClass.getDeclaredMethod(WRITE_METHOD_NAME, File.class);
+            method.setAccessible(true);
+            method.invoke(null, tabsDir);
+        } catch (ClassNotFoundException e) {
+            throw new RuntimeException(e);
+        } catch (NoSuchMethodException e) {
+            throw new RuntimeException(e);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        } catch (InvocationTargetException e) {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    //--------------------------------------------------------------------------
+    // PRIVATE METHODS
+    //--------------------------------------------------------------------------
+    
+    private JfmTabsGenerator() {
+    }
+}
@@ -0,0 +1,375 @@
+/*
+ * Copyright 2014-2017 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Stuffs to bench FastMath, StrictFastMath, CmnFastMath and NumbersUtils
+ * with JMH, against Math and StrictMath.
+ * 
+ * Each benched method corresponds to a case, identified by a name of the
+ * form "<class>.<method>_<args types>" (as for tests), and selected with
+ * the "method" parameter. Each case runs in its own fork, so that calls
+ * to it are monomorphic, and results are consumed with a Blackhole.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+public abstract class AbstractJmhBench {
+
+    //--------------------------------------------------------------------------
+    // CONFIGURATION
+    //--------------------------------------------------------------------------
+
+    static final int NBR_OF_VALUES = 1024;
+
+    static final double DOUBLE_1E6 = 1e6;
+    /**
+     * For float values near limit where they can't have digits after comma.
+     */
+    static final float FLOAT_COMMA_LIMIT = 2e7f; // > 2*Math.pow(2,23);
+    /**
+     * For double values near limit where they can't have digits after comma.
+     */
+    static final double DOUBLE_COMMA_LIMIT = 1e16; // > 2*Math.pow(2,52);
+
+    /**
+     * Same ranges as in AbstractFastMathPerf.
+     * A range with a single value means that all values are identical.
+     */
+    static final double[][] DOUBLE_FLOOR_CEIL_ROUND_ARGS_ARR = new double[][]{
+        new double[]{0.0,1000.0},
+        new double[]{-1000.0,0.0},
+        new double[]{-DOUBLE_1E6,DOUBLE_1E6},
+        new double[]{-DOUBLE_COMMA_LIMIT,DOUBLE_COMMA_LIMIT},
+        new double[]{0}};
+
+    static final float[][] FLOAT_FLOOR_CEIL_ROUND_ARGS_ARR = new float[][]{
+        new float[]{0.0f,1000.0f},
+        new float[]{-1000.0f,0.0f},
+        new float[]{-(float)DOUBLE_1E6,(float)DOUBLE_1E6},
+        new float[]{-FLOAT_COMMA_LIMIT,FLOAT_COMMA_LIMIT},
+        new float[]{0}};
+
+    /**
+     * Magnitude bound for int and long arguments, small enough for
+     * "exact" methods not to overflow, even for products.
+     * Zero is excluded, for these arguments to be usable as divisors.
+     */
+    static final int INT_ARGS_MAX_MAG = (1<<15);
+    static final long LONG_ARGS_MAX_MAG = (1L<<31);
+
+    //--------------------------------------------------------------------------
+    // PACKAGE-PRIVATE CLASSES
+    //--------------------------------------------------------------------------
+
+    /**
+     * Computes a method for the arguments of the specified index.
+     */
+    interface InterfaceBenchCase {
+        public void run(AbstractJmhBench a, int i, Blackhole bh);
+    }
+
+    /**
+     * Computes a bulk method for all arguments.
+     */
+    interface InterfaceBulkBenchCase {
+        public void run(AbstractJmhBench a, Blackhole bh);
+    }
+
+    //--------------------------------------------------------------------------
+    // MEMBERS
+    //--------------------------------------------------------------------------
+
+    /**
+     * Index in DOUBLE_FLOOR_CEIL_ROUND_ARGS_ARR and FLOAT_FLOOR_CEIL_ROUND_ARGS_ARR,
+     * for floating point arguments.
+     */
+    @Param({"0", "1", "2", "3", "4"})
+    public int argsRange;
+
+    final Random random = new Random(123456789L);
+
+    /*
+     * Arguments, by type and position.
+     */
+
+    final double[] d1 = new double[NBR_OF_VALUES];
+    final double[] d2 = new double[NBR_OF_VALUES];
+    final double[] d3 = new double[NBR_OF_VALUES];
+    final float[] f1 = new float[NBR_OF_VALUES];
+    final float[] f2 = new float[NBR_OF_VALUES];
+    final float[] f3 = new float[NBR_OF_VALUES];
+    final int[] i1 = new int[NBR_OF_VALUES];
+    final int[] i2 = new int[NBR_OF_VALUES];
+    final int[] i3 = new int[NBR_OF_VALUES];
+    final long[] l1 = new long[NBR_OF_VALUES];
+    final long[] l2 = new long[NBR_OF_VALUES];
+    final long[] l3 = new long[NBR_OF_VALUES];
+    final byte[] b1 = new byte[NBR_OF_VALUES];
+    final short[] s1 = new short[NBR_OF_VALUES];
+    final boolean[] z1 = new boolean[NBR_OF_VALUES];
+
+    final boolean[] z2 = new boolean[NBR_OF_VALUES];
+
+    /*
+     * Arguments for methods with restricted domains.
+     */
+
+    /*
+     * Floating point arguments for functions with restricted domains,
+     * in domain whatever argsRange (for which they don't depend on).
+     */
+
+    /**
+     * Doubles in [-1,1], as cosines of uniform angles (as in FastMathPerf),
+     * for asin and acos.
+     */
+    final double[] cosD1 = new double[NBR_OF_VALUES];
+    /**
+     * Doubles in ]-1,1[, for atanh.
+     */
+    final double[] atanhD1 = new double[NBR_OF_VALUES];
+    /**
+     * Doubles in [1,DOUBLE_1E6], for acosh.
+     */
+    final double[] acoshD1 = new double[NBR_OF_VALUES];
+    /**
+     * Doubles in [0,DOUBLE_1E6], for acosh1p.
+     */
+    final double[] acosh1pD1 = new double[NBR_OF_VALUES];
+    /**
+     * Doubles in [0.1,10], around 1 (as in FastMathPerf),
+     * for logarithms, square roots, and bases of pow.
+     */
+    final double[] posD1 = new double[NBR_OF_VALUES];
+    /**
+     * Doubles in [0.1-1,10-1], for log1p.
+     */
+    final double[] log1pD1 = new double[NBR_OF_VALUES];
+    /**
+     * Floats in [0.1f,10f], for logarithms.
+     */
+    final float[] posF1 = new float[NBR_OF_VALUES];
+
+    /*
+     * Other arguments with restricted domains.
+     */
+
+    /**
+     * Ints in [1,INT_ARGS_MAX_MAG].
+     */
+    final int[] pi1 = new int[NBR_OF_VALUES];
+    /**
+     * Longs in [1,LONG_ARGS_MAX_MAG].
+     */
+    final long[] pl1 = new long[NBR_OF_VALUES];
+    /**
+     * Ints in [0,30], for small powers or paddings.
+     */
+    final int[] smallInt1 = new int[NBR_OF_VALUES];
+    /**
+     * Ints in [2,36], for radixes.
+     */
+    final int[] radix1 = new int[NBR_OF_VALUES];
+    /**
+     * Ints in [0,31], for bit positions in ints.
+     */
+    final int[] intBitPos1 = new int[NBR_OF_VALUES];
+    /**
+     * Ints in [0,63], for bit positions in longs.
+     */
+    final int[] longBitPos1 = new int[NBR_OF_VALUES];
+    /**
+     * Bit ranges valid for all primitive integer types:
+     * first positions in [0,3] and last excluded positions in [4,8].
+     */
+    final int[] bitPosFirst1 = new int[NBR_OF_VALUES];
+    final int[] bitPosLastExcl1 = new int[NBR_OF_VALUES];
+    /**
+     * Bit sizes in [1,32], [1,31], [1,64] and [1,63].
+     */
+    final int[] signedIntBitSize1 = new int[NBR_OF_VALUES];
+    final int[] unsignedIntBitSize1 = new int[NBR_OF_VALUES];
+    final int[] signedLongBitSize1 = new int[NBR_OF_VALUES];
+    final int[] unsignedLongBitSize1 = new int[NBR_OF_VALUES];
+    /**
+     * Signed powers of two.
+     */
+    final int[] intPot1 = new int[NBR_OF_VALUES];
+    final long[] longPot1 = new long[NBR_OF_VALUES];
+
+    /*
+     * Outputs.
+     */
+
+    final double[] dOut1 = new double[NBR_OF_VALUES];
+    final double[] dOut2 = new double[NBR_OF_VALUES];
+    final DoubleWrapper dw1 = new DoubleWrapper();
+    final IntWrapper iw1 = new IntWrapper();
+    final IntWrapper iw2 = new IntWrapper();
+
+    private InterfaceBenchCase benchCase;
+    private InterfaceBulkBenchCase bulkBenchCase;
+
+    //--------------------------------------------------------------------------
+    // PUBLIC METHODS
+    //--------------------------------------------------------------------------
+
+    @Setup
+    public void setup() {
+        final double[] dRange = DOUBLE_FLOOR_CEIL_ROUND_ARGS_ARR[this.argsRange];
+        final float[] fRange = FLOAT_FLOOR_CEIL_ROUND_ARGS_ARR[this.argsRange];
+        for (int i=0;i<NBR_OF_VALUES;i++) {
+            this.d1[i] = this.randomDouble(dRange);
+            this.d2[i] = this.randomDouble(dRange);
+            this.d3[i] = this.randomDouble(dRange);
+            this.f1[i] = this.randomFloat(fRange);
+            this.f2[i] = this.randomFloat(fRange);
+            this.f3[i] = this.randomFloat(fRange);
+            this.i1[i] = this.randomInt();
+            this.i2[i] = this.randomInt();
+            this.i3[i] = this.randomInt();
+            this.l1[i] = this.randomLong();
+            this.l2[i] = this.randomLong();
+            this.l3[i] = this.randomLong();
+            this.b1[i] = (byte)this.random.nextInt();
+            this.s1[i] = (short)this.random.nextInt();
+            this.z1[i] = this.random.nextBoolean();
+            this.z2[i] = this.random.nextBoolean();
+            this.cosD1[i] = Math.cos(this.randomDouble(new double[]{0.0,2*Math.PI}));
+            do {
+                this.atanhD1[i] = this.randomDouble(new double[]{-1.0,1.0});
+            } while (this.atanhD1[i] == -1.0);
+            this.acoshD1[i] = this.randomDouble(new double[]{1.0,DOUBLE_1E6});
+            this.acosh1pD1[i] = this.randomDouble(new double[]{0.0,DOUBLE_1E6});
+            this.posD1[i] = this.randomDouble(new double[]{0.1,10.0});
+            this.log1pD1[i] = this.posD1[i] - 1.0;
+            this.posF1[i] = this.randomFloat(new float[]{0.1f,10.0f});
+            this.pi1[i] = 1 + this.random.nextInt(INT_ARGS_MAX_MAG);
+            this.pl1[i] = 1 + (long)(this.random.nextDouble() * (LONG_ARGS_MAX_MAG-1));
+            this.smallInt1[i] = this.random.nextInt(31);
+            this.radix1[i] = 2 + this.random.nextInt(35);
+            this.intBitPos1[i] = this.random.nextInt(32);
+            this.longBitPos1[i] = this.random.nextInt(64);
+            this.bitPosFirst1[i] = this.random.nextInt(4);
+            this.bitPosLastExcl1[i] = 4 + this.random.nextInt(5);
+            this.signedIntBitSize1[i] = 1 + this.random.nextInt(32);
+            this.unsignedIntBitSize1[i] = 1 + this.random.nextInt(31);
+            this.signedLongBitSize1[i] = 1 + this.random.nextInt(64);
+            this.unsignedLongBitSize1[i] = 1 + this.random.nextInt(63);
+            final int intPot = (1<<this.random.nextInt(31));
+            this.intPot1[i] = (this.random.nextBoolean() ? intPot : -intPot);
+            final long longPot = (1L<<this.random.nextInt(63));
+            this.longPot1[i] = (this.random.nextBoolean() ? longPot : -longPot);
+        }
+
+        final String method = this.getMethod();
+        this.benchCase = this.getBenchCaseByName().get(method);
+        this.bulkBenchCase = this.getBulkBenchCaseByName().get(method);
+        if ((this.benchCase == null) && (this.bulkBenchCase == null)) {
+            throw new IllegalArgumentException("unknown method: " + method);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NBR_OF_VALUES)
+    public void bench(Blackhole bh) {
+        final InterfaceBulkBenchCase bulkBenchCase = this.bulkBenchCase;
+        if (bulkBenchCase != null) {
+            bulkBenchCase.run(this, bh);
+            return;
+        }
+        final InterfaceBenchCase benchCase = this.benchCase;
+        for (int i=0;i<NBR_OF_VALUES;i++) {
+            benchCase.run(this, i, bh);
+        }
+    }
+
+    //--------------------------------------------------------------------------
+    // PROTECTED METHODS
+    //--------------------------------------------------------------------------
+
+    /**
+     * @return Name of the case to bench.
+     */
+    protected abstract String getMethod();
+
+    protected abstract Map<String,InterfaceBenchCase> getBenchCaseByName();
+
+    protected abstract Map<String,InterfaceBulkBenchCase> getBulkBenchCaseByName();
+
+    //--------------------------------------------------------------------------
+    // PACKAGE-PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    static Map<String,InterfaceBenchCase> newBenchCaseByName() {
+        return new HashMap<String,InterfaceBenchCase>();
+    }
+
+    static Map<String,InterfaceBulkBenchCase> newBulkBenchCaseByName() {
+        return new HashMap<String,InterfaceBulkBenchCase>();
+    }
+
+    //--------------------------------------------------------------------------
+    // PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    private double randomDouble(double[] range) {
+        if (range.length == 1) {
+            return range[0];
+        }
+        return range[0] + (range[1] - range[0]) * this.random.nextDouble();
+    }
+
+    private float randomFloat(float[] range) {
+        if (range.length == 1) {
+            return range[0];
+        }
+        return range[0] + (range[1] - range[0]) * this.random.nextFloat();
+    }
+
+    private int randomInt() {
+        final int mag = 1 + this.random.nextInt(INT_ARGS_MAX_MAG);
+        return (this.random.nextBoolean() ? mag : -mag);
+    }
+
+    private long randomLong() {
+        final long mag = 1 + (long)(this.random.nextDouble() * (LONG_ARGS_MAX_MAG-1));
+        return (this.random.nextBoolean() ? mag : -mag);
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2014-2017 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benches look-up tables based methods of FastMath, against Math,
+ * when tables are not hot in cache, as it can happen in actual applications
+ * (in other benches, tables stay in L1 or L2 caches).
+ * 
+ * Before each batch of CALLS_PER_THRASH calls, a working set of
+ * "thrashSizeKb" kilobytes is read (not timed), one cache line at a time,
+ * which evicts tables from caches that are not large enough to hold both
+ * (0 for no thrashing, i.e. hot tables).
+ * Calls of a batch use arguments spread over tables domains, so most of them
+ * miss, but some can hit lines loaded by previous calls of the batch,
+ * as can happen in actual applications.
+ * Batching amortizes timer and invocation overheads, which would else
+ * dominate the duration of a single call (a few tens of nanoseconds).
+ * Each thread (-t option) has its own working set, so that multiple
+ * threads also put pressure on shared caches.
+ * 
+ * Uses SampleTime mode, to report latency distributions (percentiles)
+ * of batches, normalized per call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@Threads(1)
+public class CachePressureJmh {
+
+    //--------------------------------------------------------------------------
+    // CONFIGURATION
+    //--------------------------------------------------------------------------
+
+    private static final int NBR_OF_VALUES = 1024;
+
+    /**
+     * Number of calls after each thrashing.
+     */
+    private static final int CALLS_PER_THRASH = 16;
+
+    /**
+     * Assumed cache line size, for thrashing to touch each line once.
+     */
+    private static final int CACHE_LINE_SIZE = 64;
+
+    /**
+     * Same order as in "method" parameter.
+     */
+    private static final String[] METHODS = new String[]{
+        "FastMath.sin", "Math.sin",
+        "FastMath.tan", "Math.tan",
+        "FastMath.asin", "Math.asin",
+        "FastMath.atan", "Math.atan",
+        "FastMath.exp", "Math.exp",
+        "FastMath.log", "Math.log",
+        "FastMath.cbrt", "Math.cbrt"};
+
+    //--------------------------------------------------------------------------
+    // MEMBERS
+    //--------------------------------------------------------------------------
+
+    /**
+     * Size of the working set read before each batch of calls, in kilobytes.
+     */
+    @Param({"0", "32", "256", "1024", "8192"})
+    public int thrashSizeKb;
+
+    @Param({
+        "FastMath.sin", "Math.sin",
+        "FastMath.tan", "Math.tan",
+        "FastMath.asin", "Math.asin",
+        "FastMath.atan", "Math.atan",
+        "FastMath.exp", "Math.exp",
+        "FastMath.log", "Math.log",
+        "FastMath.cbrt", "Math.cbrt"})
+    public String method;
+
+    private final double[] args = new double[NBR_OF_VALUES];
+
+    private int argIndex;
+
+    private long[] workingSet;
+
+    /**
+     * Sum of working set values, stored in a field
+     * for reads not to be optimized away.
+     */
+    private long workingSetSum;
+
+    /**
+     * Index in METHODS, to avoid a string based dispatch in timed code.
+     */
+    private int methodIndex;
+
+    //--------------------------------------------------------------------------
+    // PUBLIC METHODS
+    //--------------------------------------------------------------------------
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        this.methodIndex = -1;
+        for (int i=0;i<METHODS.length;i++) {
+            if (METHODS[i].equals(this.method)) {
+                this.methodIndex = i;
+            }
+        }
+        if (this.methodIndex < 0) {
+            throw new IllegalArgumentException("unknown method: " + this.method);
+        }
+
+        /*
+         * Arguments spread over tables domains, for calls
+         * to use various parts of the tables.
+         */
+        final double min;
+        final double max;
+        final String function = this.method.substring(this.method.indexOf('.')+1);
+        if (function.equals("sin")) {
+            min = -Math.PI;
+            max = Math.PI;
+        } else if (function.equals("tan")) {
+            min = -1.5;
+            max = 1.5;
+        } else if (function.equals("asin")) {
+            min = -1.0;
+            max = 1.0;
+        } else if (function.equals("atan")) {
+            min = -10.0;
+            max = 10.0;
+        } else if (function.equals("exp")) {
+            min = -10.0;
+            max = 10.0;
+        } else if (function.equals("log")) {
+            min = 1e-3;
+            max = 1e3;
+        } else {
+            min = -1e3;
+            max = 1e3;
+        }
+        final Random random = new Random(123456789L);
+        for (int i=0;i<NBR_OF_VALUES;i++) {
+            this.args[i] = min + (max - min) * random.nextDouble();
+        }
+
+        this.workingSet = new long[this.thrashSizeKb * (1024/8)];
+        for (int i=0;i<this.workingSet.length;i++) {
+            this.workingSet[i] = random.nextLong();
+        }
+    }
+
+    /**
+     * Not timed: thrashes caches and moves to next batch of arguments.
+     */
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        final long[] workingSet = this.workingSet;
+        final int step = CACHE_LINE_SIZE/8;
+        long sum = this.workingSetSum;
+        for (int i=0;i<workingSet.length;i+=step) {
+            sum += workingSet[i];
+        }
+        this.workingSetSum = sum;
+        this.argIndex = ((this.argIndex + CALLS_PER_THRASH) & (NBR_OF_VALUES-1));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALLS_PER_THRASH)
+    public double calls() {
+        final int methodIndex = this.methodIndex;
+        final int from = this.argIndex;
+        double sum = 0.0;
+        for (int i=from;i<from+CALLS_PER_THRASH;i++) {
+            sum += call(methodIndex, this.args[i]);
+        }
+        return sum;
+    }
+
+    //--------------------------------------------------------------------------
+    // PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    private static double call(int methodIndex, double arg) {
+        switch (methodIndex) {
+        case 0: return FastMath.sin(arg);
+        case 1: return Math.sin(arg);
+        case 2: return FastMath.tan(arg);
+        case 3: return Math.tan(arg);
+        case 4: return FastMath.asin(arg);
+        case 5: return Math.asin(arg);
+        case 6: return FastMath.atan(arg);
+        case 7: return Math.atan(arg);
+        case 8: return FastMath.exp(arg);
+        case 9: return Math.exp(arg);
+        case 10: return FastMath.log(arg);
+        case 11: return Math.log(arg);
+        case 12: return FastMath.cbrt(arg);
+        default: return Math.cbrt(arg);
+        }
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2014-2017 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * JMH benchmarks for CmnFastMath methods (common to FastMath and
+ * StrictFastMath), and the corresponding Math and StrictMath methods.
+ */
+public class CmnFastMathJmh extends AbstractJmhBench {
+
+    //--------------------------------------------------------------------------
+    // MEMBERS
+    //--------------------------------------------------------------------------
+
+    /**
+     * Destinations for methods with array outputs
+     * (shared since contents don't matter).
+     */
+    private static final long[] HI_LO = new long[2];
+    private static final long[] LONG_OUT = new long[NBR_OF_VALUES];
+
+    private static final Map<String,InterfaceBenchCase> BENCH_CASE_BY_NAME = newBenchCaseByName();
+    private static final Map<String,InterfaceBulkBenchCase> BULK_BENCH_CASE_BY_NAME = newBulkBenchCaseByName();
+    static {
+        BENCH_CASE_BY_NAME.put("CmnFastMath.log2_int", (a, i, bh) -> bh.consume(CmnFastMath.log2(a.pi1[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.log2_long", (a, i, bh) -> bh.consume(CmnFastMath.log2(a.pl1[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.twoPow_int", (a, i, bh) -> bh.consume(CmnFastMath.twoPow(a.i1[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.pow2_int", (a, i, bh) -> bh.consume(CmnFastMath.pow2(a.i1[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.pow2_long", (a, i, bh) -> bh.consume(CmnFastMath.pow2(a.l1[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.pow3_int", (a, i, bh) -> bh.consume(CmnFastMath.pow3(a.i1[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.pow3_long", (a, i, bh) -> bh.consume(CmnFastMath.pow3(a.l1[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.abs_int", (a, i, bh) -> bh.consume(CmnFastMath.abs(a.i1[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.abs_long", (a, i, bh) -> bh.consume(CmnFastMath.abs(a.l1[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.toIntExact_long", (a, i, bh) -> bh.consume(CmnFastMath.toIntExact(a.l1[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.toInt_long", (a, i, bh) -> bh.consume(CmnFastMath.toInt(a.l1[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.toRange_3int", (a, i, bh) -> bh.consume(CmnFastMath.toRange(a.i1[i], a.i2[i], a.i3[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.toRange_3long", (a, i, bh) -> bh.consume(CmnFastMath.toRange(a.l1[i], a.l2[i], a.l3[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.incrementExact_int", (a, i, bh) -> bh.consume(CmnFastMath.incrementExact(a.i1[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.incrementExact_long", (a, i, bh) -> bh.consume(CmnFastMath.incrementExact(a.l1[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.incrementBounded_int", (a, i, bh) -> bh.consume(CmnFastMath.incrementBounded(a.i1[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.incrementBounded_long", (a, i, bh) -> bh.consume(CmnFastMath.incrementBounded(a.l1[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.decrementExact_int", (a, i, bh) -> bh.consume(CmnFastMath.decrementExact(a.i1[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.decrementExact_long", (a, i, bh) -> bh.consume(CmnFastMath.decrementExact(a.l1[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.decrementBounded_int", (a, i, bh) -> bh.consume(CmnFastMath.decrementBounded(a.i1[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.decrementBounded_long", (a, i, bh) -> bh.consume(CmnFastMath.decrementBounded(a.l1[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.negateExact_int", (a, i, bh) -> bh.consume(CmnFastMath.negateExact(a.i1[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.negateExact_long", (a, i, bh) -> bh.consume(CmnFastMath.negateExact(a.l1[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.negateBounded_int", (a, i, bh) -> bh.consume(CmnFastMath.negateBounded(a.i1[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.negateBounded_long", (a, i, bh) -> bh.consume(CmnFastMath.negateBounded(a.l1[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.addExact_2int", (a, i, bh) -> bh.consume(CmnFastMath.addExact(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.addExact_2long", (a, i, bh) -> bh.consume(CmnFastMath.addExact(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.addBounded_2int", (a, i, bh) -> bh.consume(CmnFastMath.addBounded(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.addBounded_2long", (a, i, bh) -> bh.consume(CmnFastMath.addBounded(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.subtractExact_2int", (a, i, bh) -> bh.consume(CmnFastMath.subtractExact(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.subtractExact_2long", (a, i, bh) -> bh.consume(CmnFastMath.subtractExact(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.subtractBounded_2int", (a, i, bh) -> bh.consume(CmnFastMath.subtractBounded(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.subtractBounded_2long", (a, i, bh) -> bh.consume(CmnFastMath.subtractBounded(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.multiplyExact_2int", (a, i, bh) -> bh.consume(CmnFastMath.multiplyExact(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.multiplyExact_long_int", (a, i, bh) -> bh.consume(CmnFastMath.multiplyExact(a.l1[i], a.i1[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.multiplyExact_2long", (a, i, bh) -> bh.consume(CmnFastMath.multiplyExact(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.multiplyBounded_2int", (a, i, bh) -> bh.consume(CmnFastMath.multiplyBounded(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.multiplyBounded_long_int", (a, i, bh) -> bh.consume(CmnFastMath.multiplyBounded(a.l1[i], a.i1[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.multiplyBounded_2long", (a, i, bh) -> bh.consume(CmnFastMath.multiplyBounded(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.multiplyFull_2int", (a, i, bh) -> bh.consume(CmnFastMath.multiplyFull(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.multiplyHigh_2long", (a, i, bh) -> bh.consume(CmnFastMath.multiplyHigh(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.multiplyHighSoftware_2long", (a, i, bh) -> bh.consume(CmnFastMath.multiplyHighSoftware(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.unsignedMultiplyHigh_2long", (a, i, bh) -> bh.consume(CmnFastMath.unsignedMultiplyHigh(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.multiplyFull_2long_longArr", (a, i, bh) -> {
+            CmnFastMath.multiplyFull(a.l1[i], a.l2[i], HI_LO);
+            bh.consume(HI_LO[0]);
+            bh.consume(HI_LO[1]);
+        });
+        BENCH_CASE_BY_NAME.put("CmnFastMath.floorDiv_2int", (a, i, bh) -> bh.consume(CmnFastMath.floorDiv(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.floorDiv_long_int", (a, i, bh) -> bh.consume(CmnFastMath.floorDiv(a.l1[i], a.i1[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.floorDiv_2long", (a, i, bh) -> bh.consume(CmnFastMath.floorDiv(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.floorMod_2int", (a, i, bh) -> bh.consume(CmnFastMath.floorMod(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.floorMod_long_int", (a, i, bh) -> bh.consume(CmnFastMath.floorMod(a.l1[i], a.i1[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.floorMod_2long", (a, i, bh) -> bh.consume(CmnFastMath.floorMod(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.min_2int", (a, i, bh) -> bh.consume(CmnFastMath.min(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.min_2long", (a, i, bh) -> bh.consume(CmnFastMath.min(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.max_2int", (a, i, bh) -> bh.consume(CmnFastMath.max(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("CmnFastMath.max_2long", (a, i, bh) -> bh.consume(CmnFastMath.max(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("Math.abs_int", (a, i, bh) -> bh.consume(Math.abs(a.i1[i])));
+        BENCH_CASE_BY_NAME.put("Math.abs_long", (a, i, bh) -> bh.consume(Math.abs(a.l1[i])));
+        BENCH_CASE_BY_NAME.put("Math.toIntExact_long", (a, i, bh) -> bh.consume(Math.toIntExact(a.l1[i])));
+        BENCH_CASE_BY_NAME.put("Math.incrementExact_int", (a, i, bh) -> bh.consume(Math.incrementExact(a.i1[i])));
+        BENCH_CASE_BY_NAME.put("Math.incrementExact_long", (a, i, bh) -> bh.consume(Math.incrementExact(a.l1[i])));
+        BENCH_CASE_BY_NAME.put("Math.decrementExact_int", (a, i, bh) -> bh.consume(Math.decrementExact(a.i1[i])));
+        BENCH_CASE_BY_NAME.put("Math.decrementExact_long", (a, i, bh) -> bh.consume(Math.decrementExact(a.l1[i])));
+        BENCH_CASE_BY_NAME.put("Math.negateExact_int", (a, i, bh) -> bh.consume(Math.negateExact(a.i1[i])));
+        BENCH_CASE_BY_NAME.put("Math.negateExact_long", (a, i, bh) -> bh.consume(Math.negateExact(a.l1[i])));
+        BENCH_CASE_BY_NAME.put("Math.addExact_2int", (a, i, bh) -> bh.consume(Math.addExact(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("Math.addExact_2long", (a, i, bh) -> bh.consume(Math.addExact(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("Math.subtractExact_2int", (a, i, bh) -> bh.consume(Math.subtractExact(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("Math.subtractExact_2long", (a, i, bh) -> bh.consume(Math.subtractExact(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("Math.multiplyExact_2int", (a, i, bh) -> bh.consume(Math.multiplyExact(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("Math.multiplyExact_2long", (a, i, bh) -> bh.consume(Math.multiplyExact(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("Math.floorDiv_2int", (a, i, bh) -> bh.consume(Math.floorDiv(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("Math.floorDiv_2long", (a, i, bh) -> bh.consume(Math.floorDiv(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("Math.floorMod_2int", (a, i, bh) -> bh.consume(Math.floorMod(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("Math.floorMod_2long", (a, i, bh) -> bh.consume(Math.floorMod(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("Math.min_2int", (a, i, bh) -> bh.consume(Math.min(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("Math.min_2long", (a, i, bh) -> bh.consume(Math.min(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("Math.max_2int", (a, i, bh) -> bh.consume(Math.max(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("Math.max_2long", (a, i, bh) -> bh.consume(Math.max(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.abs_int", (a, i, bh) -> bh.consume(StrictMath.abs(a.i1[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.abs_long", (a, i, bh) -> bh.consume(StrictMath.abs(a.l1[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.toIntExact_long", (a, i, bh) -> bh.consume(StrictMath.toIntExact(a.l1[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.addExact_2int", (a, i, bh) -> bh.consume(StrictMath.addExact(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.addExact_2long", (a, i, bh) -> bh.consume(StrictMath.addExact(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.subtractExact_2int", (a, i, bh) -> bh.consume(StrictMath.subtractExact(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.subtractExact_2long", (a, i, bh) -> bh.consume(StrictMath.subtractExact(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.multiplyExact_2int", (a, i, bh) -> bh.consume(StrictMath.multiplyExact(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.multiplyExact_2long", (a, i, bh) -> bh.consume(StrictMath.multiplyExact(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.floorDiv_2int", (a, i, bh) -> bh.consume(StrictMath.floorDiv(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.floorDiv_2long", (a, i, bh) -> bh.consume(StrictMath.floorDiv(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.floorMod_2int", (a, i, bh) -> bh.consume(StrictMath.floorMod(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.floorMod_2long", (a, i, bh) -> bh.consume(StrictMath.floorMod(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.min_2int", (a, i, bh) -> bh.consume(StrictMath.min(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.min_2long", (a, i, bh) -> bh.consume(StrictMath.min(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.max_2int", (a, i, bh) -> bh.consume(StrictMath.max(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.max_2long", (a, i, bh) -> bh.consume(StrictMath.max(a.l1[i], a.l2[i])));
+        BULK_BENCH_CASE_BY_NAME.put("CmnFastMath.multiplyHigh_longArr_int_longArr_int_longArr_2int", (a, bh) -> {
+            CmnFastMath.multiplyHigh(a.l1, 0, a.l2, 0, LONG_OUT, 0, NBR_OF_VALUES);
+            bh.consume(LONG_OUT);
+        });
+        BULK_BENCH_CASE_BY_NAME.put("CmnFastMath.unsignedMultiplyHigh_longArr_int_longArr_int_longArr_2int", (a, bh) -> {
+            CmnFastMath.unsignedMultiplyHigh(a.l1, 0, a.l2, 0, LONG_OUT, 0, NBR_OF_VALUES);
+            bh.consume(LONG_OUT);
+        });
+    }
+
+    @Param({
+        "CmnFastMath.log2_int",
+        "CmnFastMath.log2_long",
+        "CmnFastMath.twoPow_int",
+        "CmnFastMath.pow2_int",
+        "CmnFastMath.pow2_long",
+        "CmnFastMath.pow3_int",
+        "CmnFastMath.pow3_long",
+        "CmnFastMath.abs_int",
+        "CmnFastMath.abs_long",
+        "CmnFastMath.toIntExact_long",
+        "CmnFastMath.toInt_long",
+        "CmnFastMath.toRange_3int",
+        "CmnFastMath.toRange_3long",
+        "CmnFastMath.incrementExact_int",
+        "CmnFastMath.incrementExact_long",
+        "CmnFastMath.incrementBounded_int",
+        "CmnFastMath.incrementBounded_long",
+        "CmnFastMath.decrementExact_int",
+        "CmnFastMath.decrementExact_long",
+        "CmnFastMath.decrementBounded_int",
+        "CmnFastMath.decrementBounded_long",
+        "CmnFastMath.negateExact_int",
+        "CmnFastMath.negateExact_long",
+        "CmnFastMath.negateBounded_int",
+        "CmnFastMath.negateBounded_long",
+        "CmnFastMath.addExact_2int",
+        "CmnFastMath.addExact_2long",
+        "CmnFastMath.addBounded_2int",
+        "CmnFastMath.addBounded_2long",
+        "CmnFastMath.subtractExact_2int",
+        "CmnFastMath.subtractExact_2long",
+        "CmnFastMath.subtractBounded_2int",
+        "CmnFastMath.subtractBounded_2long",
+        "CmnFastMath.multiplyExact_2int",
+        "CmnFastMath.multiplyExact_long_int",
+        "CmnFastMath.multiplyExact_2long",
+        "CmnFastMath.multiplyBounded_2int",
+        "CmnFastMath.multiplyBounded_long_int",
+        "CmnFastMath.multiplyBounded_2long",
+        "CmnFastMath.multiplyFull_2int",
+        "CmnFastMath.multiplyHigh_2long",
+        "CmnFastMath.multiplyHighSoftware_2long",
+        "CmnFastMath.unsignedMultiplyHigh_2long",
+        "CmnFastMath.multiplyFull_2long_longArr",
+        "CmnFastMath.floorDiv_2int",
+        "CmnFastMath.floorDiv_long_int",
+        "CmnFastMath.floorDiv_2long",
+        "CmnFastMath.floorMod_2int",
+        "CmnFastMath.floorMod_long_int",
+        "CmnFastMath.floorMod_2long",
+        "CmnFastMath.min_2int",
+        "CmnFastMath.min_2long",
+        "CmnFastMath.max_2int",
+        "CmnFastMath.max_2long",
+        "Math.abs_int",
+        "Math.abs_long",
+        "Math.toIntExact_long",
+        "Math.incrementExact_int",
+        "Math.incrementExact_long",
+        "Math.decrementExact_int",
+        "Math.decrementExact_long",
+        "Math.negateExact_int",
+        "Math.negateExact_long",
+        "Math.addExact_2int",
+        "Math.addExact_2long",
+        "Math.subtractExact_2int",
+        "Math.subtractExact_2long",
+        "Math.multiplyExact_2int",
+        "Math.multiplyExact_2long",
+        "Math.floorDiv_2int",
+        "Math.floorDiv_2long",
+        "Math.floorMod_2int",
+        "Math.floorMod_2long",
+        "Math.min_2int",
+        "Math.min_2long",
+        "Math.max_2int",
+        "Math.max_2long",
+        "StrictMath.abs_int",
+        "StrictMath.abs_long",
+        "StrictMath.toIntExact_long",
+        "StrictMath.addExact_2int",
+        "StrictMath.addExact_2long",
+        "StrictMath.subtractExact_2int",
+        "StrictMath.subtractExact_2long",
+        "StrictMath.multiplyExact_2int",
+        "StrictMath.multiplyExact_2long",
+        "StrictMath.floorDiv_2int",
+        "StrictMath.floorDiv_2long",
+        "StrictMath.floorMod_2int",
+        "StrictMath.floorMod_2long",
+        "StrictMath.min_2int",
+        "StrictMath.min_2long",
+        "StrictMath.max_2int",
+        "StrictMath.max_2long",
+        "CmnFastMath.multiplyHigh_longArr_int_longArr_int_longArr_2int",
+        "CmnFastMath.unsignedMultiplyHigh_longArr_int_longArr_int_longArr_2int"})
+    public String method;
+
+    //--------------------------------------------------------------------------
+    // PROTECTED METHODS
+    //--------------------------------------------------------------------------
+
+    @Override
+    protected String getMethod() {
+        return this.method;
+    }
+
+    @Override
+    protected Map<String,InterfaceBenchCase> getBenchCaseByName() {
+        return BENCH_CASE_BY_NAME;
+    }
+
+    @Override
+    protected Map<String,InterfaceBulkBenchCase> getBulkBenchCaseByName() {
+        return BULK_BENCH_CASE_BY_NAME;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2014-2017 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * JMH benchmarks for FastMathF methods.
+ */
+public class FastMathFJmh extends AbstractJmhBench {
+
+    //--------------------------------------------------------------------------
+    // MEMBERS
+    //--------------------------------------------------------------------------
+
+    private static final Map<String,InterfaceBenchCase> BENCH_CASE_BY_NAME = newBenchCaseByName();
+    private static final Map<String,InterfaceBulkBenchCase> BULK_BENCH_CASE_BY_NAME = newBulkBenchCaseByName();
+    static {
+        BENCH_CASE_BY_NAME.put("FastMathF.sin_float", (a, i, bh) -> bh.consume(FastMathF.sin(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("FastMathF.cos_float", (a, i, bh) -> bh.consume(FastMathF.cos(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("FastMathF.tan_float", (a, i, bh) -> bh.consume(FastMathF.tan(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("FastMathF.atan_float", (a, i, bh) -> bh.consume(FastMathF.atan(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("FastMathF.atan2_2float", (a, i, bh) -> bh.consume(FastMathF.atan2(a.f1[i], a.f2[i])));
+        BENCH_CASE_BY_NAME.put("FastMathF.atan2Quick_2float", (a, i, bh) -> bh.consume(FastMathF.atan2Quick(a.f1[i], a.f2[i])));
+        BENCH_CASE_BY_NAME.put("FastMathF.exp_float", (a, i, bh) -> bh.consume(FastMathF.exp(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("FastMathF.log_float", (a, i, bh) -> bh.consume(FastMathF.log(a.posF1[i])));
+    }
+
+    @Param({
+        "FastMathF.sin_float",
+        "FastMathF.cos_float",
+        "FastMathF.tan_float",
+        "FastMathF.atan_float",
+        "FastMathF.atan2_2float",
+        "FastMathF.atan2Quick_2float",
+        "FastMathF.exp_float",
+        "FastMathF.log_float"})
+    public String method;
+
+    //--------------------------------------------------------------------------
+    // PROTECTED METHODS
+    //--------------------------------------------------------------------------
+
+    @Override
+    protected String getMethod() {
+        return this.method;
+    }
+
+    @Override
+    protected Map<String,InterfaceBenchCase> getBenchCaseByName() {
+        return BENCH_CASE_BY_NAME;
+    }
+
+    @Override
+    protected Map<String,InterfaceBulkBenchCase> getBulkBenchCaseByName() {
+        return BULK_BENCH_CASE_BY_NAME;
+    }
+}
@@ -0,0 +1,478 @@
+/*
+ * Copyright 2014-2017 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * JMH benchmarks for FastMath methods, and the corresponding
+ * Math and StrictMath methods.
+ */
+public class FastMathJmh extends AbstractJmhBench {
+
+    //--------------------------------------------------------------------------
+    // MEMBERS
+    //--------------------------------------------------------------------------
+
+    private static final Map<String,InterfaceBenchCase> BENCH_CASE_BY_NAME = newBenchCaseByName();
+    private static final Map<String,InterfaceBulkBenchCase> BULK_BENCH_CASE_BY_NAME = newBulkBenchCaseByName();
+    static {
+        BENCH_CASE_BY_NAME.put("FastMath.sin_double", (a, i, bh) -> bh.consume(FastMath.sin(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.sinQuick_double", (a, i, bh) -> bh.consume(FastMath.sinQuick(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.cos_double", (a, i, bh) -> bh.consume(FastMath.cos(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.cosQuick_double", (a, i, bh) -> bh.consume(FastMath.cosQuick(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.sinAndCos_double_DoubleWrapper", (a, i, bh) -> bh.consume(FastMath.sinAndCos(a.d1[i], a.dw1)));
+        BENCH_CASE_BY_NAME.put("FastMath.tan_double", (a, i, bh) -> bh.consume(FastMath.tan(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.sinPi_double", (a, i, bh) -> bh.consume(FastMath.sinPi(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.cosPi_double", (a, i, bh) -> bh.consume(FastMath.cosPi(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.tanPi_double", (a, i, bh) -> bh.consume(FastMath.tanPi(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.sinDeg_double", (a, i, bh) -> bh.consume(FastMath.sinDeg(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.cosDeg_double", (a, i, bh) -> bh.consume(FastMath.cosDeg(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.tanDeg_double", (a, i, bh) -> bh.consume(FastMath.tanDeg(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.sinAndCosDeg_double_DoubleWrapper", (a, i, bh) -> bh.consume(FastMath.sinAndCosDeg(a.d1[i], a.dw1)));
+        BENCH_CASE_BY_NAME.put("FastMath.asin_double", (a, i, bh) -> bh.consume(FastMath.asin(a.cosD1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.asinInRange_double", (a, i, bh) -> bh.consume(FastMath.asinInRange(a.cosD1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.acos_double", (a, i, bh) -> bh.consume(FastMath.acos(a.cosD1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.acosInRange_double", (a, i, bh) -> bh.consume(FastMath.acosInRange(a.cosD1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.atan_double", (a, i, bh) -> bh.consume(FastMath.atan(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.atan2_2double", (a, i, bh) -> bh.consume(FastMath.atan2(a.d1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.atan2Quick_2double", (a, i, bh) -> bh.consume(FastMath.atan2Quick(a.d1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.toRadians_double", (a, i, bh) -> bh.consume(FastMath.toRadians(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.toDegrees_double", (a, i, bh) -> bh.consume(FastMath.toDegrees(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.toRadians_boolean_2int_double", (a, i, bh) -> bh.consume(FastMath.toRadians(a.z1[i], a.i1[i], a.i2[i], a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.toDegrees_boolean_2int_double", (a, i, bh) -> bh.consume(FastMath.toDegrees(a.z1[i], a.i1[i], a.i2[i], a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.toDMS_double_2IntWrapper_DoubleWrapper", (a, i, bh) -> bh.consume(FastMath.toDMS(a.d1[i], a.iw1, a.iw2, a.dw1)));
+        BENCH_CASE_BY_NAME.put("FastMath.isInClockwiseDomain_3double", (a, i, bh) -> bh.consume(FastMath.isInClockwiseDomain(a.d1[i], a.d2[i], a.d3[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.sinh_double", (a, i, bh) -> bh.consume(FastMath.sinh(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.cosh_double", (a, i, bh) -> bh.consume(FastMath.cosh(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.coshm1_double", (a, i, bh) -> bh.consume(FastMath.coshm1(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.sinhAndCosh_double_DoubleWrapper", (a, i, bh) -> bh.consume(FastMath.sinhAndCosh(a.d1[i], a.dw1)));
+        BENCH_CASE_BY_NAME.put("FastMath.tanh_double", (a, i, bh) -> bh.consume(FastMath.tanh(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.asinh_double", (a, i, bh) -> bh.consume(FastMath.asinh(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.acosh_double", (a, i, bh) -> bh.consume(FastMath.acosh(a.acoshD1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.acosh1p_double", (a, i, bh) -> bh.consume(FastMath.acosh1p(a.acosh1pD1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.atanh_double", (a, i, bh) -> bh.consume(FastMath.atanh(a.atanhD1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.exp_double", (a, i, bh) -> bh.consume(FastMath.exp(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.expQuick_double", (a, i, bh) -> bh.consume(FastMath.expQuick(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.expm1_double", (a, i, bh) -> bh.consume(FastMath.expm1(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.log_double", (a, i, bh) -> bh.consume(FastMath.log(a.posD1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.logQuick_double", (a, i, bh) -> bh.consume(FastMath.logQuick(a.posD1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.log10_double", (a, i, bh) -> bh.consume(FastMath.log10(a.posD1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.log1p_double", (a, i, bh) -> bh.consume(FastMath.log1p(a.log1pD1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.pow_2double", (a, i, bh) -> bh.consume(FastMath.pow(a.posD1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.powQuick_2double", (a, i, bh) -> bh.consume(FastMath.powQuick(a.posD1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.powFast_double_int", (a, i, bh) -> bh.consume(FastMath.powFast(a.d1[i], a.i1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.pow2_float", (a, i, bh) -> bh.consume(FastMath.pow2(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.pow2_double", (a, i, bh) -> bh.consume(FastMath.pow2(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.pow3_float", (a, i, bh) -> bh.consume(FastMath.pow3(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.pow3_double", (a, i, bh) -> bh.consume(FastMath.pow3(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.sqrt_double", (a, i, bh) -> bh.consume(FastMath.sqrt(a.posD1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.sqrtQuick_double", (a, i, bh) -> bh.consume(FastMath.sqrtQuick(a.posD1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.invSqrtQuick_double", (a, i, bh) -> bh.consume(FastMath.invSqrtQuick(a.posD1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.cbrt_double", (a, i, bh) -> bh.consume(FastMath.cbrt(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.hypot_2double", (a, i, bh) -> bh.consume(FastMath.hypot(a.d1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.hypot_3double", (a, i, bh) -> bh.consume(FastMath.hypot(a.d1[i], a.d2[i], a.d3[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.floor_float", (a, i, bh) -> bh.consume(FastMath.floor(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.floor_double", (a, i, bh) -> bh.consume(FastMath.floor(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.ceil_float", (a, i, bh) -> bh.consume(FastMath.ceil(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.ceil_double", (a, i, bh) -> bh.consume(FastMath.ceil(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.round_float", (a, i, bh) -> bh.consume(FastMath.round(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.round_double", (a, i, bh) -> bh.consume(FastMath.round(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.roundEven_float", (a, i, bh) -> bh.consume(FastMath.roundEven(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.roundEven_double", (a, i, bh) -> bh.consume(FastMath.roundEven(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.rint_float", (a, i, bh) -> bh.consume(FastMath.rint(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.rint_double", (a, i, bh) -> bh.consume(FastMath.rint(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.floorToInt_double", (a, i, bh) -> bh.consume(FastMath.floorToInt(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.ceilToInt_double", (a, i, bh) -> bh.consume(FastMath.ceilToInt(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.roundToInt_double", (a, i, bh) -> bh.consume(FastMath.roundToInt(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.roundEvenToInt_double", (a, i, bh) -> bh.consume(FastMath.roundEvenToInt(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.toRange_3float", (a, i, bh) -> bh.consume(FastMath.toRange(a.f1[i], a.f2[i], a.f3[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.toRange_3double", (a, i, bh) -> bh.consume(FastMath.toRange(a.d1[i], a.d2[i], a.d3[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.remainder_2double", (a, i, bh) -> bh.consume(FastMath.remainder(a.d1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.normalizeMinusPiPi_double", (a, i, bh) -> bh.consume(FastMath.normalizeMinusPiPi(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.normalizeMinusPiPiFast_double", (a, i, bh) -> bh.consume(FastMath.normalizeMinusPiPiFast(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.normalizeZeroTwoPi_double", (a, i, bh) -> bh.consume(FastMath.normalizeZeroTwoPi(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.normalizeZeroTwoPiFast_double", (a, i, bh) -> bh.consume(FastMath.normalizeZeroTwoPiFast(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.normalizeMinusHalfPiHalfPi_double", (a, i, bh) -> bh.consume(FastMath.normalizeMinusHalfPiHalfPi(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.normalizeMinusHalfPiHalfPiFast_double", (a, i, bh) -> bh.consume(FastMath.normalizeMinusHalfPiHalfPiFast(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.isNaNOrInfinite_float", (a, i, bh) -> bh.consume(FastMath.isNaNOrInfinite(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.isNaNOrInfinite_double", (a, i, bh) -> bh.consume(FastMath.isNaNOrInfinite(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.getExponent_float", (a, i, bh) -> bh.consume(FastMath.getExponent(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.getExponent_double", (a, i, bh) -> bh.consume(FastMath.getExponent(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.signum_float", (a, i, bh) -> bh.consume(FastMath.signum(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.signum_double", (a, i, bh) -> bh.consume(FastMath.signum(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.signFromBit_float", (a, i, bh) -> bh.consume(FastMath.signFromBit(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.signFromBit_double", (a, i, bh) -> bh.consume(FastMath.signFromBit(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.copySign_2float", (a, i, bh) -> bh.consume(FastMath.copySign(a.f1[i], a.f2[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.copySign_2double", (a, i, bh) -> bh.consume(FastMath.copySign(a.d1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.ulp_float", (a, i, bh) -> bh.consume(FastMath.ulp(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.ulp_double", (a, i, bh) -> bh.consume(FastMath.ulp(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.nextAfter_float_double", (a, i, bh) -> bh.consume(FastMath.nextAfter(a.f1[i], a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.nextAfter_2double", (a, i, bh) -> bh.consume(FastMath.nextAfter(a.d1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.nextDown_float", (a, i, bh) -> bh.consume(FastMath.nextDown(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.nextDown_double", (a, i, bh) -> bh.consume(FastMath.nextDown(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.nextUp_float", (a, i, bh) -> bh.consume(FastMath.nextUp(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.nextUp_double", (a, i, bh) -> bh.consume(FastMath.nextUp(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.scalb_float_int", (a, i, bh) -> bh.consume(FastMath.scalb(a.f1[i], a.i1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.scalb_double_int", (a, i, bh) -> bh.consume(FastMath.scalb(a.d1[i], a.i1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.abs_float", (a, i, bh) -> bh.consume(FastMath.abs(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.abs_double", (a, i, bh) -> bh.consume(FastMath.abs(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.min_2float", (a, i, bh) -> bh.consume(FastMath.min(a.f1[i], a.f2[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.min_2double", (a, i, bh) -> bh.consume(FastMath.min(a.d1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.max_2float", (a, i, bh) -> bh.consume(FastMath.max(a.f1[i], a.f2[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.max_2double", (a, i, bh) -> bh.consume(FastMath.max(a.d1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.IEEEremainder_2double", (a, i, bh) -> bh.consume(FastMath.IEEEremainder(a.d1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("FastMath.random", (a, i, bh) -> bh.consume(FastMath.random()));
+        BENCH_CASE_BY_NAME.put("FastRandom.nextDouble", (a, i, bh) -> bh.consume(FastRandom.current().nextDouble()));
+        BENCH_CASE_BY_NAME.put("FastRandom.nextInt_int", (a, i, bh) -> bh.consume(FastRandom.current().nextInt(a.pi1[i])));
+        BENCH_CASE_BY_NAME.put("Math.sin_double", (a, i, bh) -> bh.consume(Math.sin(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("Math.cos_double", (a, i, bh) -> bh.consume(Math.cos(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("Math.tan_double", (a, i, bh) -> bh.consume(Math.tan(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("Math.asin_double", (a, i, bh) -> bh.consume(Math.asin(a.cosD1[i])));
+        BENCH_CASE_BY_NAME.put("Math.acos_double", (a, i, bh) -> bh.consume(Math.acos(a.cosD1[i])));
+        BENCH_CASE_BY_NAME.put("Math.atan_double", (a, i, bh) -> bh.consume(Math.atan(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("Math.atan2_2double", (a, i, bh) -> bh.consume(Math.atan2(a.d1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("Math.toRadians_double", (a, i, bh) -> bh.consume(Math.toRadians(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("Math.toDegrees_double", (a, i, bh) -> bh.consume(Math.toDegrees(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("Math.sinh_double", (a, i, bh) -> bh.consume(Math.sinh(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("Math.cosh_double", (a, i, bh) -> bh.consume(Math.cosh(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("Math.tanh_double", (a, i, bh) -> bh.consume(Math.tanh(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("Math.exp_double", (a, i, bh) -> bh.consume(Math.exp(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("Math.expm1_double", (a, i, bh) -> bh.consume(Math.expm1(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("Math.log_double", (a, i, bh) -> bh.consume(Math.log(a.posD1[i])));
+        BENCH_CASE_BY_NAME.put("Math.log10_double", (a, i, bh) -> bh.consume(Math.log10(a.posD1[i])));
+        BENCH_CASE_BY_NAME.put("Math.log1p_double", (a, i, bh) -> bh.consume(Math.log1p(a.log1pD1[i])));
+        BENCH_CASE_BY_NAME.put("Math.pow_2double", (a, i, bh) -> bh.consume(Math.pow(a.posD1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("Math.sqrt_double", (a, i, bh) -> bh.consume(Math.sqrt(a.posD1[i])));
+        BENCH_CASE_BY_NAME.put("Math.cbrt_double", (a, i, bh) -> bh.consume(Math.cbrt(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("Math.hypot_2double", (a, i, bh) -> bh.consume(Math.hypot(a.d1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("Math.floor_double", (a, i, bh) -> bh.consume(Math.floor(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("Math.ceil_double", (a, i, bh) -> bh.consume(Math.ceil(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("Math.round_float", (a, i, bh) -> bh.consume(Math.round(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("Math.round_double", (a, i, bh) -> bh.consume(Math.round(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("Math.rint_double", (a, i, bh) -> bh.consume(Math.rint(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("Math.getExponent_float", (a, i, bh) -> bh.consume(Math.getExponent(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("Math.getExponent_double", (a, i, bh) -> bh.consume(Math.getExponent(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("Math.signum_float", (a, i, bh) -> bh.consume(Math.signum(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("Math.signum_double", (a, i, bh) -> bh.consume(Math.signum(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("Math.copySign_2float", (a, i, bh) -> bh.consume(Math.copySign(a.f1[i], a.f2[i])));
+        BENCH_CASE_BY_NAME.put("Math.copySign_2double", (a, i, bh) -> bh.consume(Math.copySign(a.d1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("Math.ulp_float", (a, i, bh) -> bh.consume(Math.ulp(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("Math.ulp_double", (a, i, bh) -> bh.consume(Math.ulp(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("Math.nextAfter_float_double", (a, i, bh) -> bh.consume(Math.nextAfter(a.f1[i], a.d1[i])));
+        BENCH_CASE_BY_NAME.put("Math.nextAfter_2double", (a, i, bh) -> bh.consume(Math.nextAfter(a.d1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("Math.nextDown_float", (a, i, bh) -> bh.consume(Math.nextDown(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("Math.nextDown_double", (a, i, bh) -> bh.consume(Math.nextDown(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("Math.nextUp_float", (a, i, bh) -> bh.consume(Math.nextUp(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("Math.nextUp_double", (a, i, bh) -> bh.consume(Math.nextUp(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("Math.scalb_float_int", (a, i, bh) -> bh.consume(Math.scalb(a.f1[i], a.i1[i])));
+        BENCH_CASE_BY_NAME.put("Math.scalb_double_int", (a, i, bh) -> bh.consume(Math.scalb(a.d1[i], a.i1[i])));
+        BENCH_CASE_BY_NAME.put("Math.abs_float", (a, i, bh) -> bh.consume(Math.abs(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("Math.abs_double", (a, i, bh) -> bh.consume(Math.abs(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("Math.min_2float", (a, i, bh) -> bh.consume(Math.min(a.f1[i], a.f2[i])));
+        BENCH_CASE_BY_NAME.put("Math.min_2double", (a, i, bh) -> bh.consume(Math.min(a.d1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("Math.max_2float", (a, i, bh) -> bh.consume(Math.max(a.f1[i], a.f2[i])));
+        BENCH_CASE_BY_NAME.put("Math.max_2double", (a, i, bh) -> bh.consume(Math.max(a.d1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("Math.IEEEremainder_2double", (a, i, bh) -> bh.consume(Math.IEEEremainder(a.d1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("Math.random", (a, i, bh) -> bh.consume(Math.random()));
+        BENCH_CASE_BY_NAME.put("StrictMath.toRadians_double", (a, i, bh) -> bh.consume(StrictMath.toRadians(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.toDegrees_double", (a, i, bh) -> bh.consume(StrictMath.toDegrees(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.exp_double", (a, i, bh) -> bh.consume(StrictMath.exp(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.pow_2double", (a, i, bh) -> bh.consume(StrictMath.pow(a.posD1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.cbrt_double", (a, i, bh) -> bh.consume(StrictMath.cbrt(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.hypot_2double", (a, i, bh) -> bh.consume(StrictMath.hypot(a.d1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.floor_double", (a, i, bh) -> bh.consume(StrictMath.floor(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.ceil_double", (a, i, bh) -> bh.consume(StrictMath.ceil(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.round_float", (a, i, bh) -> bh.consume(StrictMath.round(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.round_double", (a, i, bh) -> bh.consume(StrictMath.round(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.rint_double", (a, i, bh) -> bh.consume(StrictMath.rint(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.getExponent_float", (a, i, bh) -> bh.consume(StrictMath.getExponent(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.getExponent_double", (a, i, bh) -> bh.consume(StrictMath.getExponent(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.signum_float", (a, i, bh) -> bh.consume(StrictMath.signum(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.signum_double", (a, i, bh) -> bh.consume(StrictMath.signum(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.copySign_2float", (a, i, bh) -> bh.consume(StrictMath.copySign(a.f1[i], a.f2[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.copySign_2double", (a, i, bh) -> bh.consume(StrictMath.copySign(a.d1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.ulp_float", (a, i, bh) -> bh.consume(StrictMath.ulp(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.ulp_double", (a, i, bh) -> bh.consume(StrictMath.ulp(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.nextAfter_float_double", (a, i, bh) -> bh.consume(StrictMath.nextAfter(a.f1[i], a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.nextAfter_2double", (a, i, bh) -> bh.consume(StrictMath.nextAfter(a.d1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.nextDown_float", (a, i, bh) -> bh.consume(StrictMath.nextDown(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.nextDown_double", (a, i, bh) -> bh.consume(StrictMath.nextDown(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.nextUp_float", (a, i, bh) -> bh.consume(StrictMath.nextUp(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.nextUp_double", (a, i, bh) -> bh.consume(StrictMath.nextUp(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.scalb_float_int", (a, i, bh) -> bh.consume(StrictMath.scalb(a.f1[i], a.i1[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.scalb_double_int", (a, i, bh) -> bh.consume(StrictMath.scalb(a.d1[i], a.i1[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.abs_float", (a, i, bh) -> bh.consume(StrictMath.abs(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.abs_double", (a, i, bh) -> bh.consume(StrictMath.abs(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.min_2float", (a, i, bh) -> bh.consume(StrictMath.min(a.f1[i], a.f2[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.min_2double", (a, i, bh) -> bh.consume(StrictMath.min(a.d1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.max_2float", (a, i, bh) -> bh.consume(StrictMath.max(a.f1[i], a.f2[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.max_2double", (a, i, bh) -> bh.consume(StrictMath.max(a.d1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("StrictMath.random", (a, i, bh) -> bh.consume(StrictMath.random()));
+        BULK_BENCH_CASE_BY_NAME.put("FastMath.sin_doubleArr_int_doubleArr_2int", (a, bh) -> {
+            FastMath.sin(a.d1, 0, a.dOut1, 0, NBR_OF_VALUES);
+            bh.consume(a.dOut1);
+        });
+        BULK_BENCH_CASE_BY_NAME.put("FastMath.cos_doubleArr_int_doubleArr_2int", (a, bh) -> {
+            FastMath.cos(a.d1, 0, a.dOut1, 0, NBR_OF_VALUES);
+            bh.consume(a.dOut1);
+        });
+        BULK_BENCH_CASE_BY_NAME.put("FastMath.sinAndCos_3doubleArr_2int", (a, bh) -> {
+            FastMath.sinAndCos(a.d1, a.dOut1, a.dOut2, 0, NBR_OF_VALUES);
+            bh.consume(a.dOut1);
+            bh.consume(a.dOut2);
+        });
+        BULK_BENCH_CASE_BY_NAME.put("FastMath.tan_doubleArr_int_doubleArr_2int", (a, bh) -> {
+            FastMath.tan(a.d1, 0, a.dOut1, 0, NBR_OF_VALUES);
+            bh.consume(a.dOut1);
+        });
+        BULK_BENCH_CASE_BY_NAME.put("FastMath.exp_doubleArr_int_doubleArr_2int", (a, bh) -> {
+            FastMath.exp(a.d1, 0, a.dOut1, 0, NBR_OF_VALUES);
+            bh.consume(a.dOut1);
+        });
+        BULK_BENCH_CASE_BY_NAME.put("FastMath.log_doubleArr_int_doubleArr_2int", (a, bh) -> {
+            FastMath.log(a.posD1, 0, a.dOut1, 0, NBR_OF_VALUES);
+            bh.consume(a.dOut1);
+        });
+        BULK_BENCH_CASE_BY_NAME.put("FastMath.pow_doubleArr_int_double_doubleArr_2int", (a, bh) -> {
+            FastMath.pow(a.posD1, 0, a.d2[0], a.dOut1, 0, NBR_OF_VALUES);
+            bh.consume(a.dOut1);
+        });
+    }
+
+    @Param({
+        "FastMath.sin_double",
+        "FastMath.sin_doubleArr_int_doubleArr_2int",
+        "FastMath.sinQuick_double",
+        "FastMath.cos_double",
+        "FastMath.cos_doubleArr_int_doubleArr_2int",
+        "FastMath.cosQuick_double",
+        "FastMath.sinAndCos_double_DoubleWrapper",
+        "FastMath.sinAndCos_3doubleArr_2int",
+        "FastMath.tan_double",
+        "FastMath.tan_doubleArr_int_doubleArr_2int",
+        "FastMath.sinPi_double",
+        "FastMath.cosPi_double",
+        "FastMath.tanPi_double",
+        "FastMath.sinDeg_double",
+        "FastMath.cosDeg_double",
+        "FastMath.tanDeg_double",
+        "FastMath.sinAndCosDeg_double_DoubleWrapper",
+        "FastMath.asin_double",
+        "FastMath.asinInRange_double",
+        "FastMath.acos_double",
+        "FastMath.acosInRange_double",
+        "FastMath.atan_double",
+        "FastMath.atan2_2double",
+        "FastMath.atan2Quick_2double",
+        "FastMath.toRadians_double",
+        "FastMath.toDegrees_double",
+        "FastMath.toRadians_boolean_2int_double",
+        "FastMath.toDegrees_boolean_2int_double",
+        "FastMath.toDMS_double_2IntWrapper_DoubleWrapper",
+        "FastMath.isInClockwiseDomain_3double",
+        "FastMath.sinh_double",
+        "FastMath.cosh_double",
+        "FastMath.coshm1_double",
+        "FastMath.sinhAndCosh_double_DoubleWrapper",
+        "FastMath.tanh_double",
+        "FastMath.asinh_double",
+        "FastMath.acosh_double",
+        "FastMath.acosh1p_double",
+        "FastMath.atanh_double",
+        "FastMath.exp_double",
+        "FastMath.exp_doubleArr_int_doubleArr_2int",
+        "FastMath.expQuick_double",
+        "FastMath.expm1_double",
+        "FastMath.log_double",
+        "FastMath.log_doubleArr_int_doubleArr_2int",
+        "FastMath.logQuick_double",
+        "FastMath.log10_double",
+        "FastMath.log1p_double",
+        "FastMath.pow_2double",
+        "FastMath.pow_doubleArr_int_double_doubleArr_2int",
+        "FastMath.powQuick_2double",
+        "FastMath.powFast_double_int",
+        "FastMath.pow2_float",
+        "FastMath.pow2_double",
+        "FastMath.pow3_float",
+        "FastMath.pow3_double",
+        "FastMath.sqrt_double",
+        "FastMath.sqrtQuick_double",
+        "FastMath.invSqrtQuick_double",
+        "FastMath.cbrt_double",
+        "FastMath.hypot_2double",
+        "FastMath.hypot_3double",
+        "FastMath.floor_float",
+        "FastMath.floor_double",
+        "FastMath.ceil_float",
+        "FastMath.ceil_double",
+        "FastMath.round_float",
+        "FastMath.round_double",
+        "FastMath.roundEven_float",
+        "FastMath.roundEven_double",
+        "FastMath.rint_float",
+        "FastMath.rint_double",
+        "FastMath.floorToInt_double",
+        "FastMath.ceilToInt_double",
+        "FastMath.roundToInt_double",
+        "FastMath.roundEvenToInt_double",
+        "FastMath.toRange_3float",
+        "FastMath.toRange_3double",
+        "FastMath.remainder_2double",
+        "FastMath.normalizeMinusPiPi_double",
+        "FastMath.normalizeMinusPiPiFast_double",
+        "FastMath.normalizeZeroTwoPi_double",
+        "FastMath.normalizeZeroTwoPiFast_double",
+        "FastMath.normalizeMinusHalfPiHalfPi_double",
+        "FastMath.normalizeMinusHalfPiHalfPiFast_double",
+        "FastMath.isNaNOrInfinite_float",
+        "FastMath.isNaNOrInfinite_double",
+        "FastMath.getExponent_float",
+        "FastMath.getExponent_double",
+        "FastMath.signum_float",
+        "FastMath.signum_double",
+        "FastMath.signFromBit_float",
+        "FastMath.signFromBit_double",
+        "FastMath.copySign_2float",
+        "FastMath.copySign_2double",
+        "FastMath.ulp_float",
+        "FastMath.ulp_double",
+        "FastMath.nextAfter_float_double",
+        "FastMath.nextAfter_2double",
+        "FastMath.nextDown_float",
+        "FastMath.nextDown_double",
+        "FastMath.nextUp_float",
+        "FastMath.nextUp_double",
+        "FastMath.scalb_float_int",
+        "FastMath.scalb_double_int",
+        "FastMath.abs_float",
+        "FastMath.abs_double",
+        "FastMath.min_2float",
+        "FastMath.min_2double",
+        "FastMath.max_2float",
+        "FastMath.max_2double",
+        "FastMath.IEEEremainder_2double",
+        "FastMath.random",
+        "FastRandom.nextDouble",
+        "FastRandom.nextInt_int",
+        "Math.sin_double",
+        "Math.cos_double",
+        "Math.tan_double",
+        "Math.asin_double",
+        "Math.acos_double",
+        "Math.atan_double",
+        "Math.atan2_2double",
+        "Math.toRadians_double",
+        "Math.toDegrees_double",
+        "Math.sinh_double",
+        "Math.cosh_double",
+        "Math.tanh_double",
+        "Math.exp_double",
+        "Math.expm1_double",
+        "Math.log_double",
+        "Math.log10_double",
+        "Math.log1p_double",
+        "Math.pow_2double",
+        "Math.sqrt_double",
+        "Math.cbrt_double",
+        "Math.hypot_2double",
+        "Math.floor_double",
+        "Math.ceil_double",
+        "Math.round_float",
+        "Math.round_double",
+        "Math.rint_double",
+        "Math.getExponent_float",
+        "Math.getExponent_double",
+        "Math.signum_float",
+        "Math.signum_double",
+        "Math.copySign_2float",
+        "Math.copySign_2double",
+        "Math.ulp_float",
+        "Math.ulp_double",
+        "Math.nextAfter_float_double",
+        "Math.nextAfter_2double",
+        "Math.nextDown_float",
+        "Math.nextDown_double",
+        "Math.nextUp_float",
+        "Math.nextUp_double",
+        "Math.scalb_float_int",
+        "Math.scalb_double_int",
+        "Math.abs_float",
+        "Math.abs_double",
+        "Math.min_2float",
+        "Math.min_2double",
+        "Math.max_2float",
+        "Math.max_2double",
+        "Math.IEEEremainder_2double",
+        "Math.random",
+        "StrictMath.toRadians_double",
+        "StrictMath.toDegrees_double",
+        "StrictMath.exp_double",
+        "StrictMath.pow_2double",
+        "StrictMath.cbrt_double",
+        "StrictMath.hypot_2double",
+        "StrictMath.floor_double",
+        "StrictMath.ceil_double",
+        "StrictMath.round_float",
+        "StrictMath.round_double",
+        "StrictMath.rint_double",
+        "StrictMath.getExponent_float",
+        "StrictMath.getExponent_double",
+        "StrictMath.signum_float",
+        "StrictMath.signum_double",
+        "StrictMath.copySign_2float",
+        "StrictMath.copySign_2double",
+        "StrictMath.ulp_float",
+        "StrictMath.ulp_double",
+        "StrictMath.nextAfter_float_double",
+        "StrictMath.nextAfter_2double",
+        "StrictMath.nextDown_float",
+        "StrictMath.nextDown_double",
+        "StrictMath.nextUp_float",
+        "StrictMath.nextUp_double",
+        "StrictMath.scalb_float_int",
+        "StrictMath.scalb_double_int",
+        "StrictMath.abs_float",
+        "StrictMath.abs_double",
+        "StrictMath.min_2float",
+        "StrictMath.min_2double",
+        "StrictMath.max_2float",
+        "StrictMath.max_2double",
+        "StrictMath.random"})
+    public String method;
+
+    //--------------------------------------------------------------------------
+    // PROTECTED METHODS
+    //--------------------------------------------------------------------------
+
+    @Override
+    protected String getMethod() {
+        return this.method;
+    }
+
+    @Override
+    protected Map<String,InterfaceBenchCase> getBenchCaseByName() {
+        return BENCH_CASE_BY_NAME;
+    }
+
+    @Override
+    protected Map<String,InterfaceBulkBenchCase> getBulkBenchCaseByName() {
+        return BULK_BENCH_CASE_BY_NAME;
+    }
+}
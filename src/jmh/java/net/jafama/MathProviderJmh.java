@@ -0,0 +1,150 @@
+/*
+ * Copyright 2014-2017 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares calls to FastMath static methods, and to the same methods
+ * through MathProviders.FAST_MATH, held in a non-final field typed
+ * as MathProvider (as a caller choosing the provider at runtime would),
+ * to check that monomorphic call sites get inlined.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+public class MathProviderJmh {
+
+    //--------------------------------------------------------------------------
+    // CONFIGURATION
+    //--------------------------------------------------------------------------
+
+    private static final int NBR_OF_VALUES = 1024;
+
+    //--------------------------------------------------------------------------
+    // MEMBERS
+    //--------------------------------------------------------------------------
+
+    private final double[] args = new double[NBR_OF_VALUES];
+
+    private MathProvider provider;
+
+    //--------------------------------------------------------------------------
+    // PUBLIC METHODS
+    //--------------------------------------------------------------------------
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(123456789L);
+        for (int i=0;i<NBR_OF_VALUES;i++) {
+            this.args[i] = 10 * random.nextDouble();
+        }
+        this.provider = MathProviders.forName("FastMath");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NBR_OF_VALUES)
+    public void sin_static(Blackhole bh) {
+        final double[] args = this.args;
+        for (int i=0;i<NBR_OF_VALUES;i++) {
+            bh.consume(FastMath.sin(args[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NBR_OF_VALUES)
+    public void sin_provider(Blackhole bh) {
+        final double[] args = this.args;
+        final MathProvider provider = this.provider;
+        for (int i=0;i<NBR_OF_VALUES;i++) {
+            bh.consume(provider.sin(args[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NBR_OF_VALUES)
+    public void exp_static(Blackhole bh) {
+        final double[] args = this.args;
+        for (int i=0;i<NBR_OF_VALUES;i++) {
+            bh.consume(FastMath.exp(args[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NBR_OF_VALUES)
+    public void exp_provider(Blackhole bh) {
+        final double[] args = this.args;
+        final MathProvider provider = this.provider;
+        for (int i=0;i<NBR_OF_VALUES;i++) {
+            bh.consume(provider.exp(args[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NBR_OF_VALUES)
+    public void log_static(Blackhole bh) {
+        final double[] args = this.args;
+        for (int i=0;i<NBR_OF_VALUES;i++) {
+            bh.consume(FastMath.log(args[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NBR_OF_VALUES)
+    public void log_provider(Blackhole bh) {
+        final double[] args = this.args;
+        final MathProvider provider = this.provider;
+        for (int i=0;i<NBR_OF_VALUES;i++) {
+            bh.consume(provider.log(args[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NBR_OF_VALUES)
+    public void pow_static(Blackhole bh) {
+        final double[] args = this.args;
+        for (int i=0;i<NBR_OF_VALUES;i++) {
+            bh.consume(FastMath.pow(args[i], args[NBR_OF_VALUES-1-i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NBR_OF_VALUES)
+    public void pow_provider(Blackhole bh) {
+        final double[] args = this.args;
+        final MathProvider provider = this.provider;
+        for (int i=0;i<NBR_OF_VALUES;i++) {
+            bh.consume(provider.pow(args[i], args[NBR_OF_VALUES-1-i]));
+        }
+    }
+}
@@ -0,0 +1,433 @@
+/*
+ * Copyright 2014-2017 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * JMH benchmarks for NumbersUtils methods.
+ */
+public class NumbersUtilsJmh extends AbstractJmhBench {
+
+    //--------------------------------------------------------------------------
+    // MEMBERS
+    //--------------------------------------------------------------------------
+
+    /**
+     * Destination for allocation-free toString methods
+     * (large enough for any of them, and shared since contents don't matter).
+     */
+    private static final char[] CHARS = new char[328];
+
+    /**
+     * Inputs for parse methods (fixed, since parsing cost mostly depends
+     * on the number of digits, which is about the same for all).
+     */
+    private static final String[] LONG_STRINGS = new String[NBR_OF_VALUES];
+    private static final String[] DOUBLE_STRINGS = new String[NBR_OF_VALUES];
+    private static final byte[][] DOUBLE_BYTES = new byte[NBR_OF_VALUES][];
+    static {
+        final Random random = new Random(123456789L);
+        for (int i=0;i<NBR_OF_VALUES;i++) {
+            LONG_STRINGS[i] = Long.toString(random.nextLong());
+            DOUBLE_STRINGS[i] = Double.toString(Double.longBitsToDouble(random.nextLong() & 0x7FEFFFFFFFFFFFFFL));
+            DOUBLE_BYTES[i] = DOUBLE_STRINGS[i].getBytes(StandardCharsets.ISO_8859_1);
+        }
+    }
+
+    private static final Map<String,InterfaceBenchCase> BENCH_CASE_BY_NAME = newBenchCaseByName();
+    private static final Map<String,InterfaceBulkBenchCase> BULK_BENCH_CASE_BY_NAME = newBulkBenchCaseByName();
+    static {
+        BENCH_CASE_BY_NAME.put("NumbersUtils.equal_2float", (a, i, bh) -> bh.consume(NumbersUtils.equal(a.f1[i], a.f2[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.equal_2double", (a, i, bh) -> bh.consume(NumbersUtils.equal(a.d1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.isMathematicalInteger_float", (a, i, bh) -> bh.consume(NumbersUtils.isMathematicalInteger(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.isMathematicalInteger_double", (a, i, bh) -> bh.consume(NumbersUtils.isMathematicalInteger(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.isEquidistant_float", (a, i, bh) -> bh.consume(NumbersUtils.isEquidistant(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.isEquidistant_double", (a, i, bh) -> bh.consume(NumbersUtils.isEquidistant(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.isNaNOrInfinite_float", (a, i, bh) -> bh.consume(NumbersUtils.isNaNOrInfinite(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.isNaNOrInfinite_double", (a, i, bh) -> bh.consume(NumbersUtils.isNaNOrInfinite(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.signFromBit_float", (a, i, bh) -> bh.consume(NumbersUtils.signFromBit(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.signFromBit_double", (a, i, bh) -> bh.consume(NumbersUtils.signFromBit(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.isInRange_3int", (a, i, bh) -> bh.consume(NumbersUtils.isInRange(a.i1[i], a.i2[i], a.i3[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.isInRange_3long", (a, i, bh) -> bh.consume(NumbersUtils.isInRange(a.l1[i], a.l2[i], a.l3[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.isInRange_3float", (a, i, bh) -> bh.consume(NumbersUtils.isInRange(a.f1[i], a.f2[i], a.f3[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.isInRange_3double", (a, i, bh) -> bh.consume(NumbersUtils.isInRange(a.d1[i], a.d2[i], a.d3[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.checkIsInRange_3int", (a, i, bh) -> bh.consume(NumbersUtils.checkIsInRange(-INT_ARGS_MAX_MAG, INT_ARGS_MAX_MAG, a.i1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.checkIsInRange_3long", (a, i, bh) -> bh.consume(NumbersUtils.checkIsInRange(-LONG_ARGS_MAX_MAG, LONG_ARGS_MAX_MAG, a.l1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.checkIsInRange_3float", (a, i, bh) -> bh.consume(NumbersUtils.checkIsInRange(-Float.MAX_VALUE, Float.MAX_VALUE, a.f1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.checkIsInRange_3double", (a, i, bh) -> bh.consume(NumbersUtils.checkIsInRange(-Double.MAX_VALUE, Double.MAX_VALUE, a.d1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.toRange_3int", (a, i, bh) -> bh.consume(NumbersUtils.toRange(a.i1[i], a.i2[i], a.i3[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.toRange_3long", (a, i, bh) -> bh.consume(NumbersUtils.toRange(a.l1[i], a.l2[i], a.l3[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.toRange_3float", (a, i, bh) -> bh.consume(NumbersUtils.toRange(a.f1[i], a.f2[i], a.f3[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.toRange_3double", (a, i, bh) -> bh.consume(NumbersUtils.toRange(a.d1[i], a.d2[i], a.d3[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.isInRangeSigned_2int", (a, i, bh) -> bh.consume(NumbersUtils.isInRangeSigned(a.i1[i], a.signedIntBitSize1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.isInRangeSigned_long_int", (a, i, bh) -> bh.consume(NumbersUtils.isInRangeSigned(a.l1[i], a.signedLongBitSize1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.isInRangeUnsigned_2int", (a, i, bh) -> bh.consume(NumbersUtils.isInRangeUnsigned(a.i1[i], a.unsignedIntBitSize1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.isInRangeUnsigned_long_int", (a, i, bh) -> bh.consume(NumbersUtils.isInRangeUnsigned(a.l1[i], a.unsignedLongBitSize1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.checkIsInRangeSigned_2int", (a, i, bh) -> bh.consume(NumbersUtils.checkIsInRangeSigned(a.i1[i], 32)));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.checkIsInRangeSigned_long_int", (a, i, bh) -> bh.consume(NumbersUtils.checkIsInRangeSigned(a.l1[i], 64)));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.checkIsInRangeUnsigned_2int", (a, i, bh) -> bh.consume(NumbersUtils.checkIsInRangeUnsigned(a.pi1[i], 31)));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.checkIsInRangeUnsigned_long_int", (a, i, bh) -> bh.consume(NumbersUtils.checkIsInRangeUnsigned(a.pl1[i], 63)));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.intMaskMSBits0_int", (a, i, bh) -> bh.consume(NumbersUtils.intMaskMSBits0(a.intBitPos1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.intMaskMSBits1_int", (a, i, bh) -> bh.consume(NumbersUtils.intMaskMSBits1(a.intBitPos1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.intMaskLSBits0_int", (a, i, bh) -> bh.consume(NumbersUtils.intMaskLSBits0(a.intBitPos1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.intMaskLSBits1_int", (a, i, bh) -> bh.consume(NumbersUtils.intMaskLSBits1(a.intBitPos1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.longMaskMSBits0_int", (a, i, bh) -> bh.consume(NumbersUtils.longMaskMSBits0(a.longBitPos1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.longMaskMSBits1_int", (a, i, bh) -> bh.consume(NumbersUtils.longMaskMSBits1(a.longBitPos1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.longMaskLSBits0_int", (a, i, bh) -> bh.consume(NumbersUtils.longMaskLSBits0(a.longBitPos1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.longMaskLSBits1_int", (a, i, bh) -> bh.consume(NumbersUtils.longMaskLSBits1(a.longBitPos1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.byteAsUnsigned_byte", (a, i, bh) -> bh.consume(NumbersUtils.byteAsUnsigned(a.b1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.shortAsUnsigned_short", (a, i, bh) -> bh.consume(NumbersUtils.shortAsUnsigned(a.s1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.intAsUnsigned_int", (a, i, bh) -> bh.consume(NumbersUtils.intAsUnsigned(a.i1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.isValidBitSizeForSignedInt_int", (a, i, bh) -> bh.consume(NumbersUtils.isValidBitSizeForSignedInt(a.i1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.isValidBitSizeForSignedLong_int", (a, i, bh) -> bh.consume(NumbersUtils.isValidBitSizeForSignedLong(a.i1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.isValidBitSizeForUnsignedInt_int", (a, i, bh) -> bh.consume(NumbersUtils.isValidBitSizeForUnsignedInt(a.i1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.isValidBitSizeForUnsignedLong_int", (a, i, bh) -> bh.consume(NumbersUtils.isValidBitSizeForUnsignedLong(a.i1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.checkBitSizeForSignedInt_int", (a, i, bh) -> bh.consume(NumbersUtils.checkBitSizeForSignedInt(a.signedIntBitSize1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.checkBitSizeForSignedLong_int", (a, i, bh) -> bh.consume(NumbersUtils.checkBitSizeForSignedLong(a.signedLongBitSize1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.checkBitSizeForUnsignedInt_int", (a, i, bh) -> bh.consume(NumbersUtils.checkBitSizeForUnsignedInt(a.unsignedIntBitSize1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.checkBitSizeForUnsignedLong_int", (a, i, bh) -> bh.consume(NumbersUtils.checkBitSizeForUnsignedLong(a.unsignedLongBitSize1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.minSignedIntForBitSize_int", (a, i, bh) -> bh.consume(NumbersUtils.minSignedIntForBitSize(a.signedIntBitSize1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.minSignedLongForBitSize_int", (a, i, bh) -> bh.consume(NumbersUtils.minSignedLongForBitSize(a.signedLongBitSize1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.maxSignedIntForBitSize_int", (a, i, bh) -> bh.consume(NumbersUtils.maxSignedIntForBitSize(a.signedIntBitSize1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.maxSignedLongForBitSize_int", (a, i, bh) -> bh.consume(NumbersUtils.maxSignedLongForBitSize(a.signedLongBitSize1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.maxUnsignedIntForBitSize_int", (a, i, bh) -> bh.consume(NumbersUtils.maxUnsignedIntForBitSize(a.unsignedIntBitSize1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.maxUnsignedLongForBitSize_int", (a, i, bh) -> bh.consume(NumbersUtils.maxUnsignedLongForBitSize(a.unsignedLongBitSize1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.bitSizeForSignedValue_int", (a, i, bh) -> bh.consume(NumbersUtils.bitSizeForSignedValue(a.i1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.bitSizeForSignedValue_long", (a, i, bh) -> bh.consume(NumbersUtils.bitSizeForSignedValue(a.l1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.bitSizeForUnsignedValue_int", (a, i, bh) -> bh.consume(NumbersUtils.bitSizeForUnsignedValue(a.pi1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.bitSizeForUnsignedValue_long", (a, i, bh) -> bh.consume(NumbersUtils.bitSizeForUnsignedValue(a.pl1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.signum_int", (a, i, bh) -> bh.consume(NumbersUtils.signum(a.i1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.signum_long", (a, i, bh) -> bh.consume(NumbersUtils.signum(a.l1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.isEven_int", (a, i, bh) -> bh.consume(NumbersUtils.isEven(a.i1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.isEven_long", (a, i, bh) -> bh.consume(NumbersUtils.isEven(a.l1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.isOdd_int", (a, i, bh) -> bh.consume(NumbersUtils.isOdd(a.i1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.isOdd_long", (a, i, bh) -> bh.consume(NumbersUtils.isOdd(a.l1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.haveSameEvenness_2int", (a, i, bh) -> bh.consume(NumbersUtils.haveSameEvenness(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.haveSameEvenness_2long", (a, i, bh) -> bh.consume(NumbersUtils.haveSameEvenness(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.haveSameSign_2int", (a, i, bh) -> bh.consume(NumbersUtils.haveSameSign(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.haveSameSign_2long", (a, i, bh) -> bh.consume(NumbersUtils.haveSameSign(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.isPowerOfTwo_int", (a, i, bh) -> bh.consume(NumbersUtils.isPowerOfTwo(a.i1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.isPowerOfTwo_long", (a, i, bh) -> bh.consume(NumbersUtils.isPowerOfTwo(a.l1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.isSignedPowerOfTwo_int", (a, i, bh) -> bh.consume(NumbersUtils.isSignedPowerOfTwo(a.i1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.isSignedPowerOfTwo_long", (a, i, bh) -> bh.consume(NumbersUtils.isSignedPowerOfTwo(a.l1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.floorPowerOfTwo_int", (a, i, bh) -> bh.consume(NumbersUtils.floorPowerOfTwo(a.pi1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.floorPowerOfTwo_long", (a, i, bh) -> bh.consume(NumbersUtils.floorPowerOfTwo(a.pl1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.ceilingPowerOfTwo_int", (a, i, bh) -> bh.consume(NumbersUtils.ceilingPowerOfTwo(a.pi1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.ceilingPowerOfTwo_long", (a, i, bh) -> bh.consume(NumbersUtils.ceilingPowerOfTwo(a.pl1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.meanLow_2int", (a, i, bh) -> bh.consume(NumbersUtils.meanLow(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.meanLow_2long", (a, i, bh) -> bh.consume(NumbersUtils.meanLow(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.meanSml_2int", (a, i, bh) -> bh.consume(NumbersUtils.meanSml(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.meanSml_2long", (a, i, bh) -> bh.consume(NumbersUtils.meanSml(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.negHalfWidth_2int", (a, i, bh) -> bh.consume(NumbersUtils.negHalfWidth(-INT_ARGS_MAX_MAG, a.i1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.negHalfWidth_2long", (a, i, bh) -> bh.consume(NumbersUtils.negHalfWidth(-LONG_ARGS_MAX_MAG, a.l1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.moduloSignedPowerOfTwo_2int", (a, i, bh) -> bh.consume(NumbersUtils.moduloSignedPowerOfTwo(a.i1[i], a.intPot1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.moduloSignedPowerOfTwo_2long", (a, i, bh) -> bh.consume(NumbersUtils.moduloSignedPowerOfTwo(a.l1[i], a.longPot1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.log2_int", (a, i, bh) -> bh.consume(NumbersUtils.log2(a.pi1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.log2_long", (a, i, bh) -> bh.consume(NumbersUtils.log2(a.pl1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.abs_int", (a, i, bh) -> bh.consume(NumbersUtils.abs(a.i1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.abs_long", (a, i, bh) -> bh.consume(NumbersUtils.abs(a.l1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.absNeg_int", (a, i, bh) -> bh.consume(NumbersUtils.absNeg(a.i1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.absNeg_long", (a, i, bh) -> bh.consume(NumbersUtils.absNeg(a.l1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.intHash_long", (a, i, bh) -> bh.consume(NumbersUtils.intHash(a.l1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.asByte_int", (a, i, bh) -> bh.consume(NumbersUtils.asByte(a.b1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.asInt_long", (a, i, bh) -> bh.consume(NumbersUtils.asInt(a.i1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.toInt_long", (a, i, bh) -> bh.consume(NumbersUtils.toInt(a.l1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.plusExact_2int", (a, i, bh) -> bh.consume(NumbersUtils.plusExact(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.plusExact_2long", (a, i, bh) -> bh.consume(NumbersUtils.plusExact(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.plusBounded_2int", (a, i, bh) -> bh.consume(NumbersUtils.plusBounded(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.plusBounded_2long", (a, i, bh) -> bh.consume(NumbersUtils.plusBounded(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.minusExact_2int", (a, i, bh) -> bh.consume(NumbersUtils.minusExact(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.minusExact_2long", (a, i, bh) -> bh.consume(NumbersUtils.minusExact(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.minusBounded_2int", (a, i, bh) -> bh.consume(NumbersUtils.minusBounded(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.minusBounded_2long", (a, i, bh) -> bh.consume(NumbersUtils.minusBounded(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.timesExact_2int", (a, i, bh) -> bh.consume(NumbersUtils.timesExact(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.timesExact_2long", (a, i, bh) -> bh.consume(NumbersUtils.timesExact(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.timesBounded_2int", (a, i, bh) -> bh.consume(NumbersUtils.timesBounded(a.i1[i], a.i2[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.timesBounded_2long", (a, i, bh) -> bh.consume(NumbersUtils.timesBounded(a.l1[i], a.l2[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.twoPow_int", (a, i, bh) -> bh.consume(NumbersUtils.twoPow(a.i1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.twoPowAsIntExact_int", (a, i, bh) -> bh.consume(NumbersUtils.twoPowAsIntExact(a.smallInt1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.twoPowAsIntBounded_int", (a, i, bh) -> bh.consume(NumbersUtils.twoPowAsIntBounded(a.smallInt1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.twoPowAsLongExact_int", (a, i, bh) -> bh.consume(NumbersUtils.twoPowAsLongExact(a.smallInt1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.twoPowAsLongBounded_int", (a, i, bh) -> bh.consume(NumbersUtils.twoPowAsLongBounded(a.smallInt1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.pow2_int", (a, i, bh) -> bh.consume(NumbersUtils.pow2(a.i1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.pow2_long", (a, i, bh) -> bh.consume(NumbersUtils.pow2(a.l1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.pow2_float", (a, i, bh) -> bh.consume(NumbersUtils.pow2(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.pow2_strict_float", (a, i, bh) -> bh.consume(NumbersUtils.pow2_strict(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.pow2_double", (a, i, bh) -> bh.consume(NumbersUtils.pow2(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.pow2_strict_double", (a, i, bh) -> bh.consume(NumbersUtils.pow2_strict(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.pow3_int", (a, i, bh) -> bh.consume(NumbersUtils.pow3(a.i1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.pow3_long", (a, i, bh) -> bh.consume(NumbersUtils.pow3(a.l1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.pow3_float", (a, i, bh) -> bh.consume(NumbersUtils.pow3(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.pow3_strict_float", (a, i, bh) -> bh.consume(NumbersUtils.pow3_strict(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.pow3_double", (a, i, bh) -> bh.consume(NumbersUtils.pow3(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.pow3_strict_double", (a, i, bh) -> bh.consume(NumbersUtils.pow3_strict(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.plus2PI_double", (a, i, bh) -> bh.consume(NumbersUtils.plus2PI(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.plus2PI_strict_double", (a, i, bh) -> bh.consume(NumbersUtils.plus2PI_strict(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.minus2PI_double", (a, i, bh) -> bh.consume(NumbersUtils.minus2PI(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.minus2PI_strict_double", (a, i, bh) -> bh.consume(NumbersUtils.minus2PI_strict(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.plusPI_double", (a, i, bh) -> bh.consume(NumbersUtils.plusPI(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.plusPI_strict_double", (a, i, bh) -> bh.consume(NumbersUtils.plusPI_strict(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.minusPI_double", (a, i, bh) -> bh.consume(NumbersUtils.minusPI(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.minusPI_strict_double", (a, i, bh) -> bh.consume(NumbersUtils.minusPI_strict(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.plusPIO2_double", (a, i, bh) -> bh.consume(NumbersUtils.plusPIO2(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.plusPIO2_strict_double", (a, i, bh) -> bh.consume(NumbersUtils.plusPIO2_strict(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.minusPIO2_double", (a, i, bh) -> bh.consume(NumbersUtils.minusPIO2(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.minusPIO2_strict_double", (a, i, bh) -> bh.consume(NumbersUtils.minusPIO2_strict(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.checkRadix_int", (a, i, bh) -> bh.consume(NumbersUtils.checkRadix(a.radix1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.computeNbrOfChars_2int", (a, i, bh) -> bh.consume(NumbersUtils.computeNbrOfChars(a.i1[i], a.radix1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.computeNbrOfChars_long_int", (a, i, bh) -> bh.consume(NumbersUtils.computeNbrOfChars(a.l1[i], a.radix1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.computeNbrOfChars_3int", (a, i, bh) -> bh.consume(NumbersUtils.computeNbrOfChars(a.i1[i], a.radix1[i], a.smallInt1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.computeNbrOfChars_long_2int", (a, i, bh) -> bh.consume(NumbersUtils.computeNbrOfChars(a.l1[i], a.radix1[i], a.smallInt1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.computeNbrOfDigits_2int", (a, i, bh) -> bh.consume(NumbersUtils.computeNbrOfDigits(a.i1[i], a.radix1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.computeNbrOfDigits_long_int", (a, i, bh) -> bh.consume(NumbersUtils.computeNbrOfDigits(a.l1[i], a.radix1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.computeNbrOfDigits_3int", (a, i, bh) -> bh.consume(NumbersUtils.computeNbrOfDigits(a.i1[i], a.radix1[i], a.smallInt1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.computeNbrOfDigits_long_2int", (a, i, bh) -> bh.consume(NumbersUtils.computeNbrOfDigits(a.l1[i], a.radix1[i], a.smallInt1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.toString_int", (a, i, bh) -> bh.consume(NumbersUtils.toString(a.i1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.toString_long", (a, i, bh) -> bh.consume(NumbersUtils.toString(a.l1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.toString_2int", (a, i, bh) -> bh.consume(NumbersUtils.toString(a.i1[i], a.radix1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.toString_long_int", (a, i, bh) -> bh.consume(NumbersUtils.toString(a.l1[i], a.radix1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.toString_3int", (a, i, bh) -> bh.consume(NumbersUtils.toString(a.i1[i], a.radix1[i], a.smallInt1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.toString_long_2int", (a, i, bh) -> bh.consume(NumbersUtils.toString(a.l1[i], a.radix1[i], a.smallInt1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.toChars_3int_charArray_int", (a, i, bh) -> bh.consume(NumbersUtils.toChars(a.i1[i], a.radix1[i], a.smallInt1[i], CHARS, 0)));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.toChars_long_2int_charArray_int", (a, i, bh) -> bh.consume(NumbersUtils.toChars(a.l1[i], a.radix1[i], a.smallInt1[i], CHARS, 0)));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.checkBitPositionsByte_2int", (a, i, bh) -> bh.consume(NumbersUtils.checkBitPositionsByte(a.bitPosFirst1[i], a.bitPosLastExcl1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.checkBitPositionsShort_2int", (a, i, bh) -> bh.consume(NumbersUtils.checkBitPositionsShort(a.bitPosFirst1[i], a.bitPosLastExcl1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.checkBitPositionsInt_2int", (a, i, bh) -> bh.consume(NumbersUtils.checkBitPositionsInt(a.bitPosFirst1[i], a.bitPosLastExcl1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.checkBitPositionsLong_2int", (a, i, bh) -> bh.consume(NumbersUtils.checkBitPositionsLong(a.bitPosFirst1[i], a.bitPosLastExcl1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.toStringBits_byte", (a, i, bh) -> bh.consume(NumbersUtils.toStringBits(a.b1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.toStringBits_short", (a, i, bh) -> bh.consume(NumbersUtils.toStringBits(a.s1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.toStringBits_int", (a, i, bh) -> bh.consume(NumbersUtils.toStringBits(a.i1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.toStringBits_long", (a, i, bh) -> bh.consume(NumbersUtils.toStringBits(a.l1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.toCharsBits_int_charArray_int", (a, i, bh) -> bh.consume(NumbersUtils.toCharsBits(a.i1[i], CHARS, 0)));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.toCharsBits_long_charArray_int", (a, i, bh) -> bh.consume(NumbersUtils.toCharsBits(a.l1[i], CHARS, 0)));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.toStringBits_byte_2int_2boolean", (a, i, bh) -> bh.consume(NumbersUtils.toStringBits(a.b1[i], a.bitPosFirst1[i], a.bitPosLastExcl1[i], a.z1[i], a.z2[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.toStringBits_short_2int_2boolean", (a, i, bh) -> bh.consume(NumbersUtils.toStringBits(a.s1[i], a.bitPosFirst1[i], a.bitPosLastExcl1[i], a.z1[i], a.z2[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.toStringBits_3int_2boolean", (a, i, bh) -> bh.consume(NumbersUtils.toStringBits(a.i1[i], a.bitPosFirst1[i], a.bitPosLastExcl1[i], a.z1[i], a.z2[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.toStringBits_long_2int_2boolean", (a, i, bh) -> bh.consume(NumbersUtils.toStringBits(a.l1[i], a.bitPosFirst1[i], a.bitPosLastExcl1[i], a.z1[i], a.z2[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.toStringCSN_double", (a, i, bh) -> bh.consume(NumbersUtils.toStringCSN(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.toStringNoCSN_double", (a, i, bh) -> bh.consume(NumbersUtils.toStringNoCSN(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.toCharsCSN_double_charArray_int", (a, i, bh) -> bh.consume(NumbersUtils.toCharsCSN(a.d1[i], CHARS, 0)));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.toCharsNoCSN_double_charArray_int", (a, i, bh) -> bh.consume(NumbersUtils.toCharsNoCSN(a.d1[i], CHARS, 0)));
+        BENCH_CASE_BY_NAME.put("Long.parseLong_String", (a, i, bh) -> bh.consume(Long.parseLong(LONG_STRINGS[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.parseLong_CharSequence_3int", (a, i, bh) -> bh.consume(NumbersUtils.parseLong(LONG_STRINGS[i], 0, LONG_STRINGS[i].length(), 10)));
+        BENCH_CASE_BY_NAME.put("Double.parseDouble_String", (a, i, bh) -> bh.consume(Double.parseDouble(DOUBLE_STRINGS[i])));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.parseDouble_CharSequence_2int", (a, i, bh) -> bh.consume(NumbersUtils.parseDouble(DOUBLE_STRINGS[i], 0, DOUBLE_STRINGS[i].length())));
+        BENCH_CASE_BY_NAME.put("NumbersUtils.parseDouble_byteArray_2int", (a, i, bh) -> bh.consume(NumbersUtils.parseDouble(DOUBLE_BYTES[i], 0, DOUBLE_BYTES[i].length)));
+    }
+
+    @Param({
+        "NumbersUtils.equal_2float",
+        "NumbersUtils.equal_2double",
+        "NumbersUtils.isMathematicalInteger_float",
+        "NumbersUtils.isMathematicalInteger_double",
+        "NumbersUtils.isEquidistant_float",
+        "NumbersUtils.isEquidistant_double",
+        "NumbersUtils.isNaNOrInfinite_float",
+        "NumbersUtils.isNaNOrInfinite_double",
+        "NumbersUtils.signFromBit_float",
+        "NumbersUtils.signFromBit_double",
+        "NumbersUtils.isInRange_3int",
+        "NumbersUtils.isInRange_3long",
+        "NumbersUtils.isInRange_3float",
+        "NumbersUtils.isInRange_3double",
+        "NumbersUtils.checkIsInRange_3int",
+        "NumbersUtils.checkIsInRange_3long",
+        "NumbersUtils.checkIsInRange_3float",
+        "NumbersUtils.checkIsInRange_3double",
+        "NumbersUtils.toRange_3int",
+        "NumbersUtils.toRange_3long",
+        "NumbersUtils.toRange_3float",
+        "NumbersUtils.toRange_3double",
+        "NumbersUtils.isInRangeSigned_2int",
+        "NumbersUtils.isInRangeSigned_long_int",
+        "NumbersUtils.isInRangeUnsigned_2int",
+        "NumbersUtils.isInRangeUnsigned_long_int",
+        "NumbersUtils.checkIsInRangeSigned_2int",
+        "NumbersUtils.checkIsInRangeSigned_long_int",
+        "NumbersUtils.checkIsInRangeUnsigned_2int",
+        "NumbersUtils.checkIsInRangeUnsigned_long_int",
+        "NumbersUtils.intMaskMSBits0_int",
+        "NumbersUtils.intMaskMSBits1_int",
+        "NumbersUtils.intMaskLSBits0_int",
+        "NumbersUtils.intMaskLSBits1_int",
+        "NumbersUtils.longMaskMSBits0_int",
+        "NumbersUtils.longMaskMSBits1_int",
+        "NumbersUtils.longMaskLSBits0_int",
+        "NumbersUtils.longMaskLSBits1_int",
+        "NumbersUtils.byteAsUnsigned_byte",
+        "NumbersUtils.shortAsUnsigned_short",
+        "NumbersUtils.intAsUnsigned_int",
+        "NumbersUtils.isValidBitSizeForSignedInt_int",
+        "NumbersUtils.isValidBitSizeForSignedLong_int",
+        "NumbersUtils.isValidBitSizeForUnsignedInt_int",
+        "NumbersUtils.isValidBitSizeForUnsignedLong_int",
+        "NumbersUtils.checkBitSizeForSignedInt_int",
+        "NumbersUtils.checkBitSizeForSignedLong_int",
+        "NumbersUtils.checkBitSizeForUnsignedInt_int",
+        "NumbersUtils.checkBitSizeForUnsignedLong_int",
+        "NumbersUtils.minSignedIntForBitSize_int",
+        "NumbersUtils.minSignedLongForBitSize_int",
+        "NumbersUtils.maxSignedIntForBitSize_int",
+        "NumbersUtils.maxSignedLongForBitSize_int",
+        "NumbersUtils.maxUnsignedIntForBitSize_int",
+        "NumbersUtils.maxUnsignedLongForBitSize_int",
+        "NumbersUtils.bitSizeForSignedValue_int",
+        "NumbersUtils.bitSizeForSignedValue_long",
+        "NumbersUtils.bitSizeForUnsignedValue_int",
+        "NumbersUtils.bitSizeForUnsignedValue_long",
+        "NumbersUtils.signum_int",
+        "NumbersUtils.signum_long",
+        "NumbersUtils.isEven_int",
+        "NumbersUtils.isEven_long",
+        "NumbersUtils.isOdd_int",
+        "NumbersUtils.isOdd_long",
+        "NumbersUtils.haveSameEvenness_2int",
+        "NumbersUtils.haveSameEvenness_2long",
+        "NumbersUtils.haveSameSign_2int",
+        "NumbersUtils.haveSameSign_2long",
+        "NumbersUtils.isPowerOfTwo_int",
+        "NumbersUtils.isPowerOfTwo_long",
+        "NumbersUtils.isSignedPowerOfTwo_int",
+        "NumbersUtils.isSignedPowerOfTwo_long",
+        "NumbersUtils.floorPowerOfTwo_int",
+        "NumbersUtils.floorPowerOfTwo_long",
+        "NumbersUtils.ceilingPowerOfTwo_int",
+        "NumbersUtils.ceilingPowerOfTwo_long",
+        "NumbersUtils.meanLow_2int",
+        "NumbersUtils.meanLow_2long",
+        "NumbersUtils.meanSml_2int",
+        "NumbersUtils.meanSml_2long",
+        "NumbersUtils.negHalfWidth_2int",
+        "NumbersUtils.negHalfWidth_2long",
+        "NumbersUtils.moduloSignedPowerOfTwo_2int",
+        "NumbersUtils.moduloSignedPowerOfTwo_2long",
+        "NumbersUtils.log2_int",
+        "NumbersUtils.log2_long",
+        "NumbersUtils.abs_int",
+        "NumbersUtils.abs_long",
+        "NumbersUtils.absNeg_int",
+        "NumbersUtils.absNeg_long",
+        "NumbersUtils.intHash_long",
+        "NumbersUtils.asByte_int",
+        "NumbersUtils.asInt_long",
+        "NumbersUtils.toInt_long",
+        "NumbersUtils.plusExact_2int",
+        "NumbersUtils.plusExact_2long",
+        "NumbersUtils.plusBounded_2int",
+        "NumbersUtils.plusBounded_2long",
+        "NumbersUtils.minusExact_2int",
+        "NumbersUtils.minusExact_2long",
+        "NumbersUtils.minusBounded_2int",
+        "NumbersUtils.minusBounded_2long",
+        "NumbersUtils.timesExact_2int",
+        "NumbersUtils.timesExact_2long",
+        "NumbersUtils.timesBounded_2int",
+        "NumbersUtils.timesBounded_2long",
+        "NumbersUtils.twoPow_int",
+        "NumbersUtils.twoPowAsIntExact_int",
+        "NumbersUtils.twoPowAsIntBounded_int",
+        "NumbersUtils.twoPowAsLongExact_int",
+        "NumbersUtils.twoPowAsLongBounded_int",
+        "NumbersUtils.pow2_int",
+        "NumbersUtils.pow2_long",
+        "NumbersUtils.pow2_float",
+        "NumbersUtils.pow2_strict_float",
+        "NumbersUtils.pow2_double",
+        "NumbersUtils.pow2_strict_double",
+        "NumbersUtils.pow3_int",
+        "NumbersUtils.pow3_long",
+        "NumbersUtils.pow3_float",
+        "NumbersUtils.pow3_strict_float",
+        "NumbersUtils.pow3_double",
+        "NumbersUtils.pow3_strict_double",
+        "NumbersUtils.plus2PI_double",
+        "NumbersUtils.plus2PI_strict_double",
+        "NumbersUtils.minus2PI_double",
+        "NumbersUtils.minus2PI_strict_double",
+        "NumbersUtils.plusPI_double",
+        "NumbersUtils.plusPI_strict_double",
+        "NumbersUtils.minusPI_double",
+        "NumbersUtils.minusPI_strict_double",
+        "NumbersUtils.plusPIO2_double",
+        "NumbersUtils.plusPIO2_strict_double",
+        "NumbersUtils.minusPIO2_double",
+        "NumbersUtils.minusPIO2_strict_double",
+        "NumbersUtils.checkRadix_int",
+        "NumbersUtils.computeNbrOfChars_2int",
+        "NumbersUtils.computeNbrOfChars_long_int",
+        "NumbersUtils.computeNbrOfChars_3int",
+        "NumbersUtils.computeNbrOfChars_long_2int",
+        "NumbersUtils.computeNbrOfDigits_2int",
+        "NumbersUtils.computeNbrOfDigits_long_int",
+        "NumbersUtils.computeNbrOfDigits_3int",
+        "NumbersUtils.computeNbrOfDigits_long_2int",
+        "NumbersUtils.toString_int",
+        "NumbersUtils.toString_long",
+        "NumbersUtils.toString_2int",
+        "NumbersUtils.toString_long_int",
+        "NumbersUtils.toString_3int",
+        "NumbersUtils.toString_long_2int",
+        "NumbersUtils.toChars_3int_charArray_int",
+        "NumbersUtils.toChars_long_2int_charArray_int",
+        "NumbersUtils.checkBitPositionsByte_2int",
+        "NumbersUtils.checkBitPositionsShort_2int",
+        "NumbersUtils.checkBitPositionsInt_2int",
+        "NumbersUtils.checkBitPositionsLong_2int",
+        "NumbersUtils.toStringBits_byte",
+        "NumbersUtils.toStringBits_short",
+        "NumbersUtils.toStringBits_int",
+        "NumbersUtils.toStringBits_long",
+        "NumbersUtils.toCharsBits_int_charArray_int",
+        "NumbersUtils.toCharsBits_long_charArray_int",
+        "NumbersUtils.toStringBits_byte_2int_2boolean",
+        "NumbersUtils.toStringBits_short_2int_2boolean",
+        "NumbersUtils.toStringBits_3int_2boolean",
+        "NumbersUtils.toStringBits_long_2int_2boolean",
+        "NumbersUtils.toStringCSN_double",
+        "NumbersUtils.toStringNoCSN_double",
+        "NumbersUtils.toCharsCSN_double_charArray_int",
+        "NumbersUtils.toCharsNoCSN_double_charArray_int",
+        "Long.parseLong_String",
+        "NumbersUtils.parseLong_CharSequence_3int",
+        "Double.parseDouble_String",
+        "NumbersUtils.parseDouble_CharSequence_2int",
+        "NumbersUtils.parseDouble_byteArray_2int"})
+    public String method;
+
+    //--------------------------------------------------------------------------
+    // PROTECTED METHODS
+    //--------------------------------------------------------------------------
+
+    @Override
+    protected String getMethod() {
+        return this.method;
+    }
+
+    @Override
+    protected Map<String,InterfaceBenchCase> getBenchCaseByName() {
+        return BENCH_CASE_BY_NAME;
+    }
+
+    @Override
+    protected Map<String,InterfaceBulkBenchCase> getBulkBenchCaseByName() {
+        return BULK_BENCH_CASE_BY_NAME;
+    }
+}
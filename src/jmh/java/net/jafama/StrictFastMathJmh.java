@@ -0,0 +1,306 @@
+/*
+ * Copyright 2014-2017 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * JMH benchmarks for StrictFastMath methods
+ * (Math and StrictMath counterparts are in FastMathJmh).
+ */
+public class StrictFastMathJmh extends AbstractJmhBench {
+
+    //--------------------------------------------------------------------------
+    // MEMBERS
+    //--------------------------------------------------------------------------
+
+    private static final Map<String,InterfaceBenchCase> BENCH_CASE_BY_NAME = newBenchCaseByName();
+    private static final Map<String,InterfaceBulkBenchCase> BULK_BENCH_CASE_BY_NAME = newBulkBenchCaseByName();
+    static {
+        BENCH_CASE_BY_NAME.put("StrictFastMath.sin_double", (a, i, bh) -> bh.consume(StrictFastMath.sin(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.sinQuick_double", (a, i, bh) -> bh.consume(StrictFastMath.sinQuick(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.cos_double", (a, i, bh) -> bh.consume(StrictFastMath.cos(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.cosQuick_double", (a, i, bh) -> bh.consume(StrictFastMath.cosQuick(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.sinAndCos_double_DoubleWrapper", (a, i, bh) -> bh.consume(StrictFastMath.sinAndCos(a.d1[i], a.dw1)));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.tan_double", (a, i, bh) -> bh.consume(StrictFastMath.tan(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.sinPi_double", (a, i, bh) -> bh.consume(StrictFastMath.sinPi(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.cosPi_double", (a, i, bh) -> bh.consume(StrictFastMath.cosPi(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.tanPi_double", (a, i, bh) -> bh.consume(StrictFastMath.tanPi(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.sinDeg_double", (a, i, bh) -> bh.consume(StrictFastMath.sinDeg(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.cosDeg_double", (a, i, bh) -> bh.consume(StrictFastMath.cosDeg(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.tanDeg_double", (a, i, bh) -> bh.consume(StrictFastMath.tanDeg(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.sinAndCosDeg_double_DoubleWrapper", (a, i, bh) -> bh.consume(StrictFastMath.sinAndCosDeg(a.d1[i], a.dw1)));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.asin_double", (a, i, bh) -> bh.consume(StrictFastMath.asin(a.cosD1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.asinInRange_double", (a, i, bh) -> bh.consume(StrictFastMath.asinInRange(a.cosD1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.acos_double", (a, i, bh) -> bh.consume(StrictFastMath.acos(a.cosD1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.acosInRange_double", (a, i, bh) -> bh.consume(StrictFastMath.acosInRange(a.cosD1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.atan_double", (a, i, bh) -> bh.consume(StrictFastMath.atan(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.atan2_2double", (a, i, bh) -> bh.consume(StrictFastMath.atan2(a.d1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.atan2Quick_2double", (a, i, bh) -> bh.consume(StrictFastMath.atan2Quick(a.d1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.toRadians_double", (a, i, bh) -> bh.consume(StrictFastMath.toRadians(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.toDegrees_double", (a, i, bh) -> bh.consume(StrictFastMath.toDegrees(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.toRadians_boolean_2int_double", (a, i, bh) -> bh.consume(StrictFastMath.toRadians(a.z1[i], a.i1[i], a.i2[i], a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.toDegrees_boolean_2int_double", (a, i, bh) -> bh.consume(StrictFastMath.toDegrees(a.z1[i], a.i1[i], a.i2[i], a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.toDMS_double_2IntWrapper_DoubleWrapper", (a, i, bh) -> bh.consume(StrictFastMath.toDMS(a.d1[i], a.iw1, a.iw2, a.dw1)));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.isInClockwiseDomain_3double", (a, i, bh) -> bh.consume(StrictFastMath.isInClockwiseDomain(a.d1[i], a.d2[i], a.d3[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.sinh_double", (a, i, bh) -> bh.consume(StrictFastMath.sinh(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.cosh_double", (a, i, bh) -> bh.consume(StrictFastMath.cosh(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.coshm1_double", (a, i, bh) -> bh.consume(StrictFastMath.coshm1(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.sinhAndCosh_double_DoubleWrapper", (a, i, bh) -> bh.consume(StrictFastMath.sinhAndCosh(a.d1[i], a.dw1)));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.tanh_double", (a, i, bh) -> bh.consume(StrictFastMath.tanh(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.asinh_double", (a, i, bh) -> bh.consume(StrictFastMath.asinh(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.acosh_double", (a, i, bh) -> bh.consume(StrictFastMath.acosh(a.acoshD1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.acosh1p_double", (a, i, bh) -> bh.consume(StrictFastMath.acosh1p(a.acosh1pD1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.atanh_double", (a, i, bh) -> bh.consume(StrictFastMath.atanh(a.atanhD1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.exp_double", (a, i, bh) -> bh.consume(StrictFastMath.exp(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.expQuick_double", (a, i, bh) -> bh.consume(StrictFastMath.expQuick(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.expm1_double", (a, i, bh) -> bh.consume(StrictFastMath.expm1(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.log_double", (a, i, bh) -> bh.consume(StrictFastMath.log(a.posD1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.logQuick_double", (a, i, bh) -> bh.consume(StrictFastMath.logQuick(a.posD1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.log10_double", (a, i, bh) -> bh.consume(StrictFastMath.log10(a.posD1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.log1p_double", (a, i, bh) -> bh.consume(StrictFastMath.log1p(a.log1pD1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.pow_2double", (a, i, bh) -> bh.consume(StrictFastMath.pow(a.posD1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.powQuick_2double", (a, i, bh) -> bh.consume(StrictFastMath.powQuick(a.posD1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.powFast_double_int", (a, i, bh) -> bh.consume(StrictFastMath.powFast(a.d1[i], a.i1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.pow2_float", (a, i, bh) -> bh.consume(StrictFastMath.pow2(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.pow2_double", (a, i, bh) -> bh.consume(StrictFastMath.pow2(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.pow3_float", (a, i, bh) -> bh.consume(StrictFastMath.pow3(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.pow3_double", (a, i, bh) -> bh.consume(StrictFastMath.pow3(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.sqrt_double", (a, i, bh) -> bh.consume(StrictFastMath.sqrt(a.posD1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.sqrtQuick_double", (a, i, bh) -> bh.consume(StrictFastMath.sqrtQuick(a.posD1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.invSqrtQuick_double", (a, i, bh) -> bh.consume(StrictFastMath.invSqrtQuick(a.posD1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.cbrt_double", (a, i, bh) -> bh.consume(StrictFastMath.cbrt(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.hypot_2double", (a, i, bh) -> bh.consume(StrictFastMath.hypot(a.d1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.hypot_3double", (a, i, bh) -> bh.consume(StrictFastMath.hypot(a.d1[i], a.d2[i], a.d3[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.floor_float", (a, i, bh) -> bh.consume(StrictFastMath.floor(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.floor_double", (a, i, bh) -> bh.consume(StrictFastMath.floor(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.ceil_float", (a, i, bh) -> bh.consume(StrictFastMath.ceil(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.ceil_double", (a, i, bh) -> bh.consume(StrictFastMath.ceil(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.round_float", (a, i, bh) -> bh.consume(StrictFastMath.round(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.round_double", (a, i, bh) -> bh.consume(StrictFastMath.round(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.roundEven_float", (a, i, bh) -> bh.consume(StrictFastMath.roundEven(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.roundEven_double", (a, i, bh) -> bh.consume(StrictFastMath.roundEven(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.rint_float", (a, i, bh) -> bh.consume(StrictFastMath.rint(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.rint_double", (a, i, bh) -> bh.consume(StrictFastMath.rint(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.floorToInt_double", (a, i, bh) -> bh.consume(StrictFastMath.floorToInt(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.ceilToInt_double", (a, i, bh) -> bh.consume(StrictFastMath.ceilToInt(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.roundToInt_double", (a, i, bh) -> bh.consume(StrictFastMath.roundToInt(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.roundEvenToInt_double", (a, i, bh) -> bh.consume(StrictFastMath.roundEvenToInt(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.toRange_3float", (a, i, bh) -> bh.consume(StrictFastMath.toRange(a.f1[i], a.f2[i], a.f3[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.toRange_3double", (a, i, bh) -> bh.consume(StrictFastMath.toRange(a.d1[i], a.d2[i], a.d3[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.remainder_2double", (a, i, bh) -> bh.consume(StrictFastMath.remainder(a.d1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.normalizeMinusPiPi_double", (a, i, bh) -> bh.consume(StrictFastMath.normalizeMinusPiPi(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.normalizeMinusPiPiFast_double", (a, i, bh) -> bh.consume(StrictFastMath.normalizeMinusPiPiFast(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.normalizeZeroTwoPi_double", (a, i, bh) -> bh.consume(StrictFastMath.normalizeZeroTwoPi(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.normalizeZeroTwoPiFast_double", (a, i, bh) -> bh.consume(StrictFastMath.normalizeZeroTwoPiFast(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.normalizeMinusHalfPiHalfPi_double", (a, i, bh) -> bh.consume(StrictFastMath.normalizeMinusHalfPiHalfPi(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.normalizeMinusHalfPiHalfPiFast_double", (a, i, bh) -> bh.consume(StrictFastMath.normalizeMinusHalfPiHalfPiFast(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.isNaNOrInfinite_float", (a, i, bh) -> bh.consume(StrictFastMath.isNaNOrInfinite(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.isNaNOrInfinite_double", (a, i, bh) -> bh.consume(StrictFastMath.isNaNOrInfinite(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.getExponent_float", (a, i, bh) -> bh.consume(StrictFastMath.getExponent(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.getExponent_double", (a, i, bh) -> bh.consume(StrictFastMath.getExponent(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.signum_float", (a, i, bh) -> bh.consume(StrictFastMath.signum(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.signum_double", (a, i, bh) -> bh.consume(StrictFastMath.signum(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.signFromBit_float", (a, i, bh) -> bh.consume(StrictFastMath.signFromBit(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.signFromBit_double", (a, i, bh) -> bh.consume(StrictFastMath.signFromBit(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.copySign_2float", (a, i, bh) -> bh.consume(StrictFastMath.copySign(a.f1[i], a.f2[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.copySign_2double", (a, i, bh) -> bh.consume(StrictFastMath.copySign(a.d1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.ulp_float", (a, i, bh) -> bh.consume(StrictFastMath.ulp(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.ulp_double", (a, i, bh) -> bh.consume(StrictFastMath.ulp(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.nextAfter_float_double", (a, i, bh) -> bh.consume(StrictFastMath.nextAfter(a.f1[i], a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.nextAfter_2double", (a, i, bh) -> bh.consume(StrictFastMath.nextAfter(a.d1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.nextDown_float", (a, i, bh) -> bh.consume(StrictFastMath.nextDown(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.nextDown_double", (a, i, bh) -> bh.consume(StrictFastMath.nextDown(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.nextUp_float", (a, i, bh) -> bh.consume(StrictFastMath.nextUp(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.nextUp_double", (a, i, bh) -> bh.consume(StrictFastMath.nextUp(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.scalb_float_int", (a, i, bh) -> bh.consume(StrictFastMath.scalb(a.f1[i], a.i1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.scalb_double_int", (a, i, bh) -> bh.consume(StrictFastMath.scalb(a.d1[i], a.i1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.abs_float", (a, i, bh) -> bh.consume(StrictFastMath.abs(a.f1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.abs_double", (a, i, bh) -> bh.consume(StrictFastMath.abs(a.d1[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.min_2float", (a, i, bh) -> bh.consume(StrictFastMath.min(a.f1[i], a.f2[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.min_2double", (a, i, bh) -> bh.consume(StrictFastMath.min(a.d1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.max_2float", (a, i, bh) -> bh.consume(StrictFastMath.max(a.f1[i], a.f2[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.max_2double", (a, i, bh) -> bh.consume(StrictFastMath.max(a.d1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.IEEEremainder_2double", (a, i, bh) -> bh.consume(StrictFastMath.IEEEremainder(a.d1[i], a.d2[i])));
+        BENCH_CASE_BY_NAME.put("StrictFastMath.random", (a, i, bh) -> bh.consume(StrictFastMath.random()));
+        BULK_BENCH_CASE_BY_NAME.put("StrictFastMath.sin_doubleArr_int_doubleArr_2int", (a, bh) -> {
+            StrictFastMath.sin(a.d1, 0, a.dOut1, 0, NBR_OF_VALUES);
+            bh.consume(a.dOut1);
+        });
+        BULK_BENCH_CASE_BY_NAME.put("StrictFastMath.cos_doubleArr_int_doubleArr_2int", (a, bh) -> {
+            StrictFastMath.cos(a.d1, 0, a.dOut1, 0, NBR_OF_VALUES);
+            bh.consume(a.dOut1);
+        });
+        BULK_BENCH_CASE_BY_NAME.put("StrictFastMath.sinAndCos_3doubleArr_2int", (a, bh) -> {
+            StrictFastMath.sinAndCos(a.d1, a.dOut1, a.dOut2, 0, NBR_OF_VALUES);
+            bh.consume(a.dOut1);
+            bh.consume(a.dOut2);
+        });
+        BULK_BENCH_CASE_BY_NAME.put("StrictFastMath.tan_doubleArr_int_doubleArr_2int", (a, bh) -> {
+            StrictFastMath.tan(a.d1, 0, a.dOut1, 0, NBR_OF_VALUES);
+            bh.consume(a.dOut1);
+        });
+        BULK_BENCH_CASE_BY_NAME.put("StrictFastMath.exp_doubleArr_int_doubleArr_2int", (a, bh) -> {
+            StrictFastMath.exp(a.d1, 0, a.dOut1, 0, NBR_OF_VALUES);
+            bh.consume(a.dOut1);
+        });
+        BULK_BENCH_CASE_BY_NAME.put("StrictFastMath.log_doubleArr_int_doubleArr_2int", (a, bh) -> {
+            StrictFastMath.log(a.posD1, 0, a.dOut1, 0, NBR_OF_VALUES);
+            bh.consume(a.dOut1);
+        });
+        BULK_BENCH_CASE_BY_NAME.put("StrictFastMath.pow_doubleArr_int_double_doubleArr_2int", (a, bh) -> {
+            StrictFastMath.pow(a.posD1, 0, a.d2[0], a.dOut1, 0, NBR_OF_VALUES);
+            bh.consume(a.dOut1);
+        });
+    }
+
+    @Param({
+        "StrictFastMath.sin_double",
+        "StrictFastMath.sin_doubleArr_int_doubleArr_2int",
+        "StrictFastMath.sinQuick_double",
+        "StrictFastMath.cos_double",
+        "StrictFastMath.cos_doubleArr_int_doubleArr_2int",
+        "StrictFastMath.cosQuick_double",
+        "StrictFastMath.sinAndCos_double_DoubleWrapper",
+        "StrictFastMath.sinAndCos_3doubleArr_2int",
+        "StrictFastMath.tan_double",
+        "StrictFastMath.tan_doubleArr_int_doubleArr_2int",
+        "StrictFastMath.sinPi_double",
+        "StrictFastMath.cosPi_double",
+        "StrictFastMath.tanPi_double",
+        "StrictFastMath.sinDeg_double",
+        "StrictFastMath.cosDeg_double",
+        "StrictFastMath.tanDeg_double",
+        "StrictFastMath.sinAndCosDeg_double_DoubleWrapper",
+        "StrictFastMath.asin_double",
+        "StrictFastMath.asinInRange_double",
+        "StrictFastMath.acos_double",
+        "StrictFastMath.acosInRange_double",
+        "StrictFastMath.atan_double",
+        "StrictFastMath.atan2_2double",
+        "StrictFastMath.atan2Quick_2double",
+        "StrictFastMath.toRadians_double",
+        "StrictFastMath.toDegrees_double",
+        "StrictFastMath.toRadians_boolean_2int_double",
+        "StrictFastMath.toDegrees_boolean_2int_double",
+        "StrictFastMath.toDMS_double_2IntWrapper_DoubleWrapper",
+        "StrictFastMath.isInClockwiseDomain_3double",
+        "StrictFastMath.sinh_double",
+        "StrictFastMath.cosh_double",
+        "StrictFastMath.coshm1_double",
+        "StrictFastMath.sinhAndCosh_double_DoubleWrapper",
+        "StrictFastMath.tanh_double",
+        "StrictFastMath.asinh_double",
+        "StrictFastMath.acosh_double",
+        "StrictFastMath.acosh1p_double",
+        "StrictFastMath.atanh_double",
+        "StrictFastMath.exp_double",
+        "StrictFastMath.exp_doubleArr_int_doubleArr_2int",
+        "StrictFastMath.expQuick_double",
+        "StrictFastMath.expm1_double",
+        "StrictFastMath.log_double",
+        "StrictFastMath.log_doubleArr_int_doubleArr_2int",
+        "StrictFastMath.logQuick_double",
+        "StrictFastMath.log10_double",
+        "StrictFastMath.log1p_double",
+        "StrictFastMath.pow_2double",
+        "StrictFastMath.pow_doubleArr_int_double_doubleArr_2int",
+        "StrictFastMath.powQuick_2double",
+        "StrictFastMath.powFast_double_int",
+        "StrictFastMath.pow2_float",
+        "StrictFastMath.pow2_double",
+        "StrictFastMath.pow3_float",
+        "StrictFastMath.pow3_double",
+        "StrictFastMath.sqrt_double",
+        "StrictFastMath.sqrtQuick_double",
+        "StrictFastMath.invSqrtQuick_double",
+        "StrictFastMath.cbrt_double",
+        "StrictFastMath.hypot_2double",
+        "StrictFastMath.hypot_3double",
+        "StrictFastMath.floor_float",
+        "StrictFastMath.floor_double",
+        "StrictFastMath.ceil_float",
+        "StrictFastMath.ceil_double",
+        "StrictFastMath.round_float",
+        "StrictFastMath.round_double",
+        "StrictFastMath.roundEven_float",
+        "StrictFastMath.roundEven_double",
+        "StrictFastMath.rint_float",
+        "StrictFastMath.rint_double",
+        "StrictFastMath.floorToInt_double",
+        "StrictFastMath.ceilToInt_double",
+        "StrictFastMath.roundToInt_double",
+        "StrictFastMath.roundEvenToInt_double",
+        "StrictFastMath.toRange_3float",
+        "StrictFastMath.toRange_3double",
+        "StrictFastMath.remainder_2double",
+        "StrictFastMath.normalizeMinusPiPi_double",
+        "StrictFastMath.normalizeMinusPiPiFast_double",
+        "StrictFastMath.normalizeZeroTwoPi_double",
+        "StrictFastMath.normalizeZeroTwoPiFast_double",
+        "StrictFastMath.normalizeMinusHalfPiHalfPi_double",
+        "StrictFastMath.normalizeMinusHalfPiHalfPiFast_double",
+        "StrictFastMath.isNaNOrInfinite_float",
+        "StrictFastMath.isNaNOrInfinite_double",
+        "StrictFastMath.getExponent_float",
+        "StrictFastMath.getExponent_double",
+        "StrictFastMath.signum_float",
+        "StrictFastMath.signum_double",
+        "StrictFastMath.signFromBit_float",
+        "StrictFastMath.signFromBit_double",
+        "StrictFastMath.copySign_2float",
+        "StrictFastMath.copySign_2double",
+        "StrictFastMath.ulp_float",
+        "StrictFastMath.ulp_double",
+        "StrictFastMath.nextAfter_float_double",
+        "StrictFastMath.nextAfter_2double",
+        "StrictFastMath.nextDown_float",
+        "StrictFastMath.nextDown_double",
+        "StrictFastMath.nextUp_float",
+        "StrictFastMath.nextUp_double",
+        "StrictFastMath.scalb_float_int",
+        "StrictFastMath.scalb_double_int",
+        "StrictFastMath.abs_float",
+        "StrictFastMath.abs_double",
+        "StrictFastMath.min_2float",
+        "StrictFastMath.min_2double",
+        "StrictFastMath.max_2float",
+        "StrictFastMath.max_2double",
+        "StrictFastMath.IEEEremainder_2double",
+        "StrictFastMath.random"})
+    public String method;
+
+    //--------------------------------------------------------------------------
+    // PROTECTED METHODS
+    //--------------------------------------------------------------------------
+
+    @Override
+    protected String getMethod() {
+        return this.method;
+    }
+
+    @Override
+    protected Map<String,InterfaceBenchCase> getBenchCaseByName() {
+        return BENCH_CASE_BY_NAME;
+    }
+
+    @Override
+    protected Map<String,InterfaceBulkBenchCase> getBulkBenchCaseByName() {
+        return BULK_BENCH_CASE_BY_NAME;
+    }
+}
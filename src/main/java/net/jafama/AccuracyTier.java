@@ -0,0 +1,78 @@
+/*
+ * Copyright 2012-2017 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+/**
+ * Accuracy tiers, for (Strict)FastMath methods taking a tier argument,
+ * which allow to use the cheapest treatment that meets an error budget.
+ * 
+ * When the tier is a constant, the JIT only keeps the corresponding
+ * treatment in the compiled code.
+ * 
+ * There is no correctly rounded tier, since only sqrt and a few other
+ * simple treatments have correctly rounded implementations.
+ * 
+ * Errors given for each tier are max errors measured against StrictMath,
+ * on random arguments, with default configuration and tables sizes:
+ * in ulps for results of magnitude >= 1e-2, and absolute below
+ * (or relative, for "Quick" treatments that are not table-based).
+ */
+public enum AccuracyTier {
+    /**
+     * Treatments of Math (FastMath) or StrictMath (StrictFastMath),
+     * with an error within 1 ulp (as specified by Math), for all functions.
+     */
+    ACCURATE,
+    /**
+     * Default treatments of (Strict)FastMath, with a relative error
+     * of about 1e-15 (a few ulps), or an absolute error of about 1e-15
+     * for results close to zero (which can be hundreds of ulps),
+     * or Math or StrictMath ones depending on configuration.
+     * 
+     * Max errors:
+     * - sin, cos: 220 ulps, 5e-16 absolute.
+     * - tan: 4e5 ulps (close to +-PI/2, cf. tan(double)), 4e-18 absolute.
+     * - asin, acos: 100 ulps, 2e-16 absolute.
+     * - atan, atan2: 3 ulps, 6e-18 absolute.
+     * - sinh, cosh, tanh: 5 ulps, 4e-18 absolute.
+     * - exp, expm1: 6 ulps, 4e-18 absolute.
+     * - log, log10, log1p: 40 ulps, 4e-18 absolute
+     *   (1 or 2 ulps for FastMath log and log10, which use Math by default).
+     * - pow: 250 ulps, 2e-16 absolute
+     *   (40 ulps, 2e-17 absolute for FastMath, which uses Math.log by default).
+     * - sqrt: 0 ulp (correctly rounded).
+     * - cbrt: 2 ulps, 4e-18 absolute.
+     * - hypot: 1 ulp, 2e-18 absolute.
+     */
+    FAST,
+    /**
+     * "Quick" treatments of (Strict)FastMath, when they exist,
+     * and FAST treatments otherwise.
+     * 
+     * "Quick" treatments are only used in the part of their domain where
+     * they have the errors below, FAST treatments being used elsewhere:
+     * - sin, cos: 1.6e-3 absolute, for |angle| <= 6588395.0
+     *   (with default tables).
+     * - atan2: 8.2e-5 absolute, everywhere.
+     * - exp: 3.1e-2 relative, for |value| <= 700.0.
+     * - log: 1.9e-3 relative (8.3e-8 absolute for results close to zero),
+     *   for values in [Double.MIN_NORMAL,Double.MAX_VALUE].
+     * - pow: 1.4e-2 relative, for values in [Double.MIN_NORMAL,Double.MAX_VALUE]
+     *   and results in ]1e-10,1e10[.
+     * - sqrt: 3.6e-2 relative, for values in [Double.MIN_NORMAL,Double.MAX_VALUE].
+     */
+    QUICK;
+}
@@ -27,6 +27,21 @@
  */
 package net.jafama;
 
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Stuffs for FastMath and StrictFastMath.
  */
@@ -64,6 +79,9 @@ abstract class CmnFastMath {
      * (PI/2, etc.) are "exactly" computed, as well as for other reasons.
      * 
      * Tables are put in specific inner classes, to be lazily initialized.
+     * Tables are loaded from precomputed resources when available (the build
+     * generates them in the jar), and computed otherwise, which gives identical
+     * values since computations are strictfp and use StrictMath.
      * Always doing strict tables initialization, even if StrictFastMath delegates
      * to StrictMath and doesn't use tables, which makes tables initialization a bit
      * slower but code simpler.
@@ -134,6 +152,12 @@ abstract class CmnFastMath {
      * Common to FastMath and StrictFastMath.
      */
 
+    /**
+     * If true, table path and slow path hits of sin, cos, tan, asin and atan
+     * are counted (cf. PathCounters), else counting code is removed by the JIT.
+     */
+    static final boolean CMN_COUNT_PATHS = getBooleanProperty("jafama.countpaths", false);
+
     /**
      * Using two pow tab can just make things barely faster,
      * and could relatively hurt in case of cache-misses,
@@ -162,6 +186,33 @@ abstract class CmnFastMath {
      */
     static final boolean ANTI_JIT_OPTIM_CRASH_ON_NAN = true;
 
+    /*
+     * Look-up tables size powers can be configured with
+     * "jafama.tabsizepower.<family>" properties.
+     * Below default powers, sin/cos, exp and log use more polynomial terms,
+     * and sqrt and cbrt more Newton's method steps, but we still don't allow
+     * powers below which the error would go out of our accuracy tolerance.
+     * For tan, asin and atan, derivatives are tabulated, so min powers
+     * are default ones.
+     * Larger powers only make tables bigger and slower to initialize,
+     * and must stay small enough for tables indexing not to overflow.
+     */
+
+    static final int SIN_COS_MIN_TAB_SIZE_POWER = 8;
+    static final int TAN_MIN_TAB_SIZE_POWER = 12;
+    static final int ASIN_MIN_TAB_SIZE_POWER = 13;
+    static final int ATAN_MIN_TAB_SIZE_POWER = 12;
+    static final int EXP_MIN_TAB_SIZE_POWER = 7;
+    static final int LOG_MIN_TAB_SIZE_POWER = 8;
+    static final int SQRT_MIN_TAB_SIZE_POWER = 6;
+    static final int CBRT_MIN_TAB_SIZE_POWER = 6;
+
+    /**
+     * 2^16+1 values per table is already about 512 Ko for each table,
+     * and large enough for any practical accuracy.
+     */
+    static final int MAX_TAB_SIZE_POWER = 16;
+
     //--------------------------------------------------------------------------
     // GENERAL CONSTANTS
     //--------------------------------------------------------------------------
@@ -190,6 +241,8 @@ abstract class CmnFastMath {
     static final double ONE_DIV_F2 = 1/2.0;
     static final double ONE_DIV_F3 = 1/6.0;
     static final double ONE_DIV_F4 = 1/24.0;
+    static final double ONE_DIV_F5 = 1/120.0;
+    static final double ONE_DIV_F6 = 1/720.0;
 
     static final float TWO_POW_23_F = (float)NumbersUtils.twoPow(23);
 
@@ -317,26 +370,70 @@ abstract class CmnFastMath {
      */
     static final double TWO_MATH_PI_IN_MINUS_PI_PI = -2.4492935982947064E-16;
 
+    //--------------------------------------------------------------------------
+    // CONSTANTS FOR TABLES LAYOUT
+    //--------------------------------------------------------------------------
+
+    /**
+     * For tables containing, for each index, a value and its first
+     * 4 derivatives divided by factorials, these 5 values are interleaved
+     * (value at DERS_TAB_STRIDE*index, derivative k at DERS_TAB_STRIDE*index+k),
+     * for a lookup to touch one or two cache lines, instead of five.
+     */
+    static final int DERS_TAB_STRIDE = 5;
+
     //--------------------------------------------------------------------------
     // CONSTANTS AND TABLES FOR SIN AND COS
     //--------------------------------------------------------------------------
 
-    static final int SIN_COS_TABS_SIZE = (1<<getTabSizePower(11)) + 1;
+    static final int SIN_COS_TABS_SIZE_POWER = getTabSizePower("sincos", 11, SIN_COS_MIN_TAB_SIZE_POWER);
+    static final int SIN_COS_TABS_SIZE = (1<<SIN_COS_TABS_SIZE_POWER) + 1;
+    /**
+     * If tables are smaller than default, using 6 derivatives instead of 4,
+     * for error to stay in our tolerance.
+     */
+    static final boolean SIN_COS_USE_6_DERIVATIVES = (SIN_COS_TABS_SIZE_POWER < 11);
     static final double SIN_COS_DELTA_HI = TWOPI_HI/(SIN_COS_TABS_SIZE-1);
     static final double SIN_COS_DELTA_LO = TWOPI_LO/(SIN_COS_TABS_SIZE-1);
     static final double SIN_COS_INDEXER = 1/(SIN_COS_DELTA_HI+SIN_COS_DELTA_LO);
+    /*
+     * For sin/cos tables lookups with angles in half-turns or in degrees,
+     * which steps (and in half-turns, indexer) are exact, since tables size
+     * minus one is a power of two.
+     */
+    static final double SIN_COS_PI_DELTA = 2.0/(SIN_COS_TABS_SIZE-1);
+    static final double SIN_COS_PI_INDEXER = (SIN_COS_TABS_SIZE-1)/2.0;
+    static final double SIN_COS_DEG_DELTA = 360.0/(SIN_COS_TABS_SIZE-1);
+    static final double SIN_COS_DEG_INDEXER = (SIN_COS_TABS_SIZE-1)/360.0;
+    /**
+     * Max abs values for index-based reduction of angles in half-turns
+     * or in degrees, above which we first use modulo (which is exact too,
+     * but slower).
+     */
+    static final double SIN_COS_PI_MAX_VALUE_FOR_INT_MODULO = (Integer.MAX_VALUE>>1) / SIN_COS_PI_INDEXER;
+    static final double SIN_COS_DEG_MAX_VALUE_FOR_INT_MODULO = (Integer.MAX_VALUE>>1) / SIN_COS_DEG_INDEXER;
     
+    /**
+     * Sine and cosine of a same index are interleaved (sine at 2*index,
+     * cosine at 2*index+1), for a lookup to only touch one cache line.
+     */
     static final class MyTSinCos {
-        static final double[] sinTab = new double[SIN_COS_TABS_SIZE];
-        static final double[] cosTab = new double[SIN_COS_TABS_SIZE];
+        static final double[] sinCosTab = new double[2*SIN_COS_TABS_SIZE];
         static {
-            init();
+            final Object event = TabsInitEvents.begin("sincos");
+            final boolean loaded = loadTabs("sincos", sinCosTab);
+            if (!loaded) {
+                init();
+            }
+            TabsInitEvents.end(event, loaded, sinCosTab);
         }
         private static strictfp void init() {
             final int SIN_COS_PI_INDEX = (SIN_COS_TABS_SIZE-1)/2;
             final int SIN_COS_PI_MUL_2_INDEX = 2*SIN_COS_PI_INDEX;
             final int SIN_COS_PI_MUL_0_5_INDEX = SIN_COS_PI_INDEX/2;
             final int SIN_COS_PI_MUL_1_5_INDEX = 3*SIN_COS_PI_INDEX/2;
+            final int SIN_COS_PI_MUL_0_25_INDEX = SIN_COS_PI_INDEX/4;
+            final double SQRT_0_5 = StrictMath.sqrt(0.5);
             for (int i=0;i<SIN_COS_TABS_SIZE;i++) {
                 // angle: in [0,2*PI] (doesn't seem to help to have it in [-PI,PI]).
                 double angle = i * SIN_COS_DELTA_HI + i * SIN_COS_DELTA_LO;
@@ -355,9 +452,18 @@ abstract class CmnFastMath {
                     cosAngle = 0.0;
                 } else if (i == SIN_COS_PI_MUL_1_5_INDEX) {
                     cosAngle = 0.0;
+                } else if ((SIN_COS_PI_MUL_0_25_INDEX > 0)
+                        && (i % (2*SIN_COS_PI_MUL_0_25_INDEX) == SIN_COS_PI_MUL_0_25_INDEX)) {
+                    // Odd multiple of PI/4: making sure sine and cosine
+                    // magnitudes are equal (and correctly rounded),
+                    // for tangent to be exactly +-1.
+                    // (No such index with the tiny tables used when
+                    // both FastMath and StrictFastMath delegate to JDK.)
+                    sinAngle = (sinAngle < 0.0) ? -SQRT_0_5 : SQRT_0_5;
+                    cosAngle = (cosAngle < 0.0) ? -SQRT_0_5 : SQRT_0_5;
                 }
-                sinTab[i] = sinAngle;
-                cosTab[i] = cosAngle;
+                sinCosTab[2*i] = sinAngle;
+                sinCosTab[2*i+1] = cosAngle;
             }
         }
     }
@@ -373,6 +479,13 @@ abstract class CmnFastMath {
      */
     static final double SIN_COS_MAX_VALUE_FOR_INT_MODULO = ((Integer.MAX_VALUE>>9) / SIN_COS_INDEXER) * 0.99;
 
+    /**
+     * Max abs value for sinQuick and cosQuick, above which their index
+     * overflows int range (- 2 due to removing PI/2 before using cosine tab
+     * in sinQuick). 6588395.0 with default tables.
+     */
+    static final double SIN_COS_QUICK_MAX_VALUE = Math.floor(Integer.MAX_VALUE / SIN_COS_INDEXER) - 2.0;
+
     //--------------------------------------------------------------------------
     // CONSTANTS AND TABLES FOR TAN
     //--------------------------------------------------------------------------
@@ -386,7 +499,7 @@ abstract class CmnFastMath {
      * We use indexing past look-up tables, so that indexing information
      * allows for fast recomputation of angle in [0,PI/2] range.
      */
-    static final int TAN_VIRTUAL_TABS_SIZE = (1<<getTabSizePower(12)) + 1;
+    static final int TAN_VIRTUAL_TABS_SIZE = (1<<getTabSizePower("tan", 12, TAN_MIN_TAB_SIZE_POWER)) + 1;
 
     /**
      * Must be >= 45deg, and supposed to be >= 51.4deg, as fdlibm code is not
@@ -401,13 +514,14 @@ abstract class CmnFastMath {
     static final double TAN_INDEXER = 1/(TAN_DELTA_HI+TAN_DELTA_LO);
     
     static final class MyTTan {
-        static final double[] tanTab = new double[TAN_TABS_SIZE];
-        static final double[] tanDer1DivF1Tab = new double[TAN_TABS_SIZE];
-        static final double[] tanDer2DivF2Tab = new double[TAN_TABS_SIZE];
-        static final double[] tanDer3DivF3Tab = new double[TAN_TABS_SIZE];
-        static final double[] tanDer4DivF4Tab = new double[TAN_TABS_SIZE];
+        static final double[] tanDersTab = new double[DERS_TAB_STRIDE*TAN_TABS_SIZE];
         static {
-            init();
+            final Object event = TabsInitEvents.begin("tan");
+            final boolean loaded = loadTabs("tan", tanDersTab);
+            if (!loaded) {
+                init();
+            }
+            TabsInitEvents.end(event, loaded, tanDersTab);
         }
         private static strictfp void init() {
             for (int i=0;i<TAN_TABS_SIZE;i++) {
@@ -420,11 +534,11 @@ abstract class CmnFastMath {
                 double cosAngleInv3 = cosAngleInv2*cosAngleInv;
                 double cosAngleInv4 = cosAngleInv2*cosAngleInv2;
                 double cosAngleInv5 = cosAngleInv3*cosAngleInv2;
-                tanTab[i] = sinAngle * cosAngleInv;
-                tanDer1DivF1Tab[i] = cosAngleInv2;
-                tanDer2DivF2Tab[i] = ((2*sinAngle)*cosAngleInv3) * ONE_DIV_F2;
-                tanDer3DivF3Tab[i] = ((2*(1+2*sinAngle*sinAngle))*cosAngleInv4) * ONE_DIV_F3;
-                tanDer4DivF4Tab[i] = ((8*sinAngle*(2+sinAngle*sinAngle))*cosAngleInv5) * ONE_DIV_F4;
+                tanDersTab[DERS_TAB_STRIDE*i] = sinAngle * cosAngleInv;
+                tanDersTab[DERS_TAB_STRIDE*i+1] = cosAngleInv2;
+                tanDersTab[DERS_TAB_STRIDE*i+2] = ((2*sinAngle)*cosAngleInv3) * ONE_DIV_F2;
+                tanDersTab[DERS_TAB_STRIDE*i+3] = ((2*(1+2*sinAngle*sinAngle))*cosAngleInv4) * ONE_DIV_F3;
+                tanDersTab[DERS_TAB_STRIDE*i+4] = ((8*sinAngle*(2+sinAngle*sinAngle))*cosAngleInv5) * ONE_DIV_F4;
             }
         }
     }
@@ -457,18 +571,19 @@ abstract class CmnFastMath {
      */
     static final double ASIN_MAX_VALUE_FOR_TABS = StrictMath.sin(StrictMath.toRadians(73.0));
 
-    static final int ASIN_TABS_SIZE = (1<<getTabSizePower(13)) + 1;
+    static final int ASIN_TABS_SIZE = (1<<getTabSizePower("asin", 13, ASIN_MIN_TAB_SIZE_POWER)) + 1;
     static final double ASIN_DELTA = ASIN_MAX_VALUE_FOR_TABS/(ASIN_TABS_SIZE - 1);
     static final double ASIN_INDEXER = 1/ASIN_DELTA;
     
     static final class MyTAsin {
-        static final double[] asinTab = new double[ASIN_TABS_SIZE];
-        static final double[] asinDer1DivF1Tab = new double[ASIN_TABS_SIZE];
-        static final double[] asinDer2DivF2Tab = new double[ASIN_TABS_SIZE];
-        static final double[] asinDer3DivF3Tab = new double[ASIN_TABS_SIZE];
-        static final double[] asinDer4DivF4Tab = new double[ASIN_TABS_SIZE];
+        static final double[] asinDersTab = new double[DERS_TAB_STRIDE*ASIN_TABS_SIZE];
         static {
-            init();
+            final Object event = TabsInitEvents.begin("asin");
+            final boolean loaded = loadTabs("asin", asinDersTab);
+            if (!loaded) {
+                init();
+            }
+            TabsInitEvents.end(event, loaded, asinDersTab);
         }
         private static strictfp void init() {
             for (int i=0;i<ASIN_TABS_SIZE;i++) {
@@ -479,11 +594,11 @@ abstract class CmnFastMath {
                 double oneMinusXSqInv1_5 = oneMinusXSqInv0_5*oneMinusXSqInv;
                 double oneMinusXSqInv2_5 = oneMinusXSqInv1_5*oneMinusXSqInv;
                 double oneMinusXSqInv3_5 = oneMinusXSqInv2_5*oneMinusXSqInv;
-                asinTab[i] = StrictMath.asin(x);
-                asinDer1DivF1Tab[i] = oneMinusXSqInv0_5;
-                asinDer2DivF2Tab[i] = (x*oneMinusXSqInv1_5) * ONE_DIV_F2;
-                asinDer3DivF3Tab[i] = ((1+2*x*x)*oneMinusXSqInv2_5) * ONE_DIV_F3;
-                asinDer4DivF4Tab[i] = ((5+2*x*(2+x*(5-2*x)))*oneMinusXSqInv3_5) * ONE_DIV_F4;
+                asinDersTab[DERS_TAB_STRIDE*i] = StrictMath.asin(x);
+                asinDersTab[DERS_TAB_STRIDE*i+1] = oneMinusXSqInv0_5;
+                asinDersTab[DERS_TAB_STRIDE*i+2] = (x*oneMinusXSqInv1_5) * ONE_DIV_F2;
+                asinDersTab[DERS_TAB_STRIDE*i+3] = ((1+2*x*x)*oneMinusXSqInv2_5) * ONE_DIV_F3;
+                asinDersTab[DERS_TAB_STRIDE*i+4] = ((5+2*x*(2+x*(5-2*x)))*oneMinusXSqInv3_5) * ONE_DIV_F4;
             }
         }
     }
@@ -553,18 +668,19 @@ abstract class CmnFastMath {
      */
     static final double ATAN_MAX_VALUE_FOR_TABS = StrictMath.tan(StrictMath.toRadians(74.0));
 
-    static final int ATAN_TABS_SIZE = (1<<getTabSizePower(12)) + 1;
+    static final int ATAN_TABS_SIZE = (1<<getTabSizePower("atan", 12, ATAN_MIN_TAB_SIZE_POWER)) + 1;
     static final double ATAN_DELTA = ATAN_MAX_VALUE_FOR_TABS/(ATAN_TABS_SIZE - 1);
     static final double ATAN_INDEXER = 1/ATAN_DELTA;
     
     static final class MyTAtan {
-        static final double[] atanTab = new double[ATAN_TABS_SIZE];
-        static final double[] atanDer1DivF1Tab = new double[ATAN_TABS_SIZE];
-        static final double[] atanDer2DivF2Tab = new double[ATAN_TABS_SIZE];
-        static final double[] atanDer3DivF3Tab = new double[ATAN_TABS_SIZE];
-        static final double[] atanDer4DivF4Tab = new double[ATAN_TABS_SIZE];
+        static final double[] atanDersTab = new double[DERS_TAB_STRIDE*ATAN_TABS_SIZE];
         static {
-            init();
+            final Object event = TabsInitEvents.begin("atan");
+            final boolean loaded = loadTabs("atan", atanDersTab);
+            if (!loaded) {
+                init();
+            }
+            TabsInitEvents.end(event, loaded, atanDersTab);
         }
         private static strictfp void init() {
             for (int i=0;i<ATAN_TABS_SIZE;i++) {
@@ -574,11 +690,11 @@ abstract class CmnFastMath {
                 double onePlusXSqInv2 = onePlusXSqInv*onePlusXSqInv;
                 double onePlusXSqInv3 = onePlusXSqInv2*onePlusXSqInv;
                 double onePlusXSqInv4 = onePlusXSqInv2*onePlusXSqInv2;
-                atanTab[i] = StrictMath.atan(x);
-                atanDer1DivF1Tab[i] = onePlusXSqInv;
-                atanDer2DivF2Tab[i] = (-2*x*onePlusXSqInv2) * ONE_DIV_F2;
-                atanDer3DivF3Tab[i] = ((-2+6*x*x)*onePlusXSqInv3) * ONE_DIV_F3;
-                atanDer4DivF4Tab[i] = ((24*x*(1-x*x))*onePlusXSqInv4) * ONE_DIV_F4;
+                atanDersTab[DERS_TAB_STRIDE*i] = StrictMath.atan(x);
+                atanDersTab[DERS_TAB_STRIDE*i+1] = onePlusXSqInv;
+                atanDersTab[DERS_TAB_STRIDE*i+2] = (-2*x*onePlusXSqInv2) * ONE_DIV_F2;
+                atanDersTab[DERS_TAB_STRIDE*i+3] = ((-2+6*x*x)*onePlusXSqInv3) * ONE_DIV_F3;
+                atanDersTab[DERS_TAB_STRIDE*i+4] = ((24*x*(1-x*x))*onePlusXSqInv4) * ONE_DIV_F4;
             }
         }
     }
@@ -597,6 +713,15 @@ abstract class CmnFastMath {
     static final double ATAN_AT9 = Double.longBitsToDouble(0xbfa2b4442c6a6c2fL); // -3.65315727442169155270e-02
     static final double ATAN_AT10 = Double.longBitsToDouble(0x3f90ad3ae322da11L); // 1.62858201153657823623e-02 
 
+    /*
+     * For atan2Quick: odd polynomial approximating atan on [0,1],
+     * with coefficients fitted for a minimal absolute error (8.14e-5).
+     */
+    static final double ATAN_QUICK_C1 = 0.9992138116379735;
+    static final double ATAN_QUICK_C3 = -0.3211749594412512;
+    static final double ATAN_QUICK_C5 = 0.1462644390644291;
+    static final double ATAN_QUICK_C7 = -0.038986497412034825;
+
     //--------------------------------------------------------------------------
     // CONSTANTS AND TABLES FOR TANH
     //--------------------------------------------------------------------------
@@ -628,18 +753,39 @@ abstract class CmnFastMath {
     static final double EXP_UNDERFLOW_LIMIT = Double.longBitsToDouble(0xC0874910D52D3051L); // -7.45133219101941108420e+02
     static final int EXP_LO_DISTANCE_TO_ZERO_POT = 0;
     static final int EXP_LO_DISTANCE_TO_ZERO = (1<<EXP_LO_DISTANCE_TO_ZERO_POT);
-    static final int EXP_LO_TAB_SIZE_POT = getTabSizePower(11);
+    static final int EXP_LO_TAB_SIZE_POT = getTabSizePower("exp", 11, EXP_MIN_TAB_SIZE_POWER);
+    /**
+     * If tables are smaller than default, using 2 more terms
+     * in Taylor series of exp around zero.
+     */
+    static final boolean EXP_USE_MORE_TERMS = (EXP_LO_TAB_SIZE_POT < 11);
     static final int EXP_LO_TAB_SIZE = (1<<EXP_LO_TAB_SIZE_POT)+1;
     static final int EXP_LO_TAB_MID_INDEX = ((EXP_LO_TAB_SIZE-1)/2);
     static final int EXP_LO_INDEXING = EXP_LO_TAB_MID_INDEX/EXP_LO_DISTANCE_TO_ZERO;
     static final int EXP_LO_INDEXING_DIV_SHIFT = EXP_LO_TAB_SIZE_POT-1-EXP_LO_DISTANCE_TO_ZERO_POT;
+
+    /**
+     * Max abs value for expQuick accuracy.
+     */
+    static final double EXP_QUICK_MAX_VALUE = 700.0;
+
+    /*
+     * Bounds of powQuick results for which its relative error is about 1e-2.
+     */
+    static final double POW_QUICK_MIN_RESULT = 1e-10;
+    static final double POW_QUICK_MAX_RESULT = 1e10;
     
     static final class MyTExp {
         static final double[] expHiTab = new double[1+(int)EXP_OVERFLOW_LIMIT-(int)EXP_UNDERFLOW_LIMIT];
         static final double[] expLoPosTab = new double[EXP_LO_TAB_SIZE];
         static final double[] expLoNegTab = new double[EXP_LO_TAB_SIZE];
         static {
-            init();
+            final Object event = TabsInitEvents.begin("exp");
+            final boolean loaded = loadTabs("exp", expHiTab, expLoPosTab, expLoNegTab);
+            if (!loaded) {
+                init();
+            }
+            TabsInitEvents.end(event, loaded, expHiTab, expLoPosTab, expLoNegTab);
         }
         private static strictfp void init() {
             for (int i=(int)EXP_UNDERFLOW_LIMIT;i<=(int)EXP_OVERFLOW_LIMIT;i++) {
@@ -660,7 +806,12 @@ abstract class CmnFastMath {
     // CONSTANTS AND TABLES FOR LOG AND LOG1P
     //--------------------------------------------------------------------------
 
-    static final int LOG_BITS = getTabSizePower(12);
+    static final int LOG_BITS = getTabSizePower("log", 12, LOG_MIN_TAB_SIZE_POWER);
+    /**
+     * If tables are smaller than default, using 2 more terms
+     * in Taylor series of log around one.
+     */
+    static final boolean LOG_USE_MORE_TERMS = (LOG_BITS < 12);
     static final int LOG_TAB_SIZE = (1<<LOG_BITS);
     
     static final class MyTLog {
@@ -668,7 +819,12 @@ abstract class CmnFastMath {
         static final double[] logXTab = new double[LOG_TAB_SIZE];
         static final double[] logXInvTab = new double[LOG_TAB_SIZE];
         static {
-            init();
+            final Object event = TabsInitEvents.begin("log");
+            final boolean loaded = loadTabs("log", logXLogTab, logXTab, logXInvTab);
+            if (!loaded) {
+                init();
+            }
+            TabsInitEvents.end(event, loaded, logXLogTab, logXTab, logXInvTab);
         }
         private static strictfp void init() {
             for (int i=0;i<LOG_TAB_SIZE;i++) {
@@ -705,7 +861,12 @@ abstract class CmnFastMath {
     // CONSTANTS AND TABLES FOR SQRT
     //--------------------------------------------------------------------------
 
-    static final int SQRT_LO_BITS = getTabSizePower(12);
+    static final int SQRT_LO_BITS = getTabSizePower("sqrt", 12, SQRT_MIN_TAB_SIZE_POWER);
+    /**
+     * Each Newton's method step (with initial slope) adds about SQRT_LO_BITS
+     * bits of accuracy, and 3 steps are enough for default tables size.
+     */
+    static final int SQRT_EXTRA_NEWTON_STEPS = getExtraNewtonSteps(SQRT_LO_BITS);
     static final int SQRT_LO_TAB_SIZE = (1<<SQRT_LO_BITS);
     
     static final class MyTSqrt {
@@ -714,7 +875,12 @@ abstract class CmnFastMath {
         static final double[] sqrtSlopeHiTab = new double[MAX_DOUBLE_EXPONENT-MIN_DOUBLE_EXPONENT+1];
         static final double[] sqrtSlopeLoTab = new double[SQRT_LO_TAB_SIZE];
         static {
-            init();
+            final Object event = TabsInitEvents.begin("sqrt");
+            final boolean loaded = loadTabs("sqrt", sqrtXSqrtHiTab, sqrtXSqrtLoTab, sqrtSlopeHiTab, sqrtSlopeLoTab);
+            if (!loaded) {
+                init();
+            }
+            TabsInitEvents.end(event, loaded, sqrtXSqrtHiTab, sqrtXSqrtLoTab, sqrtSlopeHiTab, sqrtSlopeLoTab);
         }
         private static strictfp void init() {
             for (int i=MIN_DOUBLE_EXPONENT;i<=MAX_DOUBLE_EXPONENT;i++) {
@@ -738,7 +904,11 @@ abstract class CmnFastMath {
     // CONSTANTS AND TABLES FOR CBRT
     //--------------------------------------------------------------------------
 
-    static final int CBRT_LO_BITS = getTabSizePower(12);
+    static final int CBRT_LO_BITS = getTabSizePower("cbrt", 12, CBRT_MIN_TAB_SIZE_POWER);
+    /**
+     * Same as for sqrt.
+     */
+    static final int CBRT_EXTRA_NEWTON_STEPS = getExtraNewtonSteps(CBRT_LO_BITS);
     static final int CBRT_LO_TAB_SIZE = (1<<CBRT_LO_BITS);
     
     // For CBRT_LO_BITS = 12:
@@ -754,7 +924,12 @@ abstract class CmnFastMath {
         static final double[] cbrtSlopeHiTab = new double[MAX_DOUBLE_EXPONENT-MIN_DOUBLE_EXPONENT+1];
         static final double[] cbrtSlopeLoTab = new double[CBRT_LO_TAB_SIZE];
         static {
-            init();
+            final Object event = TabsInitEvents.begin("cbrt");
+            final boolean loaded = loadTabs("cbrt", cbrtXCbrtHiTab, cbrtXCbrtLoTab, cbrtSlopeHiTab, cbrtSlopeLoTab);
+            if (!loaded) {
+                init();
+            }
+            TabsInitEvents.end(event, loaded, cbrtXCbrtHiTab, cbrtXCbrtLoTab, cbrtSlopeHiTab, cbrtSlopeLoTab);
         }
         private static strictfp void init() {
             for (int i=MIN_DOUBLE_EXPONENT;i<=MAX_DOUBLE_EXPONENT;i++) {
@@ -774,6 +949,42 @@ abstract class CmnFastMath {
         }
     }
 
+    //--------------------------------------------------------------------------
+    // CONSTANTS FOR TABLES RESOURCES
+    //--------------------------------------------------------------------------
+
+    /**
+     * Tables of a family are in "<TABS_RESOURCES_DIR><family>.tabs",
+     * relative to this class.
+     */
+    static final String TABS_RESOURCES_DIR = "tabs/";
+
+    /**
+     * First int of tables resources.
+     * Followed by the number of tables, their lengths, and then their values,
+     * all big-endian.
+     */
+    static final int TABS_RESOURCES_MAGIC = 0x4A464D54; // "JFMT"
+
+    //--------------------------------------------------------------------------
+    // CONSTANTS FOR TABLES PARALLEL INITIALIZATION
+    //--------------------------------------------------------------------------
+
+    /**
+     * Number of independent tables holders initialized concurrently,
+     * cf. initTabsOfTask(int).
+     */
+    static final int TABS_INIT_TASK_COUNT = 8;
+
+    //--------------------------------------------------------------------------
+    // CONSTANTS FOR FMA
+    //--------------------------------------------------------------------------
+
+    /**
+     * For Veltkamp's splitting of doubles into two 26 bits halves.
+     */
+    private static final double FMA_SPLITTER = TWO_POW_27 + 1.0;
+
     //--------------------------------------------------------------------------
     // CONSTANTS FOR HYPOT
     //--------------------------------------------------------------------------
@@ -816,11 +1027,11 @@ abstract class CmnFastMath {
          * should be identical, since done with strictfp and StrictMath).
          */
         int antiOptim = 0;
-        antiOptim += MyTSinCos.sinTab.length;
-        antiOptim += MyTTan.tanTab.length;
-        antiOptim += MyTAsin.asinTab.length;
+        antiOptim += MyTSinCos.sinCosTab.length;
+        antiOptim += MyTTan.tanDersTab.length;
+        antiOptim += MyTAsin.asinDersTab.length;
         antiOptim += MyTAsinPow.asinPowTab.length;
-        antiOptim += MyTAtan.atanTab.length;
+        antiOptim += MyTAtan.atanDersTab.length;
         antiOptim += MyTExp.expHiTab.length;
         antiOptim += MyTLog.logXTab.length;
         antiOptim += MyTTwoPow.twoPowTab.length;
@@ -832,6 +1043,92 @@ abstract class CmnFastMath {
         }
     }
 
+    /**
+     * Ensures that all look-up tables are initialized, initializing
+     * independent tables concurrently using the specified executor.
+     * Tables are identical to those obtained with initTables().
+     * 
+     * Returns once all tables are initialized.
+     * 
+     * @param executor Executor to run initialization tasks.
+     */
+    public static void initTables(Executor executor) {
+        final CountDownLatch latch = new CountDownLatch(TABS_INIT_TASK_COUNT);
+        for (int i=0;i<TABS_INIT_TASK_COUNT;i++) {
+            final int taskIndex = i;
+            executor.execute(new Runnable() {
+                public void run() {
+                    try {
+                        initTabsOfTask(taskIndex);
+                    } finally {
+                        latch.countDown();
+                    }
+                }
+            });
+        }
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        // For remaining (small) tables, and for eventual
+        // initialization errors to be thrown in this thread.
+        initTables();
+    }
+
+    /**
+     * Ensures that all look-up tables are initialized, initializing
+     * independent tables concurrently in the current thread and in
+     * temporary threads, up to the number of available processors.
+     * Tables are identical to those obtained with initTables().
+     */
+    public static void initTablesParallel() {
+        final int parallelism = Math.min(Runtime.getRuntime().availableProcessors(), TABS_INIT_TASK_COUNT);
+        if (parallelism <= 1) {
+            initTables();
+            return;
+        }
+        final AtomicInteger nextTaskIndex = new AtomicInteger();
+        final Runnable worker = new Runnable() {
+            public void run() {
+                int taskIndex;
+                while ((taskIndex = nextTaskIndex.getAndIncrement()) < TABS_INIT_TASK_COUNT) {
+                    initTabsOfTask(taskIndex);
+                }
+            }
+        };
+        final Thread[] threads = new Thread[parallelism-1];
+        for (int i=0;i<threads.length;i++) {
+            final Thread thread = new Thread(worker, "jafama-tabs-init-" + i);
+            thread.setDaemon(true);
+            threads[i] = thread;
+            thread.start();
+        }
+        worker.run();
+        boolean interrupted = false;
+        for (Thread thread : threads) {
+            while (true) {
+                try {
+                    thread.join();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        initTables();
+    }
+
     /*
      * logarithms
      */
@@ -1293,34 +1590,108 @@ abstract class CmnFastMath {
     }
 
     /**
+     * Uses Math.multiplyHigh(long,long) when running on Java 11+
+     * (through the multi-release jar), which is an intrinsic.
+     * 
      * @param x A long value.
      * @param y A long value.
      * @return The most significant 64 bits of the 128-bit product of two 64-bit factors.
      */
     public static long multiplyHigh(long x, long y) {
-        if ((x|y) < 0) {
-            // Use technique from section 8-2 of Henry S. Warren, Jr.,
-            // Hacker's Delight (2nd ed.) (Addison Wesley, 2013), 173-174.
-            long x1 = (x >> 32);
-            long y1 = (y >> 32);
-            long x2 = (x & 0xFFFFFFFFL);
-            long y2 = (y & 0xFFFFFFFFL);
-            long z2 = x2 * y2;
-            long t = x1 * y2 + (z2 >>> 32);
-            long z1 = (t & 0xFFFFFFFFL) + x2 * y1;
-            long z0 = (t >> 32);
-            return x1 * y1 + z0 + (z1 >> 32);
-        } else {
-            // Use Karatsuba technique with two base 2^32 digits.
-            long x1 = (x >>> 32);
-            long y1 = (y >>> 32);
-            long x2 = (x & 0xFFFFFFFFL);
-            long y2 = (y & 0xFFFFFFFFL);
-            long A = x1 * y1;
-            long B = x2 * y2;
-            long C = (x1 + x2) * (y1 + y2);
-            long K = C - A - B;
-            return (((B >>> 32) + K) >>> 32) + A;
+        return MultiplyHighSupport.multiplyHigh(x, y);
+    }
+
+    /**
+     * @param x A long value, considered as unsigned.
+     * @param y A long value, considered as unsigned.
+     * @return The most significant 64 bits of the unsigned 128-bit product
+     *         of two unsigned 64-bit factors.
+     */
+    public static long unsignedMultiplyHigh(long x, long y) {
+        return MultiplyHighSupport.unsignedMultiplyHigh(x, y);
+    }
+
+    /**
+     * @param x A long value.
+     * @param y A long value.
+     * @param hiLo (out) Array of length >= 2, in which the most significant
+     *        64 bits of the signed 128-bit product are put at index 0,
+     *        and the least significant 64 bits (x * y) at index 1.
+     * @throws IndexOutOfBoundsException if hiLo length is < 2,
+     *         in which case it is not modified.
+     */
+    public static void multiplyFull(long x, long y, long[] hiLo) {
+        if (hiLo.length < 2) {
+            throw new IndexOutOfBoundsException("length ["+hiLo.length+"] must be >= 2");
+        }
+        hiLo[0] = MultiplyHighSupport.multiplyHigh(x, y);
+        hiLo[1] = x * y;
+    }
+
+    /**
+     * @param x A long value, considered as unsigned.
+     * @param y A long value, considered as unsigned.
+     * @param hiLo (out) Array of length >= 2, in which the most significant
+     *        64 bits of the unsigned 128-bit product are put at index 0,
+     *        and the least significant 64 bits (x * y) at index 1.
+     * @throws IndexOutOfBoundsException if hiLo length is < 2,
+     *         in which case it is not modified.
+     */
+    public static void unsignedMultiplyFull(long x, long y, long[] hiLo) {
+        if (hiLo.length < 2) {
+            throw new IndexOutOfBoundsException("length ["+hiLo.length+"] must be >= 2");
+        }
+        hiLo[0] = MultiplyHighSupport.unsignedMultiplyHigh(x, y);
+        hiLo[1] = x * y;
+    }
+
+    /**
+     * Bulk version of multiplyHigh(long,long), giving identical results.
+     * 
+     * dst can be the same array than x or y, in which case
+     * if ranges overlap, dstOff must be <= xOff (or yOff).
+     * 
+     * @param x First factors.
+     * @param xOff Offset of first factor in x.
+     * @param y Second factors.
+     * @param yOff Offset of first factor in y.
+     * @param dst (out) High parts of products.
+     * @param dstOff Offset of first high part in dst.
+     * @param len Number of products to compute the high part of.
+     * @throws IndexOutOfBoundsException if a range is out of bounds,
+     *         in which case dst is not modified.
+     */
+    public static void multiplyHigh(long[] x, int xOff, long[] y, int yOff, long[] dst, int dstOff, int len) {
+        checkBulkRange(x.length, xOff, len);
+        checkBulkRange(y.length, yOff, len);
+        checkBulkRange(dst.length, dstOff, len);
+        for (int i=0;i<len;i++) {
+            dst[dstOff+i] = MultiplyHighSupport.multiplyHigh(x[xOff+i], y[yOff+i]);
+        }
+    }
+
+    /**
+     * Bulk version of unsignedMultiplyHigh(long,long), giving identical results.
+     * 
+     * dst can be the same array than x or y, in which case
+     * if ranges overlap, dstOff must be <= xOff (or yOff).
+     * 
+     * @param x First factors, considered as unsigned.
+     * @param xOff Offset of first factor in x.
+     * @param y Second factors, considered as unsigned.
+     * @param yOff Offset of first factor in y.
+     * @param dst (out) High parts of products.
+     * @param dstOff Offset of first high part in dst.
+     * @param len Number of products to compute the high part of.
+     * @throws IndexOutOfBoundsException if a range is out of bounds,
+     *         in which case dst is not modified.
+     */
+    public static void unsignedMultiplyHigh(long[] x, int xOff, long[] y, int yOff, long[] dst, int dstOff, int len) {
+        checkBulkRange(x.length, xOff, len);
+        checkBulkRange(y.length, yOff, len);
+        checkBulkRange(dst.length, dstOff, len);
+        for (int i=0;i<len;i++) {
+            dst[dstOff+i] = MultiplyHighSupport.unsignedMultiplyHigh(x[xOff+i], y[yOff+i]);
         }
     }
     
@@ -1441,6 +1812,40 @@ abstract class CmnFastMath {
         return x - floorDiv(x, y) * y;
     }
 
+    /*
+     * fused multiply-add
+     */
+
+    /**
+     * Uses Math.fma(double,double,double) with Java 11+ (through the
+     * multi-release jar), and a software implementation otherwise,
+     * which is much faster than computing with BigDecimal
+     * except for extreme magnitudes.
+     * 
+     * @param a A value.
+     * @param b A value.
+     * @param c A value.
+     * @return a*b+c, computed as with infinite precision and range,
+     *         then rounded once to the nearest double.
+     */
+    public static double fma(double a, double b, double c) {
+        return FmaSupport.fma(a, b, c);
+    }
+
+    /**
+     * Uses Math.fma(float,float,float) with Java 11+ (through the
+     * multi-release jar), and a software implementation otherwise.
+     * 
+     * @param a A value.
+     * @param b A value.
+     * @param c A value.
+     * @return a*b+c, computed as with infinite precision and range,
+     *         then rounded once to the nearest float.
+     */
+    public static float fma(float a, float b, float c) {
+        return FmaSupport.fma(a, b, c);
+    }
+
     /*
      * Non-redefined Math public values and treatments.
      */
@@ -1465,6 +1870,201 @@ abstract class CmnFastMath {
     // PACKAGE-PRIVATE METHODS
     //--------------------------------------------------------------------------
 
+    /**
+     * For bulk treatments, to check ranges before writing anything
+     * in output arrays.
+     *
+     * @param length Length of the array.
+     * @param off Offset of the range in the array.
+     * @param len Length of the range.
+     * @throws IndexOutOfBoundsException if the range is not within
+     *         array bounds, or if len is < 0.
+     */
+    static void checkBulkRange(int length, int off, int len) {
+        if (((off|len) < 0) || (len > length - off)) {
+            throw new IndexOutOfBoundsException("off ["+off+"] and len ["+len+"] not valid for length ["+length+"]");
+        }
+    }
+
+    /**
+     * For methods taking an accuracy tier, to throw when it's null
+     * (tiers are compared by reference, which doesn't throw).
+     *
+     * @param tier An accuracy tier.
+     * @throws NullPointerException if the specified tier is null.
+     */
+    static void checkNonNull(AccuracyTier tier) {
+        if (tier == null) {
+            throw new NullPointerException("tier");
+        }
+    }
+
+    /**
+     * Writes tables resources into the specified directory,
+     * in which the build puts them before creating the jar.
+     * Tables must have been computed, not loaded from resources.
+     * 
+     * @param dir Directory corresponding to TABS_RESOURCES_DIR.
+     */
+    static void writeTabsResources(File dir) throws IOException {
+        // Must be consistent with loadTabs(...) calls in holders.
+        writeTabsResource(dir, "sincos", MyTSinCos.sinCosTab);
+        writeTabsResource(dir, "tan", MyTTan.tanDersTab);
+        writeTabsResource(dir, "asin", MyTAsin.asinDersTab);
+        writeTabsResource(dir, "atan", MyTAtan.atanDersTab);
+        writeTabsResource(dir, "exp", MyTExp.expHiTab, MyTExp.expLoPosTab, MyTExp.expLoNegTab);
+        writeTabsResource(dir, "log", MyTLog.logXLogTab, MyTLog.logXTab, MyTLog.logXInvTab);
+        writeTabsResource(dir, "sqrt", MyTSqrt.sqrtXSqrtHiTab, MyTSqrt.sqrtXSqrtLoTab, MyTSqrt.sqrtSlopeHiTab, MyTSqrt.sqrtSlopeLoTab);
+        writeTabsResource(dir, "cbrt", MyTCbrt.cbrtXCbrtHiTab, MyTCbrt.cbrtXCbrtLoTab, MyTCbrt.cbrtSlopeHiTab, MyTCbrt.cbrtSlopeLoTab);
+    }
+
+    /**
+     * Writes the specified tables in the format expected by readTabs(...).
+     */
+    static void writeTabs(OutputStream os, double[]... tabs) throws IOException {
+        final DataOutputStream dos = new DataOutputStream(os);
+        dos.writeInt(TABS_RESOURCES_MAGIC);
+        dos.writeInt(tabs.length);
+        for (double[] tab : tabs) {
+            dos.writeInt(tab.length);
+        }
+        for (double[] tab : tabs) {
+            for (double value : tab) {
+                dos.writeLong(Double.doubleToRawLongBits(value));
+            }
+        }
+        dos.flush();
+    }
+
+    /**
+     * Tables are only modified if the header matches their number
+     * and lengths, and if all values could be read.
+     * 
+     * @return True if tables were read, false otherwise.
+     */
+    static boolean readTabs(InputStream is, double[]... tabs) throws IOException {
+        final DataInputStream dis = new DataInputStream(is);
+        if (dis.readInt() != TABS_RESOURCES_MAGIC) {
+            return false;
+        }
+        if (dis.readInt() != tabs.length) {
+            return false;
+        }
+        int nbrOfValues = 0;
+        for (double[] tab : tabs) {
+            if (dis.readInt() != tab.length) {
+                return false;
+            }
+            nbrOfValues += tab.length;
+        }
+        final byte[] bytes = new byte[nbrOfValues * 8];
+        dis.readFully(bytes);
+        final DoubleBuffer buffer = ByteBuffer.wrap(bytes).asDoubleBuffer();
+        for (double[] tab : tabs) {
+            buffer.get(tab);
+        }
+        return true;
+    }
+
+    /**
+     * Software fma, for when Math.fma(double,double,double) is not available.
+     * 
+     * Uses Dekker's product and Knuth's sum, which are exact, and rounding
+     * to odd for the sum of their errors, which makes final rounding
+     * correct (Boldo and Melquiond, "Emulation of FMA and correctly rounded
+     * sums: proved algorithms using rounding to odd", 2008).
+     * These require no overflow or underflow in intermediate results,
+     * so for extreme magnitudes we use BigDecimal instead.
+     */
+    static double fmaSoftware(double a, double b, double c) {
+        if (NumbersUtils.isNaNOrInfinite(a)
+                || NumbersUtils.isNaNOrInfinite(b)) {
+            // NaN or infinite product:
+            // result is the same than without fma.
+            return a * b + c;
+        }
+        if (NumbersUtils.isNaNOrInfinite(c)) {
+            // Finite product: not adding it,
+            // in case it would overflow.
+            return c;
+        }
+        if ((a == 0.0) || (b == 0.0)) {
+            // Exact product.
+            return a * b + c;
+        }
+        if (c == 0.0) {
+            // Product is not zero (even if rounded to zero),
+            // so rounding it is enough.
+            return a * b;
+        }
+        final int aExp = getExponent_antiCyclic(a);
+        final int bExp = getExponent_antiCyclic(b);
+        final int cExp = getExponent_antiCyclic(c);
+        final int pExp = aExp + bExp;
+        if ((aExp < -1022) || (aExp > 995)
+                || (bExp < -1022) || (bExp > 995)
+                || (pExp < -900) || (pExp > 900)
+                || (cExp < -900) || (cExp > 1000)) {
+            return new BigDecimal(a).multiply(new BigDecimal(b)).add(new BigDecimal(c)).doubleValue();
+        }
+        
+        // a*b = ph + pl
+        final double ph = a * b;
+        final double pl = twoProductError(a, b, ph);
+        // c + ph = sh + sl
+        final double sh = c + ph;
+        final double sl = twoSumError(c, ph, sh);
+        return sh + sumRoundedToOdd(sl, pl);
+    }
+
+    /**
+     * Software fma, for when Math.fma(float,float,float) is not available.
+     * 
+     * Product is exact in double, and the sum is rounded to odd
+     * in double, which makes rounding to float correct (double having
+     * more than twice plus two float's precision).
+     */
+    static float fmaSoftware(float a, float b, float c) {
+        final double p = (double) a * (double) b;
+        final double s = p + c;
+        if (NumbersUtils.isNaNOrInfinite(s)) {
+            // Only due to NaN or infinite arguments.
+            return (float) s;
+        }
+        return (float) roundedToOdd(s, twoSumError(p, c, s));
+    }
+
+    /**
+     * Software multiplyHigh, for when Math.multiplyHigh(long,long)
+     * is not available.
+     */
+    static long multiplyHighSoftware(long x, long y) {
+        if ((x|y) < 0) {
+            // Use technique from section 8-2 of Henry S. Warren, Jr.,
+            // Hacker's Delight (2nd ed.) (Addison Wesley, 2013), 173-174.
+            long x1 = (x >> 32);
+            long y1 = (y >> 32);
+            long x2 = (x & 0xFFFFFFFFL);
+            long y2 = (y & 0xFFFFFFFFL);
+            long z2 = x2 * y2;
+            long t = x1 * y2 + (z2 >>> 32);
+            long z1 = (t & 0xFFFFFFFFL) + x2 * y1;
+            long z0 = (t >> 32);
+            return x1 * y1 + z0 + (z1 >> 32);
+        } else {
+            // Use Karatsuba technique with two base 2^32 digits.
+            long x1 = (x >>> 32);
+            long y1 = (y >>> 32);
+            long x2 = (x & 0xFFFFFFFFL);
+            long y2 = (y & 0xFFFFFFFFL);
+            long A = x1 * y1;
+            long B = x2 * y2;
+            long C = (x1 + x2) * (y1 + y2);
+            long K = C - A - B;
+            return (((B >>> 32) + K) >>> 32) + A;
+        }
+    }
+
     /**
      * @param power Must be in normal values range.
      */
@@ -2112,6 +2712,141 @@ abstract class CmnFastMath {
         return ((Double.doubleToRawLongBits(value)>>62)|1);
     }
 
+    /**
+     * Redefined here, to avoid cyclic dependency with (Strict)FastMath
+     * (and because Math.getExponent(double) is not available in Java 5).
+     * 
+     * @param value A double value.
+     * @return Value unbiased exponent.
+     */
+    private static int getExponent_antiCyclic(double value) {
+        return (((int)(Double.doubleToRawLongBits(value)>>52))&0x7FF)-MAX_DOUBLE_EXPONENT;
+    }
+
+    /**
+     * @return True if tables could be loaded from the resource
+     *         of the specified family, false otherwise, in which case
+     *         they must be computed.
+     */
+    private static boolean loadTabs(String family, double[]... tabs) {
+        final InputStream is;
+        try {
+            is = CmnFastMath.class.getResourceAsStream(TABS_RESOURCES_DIR + family + ".tabs");
+        } catch (SecurityException e) {
+            return false;
+        }
+        if (is == null) {
+            return false;
+        }
+        try {
+            try {
+                return readTabs(is, tabs);
+            } finally {
+                is.close();
+            }
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Tasks are ordered by decreasing tables size, for threads
+     * that pick them in order to end up about at the same time.
+     * 
+     * @param taskIndex Index in [0,TABS_INIT_TASK_COUNT-1].
+     */
+    private static void initTabsOfTask(int taskIndex) {
+        // Class initialization is thread-safe, and holders only depend
+        // on this class, which is initialized, so no deadlock risk.
+        final double[] tab;
+        if (taskIndex == 0) {
+            tab = MyTAsin.asinDersTab;
+        } else if (taskIndex == 1) {
+            tab = MyTAtan.atanDersTab;
+        } else if (taskIndex == 2) {
+            tab = MyTTan.tanDersTab;
+        } else if (taskIndex == 3) {
+            tab = MyTSqrt.sqrtXSqrtHiTab;
+        } else if (taskIndex == 4) {
+            tab = MyTCbrt.cbrtXCbrtHiTab;
+        } else if (taskIndex == 5) {
+            tab = MyTLog.logXTab;
+        } else if (taskIndex == 6) {
+            tab = MyTExp.expHiTab;
+        } else if (taskIndex == 7) {
+            tab = MyTSinCos.sinCosTab;
+        } else {
+            throw new IllegalArgumentException("" + taskIndex);
+        }
+        if (tab == null) {
+            throw new AssertionError();
+        }
+    }
+
+    /**
+     * Dekker's product error, exact if no overflow or underflow,
+     * and if a and b magnitudes are below 2^996.
+     * 
+     * @param p a*b, rounded.
+     * @return a*b-p.
+     */
+    private static double twoProductError(double a, double b, double p) {
+        double tmp = FMA_SPLITTER * a;
+        final double ah = tmp - (tmp - a);
+        final double al = a - ah;
+        tmp = FMA_SPLITTER * b;
+        final double bh = tmp - (tmp - b);
+        final double bl = b - bh;
+        return (((ah * bh - p) + ah * bl) + al * bh) + al * bl;
+    }
+
+    /**
+     * Knuth's sum error, exact if no overflow.
+     * 
+     * @param s a+b, rounded.
+     * @return a+b-s.
+     */
+    private static double twoSumError(double a, double b, double s) {
+        final double bv = s - a;
+        final double av = s - bv;
+        return (a - av) + (b - bv);
+    }
+
+    /**
+     * @return a+b, rounded to odd.
+     */
+    private static double sumRoundedToOdd(double a, double b) {
+        final double s = a + b;
+        return roundedToOdd(s, twoSumError(a, b, s));
+    }
+
+    /**
+     * @param s A finite value, rounded to nearest.
+     * @param err The error of s, i.e. exact value minus s.
+     * @return The exact value, rounded to odd, i.e. s if it's exact
+     *         or if its mantissa is odd, else its neighbor towards
+     *         the exact value.
+     */
+    private static double roundedToOdd(double s, double err) {
+        if (err != 0.0) {
+            final long bits = Double.doubleToRawLongBits(s);
+            if ((bits & 1L) == 0) {
+                // s can't be zero here, so its sign is the exact value's one.
+                return Double.longBitsToDouble(((err > 0.0) == (s > 0.0)) ? bits + 1 : bits - 1);
+            }
+        }
+        return s;
+    }
+
+    private static void writeTabsResource(File dir, String family, double[]... tabs) throws IOException {
+        final OutputStream os = new BufferedOutputStream(new FileOutputStream(new File(dir, family + ".tabs")));
+        try {
+            writeTabs(os, tabs);
+        } finally {
+            os.close();
+        }
+    }
+
     private static boolean getBooleanProperty(
             final String key,
             boolean defaultValue) {
@@ -2123,6 +2858,26 @@ abstract class CmnFastMath {
         }
     }
 
+    /**
+     * @param key A property key.
+     * @param defaultValue Value to use if the property is not set,
+     *        or is not a valid int.
+     */
+    private static int getIntProperty(
+            final String key,
+            int defaultValue) {
+        final String tmp = System.getProperty(key);
+        if (tmp != null) {
+            try {
+                return Integer.parseInt(tmp.trim());
+            } catch (NumberFormatException e) {
+                return defaultValue;
+            }
+        } else {
+            return defaultValue;
+        }
+    }
+
     /**
      * Use look-up tables size power through this method,
      * to make sure is it small in case java.lang.Math
@@ -2131,4 +2886,41 @@ abstract class CmnFastMath {
     private static int getTabSizePower(int tabSizePower) {
         return (FM_USE_JDK_MATH && SFM_USE_JDK_MATH) ? Math.min(2, tabSizePower) : tabSizePower;
     }
+
+    /**
+     * Use look-up tables size power through this method,
+     * to take into account "jafama.tabsizepower.<family>" property,
+     * and to make sure is it small in case java.lang.Math
+     * is directly used.
+     *
+     * @param family Tables family name, as used in the property key.
+     * @param defaultTabSizePower Power to use if the property is not set.
+     * @param minTabSizePower Min power, to stay in accuracy tolerance.
+     * @return The power to use, in [minTabSizePower,MAX_TAB_SIZE_POWER].
+     */
+    private static int getTabSizePower(
+            String family,
+            int defaultTabSizePower,
+            int minTabSizePower) {
+        final int tabSizePower = NumbersUtils.toRange(
+                minTabSizePower,
+                MAX_TAB_SIZE_POWER,
+                getIntProperty("jafama.tabsizepower." + family, defaultTabSizePower));
+        return getTabSizePower(tabSizePower);
+    }
+
+    /**
+     * @param loBits Number of mantissa bits used for indexing.
+     * @return Number of Newton's method steps to do in addition to
+     *         the 3 ones done for 12 bits or more, for accuracy to be
+     *         about the same.
+     */
+    private static int getExtraNewtonSteps(int loBits) {
+        if (loBits >= 12) {
+            return 0;
+        }
+        // Counting a bit less than loBits bits per step, for margin.
+        final int nbrOfSteps = (36 + (loBits-1) - 1) / (loBits-1);
+        return nbrOfSteps - 3;
+    }
 }
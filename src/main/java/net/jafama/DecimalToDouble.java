@@ -0,0 +1,236 @@
+/*
+ * Copyright 2012-2017 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+import java.math.BigInteger;
+
+/**
+ * Conversion of decimals (w * 10^q) into the closest double,
+ * used by NumbersUtils parseDouble methods.
+ *
+ * Uses Clinger's fast path when w and 10^|q| are exact doubles,
+ * and else Daniel Lemire's algorithm ("Number Parsing at a Gigabyte per
+ * Second", 2021, based on an idea of Michael Eisel), which computes
+ * the correctly rounded result in nearly all cases, and otherwise tells
+ * that it could not, in which case caller must use a slower treatment.
+ *
+ * In a separate class than NumbersUtils, which is meant to be light,
+ * for the 10 KB table of powers of ten to only be computed (with BigInteger,
+ * which takes a few milliseconds) when a double is first parsed.
+ */
+final class DecimalToDouble {
+
+    //--------------------------------------------------------------------------
+    // MEMBERS
+    //--------------------------------------------------------------------------
+
+    /**
+     * Max number of decimal digits that always fit in an unsigned long.
+     */
+    static final int MAX_NBR_OF_DIGITS = 19;
+
+    /**
+     * Below that, the decimal (with at most 19 digits) rounds to zero.
+     */
+    private static final int Q_MIN = -342;
+
+    /**
+     * Above that, the decimal (at least 1) rounds to infinity.
+     */
+    private static final int Q_MAX = 308;
+
+    private static final long TWO_POW_53 = (1L<<53);
+
+    /**
+     * Powers of ten exactly representable as doubles.
+     */
+    private static final double[] EXACT_POW10 = new double[23];
+    static {
+        double p = 1.0;
+        for (int i=0;i<EXACT_POW10.length;i++) {
+            EXACT_POW10[i] = p;
+            p *= 10.0;
+        }
+    }
+
+    private static final long[] POW10 = new long[20];
+    static {
+        long p = 1;
+        for (int i=0;i<POW10.length;i++) {
+            POW10[i] = p;
+            p *= 10;
+        }
+    }
+
+    /**
+     * For q in [Q_MIN,Q_MAX], contains at index 2*(q-Q_MIN) the 64 high bits
+     * of 10^q, truncated and normalized to 128 bits (most significant bit set),
+     * and at next index its 64 low bits.
+     */
+    private static final long[] M = newM();
+
+    //--------------------------------------------------------------------------
+    // PACKAGE-PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    /**
+     * @param w Decimal significand, as unsigned, with at most
+     *        MAX_NBR_OF_DIGITS digits.
+     * @param q Decimal exponent.
+     * @param negative True if the decimal is negative.
+     * @param truncated True if digits have been dropped from w
+     *        (all digits were not zero).
+     * @return The double closest to the decimal (ties to even),
+     *         or NaN if it could not be computed (caller must then
+     *         use a slower treatment).
+     */
+    static double toDouble(long w, int q, boolean negative, boolean truncated) {
+        if (w == 0) {
+            return (negative ? -0.0 : 0.0);
+        }
+        if (!truncated) {
+            if ((w > 0) && (w <= TWO_POW_53)) {
+                // Clinger's fast path: at most one rounding.
+                if ((q >= -22) && (q <= 22)) {
+                    final double abs = ((q >= 0) ? w * EXACT_POW10[q] : w / EXACT_POW10[-q]);
+                    return (negative ? -abs : abs);
+                }
+                if ((q > 22) && (q <= 22+15) && (w <= TWO_POW_53 / POW10[q-22])) {
+                    final double abs = (w * POW10[q-22]) * EXACT_POW10[22];
+                    return (negative ? -abs : abs);
+                }
+            }
+            return eiselLemire(w, q, negative);
+        } else {
+            // The exact decimal is in ]w,w+1[ * 10^q.
+            final double res = eiselLemire(w, q, negative);
+            if ((res == res) && (res == eiselLemire(w+1, q, negative))) {
+                return res;
+            }
+            return Double.NaN;
+        }
+    }
+
+    //--------------------------------------------------------------------------
+    // PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    private DecimalToDouble() {
+    }
+
+    /**
+     * @param w A non-zero unsigned long.
+     * @return The double closest to w * 10^q, or NaN if could not decide.
+     */
+    private static double eiselLemire(long w, int q, boolean negative) {
+        if (q < Q_MIN) {
+            return (negative ? -0.0 : 0.0);
+        }
+        if (q > Q_MAX) {
+            return (negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY);
+        }
+        final int lz = Long.numberOfLeadingZeros(w);
+        w <<= lz;
+        // floor(q * log2(10)) + 64 + bias - lz
+        long exp2 = ((217706L * q) >> 16) + 64 + 1023 - lz;
+
+        final int index = 2*(q-Q_MIN);
+        final long mHi = M[index];
+        final long mLo = M[index+1];
+
+        long xHi = unsignedMultiplyHigh(w, mHi);
+        long xLo = w * mHi;
+        if (((xHi & 0x1FF) == 0x1FF) && lessThanUnsigned(xLo + w, w)) {
+            // Product might be inaccurate: taking low bits of 10^q into account.
+            final long yHi = unsignedMultiplyHigh(w, mLo);
+            final long yLo = w * mLo;
+            long mergedHi = xHi;
+            final long mergedLo = xLo + yHi;
+            if (lessThanUnsigned(mergedLo, xLo)) {
+                mergedHi++;
+            }
+            if (((mergedHi & 0x1FF) == 0x1FF) && (mergedLo + 1 == 0) && lessThanUnsigned(yLo + w, w)) {
+                return Double.NaN;
+            }
+            xHi = mergedHi;
+            xLo = mergedLo;
+        }
+
+        // Keeping 54 bits.
+        final int msb = (int)(xHi >>> 63);
+        long mantissa = (xHi >>> (msb + 9));
+        exp2 -= (1 ^ msb);
+
+        if ((xLo == 0) && ((xHi & 0x1FF) == 0) && ((mantissa & 3) == 1)) {
+            // Might be exactly halfway.
+            return Double.NaN;
+        }
+
+        // Rounding to 53 bits.
+        mantissa += (mantissa & 1);
+        mantissa >>>= 1;
+        if ((mantissa >>> 53) != 0) {
+            mantissa >>>= 1;
+            exp2++;
+        }
+        if ((exp2 <= 0) || (exp2 >= 0x7FF)) {
+            // Subnormal, or infinite (which we could handle, but it's rare).
+            return Double.NaN;
+        }
+        long bits = (exp2 << 52) | (mantissa & ((1L<<52)-1));
+        if (negative) {
+            bits |= Long.MIN_VALUE;
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    private static boolean lessThanUnsigned(long a, long b) {
+        return (a + Long.MIN_VALUE) < (b + Long.MIN_VALUE);
+    }
+
+    /**
+     * @return The 64 high bits of the 128 bits product of x and y, as unsigned.
+     */
+    private static long unsignedMultiplyHigh(long x, long y) {
+        final long x1 = (x >>> 32);
+        final long y1 = (y >>> 32);
+        final long x2 = (x & 0xFFFFFFFFL);
+        final long y2 = (y & 0xFFFFFFFFL);
+        final long z2 = x2 * y2;
+        final long t = x1 * y2 + (z2 >>> 32);
+        final long z1 = (t & 0xFFFFFFFFL) + x2 * y1;
+        final long z0 = (t >>> 32);
+        return x1 * y1 + z0 + (z1 >>> 32);
+    }
+
+    private static long[] newM() {
+        final long[] m = new long[2*(Q_MAX-Q_MIN+1)];
+        for (int q=Q_MIN;q<=Q_MAX;q++) {
+            BigInteger value;
+            if (q >= 0) {
+                value = BigInteger.TEN.pow(q);
+                final int bitLength = value.bitLength();
+                value = ((bitLength <= 128) ? value.shiftLeft(128 - bitLength) : value.shiftRight(bitLength - 128));
+            } else {
+                final BigInteger divisor = BigInteger.TEN.pow(-q);
+                value = BigInteger.ONE.shiftLeft(divisor.bitLength() + 127).divide(divisor);
+            }
+            m[2*(q-Q_MIN)] = value.shiftRight(64).longValue();
+            m[2*(q-Q_MIN)+1] = value.longValue();
+        }
+        return m;
+    }
+}
@@ -0,0 +1,435 @@
+/*
+ * Copyright 2012-2017 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Shortest decimal representation of doubles, used by NumbersUtils
+ * toStringCSN/toStringNoCSN and related methods.
+ *
+ * Uses Raffaello Giulietti's Schubfach algorithm ("The Schubfach way to render
+ * doubles", 2020), also used by Double.toString(double) since Java 19:
+ * the decimal has the least number of digits among those that round
+ * to the double, and among these, is the closest to it (ties to even digit),
+ * with at least two digits (for "1.0E-5" and not "1.E-5", and such).
+ *
+ * In a separate class than NumbersUtils, which is meant to be light,
+ * for the 10 KB table of powers of ten to only be computed (with BigInteger,
+ * which takes a few milliseconds) when a double is first formatted.
+ */
+final class DoubleToDecimal {
+
+    //--------------------------------------------------------------------------
+    // MEMBERS
+    //--------------------------------------------------------------------------
+
+    /**
+     * Max number of chars, in CSN, such as "-1.2345678901234567E-308".
+     */
+    static final int MAX_NBR_OF_CHARS_CSN = 24;
+
+    /**
+     * Precision (significand bits, hidden bit included).
+     */
+    private static final int P = 53;
+
+    /**
+     * Min exponent of ulp, i.e. of MIN_VALUE.
+     */
+    private static final int Q_MIN = -1074;
+
+    private static final int BQ_MASK = 0x7FF;
+    private static final long T_MASK = (1L<<(P-1))-1;
+    private static final long C_MIN = (1L<<(P-1));
+
+    /**
+     * Subnormal significands below this are multiplied by 10,
+     * for the decimal to have at least two digits.
+     */
+    private static final long C_TINY = 3;
+
+    /**
+     * Range of k for which 10^-k is in the table.
+     */
+    private static final int K_MIN = -324;
+    private static final int K_MAX = 292;
+
+    private static final long MASK_63 = (1L<<63)-1;
+
+    /**
+     * ceil(2^64/10), for floor(s/10) = multiplyHigh(s, ONE_TENTH_SCALED)
+     * for the values of s we use.
+     */
+    private static final long ONE_TENTH_SCALED = 1844674407370955162L;
+
+    /**
+     * Powers of ten, from 10^0 to 10^18.
+     */
+    private static final long[] POW10 = new long[19];
+    static {
+        long p = 1;
+        for (int i=0;i<POW10.length;i++) {
+            POW10[i] = p;
+            p *= 10;
+        }
+    }
+
+    /**
+     * For k in [K_MIN,K_MAX], with 10^-k = beta * 2^r, and 2^125 <= beta < 2^126,
+     * contains at index 2*(k-K_MIN) the 63 high bits of floor(beta)+1,
+     * and at next index its 63 low bits.
+     */
+    private static final long[] G = newG();
+
+    //--------------------------------------------------------------------------
+    // PACKAGE-PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    /**
+     * @param value A double value.
+     * @return A number of chars large enough to hold the representation
+     *         of the specified value not in CSN.
+     */
+    static int maxNbrOfCharsNoCSN(double value) {
+        // Not using Math.getExponent(double), which is not in Java 5.
+        final int bitsExp = ((Math.abs(value) < NumbersUtils.DOUBLE_MIN_NORMAL) ? Q_MIN : (((int)(Double.doubleToRawLongBits(value)>>52))&0x7FF)-1023);
+        // Magnitude of decimal exponent, give or take one,
+        // plus sign, "0.", dot, ".0", and up to 17 significant digits.
+        return 24 + ((Math.abs(bitsExp) * 78913) >> 18);
+    }
+
+    /**
+     * Writes into dst if it is not null, else into bb,
+     * from its position, which is incremented accordingly.
+     *
+     * @param csn True for "computerized scientific notation",
+     *        false for no exponent.
+     * @return The number of chars written.
+     * @throws IndexOutOfBoundsException if the chars do not fit
+     *         in dst from dstPos (nothing written).
+     * @throws BufferOverflowException if the chars do not fit
+     *         in bb remaining bytes (nothing written).
+     */
+    static int toChars(double value, boolean csn, char[] dst, int dstPos, ByteBuffer bb) {
+        final long bits = Double.doubleToRawLongBits(value);
+        final long t = (bits & T_MASK);
+        final int bq = (int)(bits >>> (P-1)) & BQ_MASK;
+        if (bq == BQ_MASK) {
+            if (t != 0) {
+                return putLiteral("NaN", dst, dstPos, bb);
+            } else {
+                return putLiteral((bits > 0) ? "Infinity" : "-Infinity", dst, dstPos, bb);
+            }
+        }
+        if ((bq == 0) && (t == 0)) {
+            if (csn) {
+                return putLiteral((bits == 0) ? "0.0E0" : "-0.0E0", dst, dstPos, bb);
+            } else {
+                return putLiteral((bits == 0) ? "0.0" : "-0.0", dst, dstPos, bb);
+            }
+        }
+
+        /*
+         * Computing decimal f * 10^e.
+         */
+
+        final int q;
+        final long c;
+        final int dk;
+        if (bq != 0) {
+            // Normal.
+            q = bq - 1 + Q_MIN;
+            c = (C_MIN | t);
+            dk = 0;
+        } else if (t < C_TINY) {
+            // Tiny subnormal.
+            q = Q_MIN;
+            c = 10 * t;
+            dk = -1;
+        } else {
+            // Subnormal.
+            q = Q_MIN;
+            c = t;
+            dk = 0;
+        }
+
+        long f;
+        int e;
+        if ((q < 0) && (q > -P) && (((c >> -q) << -q) == c)) {
+            // Mathematical integer below 2^53: no need to round.
+            f = (c >> -q);
+            e = 0;
+        } else {
+            final int out = ((int)c & 1);
+            final long cb = (c << 2);
+            final long cbr = cb + 2;
+            final long cbl;
+            final int k;
+            if ((c != C_MIN) || (q == Q_MIN)) {
+                cbl = cb - 2;
+                k = flog10pow2(q);
+            } else {
+                // Closer lower neighbor.
+                cbl = cb - 1;
+                k = flog10threeQuartersPow2(q);
+            }
+            final int h = q + flog2pow10(-k) + 2;
+
+            final long g1 = G[2*(k-K_MIN)];
+            final long g0 = G[2*(k-K_MIN)+1];
+
+            final long vb = rop(g1, g0, cb << h);
+            final long vbl = rop(g1, g0, cbl << h);
+            final long vbr = rop(g1, g0, cbr << h);
+
+            final long s = (vb >> 2);
+            boolean done = false;
+            f = 0;
+            e = 0;
+            if (s >= 100) {
+                // Trying with one less digit.
+                final long sp10 = 10 * multiplyHigh(s, ONE_TENTH_SCALED);
+                final long tp10 = sp10 + 10;
+                final boolean upin = (vbl + out <= (sp10 << 2));
+                final boolean wpin = ((tp10 << 2) + out <= vbr);
+                if (upin != wpin) {
+                    f = (upin ? sp10 : tp10);
+                    e = k;
+                    done = true;
+                }
+            }
+            if (!done) {
+                final long tt = s + 1;
+                final boolean uin = (vbl + out <= (s << 2));
+                final boolean win = ((tt << 2) + out <= vbr);
+                if (uin != win) {
+                    f = (uin ? s : tt);
+                } else {
+                    // Both in: taking the closest (even if tie).
+                    final long cmp = vb - ((s + tt) << 1);
+                    f = (((cmp < 0) || ((cmp == 0) && ((s & 1) == 0))) ? s : tt);
+                }
+                e = k + dk;
+            }
+        }
+
+        // Removing trailing zeros.
+        while (f % 10 == 0) {
+            f /= 10;
+            e++;
+        }
+        int n = 1;
+        while ((n < POW10.length) && (f >= POW10[n])) {
+            n++;
+        }
+        // f = d1.d2...dn * 10^x
+        final int x = e + n - 1;
+
+        /*
+         * Computing number of chars and writing them.
+         */
+
+        final int signSize = ((bits < 0) ? 1 : 0);
+        final int absX = Math.abs(x);
+        final int nbrOfChars;
+        if (csn) {
+            final int nbrOfExpDigits = ((absX < 10) ? 1 : ((absX < 100) ? 2 : 3));
+            nbrOfChars = signSize + 2 + Math.max(n-1, 1) + 1 + ((x < 0) ? 1 : 0) + nbrOfExpDigits;
+        } else if (x >= 0) {
+            nbrOfChars = signSize + (x+1) + 1 + Math.max(n-(x+1), 1);
+        } else {
+            nbrOfChars = signSize + 2 + (-x-1) + n;
+        }
+
+        final int start = checkFitsAndGetStart(nbrOfChars, dst, dstPos, bb);
+        int pos = start;
+        if (signSize != 0) {
+            put('-', dst, bb, pos++);
+        }
+        if (csn) {
+            final long d1 = f / POW10[n-1];
+            put((char)('0' + d1), dst, bb, pos++);
+            put('.', dst, bb, pos++);
+            if (n == 1) {
+                put('0', dst, bb, pos++);
+            } else {
+                putDigits(f - d1 * POW10[n-1], n-1, dst, bb, pos);
+                pos += n-1;
+            }
+            put('E', dst, bb, pos++);
+            if (x < 0) {
+                put('-', dst, bb, pos++);
+            }
+            putDigits(absX, nbrOfChars - (pos - start), dst, bb, pos);
+        } else if (x >= 0) {
+            if (n <= x+1) {
+                putDigits(f, n, dst, bb, pos);
+                pos += n;
+                for (int i=n;i<=x;i++) {
+                    put('0', dst, bb, pos++);
+                }
+                put('.', dst, bb, pos++);
+                put('0', dst, bb, pos++);
+            } else {
+                final long p = POW10[n-(x+1)];
+                final long hi = f / p;
+                putDigits(hi, x+1, dst, bb, pos);
+                pos += x+1;
+                put('.', dst, bb, pos++);
+                putDigits(f - hi * p, n-(x+1), dst, bb, pos);
+            }
+        } else {
+            put('0', dst, bb, pos++);
+            put('.', dst, bb, pos++);
+            for (int i=0;i<-x-1;i++) {
+                put('0', dst, bb, pos++);
+            }
+            putDigits(f, n, dst, bb, pos);
+        }
+
+        if (dst == null) {
+            bb.position(start + nbrOfChars);
+        }
+        return nbrOfChars;
+    }
+
+    //--------------------------------------------------------------------------
+    // PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    private DoubleToDecimal() {
+    }
+
+    /**
+     * @return floor(e * log10(2)), for |e| <= 5456721.
+     */
+    private static int flog10pow2(int e) {
+        return (int)((e * 661971961083L) >> 41);
+    }
+
+    /**
+     * @return floor(log10(3/4 * 2^e)), for |e| <= 3286929.
+     */
+    private static int flog10threeQuartersPow2(int e) {
+        return (int)((e * 661971961083L - 274743187321L) >> 41);
+    }
+
+    /**
+     * @return floor(e * log2(10)), for |e| <= 1838394.
+     */
+    private static int flog2pow10(int e) {
+        return (int)((e * 913124641741L) >> 38);
+    }
+
+    /**
+     * @return The 64 high bits of the 126 + 64 bits product of g and cp,
+     *         with the least significant bit set if any of the lower bits is.
+     */
+    private static long rop(long g1, long g0, long cp) {
+        final long x1 = multiplyHigh(g0, cp);
+        final long y0 = g1 * cp;
+        final long y1 = multiplyHigh(g1, cp);
+        final long z = (y0 >>> 1) + x1;
+        final long vbp = y1 + (z >>> 63);
+        return vbp | (((z & MASK_63) + MASK_63) >>> 63);
+    }
+
+    /**
+     * Same as CmnFastMath.multiplyHigh(long,long),
+     * not to have formatting initialize it.
+     */
+    private static long multiplyHigh(long x, long y) {
+        final long x1 = (x >> 32);
+        final long y1 = (y >> 32);
+        final long x2 = (x & 0xFFFFFFFFL);
+        final long y2 = (y & 0xFFFFFFFFL);
+        final long z2 = x2 * y2;
+        final long t = x1 * y2 + (z2 >>> 32);
+        final long z1 = (t & 0xFFFFFFFFL) + x2 * y1;
+        final long z0 = (t >> 32);
+        return x1 * y1 + z0 + (z1 >> 32);
+    }
+
+    private static long[] newG() {
+        final long[] g = new long[2*(K_MAX-K_MIN+1)];
+        for (int k=K_MIN;k<=K_MAX;k++) {
+            final int e = -k;
+            final int r = flog2pow10(e) - 125;
+            BigInteger beta;
+            if (e >= 0) {
+                beta = BigInteger.TEN.pow(e);
+                beta = ((r >= 0) ? beta.shiftRight(r) : beta.shiftLeft(-r));
+            } else {
+                beta = BigInteger.ONE.shiftLeft(-r).divide(BigInteger.TEN.pow(-e));
+            }
+            beta = beta.add(BigInteger.ONE);
+            g[2*(k-K_MIN)] = beta.shiftRight(63).longValue();
+            g[2*(k-K_MIN)+1] = (beta.longValue() & MASK_63);
+        }
+        return g;
+    }
+
+    /**
+     * @return Index of first char to write, in dst if not null,
+     *         else in bb (absolute).
+     */
+    private static int checkFitsAndGetStart(int nbrOfChars, char[] dst, int dstPos, ByteBuffer bb) {
+        if (dst != null) {
+            NumbersUtils.checkCharsFit(dst, dstPos, nbrOfChars);
+            return dstPos;
+        } else {
+            if (bb.remaining() < nbrOfChars) {
+                throw new BufferOverflowException();
+            }
+            return bb.position();
+        }
+    }
+
+    private static void put(char c, char[] dst, ByteBuffer bb, int index) {
+        if (dst != null) {
+            dst[index] = c;
+        } else {
+            bb.put(index, (byte)c);
+        }
+    }
+
+    /**
+     * Writes the specified number of digits, leading zeros included.
+     */
+    private static void putDigits(long value, int nbrOfDigits, char[] dst, ByteBuffer bb, int index) {
+        int i = index + nbrOfDigits;
+        while (i > index) {
+            final long q = value / 10;
+            put((char)('0' + (value - 10 * q)), dst, bb, --i);
+            value = q;
+        }
+    }
+
+    private static int putLiteral(String literal, char[] dst, int dstPos, ByteBuffer bb) {
+        final int nbrOfChars = literal.length();
+        final int start = checkFitsAndGetStart(nbrOfChars, dst, dstPos, bb);
+        for (int i=0;i<nbrOfChars;i++) {
+            put(literal.charAt(i), dst, bb, start + i);
+        }
+        if (dst == null) {
+            bb.position(start + nbrOfChars);
+        }
+        return nbrOfChars;
+    }
+}
@@ -45,6 +45,8 @@ public final class FastMath extends CmnFastMath {
 
     private static final boolean USE_POWTABS_FOR_ASIN = FM_USE_POWTABS_FOR_ASIN;
 
+    private static final boolean COUNT_PATHS = CMN_COUNT_PATHS;
+
     //--------------------------------------------------------------------------
     // PUBLIC METHODS
     //--------------------------------------------------------------------------
@@ -67,6 +69,9 @@ public final class FastMath extends CmnFastMath {
             negateResult = true;
         }
         if (angle > SIN_COS_MAX_VALUE_FOR_INT_MODULO) {
+            if (COUNT_PATHS) {
+                PathCounters.increment(PathCounters.SIN_SLOW);
+            }
             if (false) {
                 // Can give very bad relative error near PI (mod 2*PI).
                 angle = remainderTwoPi(angle);
@@ -91,6 +96,9 @@ public final class FastMath extends CmnFastMath {
                 return (negateResult ? -sin : sin);
             }
         }
+        if (COUNT_PATHS) {
+            PathCounters.increment(PathCounters.SIN_TABLE);
+        }
         // index: possibly outside tables range.
         int index = (int)(angle * SIN_COS_INDEXER + 0.5);
         double delta = (angle - index * SIN_COS_DELTA_HI) - index * SIN_COS_DELTA_LO;
@@ -98,12 +106,57 @@ public final class FastMath extends CmnFastMath {
         // Last value of each table is the same than first,
         // so we ignore it (tabs size minus one) for modulo.
         index &= (SIN_COS_TABS_SIZE-2); // index % (SIN_COS_TABS_SIZE-1)
-        double indexSin = MyTSinCos.sinTab[index];
-        double indexCos = MyTSinCos.cosTab[index];
-        double result = indexSin + delta * (indexCos + delta * (-indexSin * ONE_DIV_F2 + delta * (-indexCos * ONE_DIV_F3 + delta * indexSin * ONE_DIV_F4)));
+        double indexSin = MyTSinCos.sinCosTab[2*index];
+        double indexCos = MyTSinCos.sinCosTab[2*index+1];
+        double result = indexSin + delta * (indexCos + delta * (-indexSin * ONE_DIV_F2 + delta * (-indexCos * ONE_DIV_F3 + (SIN_COS_USE_6_DERIVATIVES ? delta * (indexSin * ONE_DIV_F4 + delta * (indexCos * ONE_DIV_F5 - delta * indexSin * ONE_DIV_F6)) : delta * indexSin * ONE_DIV_F4))));
         return negateResult ? -result : result;
     }
 
+    /**
+     * Bulk version of sin(double), giving identical results.
+     *
+     * src and dst can be the same array, in which case
+     * if ranges overlap, dstOff must be <= srcOff.
+     *
+     * @param src Angles in radians.
+     * @param srcOff Offset of first angle in src.
+     * @param dst (out) Angles sines.
+     * @param dstOff Offset of first sine in dst.
+     * @param len Number of angles to compute the sine of.
+     * @throws IndexOutOfBoundsException if a range is out of bounds,
+     *         in which case dst is not modified.
+     */
+    public static void sin(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+        checkBulkRange(src.length, srcOff, len);
+        checkBulkRange(dst.length, dstOff, len);
+        if (USE_JDK_MATH) {
+            for (int i=0;i<len;i++) {
+                dst[dstOff+i] = Math.sin(src[srcOff+i]);
+            }
+            return;
+        }
+        final double[] sinCosTab = MyTSinCos.sinCosTab;
+        for (int i=0;i<len;i++) {
+            final double angle = src[srcOff+i];
+            final double absAngle = Math.abs(angle);
+            // Large angles and NaN go through non-bulk treatment.
+            if (absAngle <= SIN_COS_MAX_VALUE_FOR_INT_MODULO) {
+                if (COUNT_PATHS) {
+                    PathCounters.increment(PathCounters.SIN_TABLE);
+                }
+                int index = (int)(absAngle * SIN_COS_INDEXER + 0.5);
+                double delta = (absAngle - index * SIN_COS_DELTA_HI) - index * SIN_COS_DELTA_LO;
+                index &= (SIN_COS_TABS_SIZE-2); // index % (SIN_COS_TABS_SIZE-1)
+                double indexSin = sinCosTab[2*index];
+                double indexCos = sinCosTab[2*index+1];
+                double result = indexSin + delta * (indexCos + delta * (-indexSin * ONE_DIV_F2 + delta * (-indexCos * ONE_DIV_F3 + (SIN_COS_USE_6_DERIVATIVES ? delta * (indexSin * ONE_DIV_F4 + delta * (indexCos * ONE_DIV_F5 - delta * indexSin * ONE_DIV_F6)) : delta * indexSin * ONE_DIV_F4))));
+                dst[dstOff+i] = (angle < 0.0) ? -result : result;
+            } else {
+                dst[dstOff+i] = sin(angle);
+            }
+        }
+    }
+
     /**
      * Quick sin, with accuracy of about 1.6e-3 (PI/<look-up tabs size>)
      * for |angle| < 6588395.0 (Integer.MAX_VALUE * (2*PI/<look-up tabs size>) - 2)
@@ -117,7 +170,7 @@ public final class FastMath extends CmnFastMath {
         if (USE_JDK_MATH) {
             return Math.sin(angle);
         }
-        return MyTSinCos.cosTab[((int)(Math.abs(angle-Math.PI/2) * SIN_COS_INDEXER + 0.5)) & (SIN_COS_TABS_SIZE-2)];
+        return MyTSinCos.sinCosTab[2*(((int)(Math.abs(angle-Math.PI/2) * SIN_COS_INDEXER + 0.5)) & (SIN_COS_TABS_SIZE-2))+1];
     }
 
     /**
@@ -130,6 +183,9 @@ public final class FastMath extends CmnFastMath {
         }
         angle = Math.abs(angle);
         if (angle > SIN_COS_MAX_VALUE_FOR_INT_MODULO) {
+            if (COUNT_PATHS) {
+                PathCounters.increment(PathCounters.COS_SLOW);
+            }
             if (false) {
                 // Can give very bad relative error near PI (mod 2*PI).
                 angle = remainderTwoPi(angle);
@@ -153,6 +209,9 @@ public final class FastMath extends CmnFastMath {
                 return cos;
             }
         }
+        if (COUNT_PATHS) {
+            PathCounters.increment(PathCounters.COS_TABLE);
+        }
         // index: possibly outside tables range.
         int index = (int)(angle * SIN_COS_INDEXER + 0.5);
         double delta = (angle - index * SIN_COS_DELTA_HI) - index * SIN_COS_DELTA_LO;
@@ -160,9 +219,52 @@ public final class FastMath extends CmnFastMath {
         // Last value of each table is the same than first,
         // so we ignore it (tabs size minus one) for modulo.
         index &= (SIN_COS_TABS_SIZE-2); // index % (SIN_COS_TABS_SIZE-1)
-        double indexCos = MyTSinCos.cosTab[index];
-        double indexSin = MyTSinCos.sinTab[index];
-        return indexCos + delta * (-indexSin + delta * (-indexCos * ONE_DIV_F2 + delta * (indexSin * ONE_DIV_F3 + delta * indexCos * ONE_DIV_F4)));
+        double indexCos = MyTSinCos.sinCosTab[2*index+1];
+        double indexSin = MyTSinCos.sinCosTab[2*index];
+        return indexCos + delta * (-indexSin + delta * (-indexCos * ONE_DIV_F2 + delta * (indexSin * ONE_DIV_F3 + (SIN_COS_USE_6_DERIVATIVES ? delta * (indexCos * ONE_DIV_F4 - delta * (indexSin * ONE_DIV_F5 + delta * indexCos * ONE_DIV_F6)) : delta * indexCos * ONE_DIV_F4))));
+    }
+
+    /**
+     * Bulk version of cos(double), giving identical results.
+     *
+     * src and dst can be the same array, in which case
+     * if ranges overlap, dstOff must be <= srcOff.
+     *
+     * @param src Angles in radians.
+     * @param srcOff Offset of first angle in src.
+     * @param dst (out) Angles cosines.
+     * @param dstOff Offset of first cosine in dst.
+     * @param len Number of angles to compute the cosine of.
+     * @throws IndexOutOfBoundsException if a range is out of bounds,
+     *         in which case dst is not modified.
+     */
+    public static void cos(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+        checkBulkRange(src.length, srcOff, len);
+        checkBulkRange(dst.length, dstOff, len);
+        if (USE_JDK_MATH) {
+            for (int i=0;i<len;i++) {
+                dst[dstOff+i] = Math.cos(src[srcOff+i]);
+            }
+            return;
+        }
+        final double[] sinCosTab = MyTSinCos.sinCosTab;
+        for (int i=0;i<len;i++) {
+            final double angle = Math.abs(src[srcOff+i]);
+            // Large angles and NaN go through non-bulk treatment.
+            if (angle <= SIN_COS_MAX_VALUE_FOR_INT_MODULO) {
+                if (COUNT_PATHS) {
+                    PathCounters.increment(PathCounters.COS_TABLE);
+                }
+                int index = (int)(angle * SIN_COS_INDEXER + 0.5);
+                double delta = (angle - index * SIN_COS_DELTA_HI) - index * SIN_COS_DELTA_LO;
+                index &= (SIN_COS_TABS_SIZE-2); // index % (SIN_COS_TABS_SIZE-1)
+                double indexCos = sinCosTab[2*index+1];
+                double indexSin = sinCosTab[2*index];
+                dst[dstOff+i] = indexCos + delta * (-indexSin + delta * (-indexCos * ONE_DIV_F2 + delta * (indexSin * ONE_DIV_F3 + (SIN_COS_USE_6_DERIVATIVES ? delta * (indexCos * ONE_DIV_F4 - delta * (indexSin * ONE_DIV_F5 + delta * indexCos * ONE_DIV_F6)) : delta * indexCos * ONE_DIV_F4))));
+            } else {
+                dst[dstOff+i] = cos(angle);
+            }
+        }
     }
 
     /**
@@ -177,7 +279,7 @@ public final class FastMath extends CmnFastMath {
         if (USE_JDK_MATH) {
             return Math.cos(angle);
         }
-        return MyTSinCos.cosTab[((int)(Math.abs(angle) * SIN_COS_INDEXER + 0.5)) & (SIN_COS_TABS_SIZE-2)];
+        return MyTSinCos.sinCosTab[2*(((int)(Math.abs(angle) * SIN_COS_INDEXER + 0.5)) & (SIN_COS_TABS_SIZE-2))+1];
     }
 
     /**
@@ -200,6 +302,10 @@ public final class FastMath extends CmnFastMath {
             negateResult = true;
         }
         if (angle > SIN_COS_MAX_VALUE_FOR_INT_MODULO) {
+            if (COUNT_PATHS) {
+                PathCounters.increment(PathCounters.SIN_SLOW);
+                PathCounters.increment(PathCounters.COS_SLOW);
+            }
             if (false) {
                 // Can give very bad relative error near PI (mod 2*PI).
                 angle = remainderTwoPi(angle);
@@ -228,17 +334,74 @@ public final class FastMath extends CmnFastMath {
                 return (negateResult ? -sin : sin);
             }
         }
+        if (COUNT_PATHS) {
+            PathCounters.increment(PathCounters.SIN_TABLE);
+            PathCounters.increment(PathCounters.COS_TABLE);
+        }
         int index = (int)(angle * SIN_COS_INDEXER + 0.5);
         double delta = (angle - index * SIN_COS_DELTA_HI) - index * SIN_COS_DELTA_LO;
         index &= (SIN_COS_TABS_SIZE-2); // index % (SIN_COS_TABS_SIZE-1)
-        double indexSin = MyTSinCos.sinTab[index];
-        double indexCos = MyTSinCos.cosTab[index];
+        double indexSin = MyTSinCos.sinCosTab[2*index];
+        double indexCos = MyTSinCos.sinCosTab[2*index+1];
         // Could factor some multiplications (delta * factorials), but then is less accurate.
-        cosine.value = indexCos + delta * (-indexSin + delta * (-indexCos * ONE_DIV_F2 + delta * (indexSin * ONE_DIV_F3 + delta * indexCos * ONE_DIV_F4)));
-        double result = indexSin + delta * (indexCos + delta * (-indexSin * ONE_DIV_F2 + delta * (-indexCos * ONE_DIV_F3 + delta * indexSin * ONE_DIV_F4)));
+        cosine.value = indexCos + delta * (-indexSin + delta * (-indexCos * ONE_DIV_F2 + delta * (indexSin * ONE_DIV_F3 + (SIN_COS_USE_6_DERIVATIVES ? delta * (indexCos * ONE_DIV_F4 - delta * (indexSin * ONE_DIV_F5 + delta * indexCos * ONE_DIV_F6)) : delta * indexCos * ONE_DIV_F4))));
+        double result = indexSin + delta * (indexCos + delta * (-indexSin * ONE_DIV_F2 + delta * (-indexCos * ONE_DIV_F3 + (SIN_COS_USE_6_DERIVATIVES ? delta * (indexSin * ONE_DIV_F4 + delta * (indexCos * ONE_DIV_F5 - delta * indexSin * ONE_DIV_F6)) : delta * indexSin * ONE_DIV_F4))));
         return negateResult ? -result : result;
     }
 
+    /**
+     * Bulk version of sinAndCos(double,DoubleWrapper), giving identical
+     * results, and not requiring any DoubleWrapper.
+     *
+     * angles can be the same array than sinOut or cosOut.
+     *
+     * @param angles Angles in radians.
+     * @param sinOut (out) Angles sines.
+     * @param cosOut (out) Angles cosines.
+     * @param off Offset of first angle in angles, and of its sine
+     *        and cosine in sinOut and cosOut.
+     * @param len Number of angles to compute the sine and cosine of.
+     * @throws IndexOutOfBoundsException if a range is out of bounds,
+     *         in which case sinOut and cosOut are not modified.
+     */
+    public static void sinAndCos(double[] angles, double[] sinOut, double[] cosOut, int off, int len) {
+        checkBulkRange(angles.length, off, len);
+        checkBulkRange(sinOut.length, off, len);
+        checkBulkRange(cosOut.length, off, len);
+        if (USE_JDK_MATH) {
+            for (int i=off;i<off+len;i++) {
+                final double angle = angles[i];
+                sinOut[i] = Math.sin(angle);
+                cosOut[i] = Math.cos(angle);
+            }
+            return;
+        }
+        final double[] sinCosTab = MyTSinCos.sinCosTab;
+        for (int i=off;i<off+len;i++) {
+            final double angle = angles[i];
+            final double absAngle = Math.abs(angle);
+            // Large angles and NaN go through non-bulk treatments,
+            // which give the same results than sinAndCos(double,DoubleWrapper).
+            if (absAngle <= SIN_COS_MAX_VALUE_FOR_INT_MODULO) {
+                if (COUNT_PATHS) {
+                    PathCounters.increment(PathCounters.SIN_TABLE);
+                    PathCounters.increment(PathCounters.COS_TABLE);
+                }
+                int index = (int)(absAngle * SIN_COS_INDEXER + 0.5);
+                double delta = (absAngle - index * SIN_COS_DELTA_HI) - index * SIN_COS_DELTA_LO;
+                index &= (SIN_COS_TABS_SIZE-2); // index % (SIN_COS_TABS_SIZE-1)
+                double indexSin = sinCosTab[2*index];
+                double indexCos = sinCosTab[2*index+1];
+                double sin = indexSin + delta * (indexCos + delta * (-indexSin * ONE_DIV_F2 + delta * (-indexCos * ONE_DIV_F3 + (SIN_COS_USE_6_DERIVATIVES ? delta * (indexSin * ONE_DIV_F4 + delta * (indexCos * ONE_DIV_F5 - delta * indexSin * ONE_DIV_F6)) : delta * indexSin * ONE_DIV_F4))));
+                sinOut[i] = (angle < 0.0) ? -sin : sin;
+                cosOut[i] = indexCos + delta * (-indexSin + delta * (-indexCos * ONE_DIV_F2 + delta * (indexSin * ONE_DIV_F3 + (SIN_COS_USE_6_DERIVATIVES ? delta * (indexCos * ONE_DIV_F4 - delta * (indexSin * ONE_DIV_F5 + delta * indexCos * ONE_DIV_F6)) : delta * indexCos * ONE_DIV_F4))));
+            } else {
+                sinOut[i] = sin(angle);
+                cosOut[i] = cos(angle);
+            }
+        }
+    }
+
     /**
      * Can have very bad relative error near +-PI/2,
      * but of the same magnitude than the relative delta between
@@ -257,12 +420,18 @@ public final class FastMath extends CmnFastMath {
             negateResult = true;
         }
         if (angle > TAN_MAX_VALUE_FOR_INT_MODULO) {
+            if (COUNT_PATHS) {
+                PathCounters.increment(PathCounters.TAN_SLOW);
+            }
             angle = remainderPi(angle);
             if (angle < 0.0) {
                 angle = -angle;
                 negateResult = !negateResult;
             }
         }
+        if (COUNT_PATHS) {
+            PathCounters.increment(PathCounters.TAN_TABLE);
+        }
         // index: possibly outside tables range.
         int index = (int)(angle * TAN_INDEXER + 0.5);
         double delta = (angle - index * TAN_DELTA_HI) - index * TAN_DELTA_LO;
@@ -277,23 +446,369 @@ public final class FastMath extends CmnFastMath {
         }
         double result;
         if (index < TAN_TABS_SIZE) {
-            result = MyTTan.tanTab[index]
-                    + delta * (MyTTan.tanDer1DivF1Tab[index]
-                            + delta * (MyTTan.tanDer2DivF2Tab[index]
-                                    + delta * (MyTTan.tanDer3DivF3Tab[index]
-                                            + delta * MyTTan.tanDer4DivF4Tab[index])));
+            final int tabIndex = DERS_TAB_STRIDE*index;
+            result = MyTTan.tanDersTab[tabIndex]
+                    + delta * (MyTTan.tanDersTab[tabIndex+1]
+                            + delta * (MyTTan.tanDersTab[tabIndex+2]
+                                    + delta * (MyTTan.tanDersTab[tabIndex+3]
+                                            + delta * MyTTan.tanDersTab[tabIndex+4])));
         } else { // angle in ]TAN_MAX_VALUE_FOR_TABS,TAN_MAX_VALUE_FOR_INT_MODULO], or angle is NaN
             // Using tan(angle) == 1/tan(PI/2-angle) formula: changing angle (index and delta), and inverting.
             index = (TAN_VIRTUAL_TABS_SIZE-1) - index;
-            result = 1/(MyTTan.tanTab[index]
-                    - delta * (MyTTan.tanDer1DivF1Tab[index]
-                            - delta * (MyTTan.tanDer2DivF2Tab[index]
-                                    - delta * (MyTTan.tanDer3DivF3Tab[index]
-                                            - delta * MyTTan.tanDer4DivF4Tab[index]))));
+            final int tabIndex = DERS_TAB_STRIDE*index;
+            result = 1/(MyTTan.tanDersTab[tabIndex]
+                    - delta * (MyTTan.tanDersTab[tabIndex+1]
+                            - delta * (MyTTan.tanDersTab[tabIndex+2]
+                                    - delta * (MyTTan.tanDersTab[tabIndex+3]
+                                            - delta * MyTTan.tanDersTab[tabIndex+4]))));
         }
         return negateResult ? -result : result;
     }
 
+    /**
+     * Bulk version of tan(double), giving identical results.
+     *
+     * src and dst can be the same array, in which case
+     * if ranges overlap, dstOff must be <= srcOff.
+     *
+     * @param src Angles in radians.
+     * @param srcOff Offset of first angle in src.
+     * @param dst (out) Angles tangents.
+     * @param dstOff Offset of first tangent in dst.
+     * @param len Number of angles to compute the tangent of.
+     * @throws IndexOutOfBoundsException if a range is out of bounds,
+     *         in which case dst is not modified.
+     */
+    public static void tan(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+        checkBulkRange(src.length, srcOff, len);
+        checkBulkRange(dst.length, dstOff, len);
+        if (USE_JDK_MATH) {
+            for (int i=0;i<len;i++) {
+                dst[dstOff+i] = Math.tan(src[srcOff+i]);
+            }
+            return;
+        }
+        final double[] tanDersTab = MyTTan.tanDersTab;
+        for (int i=0;i<len;i++) {
+            final double angle = src[srcOff+i];
+            final double absAngle = Math.abs(angle);
+            // Large angles and NaN go through non-bulk treatment.
+            if (!(absAngle <= TAN_MAX_VALUE_FOR_INT_MODULO)) {
+                dst[dstOff+i] = tan(angle);
+                continue;
+            }
+            if (COUNT_PATHS) {
+                PathCounters.increment(PathCounters.TAN_TABLE);
+            }
+            boolean negateResult = (angle < 0.0);
+            int index = (int)(absAngle * TAN_INDEXER + 0.5);
+            double delta = (absAngle - index * TAN_DELTA_HI) - index * TAN_DELTA_LO;
+            index &= (2*(TAN_VIRTUAL_TABS_SIZE-1)-1); // index % (2*(TAN_VIRTUAL_TABS_SIZE-1))
+            if (index > (TAN_VIRTUAL_TABS_SIZE-1)) {
+                index = (2*(TAN_VIRTUAL_TABS_SIZE-1)) - index;
+                delta = -delta;
+                negateResult = !negateResult;
+            }
+            double result;
+            if (index < TAN_TABS_SIZE) {
+                final int tabIndex = DERS_TAB_STRIDE*index;
+                result = tanDersTab[tabIndex]
+                        + delta * (tanDersTab[tabIndex+1]
+                                + delta * (tanDersTab[tabIndex+2]
+                                        + delta * (tanDersTab[tabIndex+3]
+                                                + delta * tanDersTab[tabIndex+4])));
+            } else {
+                index = (TAN_VIRTUAL_TABS_SIZE-1) - index;
+                final int tabIndex = DERS_TAB_STRIDE*index;
+                result = 1/(tanDersTab[tabIndex]
+                        - delta * (tanDersTab[tabIndex+1]
+                                - delta * (tanDersTab[tabIndex+2]
+                                        - delta * (tanDersTab[tabIndex+3]
+                                                - delta * tanDersTab[tabIndex+4]))));
+            }
+            dst[dstOff+i] = negateResult ? -result : result;
+        }
+    }
+
+    /**
+     * Argument is reduced exactly (in half-turns), so there is no
+     * slow path for large values, and result is exact for multiples of 1/2.
+     * 
+     * @param value Angle in half-turns (i.e. in units of PI).
+     * @return Sine of value*PI.
+     */
+    public static double sinPi(double value) {
+        if (USE_JDK_MATH) {
+            // Exact reduction into [0,1/2], for results to be exact
+            // for multiples of 1/2, as with tables.
+            boolean negateResult = (Double.doubleToRawLongBits(value) < 0);
+            value = Math.abs(value) % 2.0;
+            if (value > 1.0) {
+                value -= 1.0;
+                negateResult = !negateResult;
+            }
+            if (value > 0.5) {
+                value = 1.0 - value;
+            }
+            final double result = (value > 0.25) ? Math.cos((0.5 - value) * Math.PI) : Math.sin(value * Math.PI);
+            return negateResult ? -result : result;
+        }
+        boolean negateResult = false;
+        // Testing sign bit, for -0.0 to give -0.0.
+        if (Double.doubleToRawLongBits(value) < 0) {
+            value = -value;
+            negateResult = true;
+        }
+        if (value > SIN_COS_PI_MAX_VALUE_FOR_INT_MODULO) {
+            // Exact.
+            value %= 2.0;
+        }
+        // Exact (indexer and delta are powers of two).
+        int index = (int)(value * SIN_COS_PI_INDEXER + 0.5);
+        final double delta = (value - index * SIN_COS_PI_DELTA) * Math.PI;
+        index &= (SIN_COS_TABS_SIZE-2); // index % (SIN_COS_TABS_SIZE-1)
+        final double result = sinFromTab(index, delta);
+        return negateResult ? -result : result;
+    }
+
+    /**
+     * Argument is reduced exactly (in half-turns), so there is no
+     * slow path for large values, and result is exact for multiples of 1/2.
+     * 
+     * @param value Angle in half-turns (i.e. in units of PI).
+     * @return Cosine of value*PI.
+     */
+    public static double cosPi(double value) {
+        if (USE_JDK_MATH) {
+            // Exact reduction into [0,1/2], for results to be exact
+            // for multiples of 1/2, as with tables.
+            value = Math.abs(value) % 2.0;
+            if (value > 1.0) {
+                value = 2.0 - value;
+            }
+            boolean negateResult = false;
+            if (value > 0.5) {
+                value = 1.0 - value;
+                negateResult = true;
+            }
+            final double result = (value > 0.25) ? Math.sin((0.5 - value) * Math.PI) : Math.cos(value * Math.PI);
+            return negateResult ? -result : result;
+        }
+        value = Math.abs(value);
+        if (value > SIN_COS_PI_MAX_VALUE_FOR_INT_MODULO) {
+            // Exact.
+            value %= 2.0;
+        }
+        // Exact (indexer and delta are powers of two).
+        int index = (int)(value * SIN_COS_PI_INDEXER + 0.5);
+        final double delta = (value - index * SIN_COS_PI_DELTA) * Math.PI;
+        index &= (SIN_COS_TABS_SIZE-2); // index % (SIN_COS_TABS_SIZE-1)
+        return cosFromTab(index, delta);
+    }
+
+    /**
+     * Argument is reduced exactly (in half-turns), so there is no
+     * slow path for large values, and result is exact for multiples of 1/4
+     * (infinite for odd multiples of 1/2).
+     * 
+     * @param value Angle in half-turns (i.e. in units of PI).
+     * @return Tangent of value*PI.
+     */
+    public static double tanPi(double value) {
+        if (USE_JDK_MATH) {
+            // Exact reduction into [0,1/2], for results to be exact
+            // for multiples of 1/4, as with tables, and using cotangent
+            // above 1/4, for accuracy near poles.
+            boolean negateResult = (Double.doubleToRawLongBits(value) < 0);
+            value = Math.abs(value) % 1.0;
+            if (value > 0.5) {
+                value = 1.0 - value;
+                negateResult = !negateResult;
+            }
+            final double result;
+            if (value == 0.25) {
+                result = 1.0;
+            } else if (value > 0.25) {
+                result = 1.0 / Math.tan((0.5 - value) * Math.PI);
+            } else {
+                result = Math.tan(value * Math.PI);
+            }
+            return negateResult ? -result : result;
+        }
+        boolean negateResult = false;
+        // Testing sign bit, for -0.0 to give -0.0.
+        if (Double.doubleToRawLongBits(value) < 0) {
+            value = -value;
+            negateResult = true;
+        }
+        if (value > SIN_COS_PI_MAX_VALUE_FOR_INT_MODULO) {
+            // Exact.
+            value %= 2.0;
+        }
+        // Exact (indexer and delta are powers of two).
+        int index = (int)(value * SIN_COS_PI_INDEXER + 0.5);
+        final double delta = (value - index * SIN_COS_PI_DELTA) * Math.PI;
+        index &= (SIN_COS_TABS_SIZE-2); // index % (SIN_COS_TABS_SIZE-1)
+        final double result = tanFromTab(index, delta);
+        return negateResult ? -result : result;
+    }
+
+    /**
+     * Argument is reduced exactly (in degrees), so there is no
+     * slow path for large values, and result is exact for multiples of 90.
+     * 
+     * @param angdeg Angle in degrees.
+     * @return Angle sine.
+     */
+    public static double sinDeg(double angdeg) {
+        if (USE_JDK_MATH) {
+            // Exact reduction into [0,90], for results to be exact
+            // for multiples of 90, as with tables.
+            boolean negateResult = (Double.doubleToRawLongBits(angdeg) < 0);
+            angdeg = Math.abs(angdeg) % 360.0;
+            if (angdeg > 180.0) {
+                angdeg -= 180.0;
+                negateResult = !negateResult;
+            }
+            if (angdeg > 90.0) {
+                angdeg = 180.0 - angdeg;
+            }
+            final double result = (angdeg > 45.0) ? Math.cos(Math.toRadians(90.0 - angdeg)) : Math.sin(Math.toRadians(angdeg));
+            return negateResult ? -result : result;
+        }
+        boolean negateResult = false;
+        // Testing sign bit, for -0.0 to give -0.0.
+        if (Double.doubleToRawLongBits(angdeg) < 0) {
+            angdeg = -angdeg;
+            negateResult = true;
+        }
+        if (angdeg > SIN_COS_DEG_MAX_VALUE_FOR_INT_MODULO) {
+            // Exact.
+            angdeg %= 360.0;
+        }
+        int index = (int)(angdeg * SIN_COS_DEG_INDEXER + 0.5);
+        // Exact subtraction (delta is a small multiple of a power of two).
+        final double delta = (angdeg - index * SIN_COS_DEG_DELTA) * (Math.PI/180);
+        index &= (SIN_COS_TABS_SIZE-2); // index % (SIN_COS_TABS_SIZE-1)
+        final double result = sinFromTab(index, delta);
+        return negateResult ? -result : result;
+    }
+
+    /**
+     * Argument is reduced exactly (in degrees), so there is no
+     * slow path for large values, and result is exact for multiples of 90.
+     * 
+     * @param angdeg Angle in degrees.
+     * @return Angle cosine.
+     */
+    public static double cosDeg(double angdeg) {
+        if (USE_JDK_MATH) {
+            // Exact reduction into [0,90], for results to be exact
+            // for multiples of 90, as with tables.
+            angdeg = Math.abs(angdeg) % 360.0;
+            if (angdeg > 180.0) {
+                angdeg = 360.0 - angdeg;
+            }
+            boolean negateResult = false;
+            if (angdeg > 90.0) {
+                angdeg = 180.0 - angdeg;
+                negateResult = true;
+            }
+            final double result = (angdeg > 45.0) ? Math.sin(Math.toRadians(90.0 - angdeg)) : Math.cos(Math.toRadians(angdeg));
+            return negateResult ? -result : result;
+        }
+        angdeg = Math.abs(angdeg);
+        if (angdeg > SIN_COS_DEG_MAX_VALUE_FOR_INT_MODULO) {
+            // Exact.
+            angdeg %= 360.0;
+        }
+        int index = (int)(angdeg * SIN_COS_DEG_INDEXER + 0.5);
+        // Exact subtraction (delta is a small multiple of a power of two).
+        final double delta = (angdeg - index * SIN_COS_DEG_DELTA) * (Math.PI/180);
+        index &= (SIN_COS_TABS_SIZE-2); // index % (SIN_COS_TABS_SIZE-1)
+        return cosFromTab(index, delta);
+    }
+
+    /**
+     * Argument is reduced exactly (in degrees), so there is no
+     * slow path for large values, and result is exact for multiples of 45
+     * (infinite for odd multiples of 90).
+     * 
+     * @param angdeg Angle in degrees.
+     * @return Angle tangent.
+     */
+    public static double tanDeg(double angdeg) {
+        if (USE_JDK_MATH) {
+            // Exact reduction into [0,90], for results to be exact
+            // for multiples of 45, as with tables, and using cotangent
+            // above 45, for accuracy near poles.
+            boolean negateResult = (Double.doubleToRawLongBits(angdeg) < 0);
+            angdeg = Math.abs(angdeg) % 180.0;
+            if (angdeg > 90.0) {
+                angdeg = 180.0 - angdeg;
+                negateResult = !negateResult;
+            }
+            final double result;
+            if (angdeg == 45.0) {
+                result = 1.0;
+            } else if (angdeg > 45.0) {
+                result = 1.0 / Math.tan(Math.toRadians(90.0 - angdeg));
+            } else {
+                result = Math.tan(Math.toRadians(angdeg));
+            }
+            return negateResult ? -result : result;
+        }
+        boolean negateResult = false;
+        // Testing sign bit, for -0.0 to give -0.0.
+        if (Double.doubleToRawLongBits(angdeg) < 0) {
+            angdeg = -angdeg;
+            negateResult = true;
+        }
+        if (angdeg > SIN_COS_DEG_MAX_VALUE_FOR_INT_MODULO) {
+            // Exact.
+            angdeg %= 360.0;
+        }
+        int index = (int)(angdeg * SIN_COS_DEG_INDEXER + 0.5);
+        // Exact subtraction (delta is a small multiple of a power of two).
+        final double delta = (angdeg - index * SIN_COS_DEG_DELTA) * (Math.PI/180);
+        index &= (SIN_COS_TABS_SIZE-2); // index % (SIN_COS_TABS_SIZE-1)
+        final double result = tanFromTab(index, delta);
+        return negateResult ? -result : result;
+    }
+
+    /**
+     * Computes sine and cosine together, of an angle in degrees.
+     * Argument is reduced exactly (in degrees), so there is no
+     * slow path for large values, and results are exact for multiples of 90.
+     * 
+     * @param angdeg Angle in degrees.
+     * @param cosine (out) Angle cosine.
+     * @return Angle sine.
+     */
+    public static double sinAndCosDeg(double angdeg, DoubleWrapper cosine) {
+        if (USE_JDK_MATH) {
+            cosine.value = cosDeg(angdeg);
+            return sinDeg(angdeg);
+        }
+        boolean negateResult = false;
+        // Testing sign bit, for -0.0 to give -0.0.
+        if (Double.doubleToRawLongBits(angdeg) < 0) {
+            angdeg = -angdeg;
+            negateResult = true;
+        }
+        if (angdeg > SIN_COS_DEG_MAX_VALUE_FOR_INT_MODULO) {
+            // Exact.
+            angdeg %= 360.0;
+        }
+        int index = (int)(angdeg * SIN_COS_DEG_INDEXER + 0.5);
+        // Exact subtraction (delta is a small multiple of a power of two).
+        final double delta = (angdeg - index * SIN_COS_DEG_DELTA) * (Math.PI/180);
+        index &= (SIN_COS_TABS_SIZE-2); // index % (SIN_COS_TABS_SIZE-1)
+        cosine.value = cosFromTab(index, delta);
+        final double result = sinFromTab(index, delta);
+        return negateResult ? -result : result;
+    }
+
     /**
      * @param value Value in [-1,1].
      * @return Value arcsine, in radians, in [-PI/2,PI/2].
@@ -308,15 +823,22 @@ public final class FastMath extends CmnFastMath {
             negateResult = true;
         }
         if (value <= ASIN_MAX_VALUE_FOR_TABS) {
+            if (COUNT_PATHS) {
+                PathCounters.increment(PathCounters.ASIN_TABLE);
+            }
             int index = (int)(value * ASIN_INDEXER + 0.5);
             double delta = value - index * ASIN_DELTA;
-            double result = MyTAsin.asinTab[index]
-                    + delta * (MyTAsin.asinDer1DivF1Tab[index]
-                            + delta * (MyTAsin.asinDer2DivF2Tab[index]
-                                    + delta * (MyTAsin.asinDer3DivF3Tab[index]
-                                            + delta * MyTAsin.asinDer4DivF4Tab[index])));
+            final int tabIndex = DERS_TAB_STRIDE*index;
+            double result = MyTAsin.asinDersTab[tabIndex]
+                    + delta * (MyTAsin.asinDersTab[tabIndex+1]
+                            + delta * (MyTAsin.asinDersTab[tabIndex+2]
+                                    + delta * (MyTAsin.asinDersTab[tabIndex+3]
+                                            + delta * MyTAsin.asinDersTab[tabIndex+4])));
             return negateResult ? -result : result;
         } else if (USE_POWTABS_FOR_ASIN && (value <= ASIN_MAX_VALUE_FOR_POWTABS)) {
+            if (COUNT_PATHS) {
+                PathCounters.increment(PathCounters.ASIN_TABLE);
+            }
             int index = (int)(powFast(value * ASIN_POWTABS_ONE_DIV_MAX_VALUE, ASIN_POWTABS_POWER) * ASIN_POWTABS_SIZE_MINUS_ONE + 0.5);
             double delta = value - MyTAsinPow.asinParamPowTab[index];
             double result = MyTAsinPow.asinPowTab[index]
@@ -326,6 +848,9 @@ public final class FastMath extends CmnFastMath {
                                             + delta * MyTAsinPow.asinDer4DivF4PowTab[index])));
             return negateResult ? -result : result;
         } else { // value > ASIN_MAX_VALUE_FOR_TABS, or value is NaN
+            if (COUNT_PATHS) {
+                PathCounters.increment(PathCounters.ASIN_SLOW);
+            }
             // This part is derived from fdlibm.
             if (value < 1.0) {
                 double t = (1.0 - value)*0.5;
@@ -406,15 +931,22 @@ public final class FastMath extends CmnFastMath {
             // We want "exact" result for 1.0.
             return negateResult ? -Math.PI/4 : Math.PI/4;
         } else if (value <= ATAN_MAX_VALUE_FOR_TABS) {
+            if (COUNT_PATHS) {
+                PathCounters.increment(PathCounters.ATAN_TABLE);
+            }
             int index = (int)(value * ATAN_INDEXER + 0.5);
             double delta = value - index * ATAN_DELTA;
-            double result = MyTAtan.atanTab[index]
-                    + delta * (MyTAtan.atanDer1DivF1Tab[index]
-                            + delta * (MyTAtan.atanDer2DivF2Tab[index]
-                                    + delta * (MyTAtan.atanDer3DivF3Tab[index]
-                                            + delta * MyTAtan.atanDer4DivF4Tab[index])));
+            final int tabIndex = DERS_TAB_STRIDE*index;
+            double result = MyTAtan.atanDersTab[tabIndex]
+                    + delta * (MyTAtan.atanDersTab[tabIndex+1]
+                            + delta * (MyTAtan.atanDersTab[tabIndex+2]
+                                    + delta * (MyTAtan.atanDersTab[tabIndex+3]
+                                            + delta * MyTAtan.atanDersTab[tabIndex+4])));
             return negateResult ? -result : result;
         } else { // value > ATAN_MAX_VALUE_FOR_TABS, or value is NaN
+            if (COUNT_PATHS) {
+                PathCounters.increment(PathCounters.ATAN_SLOW);
+            }
             // This part is derived from fdlibm.
             if (value < TWO_POW_66) {
                 double x = -1/value;
@@ -479,6 +1011,45 @@ public final class FastMath extends CmnFastMath {
         }
     }
 
+    /**
+     * Quick atan2, with an absolute error below 8.2e-5 (about 0.0047 degree),
+     * using a polynomial approximation of atan on [0,1], and no look-up table.
+     * For special values, behaves like atan2(double,double).
+     * 
+     * @param y Coordinate on y axis.
+     * @param x Coordinate on x axis.
+     * @return Angle from x axis positive side to (x,y) position, in radians, in [-PI,PI].
+     *         Angle measure is positive when going from x axis to y axis (positive sides).
+     */
+    public static double atan2Quick(double y, double x) {
+        if (USE_JDK_MATH) {
+            return Math.atan2(y,x);
+        }
+        final double yAbs = Math.abs(y);
+        final double xAbs = Math.abs(x);
+        double result;
+        if (xAbs >= yAbs) {
+            final double t = yAbs/xAbs;
+            if (t != t) {
+                // Both zero or both infinite.
+                return atan2(y,x);
+            }
+            result = atan01Quick(t);
+        } else {
+            final double t = xAbs/yAbs;
+            if (t != t) {
+                // NaN argument(s).
+                return Double.NaN;
+            }
+            result = (Math.PI/2) - atan01Quick(t);
+        }
+        if (x < 0.0) {
+            result = Math.PI - result;
+        }
+        // Using sign bit, for -0.0 to give -0.0 or -PI.
+        return (Double.doubleToRawLongBits(y) < 0) ? -result : result;
+    }
+
     /**
      * Gives same result as Math.toRadians for some particular values
      * like 90.0, 180.0 or 360.0, but is faster (no division).
@@ -1051,12 +1622,60 @@ public final class FastMath extends CmnFastMath {
         final double z = zIndex*(1.0/EXP_LO_INDEXING);
         final double eps = y-z;
         final double expZ = MyTExp.expLoPosTab[zIndex+EXP_LO_TAB_MID_INDEX];
-        final double expEps = (1+eps*(1+eps*(1.0/2+eps*(1.0/6+eps*(1.0/24)))));
+        final double expEps = (1+eps*(1+eps*(1.0/2+eps*(1.0/6+eps*(EXP_USE_MORE_TERMS ? 1.0/24+eps*(1.0/120+eps*(1.0/720)) : 1.0/24)))));
         final double loTerm = expZ * expEps;
 
         return hiTerm * loTerm;
     }
 
+    /**
+     * Bulk version of exp(double), giving identical results.
+     *
+     * src and dst can be the same array, in which case
+     * if ranges overlap, dstOff must be <= srcOff.
+     *
+     * @param src Values.
+     * @param srcOff Offset of first value in src.
+     * @param dst (out) e^value for each value.
+     * @param dstOff Offset of first result in dst.
+     * @param len Number of values to compute the exponential of.
+     * @throws IndexOutOfBoundsException if a range is out of bounds,
+     *         in which case dst is not modified.
+     */
+    public static void exp(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+        checkBulkRange(src.length, srcOff, len);
+        checkBulkRange(dst.length, dstOff, len);
+        if (USE_JDK_MATH) {
+            for (int i=0;i<len;i++) {
+                dst[dstOff+i] = Math.exp(src[srcOff+i]);
+            }
+            return;
+        }
+        final double[] expHiTab = MyTExp.expHiTab;
+        final double[] expLoPosTab = MyTExp.expLoPosTab;
+        for (int i=VectorSupport.exp(src, srcOff, dst, dstOff, len, false);i<len;i++) {
+            final double value = src[srcOff+i];
+            // Overflows, underflows and NaN go through non-bulk treatment.
+            if ((value >= EXP_UNDERFLOW_LIMIT) && (value <= EXP_OVERFLOW_LIMIT)) {
+                final int indexes = (int)(value*EXP_LO_INDEXING);
+                final int valueInt;
+                if (indexes >= 0) {
+                    valueInt = (indexes>>EXP_LO_INDEXING_DIV_SHIFT);
+                } else {
+                    valueInt = -((-indexes)>>EXP_LO_INDEXING_DIV_SHIFT);
+                }
+                final double hiTerm = expHiTab[valueInt-(int)EXP_UNDERFLOW_LIMIT];
+                final int zIndex = indexes - (valueInt<<EXP_LO_INDEXING_DIV_SHIFT);
+                final double eps = (value-valueInt) - zIndex*(1.0/EXP_LO_INDEXING);
+                final double expZ = expLoPosTab[zIndex+EXP_LO_TAB_MID_INDEX];
+                final double expEps = (1+eps*(1+eps*(1.0/2+eps*(1.0/6+eps*(EXP_USE_MORE_TERMS ? 1.0/24+eps*(1.0/120+eps*(1.0/720)) : 1.0/24)))));
+                dst[dstOff+i] = hiTerm * (expZ * expEps);
+            } else {
+                dst[dstOff+i] = exp(value);
+            }
+        }
+    }
+
     /**
      * Quick exp, with a max relative error of about 2.94e-2 for |value| < 700.0 or so,
      * and no accuracy at all outside this range.
@@ -1108,7 +1727,7 @@ public final class FastMath extends CmnFastMath {
             // Taking int part instead of rounding, which takes too long.
             int i = (int)(value*EXP_LO_INDEXING);
             double delta = value-i*(1.0/EXP_LO_INDEXING);
-            return MyTExp.expLoPosTab[i+EXP_LO_TAB_MID_INDEX]*(MyTExp.expLoNegTab[i+EXP_LO_TAB_MID_INDEX]+delta*(1+delta*(1.0/2+delta*(1.0/6+delta*(1.0/24+delta*(1.0/120))))));
+            return MyTExp.expLoPosTab[i+EXP_LO_TAB_MID_INDEX]*(MyTExp.expLoNegTab[i+EXP_LO_TAB_MID_INDEX]+delta*(1+delta*(1.0/2+delta*(1.0/6+delta*(1.0/24+delta*(EXP_USE_MORE_TERMS ? 1.0/120+delta*(1.0/720+delta*(1.0/5040)) : 1.0/120))))));
         } else {
             return exp(value)-1;
         }
@@ -1176,7 +1795,7 @@ public final class FastMath extends CmnFastMath {
             // 1.mantissa/1.mantissaApprox - 1
             double z = (value * twoPowNormalOrSubnormal(-valueExp)) * MyTLog.logXInvTab[xIndex] - 1;
 
-            z *= (1-z*((1.0/2)-z*((1.0/3))));
+            z *= (1-z*((1.0/2)-z*(LOG_USE_MORE_TERMS ? (1.0/3)-z*((1.0/4)-z*(1.0/5)) : (1.0/3))));
 
             return h + valueExp * LOG_2 + (MyTLog.logXLogTab[xIndex] + z);
 
@@ -1187,6 +1806,50 @@ public final class FastMath extends CmnFastMath {
         }
     }
 
+    /**
+     * Bulk version of log(double), giving identical results.
+     *
+     * src and dst can be the same array, in which case
+     * if ranges overlap, dstOff must be <= srcOff.
+     *
+     * @param src Values.
+     * @param srcOff Offset of first value in src.
+     * @param dst (out) Logarithm (base e) of each value.
+     * @param dstOff Offset of first result in dst.
+     * @param len Number of values to compute the logarithm of.
+     * @throws IndexOutOfBoundsException if a range is out of bounds,
+     *         in which case dst is not modified.
+     */
+    public static void log(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+        checkBulkRange(src.length, srcOff, len);
+        checkBulkRange(dst.length, dstOff, len);
+        if (USE_JDK_MATH || (!USE_REDEFINED_LOG)) {
+            for (int i=0;i<len;i++) {
+                dst[dstOff+i] = Math.log(src[srcOff+i]);
+            }
+            return;
+        }
+        final double[] logXLogTab = MyTLog.logXLogTab;
+        final double[] logXInvTab = MyTLog.logXInvTab;
+        for (int i=VectorSupport.log(src, srcOff, dst, dstOff, len, false);i<len;i++) {
+            final double value = src[srcOff+i];
+            // Values close to 1.0, subnormals, non-positive values,
+            // +Infinity and NaN go through non-bulk treatment.
+            if ((value >= DOUBLE_MIN_NORMAL)
+                    && (value < Double.POSITIVE_INFINITY)
+                    && ((value <= 0.95) || (value >= 1.14))) {
+                int valueBitsHi = (int)(Double.doubleToRawLongBits(value)>>32);
+                int valueExp = (valueBitsHi>>20)-MAX_DOUBLE_EXPONENT;
+                int xIndex = ((valueBitsHi<<12)>>>(32-LOG_BITS));
+                double z = (value * twoPowNormalOrSubnormal(-valueExp)) * logXInvTab[xIndex] - 1;
+                z *= (1-z*((1.0/2)-z*(LOG_USE_MORE_TERMS ? (1.0/3)-z*((1.0/4)-z*(1.0/5)) : (1.0/3))));
+                dst[dstOff+i] = valueExp * LOG_2 + (logXLogTab[xIndex] + z);
+            } else {
+                dst[dstOff+i] = log(value);
+            }
+        }
+    }
+
     /**
      * Quick log, with a max relative error of about 1.9e-3
      * for values in ]Double.MIN_NORMAL,+Infinity[, and
@@ -1301,7 +1964,7 @@ public final class FastMath extends CmnFastMath {
             // 1.mantissa/1.mantissaApprox - 1
             double z = (valuePlusOne * twoPowNormalOrSubnormal(-valuePlusOneExp)) * MyTLog.logXInvTab[xIndex] - 1;
 
-            z *= (1-z*((1.0/2)-z*(1.0/3)));
+            z *= (1-z*((1.0/2)-z*(LOG_USE_MORE_TERMS ? (1.0/3)-z*((1.0/4)-z*(1.0/5)) : (1.0/3))));
 
             // Adding epsilon/valuePlusOne to z,
             // with
@@ -1388,6 +2051,87 @@ public final class FastMath extends CmnFastMath {
         }
     }
 
+    /**
+     * Bulk version of pow(double,double), for a same power,
+     * giving identical results.
+     *
+     * src and dst can be the same array, in which case
+     * if ranges overlap, dstOff must be <= srcOff.
+     *
+     * @param src Values.
+     * @param srcOff Offset of first value in src.
+     * @param power A power.
+     * @param dst (out) value^power for each value.
+     * @param dstOff Offset of first result in dst.
+     * @param len Number of values to compute the power of.
+     * @throws IndexOutOfBoundsException if a range is out of bounds,
+     *         in which case dst is not modified.
+     */
+    public static void pow(double[] src, int srcOff, double power, double[] dst, int dstOff, int len) {
+        checkBulkRange(src.length, srcOff, len);
+        checkBulkRange(dst.length, dstOff, len);
+        if (USE_JDK_MATH) {
+            for (int i=0;i<len;i++) {
+                dst[dstOff+i] = Math.pow(src[srcOff+i],power);
+            }
+            return;
+        }
+        if ((power == 0.0) || (power == 1.0)) {
+            for (int i=0;i<len;i++) {
+                dst[dstOff+i] = pow(src[srcOff+i],power);
+            }
+            return;
+        }
+        final double[] logXLogTab = MyTLog.logXLogTab;
+        final double[] logXInvTab = MyTLog.logXInvTab;
+        final double[] expHiTab = MyTExp.expHiTab;
+        final double[] expLoPosTab = MyTExp.expLoPosTab;
+        final int from = (USE_REDEFINED_LOG ? VectorSupport.pow(src, srcOff, power, dst, dstOff, len, false) : 0);
+        for (int i=from;i<len;i++) {
+            final double value = src[srcOff+i];
+            // Here pow(double,double) computes exp(power*log(value))
+            // for value > 0.0, for which we use the same treatments
+            // than bulk log and exp.
+            final double x;
+            if (!USE_REDEFINED_LOG) {
+                if (!(value > 0.0)) {
+                    dst[dstOff+i] = pow(value,power);
+                    continue;
+                }
+                x = power * Math.log(value);
+            } else if ((value >= DOUBLE_MIN_NORMAL)
+                    && (value < Double.POSITIVE_INFINITY)
+                    && ((value <= 0.95) || (value >= 1.14))) {
+                int valueBitsHi = (int)(Double.doubleToRawLongBits(value)>>32);
+                int valueExp = (valueBitsHi>>20)-MAX_DOUBLE_EXPONENT;
+                int xIndex = ((valueBitsHi<<12)>>>(32-LOG_BITS));
+                double z = (value * twoPowNormalOrSubnormal(-valueExp)) * logXInvTab[xIndex] - 1;
+                z *= (1-z*((1.0/2)-z*(LOG_USE_MORE_TERMS ? (1.0/3)-z*((1.0/4)-z*(1.0/5)) : (1.0/3))));
+                x = power * (valueExp * LOG_2 + (logXLogTab[xIndex] + z));
+            } else {
+                dst[dstOff+i] = pow(value,power);
+                continue;
+            }
+            if ((x >= EXP_UNDERFLOW_LIMIT) && (x <= EXP_OVERFLOW_LIMIT)) {
+                final int indexes = (int)(x*EXP_LO_INDEXING);
+                final int xInt;
+                if (indexes >= 0) {
+                    xInt = (indexes>>EXP_LO_INDEXING_DIV_SHIFT);
+                } else {
+                    xInt = -((-indexes)>>EXP_LO_INDEXING_DIV_SHIFT);
+                }
+                final double hiTerm = expHiTab[xInt-(int)EXP_UNDERFLOW_LIMIT];
+                final int zIndex = indexes - (xInt<<EXP_LO_INDEXING_DIV_SHIFT);
+                final double eps = (x-xInt) - zIndex*(1.0/EXP_LO_INDEXING);
+                final double expZ = expLoPosTab[zIndex+EXP_LO_TAB_MID_INDEX];
+                final double expEps = (1+eps*(1+eps*(1.0/2+eps*(1.0/6+eps*(EXP_USE_MORE_TERMS ? 1.0/24+eps*(1.0/120+eps*(1.0/720)) : 1.0/24)))));
+                dst[dstOff+i] = hiTerm * (expZ * expEps);
+            } else {
+                dst[dstOff+i] = exp(x);
+            }
+        }
+    }
+
     /**
      * Quick pow, with a max relative error of about 1e-2
      * for value >= Double.MIN_NORMAL and 1e-10 < |value^power| < 1e10,
@@ -1536,6 +2280,9 @@ public final class FastMath extends CmnFastMath {
 
         result += (value - result * result) * slope;
         result += (value - result * result) * slope;
+        for (int i=0;i<SQRT_EXTRA_NEWTON_STEPS;i++) {
+            result += (value - result * result) * slope;
+        }
         return h*(result + (value - result * result) * slope);
     }
 
@@ -1692,6 +2439,9 @@ public final class FastMath extends CmnFastMath {
 
         result += (value - result * result * result) * slope;
         result += (value - result * result * result) * slope;
+        for (int i=0;i<CBRT_EXTRA_NEWTON_STEPS;i++) {
+            result += (value - result * result * result) * slope;
+        }
         return h*(result + (value - result * result * result) * slope);
     }
 
@@ -2780,8 +3530,374 @@ public final class FastMath extends CmnFastMath {
         return Math.IEEEremainder(f1,f2);
     }
     
+    /**
+     * Unlike Math.random(), which uses a shared generator (contended
+     * when called concurrently), uses FastRandom.current(), a generator
+     * specific to the calling thread.
+     * 
+     * @return A pseudo-random double in [0,1[.
+     */
     public static double random() {
-        return Math.random();
+        if (USE_JDK_MATH) {
+            return Math.random();
+        }
+        return FastRandom.current().nextDouble();
+    }
+
+    /*
+     * accuracy tiers
+     */
+
+    /**
+     * Computes sin(double) with Math.sin(double) for ACCURATE tier,
+     * sin(double) for FAST tier, and sinQuick(double) for QUICK tier
+     * (sin(double) for |angle| > 6588395.0 (with default tables),
+     * where sinQuick(double) has no accuracy).
+     * 
+     * @param angle Angle in radians.
+     * @param tier Accuracy tier.
+     * @return Angle sine.
+     * @throws NullPointerException if the specified tier is null.
+     */
+    public static double sin(double angle, AccuracyTier tier) {
+        if (tier == AccuracyTier.ACCURATE) {
+            return Math.sin(angle);
+        } else if ((tier == AccuracyTier.QUICK) && (Math.abs(angle) <= SIN_COS_QUICK_MAX_VALUE)) {
+            return sinQuick(angle);
+        }
+        checkNonNull(tier);
+        return sin(angle);
+    }
+
+    /**
+     * Computes cos(double) with Math.cos(double) for ACCURATE tier,
+     * cos(double) for FAST tier, and cosQuick(double) for QUICK tier
+     * (cos(double) for |angle| > 6588395.0 (with default tables),
+     * where cosQuick(double) has no accuracy).
+     * 
+     * @param angle Angle in radians.
+     * @param tier Accuracy tier.
+     * @return Angle cosine.
+     * @throws NullPointerException if the specified tier is null.
+     */
+    public static double cos(double angle, AccuracyTier tier) {
+        if (tier == AccuracyTier.ACCURATE) {
+            return Math.cos(angle);
+        } else if ((tier == AccuracyTier.QUICK) && (Math.abs(angle) <= SIN_COS_QUICK_MAX_VALUE)) {
+            return cosQuick(angle);
+        }
+        checkNonNull(tier);
+        return cos(angle);
+    }
+
+    /**
+     * Computes tan(double) with Math.tan(double) for ACCURATE tier,
+     * and tan(double) for FAST and QUICK tiers.
+     * 
+     * @param angle Angle in radians.
+     * @param tier Accuracy tier.
+     * @return Angle tangent.
+     * @throws NullPointerException if the specified tier is null.
+     */
+    public static double tan(double angle, AccuracyTier tier) {
+        if (tier == AccuracyTier.ACCURATE) {
+            return Math.tan(angle);
+        }
+        checkNonNull(tier);
+        return tan(angle);
+    }
+
+    /**
+     * Computes asin(double) with Math.asin(double) for ACCURATE tier,
+     * and asin(double) for FAST and QUICK tiers.
+     * 
+     * @param value Value in [-1,1].
+     * @param tier Accuracy tier.
+     * @return Value arcsine, in radians, in [-PI/2,PI/2].
+     * @throws NullPointerException if the specified tier is null.
+     */
+    public static double asin(double value, AccuracyTier tier) {
+        if (tier == AccuracyTier.ACCURATE) {
+            return Math.asin(value);
+        }
+        checkNonNull(tier);
+        return asin(value);
+    }
+
+    /**
+     * Computes acos(double) with Math.acos(double) for ACCURATE tier,
+     * and acos(double) for FAST and QUICK tiers.
+     * 
+     * @param value Value in [-1,1].
+     * @param tier Accuracy tier.
+     * @return Value arccosine, in radians, in [0,PI].
+     * @throws NullPointerException if the specified tier is null.
+     */
+    public static double acos(double value, AccuracyTier tier) {
+        if (tier == AccuracyTier.ACCURATE) {
+            return Math.acos(value);
+        }
+        checkNonNull(tier);
+        return acos(value);
+    }
+
+    /**
+     * Computes atan(double) with Math.atan(double) for ACCURATE tier,
+     * and atan(double) for FAST and QUICK tiers.
+     * 
+     * @param value A double value.
+     * @param tier Accuracy tier.
+     * @return Value arctangent, in radians, in [-PI/2,PI/2].
+     * @throws NullPointerException if the specified tier is null.
+     */
+    public static double atan(double value, AccuracyTier tier) {
+        if (tier == AccuracyTier.ACCURATE) {
+            return Math.atan(value);
+        }
+        checkNonNull(tier);
+        return atan(value);
+    }
+
+    /**
+     * Computes atan2(double, double) with Math.atan2(double, double) for ACCURATE tier,
+     * atan2Quick(double, double) for QUICK tier, and atan2(double, double) otherwise.
+     * 
+     * @param y A double value.
+     * @param x A double value.
+     * @param tier Accuracy tier.
+     * @return Angle from x axis positive side to (x,y) position, in radians, in [-PI,PI].
+     * @throws NullPointerException if the specified tier is null.
+     */
+    public static double atan2(double y, double x, AccuracyTier tier) {
+        if (tier == AccuracyTier.ACCURATE) {
+            return Math.atan2(y, x);
+        } else if (tier == AccuracyTier.QUICK) {
+            return atan2Quick(y, x);
+        }
+        checkNonNull(tier);
+        return atan2(y, x);
+    }
+
+    /**
+     * Computes sinh(double) with Math.sinh(double) for ACCURATE tier,
+     * and sinh(double) for FAST and QUICK tiers.
+     * 
+     * @param value A double value.
+     * @param tier Accuracy tier.
+     * @return Value hyperbolic sine.
+     * @throws NullPointerException if the specified tier is null.
+     */
+    public static double sinh(double value, AccuracyTier tier) {
+        if (tier == AccuracyTier.ACCURATE) {
+            return Math.sinh(value);
+        }
+        checkNonNull(tier);
+        return sinh(value);
+    }
+
+    /**
+     * Computes cosh(double) with Math.cosh(double) for ACCURATE tier,
+     * and cosh(double) for FAST and QUICK tiers.
+     * 
+     * @param value A double value.
+     * @param tier Accuracy tier.
+     * @return Value hyperbolic cosine.
+     * @throws NullPointerException if the specified tier is null.
+     */
+    public static double cosh(double value, AccuracyTier tier) {
+        if (tier == AccuracyTier.ACCURATE) {
+            return Math.cosh(value);
+        }
+        checkNonNull(tier);
+        return cosh(value);
+    }
+
+    /**
+     * Computes tanh(double) with Math.tanh(double) for ACCURATE tier,
+     * and tanh(double) for FAST and QUICK tiers.
+     * 
+     * @param value A double value.
+     * @param tier Accuracy tier.
+     * @return Value hyperbolic tangent.
+     * @throws NullPointerException if the specified tier is null.
+     */
+    public static double tanh(double value, AccuracyTier tier) {
+        if (tier == AccuracyTier.ACCURATE) {
+            return Math.tanh(value);
+        }
+        checkNonNull(tier);
+        return tanh(value);
+    }
+
+    /**
+     * Computes exp(double) with Math.exp(double) for ACCURATE tier,
+     * exp(double) for FAST tier, and expQuick(double) for QUICK tier
+     * (exp(double) if |value| > 700.0, where expQuick(double) has no accuracy).
+     * 
+     * @param value A double value.
+     * @param tier Accuracy tier.
+     * @return e^value.
+     * @throws NullPointerException if the specified tier is null.
+     */
+    public static double exp(double value, AccuracyTier tier) {
+        if (tier == AccuracyTier.ACCURATE) {
+            return Math.exp(value);
+        } else if ((tier == AccuracyTier.QUICK) && (Math.abs(value) <= EXP_QUICK_MAX_VALUE)) {
+            return expQuick(value);
+        }
+        checkNonNull(tier);
+        return exp(value);
+    }
+
+    /**
+     * Computes expm1(double) with Math.expm1(double) for ACCURATE tier,
+     * and expm1(double) for FAST and QUICK tiers.
+     * 
+     * @param value A double value.
+     * @param tier Accuracy tier.
+     * @return e^value-1.
+     * @throws NullPointerException if the specified tier is null.
+     */
+    public static double expm1(double value, AccuracyTier tier) {
+        if (tier == AccuracyTier.ACCURATE) {
+            return Math.expm1(value);
+        }
+        checkNonNull(tier);
+        return expm1(value);
+    }
+
+    /**
+     * Computes log(double) with Math.log(double) for ACCURATE tier,
+     * log(double) for FAST tier, and logQuick(double) for QUICK tier
+     * (log(double) if value is not in [Double.MIN_NORMAL,Double.MAX_VALUE]).
+     * 
+     * @param value A double value.
+     * @param tier Accuracy tier.
+     * @return Value logarithm (base e).
+     * @throws NullPointerException if the specified tier is null.
+     */
+    public static double log(double value, AccuracyTier tier) {
+        if (tier == AccuracyTier.ACCURATE) {
+            return Math.log(value);
+        } else if ((tier == AccuracyTier.QUICK) && (value >= DOUBLE_MIN_NORMAL) && (value <= Double.MAX_VALUE)) {
+            return logQuick(value);
+        }
+        checkNonNull(tier);
+        return log(value);
+    }
+
+    /**
+     * Computes log10(double) with Math.log10(double) for ACCURATE tier,
+     * and log10(double) for FAST and QUICK tiers.
+     * 
+     * @param value A double value.
+     * @param tier Accuracy tier.
+     * @return Value logarithm (base 10).
+     * @throws NullPointerException if the specified tier is null.
+     */
+    public static double log10(double value, AccuracyTier tier) {
+        if (tier == AccuracyTier.ACCURATE) {
+            return Math.log10(value);
+        }
+        checkNonNull(tier);
+        return log10(value);
+    }
+
+    /**
+     * Computes log1p(double) with Math.log1p(double) for ACCURATE tier,
+     * and log1p(double) for FAST and QUICK tiers.
+     * 
+     * @param value A double value.
+     * @param tier Accuracy tier.
+     * @return Logarithm (base e) of (1+value).
+     * @throws NullPointerException if the specified tier is null.
+     */
+    public static double log1p(double value, AccuracyTier tier) {
+        if (tier == AccuracyTier.ACCURATE) {
+            return Math.log1p(value);
+        }
+        checkNonNull(tier);
+        return log1p(value);
+    }
+
+    /**
+     * Computes pow(double, double) with Math.pow(double, double) for ACCURATE tier,
+     * pow(double, double) for FAST tier, and powQuick(double, double) for QUICK tier
+     * (pow(double, double) if value is not in [Double.MIN_NORMAL,Double.MAX_VALUE]
+     * or if result is not in ]1e-10,1e10[).
+     * 
+     * @param value A double value.
+     * @param power A double value.
+     * @param tier Accuracy tier.
+     * @return value^power.
+     * @throws NullPointerException if the specified tier is null.
+     */
+    public static double pow(double value, double power, AccuracyTier tier) {
+        if (tier == AccuracyTier.ACCURATE) {
+            return Math.pow(value, power);
+        } else if ((tier == AccuracyTier.QUICK) && (value >= DOUBLE_MIN_NORMAL) && (value <= Double.MAX_VALUE)) {
+            final double result = powQuick(value, power);
+            if ((result > POW_QUICK_MIN_RESULT) && (result < POW_QUICK_MAX_RESULT)) {
+                return result;
+            }
+        }
+        checkNonNull(tier);
+        return pow(value, power);
+    }
+
+    /**
+     * Computes sqrt(double) with Math.sqrt(double) for ACCURATE tier,
+     * sqrt(double) for FAST tier, and sqrtQuick(double) for QUICK tier
+     * (sqrt(double) if value is not in [Double.MIN_NORMAL,Double.MAX_VALUE]).
+     * 
+     * @param value A double value.
+     * @param tier Accuracy tier.
+     * @return Value square root.
+     * @throws NullPointerException if the specified tier is null.
+     */
+    public static double sqrt(double value, AccuracyTier tier) {
+        if (tier == AccuracyTier.ACCURATE) {
+            return Math.sqrt(value);
+        } else if ((tier == AccuracyTier.QUICK) && (value >= DOUBLE_MIN_NORMAL) && (value <= Double.MAX_VALUE)) {
+            return sqrtQuick(value);
+        }
+        checkNonNull(tier);
+        return sqrt(value);
+    }
+
+    /**
+     * Computes cbrt(double) with Math.cbrt(double) for ACCURATE tier,
+     * and cbrt(double) for FAST and QUICK tiers.
+     * 
+     * @param value A double value.
+     * @param tier Accuracy tier.
+     * @return Value cubic root.
+     * @throws NullPointerException if the specified tier is null.
+     */
+    public static double cbrt(double value, AccuracyTier tier) {
+        if (tier == AccuracyTier.ACCURATE) {
+            return Math.cbrt(value);
+        }
+        checkNonNull(tier);
+        return cbrt(value);
+    }
+
+    /**
+     * Computes hypot(double, double) with Math.hypot(double, double) for ACCURATE tier,
+     * and hypot(double, double) for FAST and QUICK tiers.
+     * 
+     * @param x A double value.
+     * @param y A double value.
+     * @param tier Accuracy tier.
+     * @return sqrt(x^2+y^2) without intermediate overflow or underflow.
+     * @throws NullPointerException if the specified tier is null.
+     */
+    public static double hypot(double x, double y, AccuracyTier tier) {
+        if (tier == AccuracyTier.ACCURATE) {
+            return Math.hypot(x, y);
+        }
+        checkNonNull(tier);
+        return hypot(x, y);
     }
 
     //--------------------------------------------------------------------------
@@ -2794,6 +3910,54 @@ public final class FastMath extends CmnFastMath {
     private FastMath() {
     }
     
+    /*
+     * Quick atan.
+     */
+
+    /**
+     * @param x A value in [0,1].
+     * @return Arctangent of x, with an absolute error below 8.2e-5.
+     */
+    private static double atan01Quick(double x) {
+        final double x2 = x*x;
+        return x * (ATAN_QUICK_C1 + x2 * (ATAN_QUICK_C3 + x2 * (ATAN_QUICK_C5 + x2 * ATAN_QUICK_C7)));
+    }
+
+    /*
+     * Sine and cosine from sin/cos tables (as in sin(double) and cos(double)).
+     */
+
+    /**
+     * @param index Index in sin/cos tables.
+     * @param delta Angle minus index angle, in radians.
+     * @return Sine of index angle plus delta.
+     */
+    private static double sinFromTab(int index, double delta) {
+        final double indexSin = MyTSinCos.sinCosTab[2*index];
+        final double indexCos = MyTSinCos.sinCosTab[2*index+1];
+        return indexSin + delta * (indexCos + delta * (-indexSin * ONE_DIV_F2 + delta * (-indexCos * ONE_DIV_F3 + (SIN_COS_USE_6_DERIVATIVES ? delta * (indexSin * ONE_DIV_F4 + delta * (indexCos * ONE_DIV_F5 - delta * indexSin * ONE_DIV_F6)) : delta * indexSin * ONE_DIV_F4))));
+    }
+
+    /**
+     * @param index Index in sin/cos tables.
+     * @param delta Angle minus index angle, in radians.
+     * @return Cosine of index angle plus delta.
+     */
+    private static double cosFromTab(int index, double delta) {
+        final double indexSin = MyTSinCos.sinCosTab[2*index];
+        final double indexCos = MyTSinCos.sinCosTab[2*index+1];
+        return indexCos + delta * (-indexSin + delta * (-indexCos * ONE_DIV_F2 + delta * (indexSin * ONE_DIV_F3 + (SIN_COS_USE_6_DERIVATIVES ? delta * (indexCos * ONE_DIV_F4 - delta * (indexSin * ONE_DIV_F5 + delta * indexCos * ONE_DIV_F6)) : delta * indexCos * ONE_DIV_F4))));
+    }
+
+    /**
+     * @param index Index in sin/cos tables.
+     * @param delta Angle minus index angle, in radians.
+     * @return Tangent of index angle plus delta.
+     */
+    private static double tanFromTab(int index, double delta) {
+        return sinFromTab(index, delta) / cosFromTab(index, delta);
+    }
+
     /*
      * Remainders (accurate).
      */
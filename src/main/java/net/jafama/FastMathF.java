@@ -0,0 +1,502 @@
+/*
+ * Copyright 2012-2017 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+/**
+ * Float versions of some FastMath treatments, for when float accuracy
+ * is enough, with an error of a few float ulps.
+ * Cf. README.md for more info.
+ */
+public final class FastMathF extends CmnFastMath {
+
+    /*
+     * Using float look-up tables, much smaller than FastMath ones
+     * (a few kilobytes total), since float accuracy allows for larger
+     * steps between tabulated values, and lower polynomial orders.
+     *
+     * Computations are done in double, since it's usually not slower
+     * than in float, and rounded into float at the end, for results to
+     * only suffer from tables values rounding, and from final rounding.
+     *
+     * Uses same configuration than FastMath, for delegation to Math.
+     */
+
+    //--------------------------------------------------------------------------
+    // CONFIGURATION
+    //--------------------------------------------------------------------------
+
+    private static final boolean USE_JDK_MATH = FM_USE_JDK_MATH;
+
+    //--------------------------------------------------------------------------
+    // CONSTANTS AND TABLES FOR SIN AND COS
+    //--------------------------------------------------------------------------
+
+    /*
+     * Using Taylor-Lagrange formula with 3 derivatives, for which
+     * with 2^9 steps the error is about 6e-11.
+     */
+
+    private static final int SIN_COS_F_TABS_SIZE = (1<<getTabSizePowerF(9)) + 1;
+    private static final double SIN_COS_F_DELTA_HI = TWOPI_HI/(SIN_COS_F_TABS_SIZE-1);
+    private static final double SIN_COS_F_DELTA_LO = TWOPI_LO/(SIN_COS_F_TABS_SIZE-1);
+    private static final double SIN_COS_F_INDEXER = 1/(SIN_COS_F_DELTA_HI+SIN_COS_F_DELTA_LO);
+
+    private static final class MyTSinCosF {
+        static final float[] sinTab = new float[SIN_COS_F_TABS_SIZE];
+        static final float[] cosTab = new float[SIN_COS_F_TABS_SIZE];
+        static {
+            init();
+        }
+        private static strictfp void init() {
+            final int SIN_COS_PI_INDEX = (SIN_COS_F_TABS_SIZE-1)/2;
+            final int SIN_COS_PI_MUL_2_INDEX = 2*SIN_COS_PI_INDEX;
+            final int SIN_COS_PI_MUL_0_5_INDEX = SIN_COS_PI_INDEX/2;
+            final int SIN_COS_PI_MUL_1_5_INDEX = 3*SIN_COS_PI_INDEX/2;
+            for (int i=0;i<SIN_COS_F_TABS_SIZE;i++) {
+                double angle = i * SIN_COS_F_DELTA_HI + i * SIN_COS_F_DELTA_LO;
+                double sinAngle = StrictMath.sin(angle);
+                double cosAngle = StrictMath.cos(angle);
+                // Exact zeros, for good accuracy for results close to zero
+                // (cf. MyTSinCos).
+                if (i == SIN_COS_PI_INDEX) {
+                    sinAngle = 0.0;
+                } else if (i == SIN_COS_PI_MUL_2_INDEX) {
+                    sinAngle = 0.0;
+                } else if (i == SIN_COS_PI_MUL_0_5_INDEX) {
+                    cosAngle = 0.0;
+                } else if (i == SIN_COS_PI_MUL_1_5_INDEX) {
+                    cosAngle = 0.0;
+                }
+                sinTab[i] = (float)sinAngle;
+                cosTab[i] = (float)cosAngle;
+            }
+        }
+    }
+
+    /**
+     * Max abs value for index-based reduction, above which we delegate to Math
+     * (cf. SIN_COS_MAX_VALUE_FOR_INT_MODULO).
+     */
+    private static final double SIN_COS_F_MAX_VALUE_FOR_INT_MODULO = ((Integer.MAX_VALUE>>9) / SIN_COS_F_INDEXER) * 0.99;
+
+    //--------------------------------------------------------------------------
+    // CONSTANTS AND TABLES FOR ATAN
+    //--------------------------------------------------------------------------
+
+    // We use the formula atan(x) = PI/2 - atan(1/x) for x > 1,
+    // to only tabulate values in [0,1], and then
+    // atan(x) = atan(xi) + atan((x-xi)/(1+x*xi))
+    // with xi the tabulated value closest to x, for which
+    // atan(y) = y - y^3/3 is accurate enough.
+
+    private static final int ATAN_F_TABS_SIZE = (1<<getTabSizePowerF(7)) + 1;
+    private static final double ATAN_F_DELTA = 1.0/(ATAN_F_TABS_SIZE - 1);
+    private static final double ATAN_F_INDEXER = 1/ATAN_F_DELTA;
+
+    private static final class MyTAtanF {
+        static final float[] atanTab = new float[ATAN_F_TABS_SIZE];
+        static {
+            init();
+        }
+        private static strictfp void init() {
+            for (int i=0;i<ATAN_F_TABS_SIZE;i++) {
+                // x: in [0,1], exact since delta is a power of two.
+                double x = i * ATAN_F_DELTA;
+                atanTab[i] = (float)StrictMath.atan(x);
+            }
+        }
+    }
+
+    //--------------------------------------------------------------------------
+    // CONSTANTS AND TABLES FOR EXP
+    //--------------------------------------------------------------------------
+
+    // We use the formula exp(x) = 2^k * 2^(j/n) * exp(r)
+    // with x = (k*n+j) * log(2)/n + r, and 2^(j/n) in table.
+
+    /**
+     * Above it, result is +Infinity once rounded to float.
+     */
+    private static final double EXP_F_OVERFLOW_LIMIT = 89.0;
+    /**
+     * Below it, result is 0 once rounded to float.
+     */
+    private static final double EXP_F_UNDERFLOW_LIMIT = -104.0;
+    private static final int EXP_F_TAB_SIZE_POT = getTabSizePowerF(6);
+    private static final int EXP_F_TAB_SIZE = (1<<EXP_F_TAB_SIZE_POT);
+    private static final double EXP_F_DELTA = LOG_2/EXP_F_TAB_SIZE;
+    private static final double EXP_F_INDEXER = 1/EXP_F_DELTA;
+
+    private static final class MyTExpF {
+        static final float[] expTab = new float[EXP_F_TAB_SIZE];
+        static {
+            init();
+        }
+        private static strictfp void init() {
+            for (int i=0;i<EXP_F_TAB_SIZE;i++) {
+                expTab[i] = (float)StrictMath.pow(2.0, i/(double)EXP_F_TAB_SIZE);
+            }
+        }
+    }
+
+    //--------------------------------------------------------------------------
+    // CONSTANTS AND TABLES FOR LOG
+    //--------------------------------------------------------------------------
+
+    // We use the formula
+    // log(1.mantissa) = log(1.mantissa*inv) - log(inv)
+    // with inv a float close to 1/1.mantissaApprox, in table, such as
+    // 1.mantissa*inv-1 is exactly computed and small, and -log(inv)
+    // in tables as the sum of two floats.
+
+    private static final int LOG_F_BITS = getTabSizePowerF(7);
+    private static final int LOG_F_TAB_SIZE = (1<<LOG_F_BITS);
+
+    /*
+     * Values in ]LOG_F_NEAR_ONE_MIN,LOG_F_NEAR_ONE_MAX[ are treated aside,
+     * to avoid bad relative error for small results.
+     */
+
+    private static final double LOG_F_NEAR_ONE_MIN = 0.85;
+    private static final double LOG_F_NEAR_ONE_MAX = 1.2;
+
+    private static final class MyTLogF {
+        static final float[] logXInvTab = new float[LOG_F_TAB_SIZE];
+        static final float[] logXLogHiTab = new float[LOG_F_TAB_SIZE];
+        static final float[] logXLogLoTab = new float[LOG_F_TAB_SIZE];
+        static {
+            init();
+        }
+        private static strictfp void init() {
+            for (int i=0;i<LOG_F_TAB_SIZE;i++) {
+                // Exact to use inverse of tab size, since it is a power of two.
+                double x = 1+i*(1.0/LOG_F_TAB_SIZE);
+                float inv = (float)(1/x);
+                double minusLogInv = -StrictMath.log(inv);
+                float minusLogInvHi = (float)minusLogInv;
+                logXInvTab[i] = inv;
+                logXLogHiTab[i] = minusLogInvHi;
+                logXLogLoTab[i] = (float)(minusLogInv - minusLogInvHi);
+            }
+        }
+    }
+
+    //--------------------------------------------------------------------------
+    // PUBLIC METHODS
+    //--------------------------------------------------------------------------
+
+    /**
+     * Ensures that all look-up tables used by this class are initialized
+     * - otherwise they are initialized lazily.
+     * Does not initialize (Strict)FastMath look-up tables, which are not used
+     * by this class.
+     */
+    public static void initTables() {
+        int antiOptim = 0;
+        antiOptim += MyTSinCosF.sinTab.length;
+        antiOptim += MyTAtanF.atanTab.length;
+        antiOptim += MyTExpF.expTab.length;
+        antiOptim += MyTLogF.logXInvTab.length;
+        if (StrictMath.cos((double)antiOptim) == 0.0) {
+            // Can't happen, cos is never +-0.0.
+            throw new AssertionError();
+        }
+    }
+
+    /*
+     * trigonometry
+     */
+
+    /**
+     * @param angle Angle in radians.
+     * @return Angle sine.
+     */
+    public static float sin(float angle) {
+        if (USE_JDK_MATH) {
+            return (float)Math.sin(angle);
+        }
+        double a = angle;
+        boolean negateResult = false;
+        if (a < 0.0) {
+            a = -a;
+            negateResult = true;
+        }
+        if (a > SIN_COS_F_MAX_VALUE_FOR_INT_MODULO) {
+            // Huge angles (or +Infinity): rare enough
+            // not to bother with accurate reduction here.
+            return (float)Math.sin(angle);
+        }
+        int index = (int)(a * SIN_COS_F_INDEXER + 0.5);
+        double delta = (a - index * SIN_COS_F_DELTA_HI) - index * SIN_COS_F_DELTA_LO;
+        index &= (SIN_COS_F_TABS_SIZE-2); // index % (SIN_COS_F_TABS_SIZE-1)
+        double indexSin = MyTSinCosF.sinTab[index];
+        double indexCos = MyTSinCosF.cosTab[index];
+        double result = indexSin + delta * (indexCos + delta * (-indexSin * ONE_DIV_F2 + delta * (-indexCos * ONE_DIV_F3)));
+        return (float)(negateResult ? -result : result);
+    }
+
+    /**
+     * @param angle Angle in radians.
+     * @return Angle cosine.
+     */
+    public static float cos(float angle) {
+        if (USE_JDK_MATH) {
+            return (float)Math.cos(angle);
+        }
+        final double a = Math.abs((double)angle);
+        if (a > SIN_COS_F_MAX_VALUE_FOR_INT_MODULO) {
+            return (float)Math.cos(angle);
+        }
+        int index = (int)(a * SIN_COS_F_INDEXER + 0.5);
+        double delta = (a - index * SIN_COS_F_DELTA_HI) - index * SIN_COS_F_DELTA_LO;
+        index &= (SIN_COS_F_TABS_SIZE-2); // index % (SIN_COS_F_TABS_SIZE-1)
+        double indexCos = MyTSinCosF.cosTab[index];
+        double indexSin = MyTSinCosF.sinTab[index];
+        return (float)(indexCos + delta * (-indexSin + delta * (-indexCos * ONE_DIV_F2 + delta * (indexSin * ONE_DIV_F3))));
+    }
+
+    /**
+     * @param angle Angle in radians.
+     * @return Angle tangent.
+     */
+    public static float tan(float angle) {
+        if (USE_JDK_MATH) {
+            return (float)Math.tan(angle);
+        }
+        // Float accuracy allows for computing tangent as sine over cosine,
+        // since cosine is accurate in relative terms close to PI/2
+        // (which corresponds to an index with exact zero cosine).
+        double a = angle;
+        boolean negateResult = false;
+        if (a < 0.0) {
+            a = -a;
+            negateResult = true;
+        }
+        if (a > SIN_COS_F_MAX_VALUE_FOR_INT_MODULO) {
+            return (float)Math.tan(angle);
+        }
+        int index = (int)(a * SIN_COS_F_INDEXER + 0.5);
+        double delta = (a - index * SIN_COS_F_DELTA_HI) - index * SIN_COS_F_DELTA_LO;
+        index &= (SIN_COS_F_TABS_SIZE-2); // index % (SIN_COS_F_TABS_SIZE-1)
+        double indexSin = MyTSinCosF.sinTab[index];
+        double indexCos = MyTSinCosF.cosTab[index];
+        double sin = indexSin + delta * (indexCos + delta * (-indexSin * ONE_DIV_F2 + delta * (-indexCos * ONE_DIV_F3)));
+        double cos = indexCos + delta * (-indexSin + delta * (-indexCos * ONE_DIV_F2 + delta * (indexSin * ONE_DIV_F3)));
+        double result = sin / cos;
+        return (float)(negateResult ? -result : result);
+    }
+
+    /**
+     * @param value A float value.
+     * @return Value arctangent, in radians, in [-PI/2,PI/2].
+     */
+    public static float atan(float value) {
+        if (USE_JDK_MATH) {
+            return (float)Math.atan(value);
+        }
+        // Using sign bit, for -0.0f to give -0.0f.
+        final boolean negateResult = (Float.floatToRawIntBits(value) < 0);
+        final double x = Math.abs((double)value);
+        final double result;
+        if (x <= 1.0) {
+            result = atan01(x);
+        } else {
+            // Also OK for +Infinity and NaN.
+            result = (Math.PI/2) - atan01(1/x);
+        }
+        return (float)(negateResult ? -result : result);
+    }
+
+    /**
+     * For special values for which multiple conventions could be adopted,
+     * behaves like Math.atan2(double,double).
+     *
+     * @param y Coordinate on y axis.
+     * @param x Coordinate on x axis.
+     * @return Angle from x axis positive side to (x,y) position, in radians, in [-PI,PI].
+     *         Angle measure is positive when going from x axis to y axis (positive sides).
+     */
+    public static float atan2(float y, float x) {
+        if (USE_JDK_MATH) {
+            return (float)Math.atan2(y,x);
+        }
+        final double yAbs = Math.abs((double)y);
+        final double xAbs = Math.abs((double)x);
+        double result;
+        if (xAbs >= yAbs) {
+            final double t = yAbs/xAbs;
+            if (t != t) {
+                // Both zero or both infinite.
+                return (float)Math.atan2(y,x);
+            }
+            result = atan01(t);
+        } else {
+            final double t = xAbs/yAbs;
+            if (t != t) {
+                // NaN argument(s).
+                return Float.NaN;
+            }
+            result = (Math.PI/2) - atan01(t);
+        }
+        if (x < 0.0f) {
+            result = Math.PI - result;
+        }
+        // Using sign bit, for -0.0f to give -0.0f or -PI.
+        return (float)((Float.floatToRawIntBits(y) < 0) ? -result : result);
+    }
+
+    /**
+     * Quick atan2, with an absolute error below 8.2e-5 (about 0.0047 degree),
+     * using a polynomial approximation of atan on [0,1], and no look-up table.
+     * For special values, behaves like atan2(float,float).
+     *
+     * @param y Coordinate on y axis.
+     * @param x Coordinate on x axis.
+     * @return Angle from x axis positive side to (x,y) position, in radians, in [-PI,PI].
+     *         Angle measure is positive when going from x axis to y axis (positive sides).
+     */
+    public static float atan2Quick(float y, float x) {
+        if (USE_JDK_MATH) {
+            return (float)Math.atan2(y,x);
+        }
+        final double yAbs = Math.abs((double)y);
+        final double xAbs = Math.abs((double)x);
+        double result;
+        if (xAbs >= yAbs) {
+            final double t = yAbs/xAbs;
+            if (t != t) {
+                // Both zero or both infinite.
+                return (float)Math.atan2(y,x);
+            }
+            result = atan01Quick(t);
+        } else {
+            final double t = xAbs/yAbs;
+            if (t != t) {
+                // NaN argument(s).
+                return Float.NaN;
+            }
+            result = (Math.PI/2) - atan01Quick(t);
+        }
+        if (x < 0.0f) {
+            result = Math.PI - result;
+        }
+        // Using sign bit, for -0.0f to give -0.0f or -PI.
+        return (float)((Float.floatToRawIntBits(y) < 0) ? -result : result);
+    }
+
+    /*
+     * exponentials
+     */
+
+    /**
+     * @param value A float value.
+     * @return e^value.
+     */
+    public static float exp(float value) {
+        if (USE_JDK_MATH) {
+            return (float)Math.exp(value);
+        }
+        final double x = value;
+        if (x > EXP_F_OVERFLOW_LIMIT) {
+            return Float.POSITIVE_INFINITY;
+        } else if (!(x >= EXP_F_UNDERFLOW_LIMIT)) {
+            return (value != value) ? Float.NaN : 0.0f;
+        }
+        final double t = x * EXP_F_INDEXER;
+        // Rounding to closest, to have r in [-EXP_F_DELTA/2,EXP_F_DELTA/2].
+        final int n = (int)((t < 0.0) ? t - 0.5 : t + 0.5);
+        final int k = (n>>EXP_F_TAB_SIZE_POT);
+        final int j = n & (EXP_F_TAB_SIZE-1);
+        final double r = x - n * EXP_F_DELTA;
+        final double expR = 1+r*(1+r*(1.0/2+r*(1.0/6)));
+        // Result rounded into float only once, which takes care
+        // of eventual overflow or gradual underflow.
+        return (float)(twoPowNormal(k) * (MyTExpF.expTab[j] * expR));
+    }
+
+    /*
+     * logarithms
+     */
+
+    /**
+     * @param value A float value.
+     * @return Value logarithm (base e).
+     */
+    public static float log(float value) {
+        if (USE_JDK_MATH) {
+            return (float)Math.log(value);
+        }
+        if (value > 0.0f) {
+            if (value == Float.POSITIVE_INFINITY) {
+                return Float.POSITIVE_INFINITY;
+            }
+            final double x = value;
+            if ((x > LOG_F_NEAR_ONE_MIN) && (x < LOG_F_NEAR_ONE_MAX)) {
+                // log(x) = z*(2+z^2*((2.0/3)+z^2*((2.0/5))+...)))
+                // with z=(x-1)/(x+1)
+                final double z = (x-1.0)/(x+1.0);
+                final double z2 = z*z;
+                return (float)(z*(2+z2*((2.0/3)+z2*((2.0/5)+z2*(2.0/7)))));
+            }
+            // Float subnormals are double normals.
+            final int xBitsHi = (int)(Double.doubleToRawLongBits(x)>>32);
+            final int xExp = (xBitsHi>>20)-MAX_DOUBLE_EXPONENT;
+            // Getting the first LOG_F_BITS bits of the mantissa.
+            final int xIndex = ((xBitsHi<<12)>>>(32-LOG_F_BITS));
+            // Exact, since both operands of the multiplication
+            // hold 24 significant bits, and the product is close to 1.
+            final double z = (x * twoPowNormal(-xExp)) * MyTLogF.logXInvTab[xIndex] - 1;
+            final double log1pZ = z * (1-z*((1.0/2)-z*(1.0/3)));
+            return (float)(xExp * LOG_2 + (MyTLogF.logXLogHiTab[xIndex] + (MyTLogF.logXLogLoTab[xIndex] + log1pZ)));
+        } else if (value == 0.0f) {
+            return Float.NEGATIVE_INFINITY;
+        } else { // value < 0.0f, or value is NaN
+            return Float.NaN;
+        }
+    }
+
+    //--------------------------------------------------------------------------
+    // PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    /**
+     * @param x A value in [0,1], or NaN.
+     * @return Arctangent of x.
+     */
+    private static double atan01(double x) {
+        final int index = (int)(x * ATAN_F_INDEXER + 0.5);
+        final double xIndex = index * ATAN_F_DELTA;
+        final double y = (x - xIndex)/(1 + x * xIndex);
+        return MyTAtanF.atanTab[index] + y * (1 - y*y*(1.0/3));
+    }
+
+    /**
+     * @param x A value in [0,1].
+     * @return Arctangent of x, with an absolute error below 8.2e-5.
+     */
+    private static double atan01Quick(double x) {
+        final double x2 = x*x;
+        return x * (ATAN_QUICK_C1 + x2 * (ATAN_QUICK_C3 + x2 * (ATAN_QUICK_C5 + x2 * ATAN_QUICK_C7)));
+    }
+
+    /**
+     * Same as CmnFastMath.getTabSizePower(int), but only considering
+     * FastMath configuration, which is the one used by this class.
+     */
+    private static int getTabSizePowerF(int tabSizePower) {
+        return FM_USE_JDK_MATH ? Math.min(2, tabSizePower) : tabSizePower;
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2012-2017 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fast pseudo-random numbers generator, using xoroshiro128++ algorithm
+ * (David Blackman and Sebastiano Vigna, 2019), with a 128 bits state
+ * initialized with SplitMix64.
+ * 
+ * Instances are not thread-safe. current() returns an instance specific
+ * to the calling thread, for concurrent use without contention
+ * (unlike Math.random(), which uses a shared java.util.Random, and does
+ * a CAS on its seed at each call), and must not be shared with other threads.
+ * 
+ * Not suited for security purposes.
+ */
+public final class FastRandom {
+
+    //--------------------------------------------------------------------------
+    // MEMBERS
+    //--------------------------------------------------------------------------
+
+    /**
+     * Odd number close to 2^64/golden ratio, used by SplitMix64.
+     */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private static final double DOUBLE_UNIT = 1.0/(1L<<53);
+
+    /**
+     * For default seeds, only used when creating instances,
+     * so contention on it doesn't matter.
+     */
+    private static final AtomicLong SEED_GENERATOR = new AtomicLong(
+            mix64(System.currentTimeMillis()) ^ mix64(System.nanoTime()));
+
+    private static final ThreadLocal<FastRandom> CURRENT = new ThreadLocal<FastRandom>() {
+        @Override
+        protected FastRandom initialValue() {
+            return new FastRandom();
+        }
+    };
+
+    private long s0;
+    private long s1;
+
+    //--------------------------------------------------------------------------
+    // PUBLIC METHODS
+    //--------------------------------------------------------------------------
+
+    /**
+     * Creates an instance with a seed different from those of other instances
+     * created with this constructor (within this class loader).
+     */
+    public FastRandom() {
+        this(SEED_GENERATOR.addAndGet(2 * GOLDEN_GAMMA));
+    }
+
+    /**
+     * Instances created with a same seed generate the same sequence.
+     * 
+     * @param seed Any value.
+     */
+    public FastRandom(long seed) {
+        // SplitMix64 outputs, which can't both be zero since mix64
+        // is a bijection and its inputs differ.
+        this.s0 = mix64(seed + GOLDEN_GAMMA);
+        this.s1 = mix64(seed + 2 * GOLDEN_GAMMA);
+    }
+
+    /**
+     * @return The instance specific to the current thread
+     *         (created on first call in this thread).
+     */
+    public static FastRandom current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @return A pseudo-random long, uniformly distributed.
+     */
+    public long nextLong() {
+        final long s0 = this.s0;
+        long s1 = this.s1;
+        final long result = Long.rotateLeft(s0 + s1, 17) + s0;
+        s1 ^= s0;
+        this.s0 = Long.rotateLeft(s0, 49) ^ s1 ^ (s1 << 21);
+        this.s1 = Long.rotateLeft(s1, 28);
+        return result;
+    }
+
+    /**
+     * @return A pseudo-random int, uniformly distributed.
+     */
+    public int nextInt() {
+        return (int)(this.nextLong() >>> 32);
+    }
+
+    /**
+     * Uses Daniel Lemire's multiply-and-shift method ("Fast Random Integer
+     * Generation in an Interval", 2019), which has no modulo bias,
+     * and usually no division.
+     * 
+     * @param bound Upper bound (exclusive). Must be > 0.
+     * @return A pseudo-random int in [0,bound[, uniformly distributed.
+     * @throws IllegalArgumentException if bound is <= 0.
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound [" + bound + "] must be > 0");
+        }
+        long m = (this.nextLong() >>> 32) * bound;
+        if ((m & 0xFFFFFFFFL) < bound) {
+            // Rejecting the 2^32 % bound low values, which would
+            // make some results more likely than others.
+            final long threshold = (0x100000000L - bound) % bound;
+            while ((m & 0xFFFFFFFFL) < threshold) {
+                m = (this.nextLong() >>> 32) * bound;
+            }
+        }
+        return (int)(m >>> 32);
+    }
+
+    /**
+     * @return A pseudo-random double in [0,1[, uniformly distributed
+     *         among multiples of 2^-53.
+     */
+    public double nextDouble() {
+        return (this.nextLong() >>> 11) * DOUBLE_UNIT;
+    }
+
+    /**
+     * Same as calling nextDouble() for each element.
+     * 
+     * @param dst (out) Array to fill with pseudo-random doubles in [0,1[.
+     */
+    public void fill(double[] dst) {
+        this.fill(dst, 0, dst.length);
+    }
+
+    /**
+     * Same as calling nextDouble() for each element of the range.
+     * 
+     * @param dst (out) Array to fill with pseudo-random doubles in [0,1[.
+     * @param off Offset of first value to set.
+     * @param len Number of values to set.
+     * @throws IndexOutOfBoundsException if the range is out of bounds,
+     *         in which case dst is not modified.
+     */
+    public void fill(double[] dst, int off, int len) {
+        CmnFastMath.checkBulkRange(dst.length, off, len);
+        // Using local state in the loop.
+        long s0 = this.s0;
+        long s1 = this.s1;
+        for (int i=0;i<len;i++) {
+            final long result = Long.rotateLeft(s0 + s1, 17) + s0;
+            s1 ^= s0;
+            s0 = Long.rotateLeft(s0, 49) ^ s1 ^ (s1 << 21);
+            s1 = Long.rotateLeft(s1, 28);
+            dst[off+i] = (result >>> 11) * DOUBLE_UNIT;
+        }
+        this.s0 = s0;
+        this.s1 = s1;
+    }
+
+    //--------------------------------------------------------------------------
+    // PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    /**
+     * SplitMix64 (and MurmurHash3) finalizer.
+     */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2012-2017 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+/**
+ * Fused multiply-add, used by (Strict)FastMath.fma(...).
+ * 
+ * This version uses a software implementation. The Java 11+ version
+ * (src/main/java11, used from the multi-release jar) delegates to Math.fma(...),
+ * which the JIT can compile into an fma instruction.
+ */
+final class FmaSupport {
+
+    //--------------------------------------------------------------------------
+    // PACKAGE-PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    static double fma(double a, double b, double c) {
+        return CmnFastMath.fmaSoftware(a, b, c);
+    }
+
+    static float fma(float a, float b, float c) {
+        return CmnFastMath.fmaSoftware(a, b, c);
+    }
+
+    //--------------------------------------------------------------------------
+    // PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    private FmaSupport() {
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2012-2017 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+/**
+ * Immutable divisor, for fast division of many ints by a same (non-zero)
+ * int, which does not need to be a power of two.
+ * 
+ * Division instructions being much slower than multiplications (typically
+ * 20 to 40 cycles against 3), this class precomputes a "magic number"
+ * and a shift (Henry S. Warren, Jr., Hacker's Delight (2nd ed.), chapter 10,
+ * which is also the technique used by compilers, and by libdivide),
+ * such as a division then only takes a multiplication and a few shifts
+ * and additions.
+ * 
+ * Results are identical to those of the corresponding division operators
+ * or CmnFastMath methods, including for Integer.MIN_VALUE / -1,
+ * which overflows into Integer.MIN_VALUE.
+ * 
+ * Only worth it when dividing a lot by a same divisor, for constructing
+ * an instance costs a few tens of divisions.
+ */
+public final class IntDivisor {
+
+    //--------------------------------------------------------------------------
+    // MEMBERS
+    //--------------------------------------------------------------------------
+
+    private final int divisor;
+
+    /**
+     * Signed magic number, with |magic| <= 2^32, such as
+     * magic * x never overflows for int values of x.
+     */
+    private final long magic;
+
+    /**
+     * Shift to apply to magic * x, in [32,63].
+     */
+    private final int shift;
+
+    /**
+     * 1 for the quotient to be rounded toward zero for negative
+     * quotients, 0 for divisors 1 and -1 (for which magic * x is exact).
+     */
+    private final int negCorrection;
+
+    //--------------------------------------------------------------------------
+    // PUBLIC METHODS
+    //--------------------------------------------------------------------------
+
+    /**
+     * @param divisor A non-zero int value.
+     * @throws ArithmeticException if the specified divisor is zero.
+     */
+    public IntDivisor(int divisor) {
+        if (divisor == 0) {
+            throw new ArithmeticException("/ by zero");
+        }
+        this.divisor = divisor;
+        if ((divisor == 1) || (divisor == -1)) {
+            this.magic = (((long)divisor)<<32);
+            this.shift = 32;
+            this.negCorrection = 0;
+            return;
+        }
+        // Hacker's Delight, figure 10-1, using longs to hold unsigned ints.
+        final long two31 = (1L<<31);
+        final long ad = Math.abs((long)divisor);
+        final long t = two31 + (divisor>>>31);
+        final long anc = t - 1 - t%ad;
+        int p = 31;
+        long q1 = two31/anc;
+        long r1 = two31 - q1*anc;
+        long q2 = two31/ad;
+        long r2 = two31 - q2*ad;
+        long delta;
+        do {
+            p++;
+            q1 *= 2;
+            r1 *= 2;
+            if (r1 >= anc) {
+                q1++;
+                r1 -= anc;
+            }
+            q2 *= 2;
+            r2 *= 2;
+            if (r2 >= ad) {
+                q2++;
+                r2 -= ad;
+            }
+            delta = ad - r2;
+        } while ((q1 < delta) || ((q1 == delta) && (r1 == 0)));
+        this.magic = ((divisor < 0) ? -(q2+1) : (q2+1));
+        this.shift = p;
+        this.negCorrection = 1;
+    }
+
+    /**
+     * @return The divisor.
+     */
+    public int getDivisor() {
+        return this.divisor;
+    }
+
+    /**
+     * @param x An int value.
+     * @return x / divisor.
+     */
+    public int divide(int x) {
+        return divide(x, this.magic, this.shift, this.negCorrection);
+    }
+
+    /**
+     * @param x An int value.
+     * @return x % divisor.
+     */
+    public int remainder(int x) {
+        return x - divide(x, this.magic, this.shift, this.negCorrection) * this.divisor;
+    }
+
+    /**
+     * @param x An int value.
+     * @return CmnFastMath.floorDiv(x, divisor).
+     */
+    public int floorDiv(int x) {
+        return floorDiv(x, this.divisor, this.magic, this.shift, this.negCorrection);
+    }
+
+    /**
+     * @param x An int value.
+     * @return CmnFastMath.floorMod(x, divisor).
+     */
+    public int floorMod(int x) {
+        return floorMod(x, this.divisor, this.magic, this.shift, this.negCorrection);
+    }
+
+    /*
+     * bulk
+     */
+
+    /**
+     * Bulk version of divide(int), giving identical results.
+     * 
+     * src and dst can be the same array, in which case
+     * if ranges overlap, dstOff must be <= srcOff.
+     *
+     * @param src Dividends.
+     * @param srcOff Offset of first dividend in src.
+     * @param dst (out) Quotients.
+     * @param dstOff Offset of first quotient in dst.
+     * @param len Number of dividends.
+     * @throws IndexOutOfBoundsException if a range is out of bounds,
+     *         in which case dst is not modified.
+     */
+    public void divide(int[] src, int srcOff, int[] dst, int dstOff, int len) {
+        CmnFastMath.checkBulkRange(src.length, srcOff, len);
+        CmnFastMath.checkBulkRange(dst.length, dstOff, len);
+        final long magic = this.magic;
+        final int shift = this.shift;
+        final int negCorrection = this.negCorrection;
+        for (int i=0;i<len;i++) {
+            dst[dstOff+i] = divide(src[srcOff+i], magic, shift, negCorrection);
+        }
+    }
+
+    /**
+     * Bulk version of remainder(int), giving identical results.
+     * 
+     * src and dst can be the same array, in which case
+     * if ranges overlap, dstOff must be <= srcOff.
+     *
+     * @param src Dividends.
+     * @param srcOff Offset of first dividend in src.
+     * @param dst (out) Remainders.
+     * @param dstOff Offset of first remainder in dst.
+     * @param len Number of dividends.
+     * @throws IndexOutOfBoundsException if a range is out of bounds,
+     *         in which case dst is not modified.
+     */
+    public void remainder(int[] src, int srcOff, int[] dst, int dstOff, int len) {
+        CmnFastMath.checkBulkRange(src.length, srcOff, len);
+        CmnFastMath.checkBulkRange(dst.length, dstOff, len);
+        final int divisor = this.divisor;
+        final long magic = this.magic;
+        final int shift = this.shift;
+        final int negCorrection = this.negCorrection;
+        for (int i=0;i<len;i++) {
+            final int x = src[srcOff+i];
+            dst[dstOff+i] = x - divide(x, magic, shift, negCorrection) * divisor;
+        }
+    }
+
+    /**
+     * Bulk version of floorDiv(int), giving identical results.
+     * 
+     * src and dst can be the same array, in which case
+     * if ranges overlap, dstOff must be <= srcOff.
+     *
+     * @param src Dividends.
+     * @param srcOff Offset of first dividend in src.
+     * @param dst (out) Floor quotients.
+     * @param dstOff Offset of first floor quotient in dst.
+     * @param len Number of dividends.
+     * @throws IndexOutOfBoundsException if a range is out of bounds,
+     *         in which case dst is not modified.
+     */
+    public void floorDiv(int[] src, int srcOff, int[] dst, int dstOff, int len) {
+        CmnFastMath.checkBulkRange(src.length, srcOff, len);
+        CmnFastMath.checkBulkRange(dst.length, dstOff, len);
+        final int divisor = this.divisor;
+        final long magic = this.magic;
+        final int shift = this.shift;
+        final int negCorrection = this.negCorrection;
+        for (int i=0;i<len;i++) {
+            dst[dstOff+i] = floorDiv(src[srcOff+i], divisor, magic, shift, negCorrection);
+        }
+    }
+
+    /**
+     * Bulk version of floorMod(int), giving identical results.
+     * 
+     * src and dst can be the same array, in which case
+     * if ranges overlap, dstOff must be <= srcOff.
+     *
+     * @param src Dividends.
+     * @param srcOff Offset of first dividend in src.
+     * @param dst (out) Floor moduli.
+     * @param dstOff Offset of first floor modulus in dst.
+     * @param len Number of dividends.
+     * @throws IndexOutOfBoundsException if a range is out of bounds,
+     *         in which case dst is not modified.
+     */
+    public void floorMod(int[] src, int srcOff, int[] dst, int dstOff, int len) {
+        CmnFastMath.checkBulkRange(src.length, srcOff, len);
+        CmnFastMath.checkBulkRange(dst.length, dstOff, len);
+        final int divisor = this.divisor;
+        final long magic = this.magic;
+        final int shift = this.shift;
+        final int negCorrection = this.negCorrection;
+        for (int i=0;i<len;i++) {
+            dst[dstOff+i] = floorMod(src[srcOff+i], divisor, magic, shift, negCorrection);
+        }
+    }
+
+    /*
+     * 
+     */
+
+    @Override
+    public String toString() {
+        return "[divisor=" + this.divisor + ",magic=" + this.magic + ",shift=" + this.shift + "]";
+    }
+
+    //--------------------------------------------------------------------------
+    // PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    private static int divide(int x, long magic, int shift, int negCorrection) {
+        // Floor of an approximation of x/divisor slightly toward -Infinity,
+        // plus one if negative, to get it rounded toward zero.
+        final int q = (int)((magic * x) >> shift);
+        return q + ((q >>> 31) & negCorrection);
+    }
+
+    private static int floorDiv(int x, int divisor, long magic, int shift, int negCorrection) {
+        final int q = divide(x, magic, shift, negCorrection);
+        if (((x ^ divisor) < 0) && (q * divisor != x)) {
+            return q - 1;
+        }
+        return q;
+    }
+
+    private static int floorMod(int x, int divisor, long magic, int shift, int negCorrection) {
+        final int r = x - divide(x, magic, shift, negCorrection) * divisor;
+        if ((r != 0) && ((r ^ divisor) < 0)) {
+            return r + divisor;
+        }
+        return r;
+    }
+}
@@ -0,0 +1,344 @@
+/*
+ * Copyright 2012-2017 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+/**
+ * Immutable divisor, for fast division of many longs by a same (non-zero)
+ * long, which does not need to be a power of two.
+ * 
+ * Division instructions being much slower than multiplications (typically
+ * 20 to 40 cycles against 3), this class precomputes a "magic number"
+ * and a shift (Henry S. Warren, Jr., Hacker's Delight (2nd ed.), chapter 10,
+ * which is also the technique used by compilers, and by libdivide),
+ * such as a division then only takes a multiplication (high part of
+ * the 128 bits product, for which Math.multiplyHigh(long,long) is used
+ * when running on Java 11+) and a few shifts and additions.
+ * 
+ * Results are identical to those of the corresponding division operators
+ * or CmnFastMath methods, including for Long.MIN_VALUE / -1,
+ * which overflows into Long.MIN_VALUE.
+ * 
+ * Only worth it when dividing a lot by a same divisor, for constructing
+ * an instance costs a few tens of divisions.
+ */
+public final class LongDivisor {
+
+    //--------------------------------------------------------------------------
+    // MEMBERS
+    //--------------------------------------------------------------------------
+
+    private final long divisor;
+
+    /**
+     * Magic number, as a signed long (true magic number, which
+     * might not fit in a long, is magic + addFactor * 2^64).
+     */
+    private final long magic;
+
+    /**
+     * In {-1,0,1}.
+     */
+    private final long addFactor;
+
+    /**
+     * Shift to apply to the high part of (true magic) * x, in [0,63].
+     */
+    private final int shift;
+
+    /**
+     * 1 for the quotient to be rounded toward zero for negative
+     * quotients, 0 for divisors 1 and -1 (for which magic * x is exact).
+     */
+    private final long negCorrection;
+
+    //--------------------------------------------------------------------------
+    // PUBLIC METHODS
+    //--------------------------------------------------------------------------
+
+    /**
+     * @param divisor A non-zero long value.
+     * @throws ArithmeticException if the specified divisor is zero.
+     */
+    public LongDivisor(long divisor) {
+        if (divisor == 0) {
+            throw new ArithmeticException("/ by zero");
+        }
+        this.divisor = divisor;
+        if ((divisor == 1) || (divisor == -1)) {
+            this.magic = 0;
+            this.addFactor = divisor;
+            this.shift = 0;
+            this.negCorrection = 0;
+            return;
+        }
+        // Hacker's Delight, figure 10-1, for 64 bits, with unsigned arithmetic.
+        final long two63 = Long.MIN_VALUE;
+        final long ad = ((divisor < 0) ? -divisor : divisor);
+        final long t = two63 + (divisor>>>63);
+        final long anc = t - 1 - remainderUnsigned(t, ad);
+        int p = 63;
+        long q1 = divideUnsigned(two63, anc);
+        long r1 = two63 - q1*anc;
+        long q2 = divideUnsigned(two63, ad);
+        long r2 = two63 - q2*ad;
+        long delta;
+        do {
+            p++;
+            q1 <<= 1;
+            r1 <<= 1;
+            if (!lessThanUnsigned(r1, anc)) {
+                q1++;
+                r1 -= anc;
+            }
+            q2 <<= 1;
+            r2 <<= 1;
+            if (!lessThanUnsigned(r2, ad)) {
+                q2++;
+                r2 -= ad;
+            }
+            delta = ad - r2;
+        } while (lessThanUnsigned(q1, delta) || ((q1 == delta) && (r1 == 0)));
+        final long magic = ((divisor < 0) ? -(q2+1) : (q2+1));
+        this.magic = magic;
+        if ((divisor > 0) && (magic < 0)) {
+            this.addFactor = 1;
+        } else if ((divisor < 0) && (magic > 0)) {
+            this.addFactor = -1;
+        } else {
+            this.addFactor = 0;
+        }
+        this.shift = p - 64;
+        this.negCorrection = 1;
+    }
+
+    /**
+     * @return The divisor.
+     */
+    public long getDivisor() {
+        return this.divisor;
+    }
+
+    /**
+     * @param x A long value.
+     * @return x / divisor.
+     */
+    public long divide(long x) {
+        return divide(x, this.magic, this.addFactor, this.shift, this.negCorrection);
+    }
+
+    /**
+     * @param x A long value.
+     * @return x % divisor.
+     */
+    public long remainder(long x) {
+        return x - divide(x, this.magic, this.addFactor, this.shift, this.negCorrection) * this.divisor;
+    }
+
+    /**
+     * @param x A long value.
+     * @return CmnFastMath.floorDiv(x, divisor).
+     */
+    public long floorDiv(long x) {
+        return floorDiv(x, this.divisor, this.magic, this.addFactor, this.shift, this.negCorrection);
+    }
+
+    /**
+     * @param x A long value.
+     * @return CmnFastMath.floorMod(x, divisor).
+     */
+    public long floorMod(long x) {
+        return floorMod(x, this.divisor, this.magic, this.addFactor, this.shift, this.negCorrection);
+    }
+
+    /*
+     * bulk
+     */
+
+    /**
+     * Bulk version of divide(long), giving identical results.
+     * 
+     * src and dst can be the same array, in which case
+     * if ranges overlap, dstOff must be <= srcOff.
+     *
+     * @param src Dividends.
+     * @param srcOff Offset of first dividend in src.
+     * @param dst (out) Quotients.
+     * @param dstOff Offset of first quotient in dst.
+     * @param len Number of dividends.
+     * @throws IndexOutOfBoundsException if a range is out of bounds,
+     *         in which case dst is not modified.
+     */
+    public void divide(long[] src, int srcOff, long[] dst, int dstOff, int len) {
+        CmnFastMath.checkBulkRange(src.length, srcOff, len);
+        CmnFastMath.checkBulkRange(dst.length, dstOff, len);
+        final long magic = this.magic;
+        final long addFactor = this.addFactor;
+        final int shift = this.shift;
+        final long negCorrection = this.negCorrection;
+        for (int i=0;i<len;i++) {
+            dst[dstOff+i] = divide(src[srcOff+i], magic, addFactor, shift, negCorrection);
+        }
+    }
+
+    /**
+     * Bulk version of remainder(long), giving identical results.
+     * 
+     * src and dst can be the same array, in which case
+     * if ranges overlap, dstOff must be <= srcOff.
+     *
+     * @param src Dividends.
+     * @param srcOff Offset of first dividend in src.
+     * @param dst (out) Remainders.
+     * @param dstOff Offset of first remainder in dst.
+     * @param len Number of dividends.
+     * @throws IndexOutOfBoundsException if a range is out of bounds,
+     *         in which case dst is not modified.
+     */
+    public void remainder(long[] src, int srcOff, long[] dst, int dstOff, int len) {
+        CmnFastMath.checkBulkRange(src.length, srcOff, len);
+        CmnFastMath.checkBulkRange(dst.length, dstOff, len);
+        final long divisor = this.divisor;
+        final long magic = this.magic;
+        final long addFactor = this.addFactor;
+        final int shift = this.shift;
+        final long negCorrection = this.negCorrection;
+        for (int i=0;i<len;i++) {
+            final long x = src[srcOff+i];
+            dst[dstOff+i] = x - divide(x, magic, addFactor, shift, negCorrection) * divisor;
+        }
+    }
+
+    /**
+     * Bulk version of floorDiv(long), giving identical results.
+     * 
+     * src and dst can be the same array, in which case
+     * if ranges overlap, dstOff must be <= srcOff.
+     *
+     * @param src Dividends.
+     * @param srcOff Offset of first dividend in src.
+     * @param dst (out) Floor quotients.
+     * @param dstOff Offset of first floor quotient in dst.
+     * @param len Number of dividends.
+     * @throws IndexOutOfBoundsException if a range is out of bounds,
+     *         in which case dst is not modified.
+     */
+    public void floorDiv(long[] src, int srcOff, long[] dst, int dstOff, int len) {
+        CmnFastMath.checkBulkRange(src.length, srcOff, len);
+        CmnFastMath.checkBulkRange(dst.length, dstOff, len);
+        final long divisor = this.divisor;
+        final long magic = this.magic;
+        final long addFactor = this.addFactor;
+        final int shift = this.shift;
+        final long negCorrection = this.negCorrection;
+        for (int i=0;i<len;i++) {
+            dst[dstOff+i] = floorDiv(src[srcOff+i], divisor, magic, addFactor, shift, negCorrection);
+        }
+    }
+
+    /**
+     * Bulk version of floorMod(long), giving identical results.
+     * 
+     * src and dst can be the same array, in which case
+     * if ranges overlap, dstOff must be <= srcOff.
+     *
+     * @param src Dividends.
+     * @param srcOff Offset of first dividend in src.
+     * @param dst (out) Floor moduli.
+     * @param dstOff Offset of first floor modulus in dst.
+     * @param len Number of dividends.
+     * @throws IndexOutOfBoundsException if a range is out of bounds,
+     *         in which case dst is not modified.
+     */
+    public void floorMod(long[] src, int srcOff, long[] dst, int dstOff, int len) {
+        CmnFastMath.checkBulkRange(src.length, srcOff, len);
+        CmnFastMath.checkBulkRange(dst.length, dstOff, len);
+        final long divisor = this.divisor;
+        final long magic = this.magic;
+        final long addFactor = this.addFactor;
+        final int shift = this.shift;
+        final long negCorrection = this.negCorrection;
+        for (int i=0;i<len;i++) {
+            dst[dstOff+i] = floorMod(src[srcOff+i], divisor, magic, addFactor, shift, negCorrection);
+        }
+    }
+
+    /*
+     * 
+     */
+
+    @Override
+    public String toString() {
+        return "[divisor=" + this.divisor + ",magic=" + this.magic + ",shift=" + this.shift + "]";
+    }
+
+    //--------------------------------------------------------------------------
+    // PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    private static long divide(long x, long magic, long addFactor, int shift, long negCorrection) {
+        // Floor of an approximation of x/divisor slightly toward -Infinity,
+        // plus one if negative, to get it rounded toward zero.
+        final long q = ((MultiplyHighSupport.multiplyHigh(magic, x) + addFactor * x) >> shift);
+        return q + ((q >>> 63) & negCorrection);
+    }
+
+    private static long floorDiv(long x, long divisor, long magic, long addFactor, int shift, long negCorrection) {
+        final long q = divide(x, magic, addFactor, shift, negCorrection);
+        if (((x ^ divisor) < 0) && (q * divisor != x)) {
+            return q - 1;
+        }
+        return q;
+    }
+
+    private static long floorMod(long x, long divisor, long magic, long addFactor, int shift, long negCorrection) {
+        final long r = x - divide(x, magic, addFactor, shift, negCorrection) * divisor;
+        if ((r != 0) && ((r ^ divisor) < 0)) {
+            return r + divisor;
+        }
+        return r;
+    }
+
+    private static boolean lessThanUnsigned(long a, long b) {
+        return (a + Long.MIN_VALUE) < (b + Long.MIN_VALUE);
+    }
+
+    /**
+     * @param n Dividend, as unsigned.
+     * @param d Divisor, as unsigned, non-zero.
+     * @return n / d, as unsigned.
+     */
+    private static long divideUnsigned(long n, long d) {
+        if (d < 0) {
+            // d >= 2^63: quotient is 0 or 1.
+            return (lessThanUnsigned(n, d) ? 0 : 1);
+        }
+        if (n >= 0) {
+            return n / d;
+        }
+        final long q = ((n >>> 1) / d) << 1;
+        final long r = n - q * d;
+        return q + (lessThanUnsigned(r, d) ? 0 : 1);
+    }
+
+    /**
+     * @param n Dividend, as unsigned.
+     * @param d Divisor, as unsigned, non-zero.
+     * @return n % d, as unsigned.
+     */
+    private static long remainderUnsigned(long n, long d) {
+        return n - divideUnsigned(n, d) * d;
+    }
+}
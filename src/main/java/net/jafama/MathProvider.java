@@ -0,0 +1,53 @@
+/*
+ * Copyright 2012-2017 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+/**
+ * Math API methods for which FastMath, StrictFastMath, Math and StrictMath
+ * have different implementations, as an interface, for the implementation
+ * to be chosen at runtime (cf. MathProviders), for example to compare
+ * FastMath against Math without restarting the JVM.
+ * 
+ * For a given instance, methods behave as the corresponding static methods,
+ * including their configuration (jafama.usejdk etc. for FastMath).
+ */
+public interface MathProvider {
+    public double sin(double a);
+    public double cos(double a);
+    public double tan(double a);
+    public double asin(double a);
+    public double acos(double a);
+    public double atan(double a);
+    public double atan2(double y, double x);
+    public double toRadians(double angdeg);
+    public double toDegrees(double angrad);
+    public double sinh(double x);
+    public double cosh(double x);
+    public double tanh(double x);
+    public double exp(double x);
+    public double expm1(double x);
+    public double log(double x);
+    public double log10(double x);
+    public double log1p(double x);
+    public double pow(double x, double y);
+    public double sqrt(double x);
+    public double cbrt(double x);
+    public double hypot(double x, double y);
+    public double floor(double a);
+    public double ceil(double a);
+    public double rint(double a);
+    public double IEEEremainder(double f1, double f2);
+}
@@ -0,0 +1,418 @@
+/*
+ * Copyright 2012-2017 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+/**
+ * MathProvider instances, delegating to FastMath, StrictFastMath,
+ * Math and StrictMath.
+ * 
+ * Implementations are final classes without state, so that calls
+ * from monomorphic call sites get inlined by the JIT, down to the
+ * static methods (cf. MathProviderJmh in src/jmh).
+ */
+public final class MathProviders {
+
+    //--------------------------------------------------------------------------
+    // MEMBERS
+    //--------------------------------------------------------------------------
+
+    public static final MathProvider FAST_MATH = new MyFastMathProvider();
+    public static final MathProvider STRICT_FAST_MATH = new MyStrictFastMathProvider();
+    public static final MathProvider MATH = new MyMathProvider();
+    public static final MathProvider STRICT_MATH = new MyStrictMathProvider();
+
+    //--------------------------------------------------------------------------
+    // PUBLIC METHODS
+    //--------------------------------------------------------------------------
+
+    /**
+     * Allows to choose an implementation with a configuration value
+     * (property, etc.).
+     * 
+     * @param name "FastMath", "StrictFastMath", "Math" or "StrictMath".
+     * @return The corresponding instance.
+     * @throws NullPointerException if the specified name is null.
+     * @throws IllegalArgumentException if the specified name is not
+     *         one of the above.
+     */
+    public static MathProvider forName(String name) {
+        if (name.equals("FastMath")) {
+            return FAST_MATH;
+        } else if (name.equals("StrictFastMath")) {
+            return STRICT_FAST_MATH;
+        } else if (name.equals("Math")) {
+            return MATH;
+        } else if (name.equals("StrictMath")) {
+            return STRICT_MATH;
+        } else {
+            throw new IllegalArgumentException("unknown provider: " + name);
+        }
+    }
+
+    //--------------------------------------------------------------------------
+    // PRIVATE CLASSES
+    //--------------------------------------------------------------------------
+
+    /**
+     * Delegates to FastMath.
+     */
+    private static final class MyFastMathProvider implements MathProvider {
+        public double sin(double a) {
+            return FastMath.sin(a);
+        }
+        public double cos(double a) {
+            return FastMath.cos(a);
+        }
+        public double tan(double a) {
+            return FastMath.tan(a);
+        }
+        public double asin(double a) {
+            return FastMath.asin(a);
+        }
+        public double acos(double a) {
+            return FastMath.acos(a);
+        }
+        public double atan(double a) {
+            return FastMath.atan(a);
+        }
+        public double atan2(double y, double x) {
+            return FastMath.atan2(y, x);
+        }
+        public double toRadians(double angdeg) {
+            return FastMath.toRadians(angdeg);
+        }
+        public double toDegrees(double angrad) {
+            return FastMath.toDegrees(angrad);
+        }
+        public double sinh(double x) {
+            return FastMath.sinh(x);
+        }
+        public double cosh(double x) {
+            return FastMath.cosh(x);
+        }
+        public double tanh(double x) {
+            return FastMath.tanh(x);
+        }
+        public double exp(double x) {
+            return FastMath.exp(x);
+        }
+        public double expm1(double x) {
+            return FastMath.expm1(x);
+        }
+        public double log(double x) {
+            return FastMath.log(x);
+        }
+        public double log10(double x) {
+            return FastMath.log10(x);
+        }
+        public double log1p(double x) {
+            return FastMath.log1p(x);
+        }
+        public double pow(double x, double y) {
+            return FastMath.pow(x, y);
+        }
+        public double sqrt(double x) {
+            return FastMath.sqrt(x);
+        }
+        public double cbrt(double x) {
+            return FastMath.cbrt(x);
+        }
+        public double hypot(double x, double y) {
+            return FastMath.hypot(x, y);
+        }
+        public double floor(double a) {
+            return FastMath.floor(a);
+        }
+        public double ceil(double a) {
+            return FastMath.ceil(a);
+        }
+        public double rint(double a) {
+            return FastMath.rint(a);
+        }
+        public double IEEEremainder(double f1, double f2) {
+            return FastMath.IEEEremainder(f1, f2);
+        }
+        @Override
+        public String toString() {
+            return "FastMath";
+        }
+    }
+
+    /**
+     * Delegates to StrictFastMath.
+     */
+    private static final class MyStrictFastMathProvider implements MathProvider {
+        public double sin(double a) {
+            return StrictFastMath.sin(a);
+        }
+        public double cos(double a) {
+            return StrictFastMath.cos(a);
+        }
+        public double tan(double a) {
+            return StrictFastMath.tan(a);
+        }
+        public double asin(double a) {
+            return StrictFastMath.asin(a);
+        }
+        public double acos(double a) {
+            return StrictFastMath.acos(a);
+        }
+        public double atan(double a) {
+            return StrictFastMath.atan(a);
+        }
+        public double atan2(double y, double x) {
+            return StrictFastMath.atan2(y, x);
+        }
+        public double toRadians(double angdeg) {
+            return StrictFastMath.toRadians(angdeg);
+        }
+        public double toDegrees(double angrad) {
+            return StrictFastMath.toDegrees(angrad);
+        }
+        public double sinh(double x) {
+            return StrictFastMath.sinh(x);
+        }
+        public double cosh(double x) {
+            return StrictFastMath.cosh(x);
+        }
+        public double tanh(double x) {
+            return StrictFastMath.tanh(x);
+        }
+        public double exp(double x) {
+            return StrictFastMath.exp(x);
+        }
+        public double expm1(double x) {
+            return StrictFastMath.expm1(x);
+        }
+        public double log(double x) {
+            return StrictFastMath.log(x);
+        }
+        public double log10(double x) {
+            return StrictFastMath.log10(x);
+        }
+        public double log1p(double x) {
+            return StrictFastMath.log1p(x);
+        }
+        public double pow(double x, double y) {
+            return StrictFastMath.pow(x, y);
+        }
+        public double sqrt(double x) {
+            return StrictFastMath.sqrt(x);
+        }
+        public double cbrt(double x) {
+            return StrictFastMath.cbrt(x);
+        }
+        public double hypot(double x, double y) {
+            return StrictFastMath.hypot(x, y);
+        }
+        public double floor(double a) {
+            return StrictFastMath.floor(a);
+        }
+        public double ceil(double a) {
+            return StrictFastMath.ceil(a);
+        }
+        public double rint(double a) {
+            return StrictFastMath.rint(a);
+        }
+        public double IEEEremainder(double f1, double f2) {
+            return StrictFastMath.IEEEremainder(f1, f2);
+        }
+        @Override
+        public String toString() {
+            return "StrictFastMath";
+        }
+    }
+
+    /**
+     * Delegates to Math.
+     */
+    private static final class MyMathProvider implements MathProvider {
+        public double sin(double a) {
+            return Math.sin(a);
+        }
+        public double cos(double a) {
+            return Math.cos(a);
+        }
+        public double tan(double a) {
+            return Math.tan(a);
+        }
+        public double asin(double a) {
+            return Math.asin(a);
+        }
+        public double acos(double a) {
+            return Math.acos(a);
+        }
+        public double atan(double a) {
+            return Math.atan(a);
+        }
+        public double atan2(double y, double x) {
+            return Math.atan2(y, x);
+        }
+        public double toRadians(double angdeg) {
+            return Math.toRadians(angdeg);
+        }
+        public double toDegrees(double angrad) {
+            return Math.toDegrees(angrad);
+        }
+        public double sinh(double x) {
+            return Math.sinh(x);
+        }
+        public double cosh(double x) {
+            return Math.cosh(x);
+        }
+        public double tanh(double x) {
+            return Math.tanh(x);
+        }
+        public double exp(double x) {
+            return Math.exp(x);
+        }
+        public double expm1(double x) {
+            return Math.expm1(x);
+        }
+        public double log(double x) {
+            return Math.log(x);
+        }
+        public double log10(double x) {
+            return Math.log10(x);
+        }
+        public double log1p(double x) {
+            return Math.log1p(x);
+        }
+        public double pow(double x, double y) {
+            return Math.pow(x, y);
+        }
+        public double sqrt(double x) {
+            return Math.sqrt(x);
+        }
+        public double cbrt(double x) {
+            return Math.cbrt(x);
+        }
+        public double hypot(double x, double y) {
+            return Math.hypot(x, y);
+        }
+        public double floor(double a) {
+            return Math.floor(a);
+        }
+        public double ceil(double a) {
+            return Math.ceil(a);
+        }
+        public double rint(double a) {
+            return Math.rint(a);
+        }
+        public double IEEEremainder(double f1, double f2) {
+            return Math.IEEEremainder(f1, f2);
+        }
+        @Override
+        public String toString() {
+            return "Math";
+        }
+    }
+
+    /**
+     * Delegates to StrictMath.
+     */
+    private static final class MyStrictMathProvider implements MathProvider {
+        public double sin(double a) {
+            return StrictMath.sin(a);
+        }
+        public double cos(double a) {
+            return StrictMath.cos(a);
+        }
+        public double tan(double a) {
+            return StrictMath.tan(a);
+        }
+        public double asin(double a) {
+            return StrictMath.asin(a);
+        }
+        public double acos(double a) {
+            return StrictMath.acos(a);
+        }
+        public double atan(double a) {
+            return StrictMath.atan(a);
+        }
+        public double atan2(double y, double x) {
+            return StrictMath.atan2(y, x);
+        }
+        public double toRadians(double angdeg) {
+            return StrictMath.toRadians(angdeg);
+        }
+        public double toDegrees(double angrad) {
+            return StrictMath.toDegrees(angrad);
+        }
+        public double sinh(double x) {
+            return StrictMath.sinh(x);
+        }
+        public double cosh(double x) {
+            return StrictMath.cosh(x);
+        }
+        public double tanh(double x) {
+            return StrictMath.tanh(x);
+        }
+        public double exp(double x) {
+            return StrictMath.exp(x);
+        }
+        public double expm1(double x) {
+            return StrictMath.expm1(x);
+        }
+        public double log(double x) {
+            return StrictMath.log(x);
+        }
+        public double log10(double x) {
+            return StrictMath.log10(x);
+        }
+        public double log1p(double x) {
+            return StrictMath.log1p(x);
+        }
+        public double pow(double x, double y) {
+            return StrictMath.pow(x, y);
+        }
+        public double sqrt(double x) {
+            return StrictMath.sqrt(x);
+        }
+        public double cbrt(double x) {
+            return StrictMath.cbrt(x);
+        }
+        public double hypot(double x, double y) {
+            return StrictMath.hypot(x, y);
+        }
+        public double floor(double a) {
+            return StrictMath.floor(a);
+        }
+        public double ceil(double a) {
+            return StrictMath.ceil(a);
+        }
+        public double rint(double a) {
+            return StrictMath.rint(a);
+        }
+        public double IEEEremainder(double f1, double f2) {
+            return StrictMath.IEEEremainder(f1, f2);
+        }
+        @Override
+        public String toString() {
+            return "StrictMath";
+        }
+    }
+
+    //--------------------------------------------------------------------------
+    // PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    /**
+     * Non-instantiable.
+     */
+    private MathProviders() {
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2012-2017 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+/**
+ * High part of 128 bits products, used by CmnFastMath.multiplyHigh(...)
+ * and unsignedMultiplyHigh(...) methods, and by LongDivisor.
+ * 
+ * This version uses a software implementation. The Java 11+ version
+ * (src/main/java11, used from the multi-release jar) delegates to
+ * Math.multiplyHigh(...), which the JIT compiles into a single
+ * multiplication instruction on most platforms.
+ */
+final class MultiplyHighSupport {
+
+    //--------------------------------------------------------------------------
+    // PACKAGE-PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    static long multiplyHigh(long x, long y) {
+        return CmnFastMath.multiplyHighSoftware(x, y);
+    }
+
+    static long unsignedMultiplyHigh(long x, long y) {
+        // Signed product high part, plus y if x is negative
+        // (i.e. >= 2^63 as unsigned), plus x if y is negative.
+        return CmnFastMath.multiplyHighSoftware(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+    }
+
+    //--------------------------------------------------------------------------
+    // PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    private MultiplyHighSupport() {
+    }
+}
@@ -15,6 +15,10 @@
  */
 package net.jafama;
 
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
 /**
  * Class containing various basic utility methods to deal with numbers.
  * This class is meant to be light (no big look-up tables or such).
@@ -98,6 +102,12 @@ public final class NumbersUtils {
     
     static final double NO_CSN_MIN_BOUND_INCL = 1e-3;
     static final double NO_CSN_MAX_BOUND_EXCL = 1e7;
+
+    /**
+     * Decimal exponents magnitudes from which parseDouble methods
+     * delegate to Double.parseDouble(String).
+     */
+    private static final int PARSE_MAX_EXP = 100000;
     
     private static final double PIO2_HI = Double.longBitsToDouble(0x3FF921FB54400000L); // 1.57079632673412561417e+00 first 33 bits of pi/2
     private static final double PIO2_LO = Double.longBitsToDouble(0x3DD0B4611A626331L); // 6.07710050650619224932e-11 pi/2 - PIO2_HI
@@ -1949,49 +1959,15 @@ public final class NumbersUtils {
             return Integer.toString(value);
         }
         
-        int negValue;
-        final int signSize;
-        final boolean negative = (value < 0);
-        if (negative) {
-            negValue = value;
-            signSize = 1;
-        } else {
-            negValue = -value;
-            signSize = 0;
-        }
+        final int negValue = ((value < 0) ? value : -value);
         // Faster if we just use max possible number of characters (33),
         // but we prefer to take care of garbage's memory footprint.
         // Checks radix.
-        final int nbrOfChars = signSize + Math.max(paddingUpTo, computeNbrOfDigits_negValue(negValue, radix));
+        final int nbrOfChars = computeNbrOfChars_negValue(negValue, (value < 0), radix, paddingUpTo);
 
         final char[] chars = new char[nbrOfChars];
-
-        int charPos = nbrOfChars;
-
-        final boolean radixIsPowerOfTwo = ((radix & (radix-1)) == 0);
-        // Not allowing Integer.MIN_VALUE so it can be negated.
-        if (radixIsPowerOfTwo && (negValue != Integer.MIN_VALUE)) {
-            final int mask = radix-1;
-            final int divShift = DIV_SHIFT_BY_RADIX[radix];
-            while (negValue <= -radix) {
-                chars[--charPos] = CHAR_BY_DIGIT[(int)((-negValue) & mask)];
-                negValue = -((-negValue) >> divShift);
-            }
-        } else {
-            while (negValue <= -radix) {
-                chars[--charPos] = CHAR_BY_DIGIT[(int)(-(negValue % radix))];
-                negValue /= radix;
-            }
-        }
-        chars[--charPos] = CHAR_BY_DIGIT[(int)(-negValue)];
-
-        while (charPos > signSize) {
-            chars[--charPos] = '0';
-        }
-
-        if (negative) {
-            chars[0] = '-';
-        }
+        
+        toChars_negValue(negValue, (value < 0), radix, nbrOfChars, chars, 0);
 
         return new String(chars);
     }
@@ -2009,49 +1985,199 @@ public final class NumbersUtils {
             return Long.toString(value);
         }
         
-        long negValue;
-        final int signSize;
-        final boolean negative = (value < 0);
-        if (negative) {
-            negValue = value;
-            signSize = 1;
-        } else {
-            negValue = -value;
-            signSize = 0;
-        }
+        final long negValue = ((value < 0) ? value : -value);
         // Checks radix.
-        final int nbrOfChars = signSize + Math.max(paddingUpTo, computeNbrOfDigits_negValue(negValue, radix));
+        final int nbrOfChars = computeNbrOfChars_negValue(negValue, (value < 0), radix, paddingUpTo);
 
         final char[] chars = new char[nbrOfChars];
+        
+        toChars_negValue(negValue, (value < 0), radix, nbrOfChars, chars, 0);
 
-        int charPos = nbrOfChars;
+        return new String(chars);
+    }
 
-        final boolean radixIsPowerOfTwo = ((radix & (radix-1)) == 0);
-        // Not allowing Long.MIN_VALUE so it can be negated.
-        if (radixIsPowerOfTwo && (negValue != Long.MIN_VALUE)) {
-            final int mask = radix-1;
-            final int divShift = DIV_SHIFT_BY_RADIX[radix];
-            while (negValue <= -radix) {
-                chars[--charPos] = CHAR_BY_DIGIT[(int)((-negValue) & mask)];
-                negValue = -((-negValue) >> divShift);
-            }
-        } else {
-            while (negValue <= -radix) {
-                chars[--charPos] = CHAR_BY_DIGIT[(int)(-(negValue % radix))];
-                negValue /= radix;
-            }
-        }
-        chars[--charPos] = CHAR_BY_DIGIT[(int)(-negValue)];
+    /*
+     * toString (radix), allocation-free
+     * 
+     * These methods produce the same characters as the corresponding
+     * toString methods, but write them into a destination provided
+     * by the caller, and return the number of characters written.
+     * If the characters do not fit in the destination, an exception
+     * is thrown before any character is written.
+     */
+
+    /**
+     * @param radix A radix in [2,36].
+     * @param paddingUpTo Number of digits (sign excluded) up to which left-padding with zeros is done.
+     * @param dst Array where to write the characters.
+     * @param dstPos Index in the array of the first character to write.
+     * @return The number of characters written.
+     * @throws IllegalArgumentException if the specified radix is out of range.
+     * @throws IndexOutOfBoundsException if the characters do not fit
+     *         in the specified array from the specified index.
+     */
+    public static int toChars(int value, int radix, int paddingUpTo, char[] dst, int dstPos) {
+        final int negValue = ((value < 0) ? value : -value);
+        // Checks radix.
+        final int nbrOfChars = computeNbrOfChars_negValue(negValue, (value < 0), radix, paddingUpTo);
+        checkCharsFit(dst, dstPos, nbrOfChars);
+        toChars_negValue(negValue, (value < 0), radix, nbrOfChars, dst, dstPos);
+        return nbrOfChars;
+    }
+
+    /**
+     * @param radix A radix in [2,36].
+     * @param paddingUpTo Number of digits (sign excluded) up to which left-padding with zeros is done.
+     * @param dst Array where to write the characters.
+     * @param dstPos Index in the array of the first character to write.
+     * @return The number of characters written.
+     * @throws IllegalArgumentException if the specified radix is out of range.
+     * @throws IndexOutOfBoundsException if the characters do not fit
+     *         in the specified array from the specified index.
+     */
+    public static int toChars(long value, int radix, int paddingUpTo, char[] dst, int dstPos) {
+        final long negValue = ((value < 0) ? value : -value);
+        // Checks radix.
+        final int nbrOfChars = computeNbrOfChars_negValue(negValue, (value < 0), radix, paddingUpTo);
+        checkCharsFit(dst, dstPos, nbrOfChars);
+        toChars_negValue(negValue, (value < 0), radix, nbrOfChars, dst, dstPos);
+        return nbrOfChars;
+    }
+
+    /**
+     * @param radix A radix in [2,36].
+     * @param paddingUpTo Number of digits (sign excluded) up to which left-padding with zeros is done.
+     * @param dst StringBuilder to append the characters to.
+     * @return The number of characters appended.
+     * @throws IllegalArgumentException if the specified radix is out of range.
+     */
+    public static int append(int value, int radix, int paddingUpTo, StringBuilder dst) {
+        return append((long)value, radix, paddingUpTo, dst);
+    }
 
-        while (charPos > signSize) {
-            chars[--charPos] = '0';
+    /**
+     * @param radix A radix in [2,36].
+     * @param paddingUpTo Number of digits (sign excluded) up to which left-padding with zeros is done.
+     * @param dst StringBuilder to append the characters to.
+     * @return The number of characters appended.
+     * @throws IllegalArgumentException if the specified radix is out of range.
+     */
+    public static int append(long value, int radix, int paddingUpTo, StringBuilder dst) {
+        final long negValue = ((value < 0) ? value : -value);
+        // Checks radix.
+        final int nbrOfDigits = computeNbrOfDigits_negValue(negValue, radix);
+        final int nbrOfChars = computeNbrOfChars_nbrOfDigits(nbrOfDigits, (value < 0), paddingUpTo);
+        dst.ensureCapacity(dst.length() + nbrOfChars);
+        if (value < 0) {
+            dst.append('-');
         }
+        for (int i=nbrOfDigits;i<paddingUpTo;i++) {
+            dst.append('0');
+        }
+        // Last digit apart, for the power of radix not to overflow
+        // (radix^(nbrOfDigits-1) does for Long.MIN_VALUE in radix 2 or 8).
+        long negRem = negValue / radix;
+        for (long p=((nbrOfDigits > 1) ? computePowerOfRadix(radix, nbrOfDigits-2) : 0);p!=0;p/=radix) {
+            dst.append(CHAR_BY_DIGIT[(int)(-(negRem / p))]);
+            negRem %= p;
+        }
+        dst.append(CHAR_BY_DIGIT[(int)(-(negValue % radix))]);
+        return nbrOfChars;
+    }
 
-        if (negative) {
-            chars[0] = '-';
+    /**
+     * @param radix A radix in [2,36].
+     * @param paddingUpTo Number of digits (sign excluded) up to which left-padding with zeros is done.
+     * @param dst Appendable to append the characters to.
+     * @return The number of characters appended.
+     * @throws IllegalArgumentException if the specified radix is out of range.
+     * @throws IOException if thrown by the specified Appendable.
+     */
+    public static int append(int value, int radix, int paddingUpTo, Appendable dst) throws IOException {
+        return append((long)value, radix, paddingUpTo, dst);
+    }
+
+    /**
+     * @param radix A radix in [2,36].
+     * @param paddingUpTo Number of digits (sign excluded) up to which left-padding with zeros is done.
+     * @param dst Appendable to append the characters to.
+     * @return The number of characters appended.
+     * @throws IllegalArgumentException if the specified radix is out of range.
+     * @throws IOException if thrown by the specified Appendable.
+     */
+    public static int append(long value, int radix, int paddingUpTo, Appendable dst) throws IOException {
+        final long negValue = ((value < 0) ? value : -value);
+        // Checks radix.
+        final int nbrOfDigits = computeNbrOfDigits_negValue(negValue, radix);
+        final int nbrOfChars = computeNbrOfChars_nbrOfDigits(nbrOfDigits, (value < 0), paddingUpTo);
+        if (value < 0) {
+            dst.append('-');
+        }
+        for (int i=nbrOfDigits;i<paddingUpTo;i++) {
+            dst.append('0');
+        }
+        // Last digit apart, for the power of radix not to overflow
+        // (radix^(nbrOfDigits-1) does for Long.MIN_VALUE in radix 2 or 8).
+        long negRem = negValue / radix;
+        for (long p=((nbrOfDigits > 1) ? computePowerOfRadix(radix, nbrOfDigits-2) : 0);p!=0;p/=radix) {
+            dst.append(CHAR_BY_DIGIT[(int)(-(negRem / p))]);
+            negRem %= p;
         }
+        dst.append(CHAR_BY_DIGIT[(int)(-(negValue % radix))]);
+        return nbrOfChars;
+    }
 
-        return new String(chars);
+    /**
+     * Writes ASCII bytes, starting at buffer's position,
+     * which is incremented by the number of bytes written.
+     * 
+     * @param radix A radix in [2,36].
+     * @param paddingUpTo Number of digits (sign excluded) up to which left-padding with zeros is done.
+     * @param dst ByteBuffer where to write the characters, one byte per character.
+     * @return The number of bytes written.
+     * @throws IllegalArgumentException if the specified radix is out of range.
+     * @throws BufferOverflowException if the characters do not fit
+     *         in the remaining bytes of the specified buffer.
+     */
+    public static int putAscii(int value, int radix, int paddingUpTo, ByteBuffer dst) {
+        return putAscii((long)value, radix, paddingUpTo, dst);
+    }
+
+    /**
+     * Writes ASCII bytes, starting at buffer's position,
+     * which is incremented by the number of bytes written.
+     * 
+     * @param radix A radix in [2,36].
+     * @param paddingUpTo Number of digits (sign excluded) up to which left-padding with zeros is done.
+     * @param dst ByteBuffer where to write the characters, one byte per character.
+     * @return The number of bytes written.
+     * @throws IllegalArgumentException if the specified radix is out of range.
+     * @throws BufferOverflowException if the characters do not fit
+     *         in the remaining bytes of the specified buffer.
+     */
+    public static int putAscii(long value, int radix, int paddingUpTo, ByteBuffer dst) {
+        final long negValue = ((value < 0) ? value : -value);
+        // Checks radix.
+        final int nbrOfDigits = computeNbrOfDigits_negValue(negValue, radix);
+        final int nbrOfChars = computeNbrOfChars_nbrOfDigits(nbrOfDigits, (value < 0), paddingUpTo);
+        if (dst.remaining() < nbrOfChars) {
+            throw new BufferOverflowException();
+        }
+        if (value < 0) {
+            dst.put((byte)'-');
+        }
+        for (int i=nbrOfDigits;i<paddingUpTo;i++) {
+            dst.put((byte)'0');
+        }
+        // Last digit apart, for the power of radix not to overflow
+        // (radix^(nbrOfDigits-1) does for Long.MIN_VALUE in radix 2 or 8).
+        long negRem = negValue / radix;
+        for (long p=((nbrOfDigits > 1) ? computePowerOfRadix(radix, nbrOfDigits-2) : 0);p!=0;p/=radix) {
+            dst.put((byte)CHAR_BY_DIGIT[(int)(-(negRem / p))]);
+            negRem %= p;
+        }
+        dst.put((byte)CHAR_BY_DIGIT[(int)(-(negValue % radix))]);
+        return nbrOfChars;
     }
 
     /*
@@ -2279,288 +2405,1173 @@ public final class NumbersUtils {
     }
     
     /*
-     * toString (floating points)
+     * toString (bits), allocation-free
      * 
-     * toStringCSN(double) and toStringNoCSN(double)
-     * could be made faster, by using directly internals
-     * of Double.toString(double), but this would require
-     * copy-paste of much tricky code from JDK, and
-     * the overhead of our little rework is relatively
-     * negligible.
-     */
-    
-    /**
-     * @param value A double value.
-     * @return String representing the specified value,
-     *         using "computerized scientific notation",
-     *         which Double.toString(double) uses for non-infinite
-     *         values, when |value| < 1e-3 or |value| >= 1e7.
+     * Same as for toString (radix) allocation-free methods:
+     * these methods produce the same characters as the corresponding
+     * toStringBits methods, but write them into a destination provided
+     * by the caller, and return the number of characters written.
      */
-    public static String toStringCSN(double value) {
-        // Quick case (also to get rid of +-0.0,
-        // for which Double.toString(double) doesn't use CSN).
-        if (value == 0.0) {
-            if (Double.doubleToRawLongBits(value) < 0) {
-                return "-0.0E0";
-            } else {
-                return "0.0E0";
-            }
-        }
 
-        final double abs = Math.abs(value);
-        if ((abs >= NO_CSN_MIN_BOUND_INCL) && (abs < NO_CSN_MAX_BOUND_EXCL)) {
-            final boolean neg = (value < 0.0);
-            
-            final String rawAbs = Double.toString(abs);
-            if (abs >= 1.0) {
-                /*
-                 * 0123456
-                 * 12.3456 ===> 1.23456E1
-                 * 123.0   ===> 1.23E2
-                 */
-                final int dotIndex = rawAbs.indexOf((int)'.');
-                final int powerOfTen = dotIndex-1;
-                final StringBuilder sb = new StringBuilder();
-                if (neg) {
-                    sb.append('-');
-                }
-                // Adding unit-or-above digits, with dot after first one.
-                sb.append(rawAbs.charAt(0));
-                sb.append('.');
-                sb.append(rawAbs,1,dotIndex);
-                if ((value != (int)value) || (abs < 10.0)) {
-                    // Adding below-unit digits (possibly just 0 if abs < 10.0,
-                    // to end up for example with "3.0E0" instead of "3.E0").
-                    sb.append(rawAbs,dotIndex+1,rawAbs.length());
-                }
-                sb.append('E');
-                sb.append(CHAR_BY_DIGIT[powerOfTen]);
-                return sb.toString();
-            } else {
-                /*
-                 * 012345678
-                 * 0.0123456 ===> 1.23456E-2
-                 * 0.01      ===> 1.0E-2
-                 */
-                int nonZeroIndex = 1;
-                while (rawAbs.charAt(++nonZeroIndex) == '0') {
-                }
-                // Negative.
-                final int powerOfTen = 1-nonZeroIndex;
-                final int nbrOfSignificantDigitsPastDot = (rawAbs.length() - (nonZeroIndex+1));
-                final StringBuilder sb = new StringBuilder();
-                if (neg) {
-                    sb.append('-');
-                }
-                sb.append(rawAbs.charAt(nonZeroIndex));
-                sb.append('.');
-                if (nbrOfSignificantDigitsPastDot > 0) {
-                    // If bug 4428022 make rawAbs being something like "0.0010",
-                    // we add the last '0' here after the dot, which is fine.
-                    sb.append(rawAbs,nonZeroIndex+1,rawAbs.length());
-                } else {
-                    sb.append('0');
-                }
-                sb.append("E-");
-                sb.append(CHAR_BY_DIGIT[-powerOfTen]);
-                return sb.toString();
-            }
-        } else {
-            return Double.toString(value);
-        }
-    }
-    
     /**
-     * @param value A double value.
-     * @return String representing the specified value,
-     *         not in "computerized scientific notation",
-     *         which Double.toString(double) uses for non-infinite
-     *         values, when |value| < 1e-3 or |value| >= 1e7.
+     * Big endian, without padding.
+     * 
+     * @param dst Array where to write the characters.
+     * @param dstPos Index in the array of the first character to write.
+     * @return The number of characters written.
+     * @throws IndexOutOfBoundsException if the characters do not fit
+     *         in the specified array from the specified index.
      */
-    public static String toStringNoCSN(double value) {
-        // Quick case.
-        // Should also work with long instead of int,
-        // but less obvious (due to roundings...),
-        // and we just want to speed up the more common
-        // case of "small" integer values.
-        final int intValue = (int)value;
-        if (value == intValue) {
-            if (value == 0.0) {
-                if (Double.doubleToRawLongBits(value) < 0) {
-                    return "-0.0";
-                } else {
-                    return "0.0";
-                }
-            } else {
-                return Integer.toString(intValue)+".0";
-            }
-        }
-
-        final String raw = Double.toString(value);
-        final double abs = Math.abs(value);
-        if (abs >= NO_CSN_MAX_BOUND_EXCL) {
-            if (abs == Double.POSITIVE_INFINITY) {
-                return raw;
-            }
-            /*
-             * 0123456789
-             * 1.234567E5 ===> 123456.7
-             * 1.23456E5  ===> 123456.0 (adding 0)
-             * 1.23E5     ===> 123000.0
-             * 1.0E5      ===> 100000.0
-             */
-            // "." close to start, so using indexOf.
-            final int dotIndex = raw.indexOf((int)'.');
-            // "E" close to end, so using lastIndexOf.
-            final int eIndex = raw.lastIndexOf((int)'E');
-            final int powerOfTen = Integer.parseInt(raw.substring(eIndex+1));
-            final int nbrOfSignificantLoDigits = (eIndex - dotIndex - 1);
-            final int nbrOfZerosToAddBeforeDot = (powerOfTen - nbrOfSignificantLoDigits);
-
-            int start;
-            int end;
-
-            final StringBuilder sb = new StringBuilder();
-            sb.append(raw,0,dotIndex);
-            if (nbrOfZerosToAddBeforeDot >= 0) {
-                // Can copy all digits that were between '.' and 'E'.
-                sb.append(raw,dotIndex+1,eIndex);
-                for (int i=0;i<nbrOfZerosToAddBeforeDot;i++) {
-                    sb.append('0');
-                }
-                sb.append(".0");
-            } else {
-                start = dotIndex+1;
-                sb.append(raw,start,end = start+powerOfTen);
-                
-                sb.append('.');
-                
-                start = end;
-                sb.append(raw,start,end = eIndex);
-            }
-            return sb.toString();
-        } else if (abs < NO_CSN_MIN_BOUND_INCL) {
-            // Not +-0.0 since already handled.
-            /*
-             * 01234567
-             * 1.234E-4 ===> 0.0001234
-             * 1.0E-4   ===> 0.0001
-             */
-            // "." close to start, so using indexOf.
-            final int dotIndex = raw.indexOf((int)'.');
-            // "E" close to end, so using lastIndexOf.
-            final int eIndex = raw.lastIndexOf((int)'E');
-            // Negative.
-            final int powerOfTen = Integer.parseInt(raw.substring(eIndex+1));
-            final int nbrOfZerosToAddAfterDot = (-powerOfTen-1);
-            
-            final StringBuilder sb = new StringBuilder();
-            if (value < 0.0) {
-                sb.append("-0.");
-            } else {
-                sb.append("0.");
-            }
-            for (int i=0;i<nbrOfZerosToAddAfterDot;i++) {
-                sb.append('0');
-            }
-            // First raw digit.
-            sb.append(raw,dotIndex-1,dotIndex);
-            if ((eIndex == dotIndex + 2) && (raw.charAt(dotIndex+1) == '0')) {
-                // Char past dot is alone and '0': no need to add it.
-            } else {
-                // Raw digits that were past dot.
-                sb.append(raw,dotIndex+1,eIndex);
-            }
-            return sb.toString();
-        } else {
-            // abs in [0.001,1e7[.
-            if ((abs < 1.0) && (raw.charAt(raw.length()-1) == '0')) {
-                // Workaround for bug 4428022 (Double.toString(0.004) returns
-                // "0.0040", same with 0.001 etc.).
-                return raw.substring(0, raw.length()-1);
-            } else {
-                return raw;
-            }
-        }
+    public static int toCharsBits(byte bits, char[] dst, int dstPos) {
+        return toCharsBits_bitPosAlreadyChecked(8, bits, 0, 8, true, false, dst, dstPos);
     }
 
-    //--------------------------------------------------------------------------
-    // PRIVATE METHODS
-    //--------------------------------------------------------------------------
-
-    private NumbersUtils() {
-    }
-    
-    /*
-     * 
-     */
-    
     /**
-     * Had such isInXXX methods, and corresponding checkXXX methods,
-     * but they seem actually slower in practice, so just keeping this
-     * code here in case some day it becomes faster than regular isInXXX.
-     * 
-     * Only works for non-empty ranges, i.e. such as min <= max.
-     * This treatment being designed for optimization, min <= max
-     * is not checked.
+     * Big endian, without padding.
      * 
-     * @return True if the specified value is in the specified range (inclusive), false otherwise.
+     * @param dst Array where to write the characters.
+     * @param dstPos Index in the array of the first character to write.
+     * @return The number of characters written.
+     * @throws IndexOutOfBoundsException if the characters do not fit
+     *         in the specified array from the specified index.
      */
-    private static boolean dontUseMe_isInNonEmptyRange_(int min, int max, int a) {
-        // Using modulo arithmetic.
-        return (Integer.MIN_VALUE+(a-min) <= Integer.MIN_VALUE+(max-min));
+    public static int toCharsBits(short bits, char[] dst, int dstPos) {
+        return toCharsBits_bitPosAlreadyChecked(16, bits, 0, 16, true, false, dst, dstPos);
     }
 
-    /*
+    /**
+     * Big endian, without padding.
      * 
+     * @param dst Array where to write the characters.
+     * @param dstPos Index in the array of the first character to write.
+     * @return The number of characters written.
+     * @throws IndexOutOfBoundsException if the characters do not fit
+     *         in the specified array from the specified index.
      */
-    
-    private static int minSignedIntForBitSize_noCheck(int bitSize) {
-        // i.e. (-1<<(bitSize-1))
-        return (Integer.MIN_VALUE>>(32-bitSize));
-    }
-
-    private static long minSignedLongForBitSize_noCheck(int bitSize) {
-        // i.e. (-1L<<(bitSize-1))
-        return (Long.MIN_VALUE>>(64-bitSize));
+    public static int toCharsBits(int bits, char[] dst, int dstPos) {
+        return toCharsBits_bitPosAlreadyChecked(32, bits, 0, 32, true, false, dst, dstPos);
     }
 
-    private static int maxSignedIntForBitSize_noCheck(int bitSize) {
-        // i.e. (1<<(bitSize-1))-1
-        return (Integer.MAX_VALUE>>(32-bitSize));
-    }
-
-    private static long maxSignedLongForBitSize_noCheck(int bitSize) {
-        // i.e. (1L<<(bitSize-1))-1
-        return (Long.MAX_VALUE>>(64-bitSize));
-    }
-
-    /*
+    /**
+     * Big endian, without padding.
      * 
+     * @param dst Array where to write the characters.
+     * @param dstPos Index in the array of the first character to write.
+     * @return The number of characters written.
+     * @throws IndexOutOfBoundsException if the characters do not fit
+     *         in the specified array from the specified index.
      */
+    public static int toCharsBits(long bits, char[] dst, int dstPos) {
+        return toCharsBits_bitPosAlreadyChecked(64, bits, 0, 64, true, false, dst, dstPos);
+    }
 
     /**
-     * @throws IllegalArgumentException if the specified radix is out of range.
+     * @param firstBitPos First bit position (inclusive).
+     * @param lastBitPosExcl Last bit position (exclusive).
+     * @param bigEndian True for bits to be added in big endian order (MSBit to LSBit)
+     *                  false for little endian order.
+     * @param padding True if underscores must be added instead of out-of-range bits,
+     *                false to just add characters corresponding to in-range bits.
+     * @param dst Array where to write the characters.
+     * @param dstPos Index in the array of the first character to write.
+     * @return The number of characters written.
+     * @throws IllegalArgumentException if the specified bit range does not fit in a byte.
+     * @throws IndexOutOfBoundsException if the characters do not fit
+     *         in the specified array from the specified index.
      */
-    private static int computeNbrOfDigits_negValue(int negValue, int radix) {
-        checkRadix(radix);
-        final int maxNbrOfDigits = MAX_NBR_OF_NEG_INT_DIGITS_BY_RADIX[radix];
-        int p = radix;
-        for (int i=1;i<maxNbrOfDigits;i++) {
-            if (negValue > -p) {
-                return i;
-            }
-            p *= radix;
-        }
-        return maxNbrOfDigits;
+    public static int toCharsBits(
+            byte bits,
+            int firstBitPos,
+            int lastBitPosExcl,
+            boolean bigEndian,
+            boolean padding,
+            char[] dst,
+            int dstPos) {
+        checkBitPositionsByte(firstBitPos, lastBitPosExcl);
+        return toCharsBits_bitPosAlreadyChecked(8, bits, firstBitPos, lastBitPosExcl, bigEndian, padding, dst, dstPos);
     }
 
     /**
-     * @throws IllegalArgumentException if the specified radix is out of range.
+     * @param firstBitPos First bit position (inclusive).
+     * @param lastBitPosExcl Last bit position (exclusive).
+     * @param bigEndian True for bits to be added in big endian order (MSBit to LSBit)
+     *                  false for little endian order.
+     * @param padding True if underscores must be added instead of out-of-range bits,
+     *                false to just add characters corresponding to in-range bits.
+     * @param dst Array where to write the characters.
+     * @param dstPos Index in the array of the first character to write.
+     * @return The number of characters written.
+     * @throws IllegalArgumentException if the specified bit range does not fit in a short.
+     * @throws IndexOutOfBoundsException if the characters do not fit
+     *         in the specified array from the specified index.
      */
-    private static int computeNbrOfDigits_negValue(long negValue, int radix) {
-        checkRadix(radix);
-        final int maxNbrOfDigits = MAX_NBR_OF_NEG_LONG_DIGITS_BY_RADIX[radix];
+    public static int toCharsBits(
+            short bits,
+            int firstBitPos,
+            int lastBitPosExcl,
+            boolean bigEndian,
+            boolean padding,
+            char[] dst,
+            int dstPos) {
+        checkBitPositionsShort(firstBitPos, lastBitPosExcl);
+        return toCharsBits_bitPosAlreadyChecked(16, bits, firstBitPos, lastBitPosExcl, bigEndian, padding, dst, dstPos);
+    }
+
+    /**
+     * @param firstBitPos First bit position (inclusive).
+     * @param lastBitPosExcl Last bit position (exclusive).
+     * @param bigEndian True for bits to be added in big endian order (MSBit to LSBit)
+     *                  false for little endian order.
+     * @param padding True if underscores must be added instead of out-of-range bits,
+     *                false to just add characters corresponding to in-range bits.
+     * @param dst Array where to write the characters.
+     * @param dstPos Index in the array of the first character to write.
+     * @return The number of characters written.
+     * @throws IllegalArgumentException if the specified bit range does not fit in a int.
+     * @throws IndexOutOfBoundsException if the characters do not fit
+     *         in the specified array from the specified index.
+     */
+    public static int toCharsBits(
+            int bits,
+            int firstBitPos,
+            int lastBitPosExcl,
+            boolean bigEndian,
+            boolean padding,
+            char[] dst,
+            int dstPos) {
+        checkBitPositionsInt(firstBitPos, lastBitPosExcl);
+        return toCharsBits_bitPosAlreadyChecked(32, bits, firstBitPos, lastBitPosExcl, bigEndian, padding, dst, dstPos);
+    }
+
+    /**
+     * @param firstBitPos First bit position (inclusive).
+     * @param lastBitPosExcl Last bit position (exclusive).
+     * @param bigEndian True for bits to be added in big endian order (MSBit to LSBit)
+     *                  false for little endian order.
+     * @param padding True if underscores must be added instead of out-of-range bits,
+     *                false to just add characters corresponding to in-range bits.
+     * @param dst Array where to write the characters.
+     * @param dstPos Index in the array of the first character to write.
+     * @return The number of characters written.
+     * @throws IllegalArgumentException if the specified bit range does not fit in a long.
+     * @throws IndexOutOfBoundsException if the characters do not fit
+     *         in the specified array from the specified index.
+     */
+    public static int toCharsBits(
+            long bits,
+            int firstBitPos,
+            int lastBitPosExcl,
+            boolean bigEndian,
+            boolean padding,
+            char[] dst,
+            int dstPos) {
+        checkBitPositionsLong(firstBitPos, lastBitPosExcl);
+        return toCharsBits_bitPosAlreadyChecked(64, bits, firstBitPos, lastBitPosExcl, bigEndian, padding, dst, dstPos);
+    }
+
+    /**
+     * Big endian, without padding.
+     * 
+     * @param dst StringBuilder to append the characters to.
+     * @return The number of characters appended.
+     */
+    public static int appendBits(byte bits, StringBuilder dst) {
+        return appendBits_bitPosAlreadyChecked(8, bits, 0, 8, true, false, dst);
+    }
+
+    /**
+     * Big endian, without padding.
+     * 
+     * @param dst StringBuilder to append the characters to.
+     * @return The number of characters appended.
+     */
+    public static int appendBits(short bits, StringBuilder dst) {
+        return appendBits_bitPosAlreadyChecked(16, bits, 0, 16, true, false, dst);
+    }
+
+    /**
+     * Big endian, without padding.
+     * 
+     * @param dst StringBuilder to append the characters to.
+     * @return The number of characters appended.
+     */
+    public static int appendBits(int bits, StringBuilder dst) {
+        return appendBits_bitPosAlreadyChecked(32, bits, 0, 32, true, false, dst);
+    }
+
+    /**
+     * Big endian, without padding.
+     * 
+     * @param dst StringBuilder to append the characters to.
+     * @return The number of characters appended.
+     */
+    public static int appendBits(long bits, StringBuilder dst) {
+        return appendBits_bitPosAlreadyChecked(64, bits, 0, 64, true, false, dst);
+    }
+
+    /**
+     * @param firstBitPos First bit position (inclusive).
+     * @param lastBitPosExcl Last bit position (exclusive).
+     * @param bigEndian True for bits to be added in big endian order (MSBit to LSBit)
+     *                  false for little endian order.
+     * @param padding True if underscores must be added instead of out-of-range bits,
+     *                false to just add characters corresponding to in-range bits.
+     * @param dst StringBuilder to append the characters to.
+     * @return The number of characters appended.
+     * @throws IllegalArgumentException if the specified bit range does not fit in a byte.
+     */
+    public static int appendBits(
+            byte bits,
+            int firstBitPos,
+            int lastBitPosExcl,
+            boolean bigEndian,
+            boolean padding,
+            StringBuilder dst) {
+        checkBitPositionsByte(firstBitPos, lastBitPosExcl);
+        return appendBits_bitPosAlreadyChecked(8, bits, firstBitPos, lastBitPosExcl, bigEndian, padding, dst);
+    }
+
+    /**
+     * @param firstBitPos First bit position (inclusive).
+     * @param lastBitPosExcl Last bit position (exclusive).
+     * @param bigEndian True for bits to be added in big endian order (MSBit to LSBit)
+     *                  false for little endian order.
+     * @param padding True if underscores must be added instead of out-of-range bits,
+     *                false to just add characters corresponding to in-range bits.
+     * @param dst StringBuilder to append the characters to.
+     * @return The number of characters appended.
+     * @throws IllegalArgumentException if the specified bit range does not fit in a short.
+     */
+    public static int appendBits(
+            short bits,
+            int firstBitPos,
+            int lastBitPosExcl,
+            boolean bigEndian,
+            boolean padding,
+            StringBuilder dst) {
+        checkBitPositionsShort(firstBitPos, lastBitPosExcl);
+        return appendBits_bitPosAlreadyChecked(16, bits, firstBitPos, lastBitPosExcl, bigEndian, padding, dst);
+    }
+
+    /**
+     * @param firstBitPos First bit position (inclusive).
+     * @param lastBitPosExcl Last bit position (exclusive).
+     * @param bigEndian True for bits to be added in big endian order (MSBit to LSBit)
+     *                  false for little endian order.
+     * @param padding True if underscores must be added instead of out-of-range bits,
+     *                false to just add characters corresponding to in-range bits.
+     * @param dst StringBuilder to append the characters to.
+     * @return The number of characters appended.
+     * @throws IllegalArgumentException if the specified bit range does not fit in a int.
+     */
+    public static int appendBits(
+            int bits,
+            int firstBitPos,
+            int lastBitPosExcl,
+            boolean bigEndian,
+            boolean padding,
+            StringBuilder dst) {
+        checkBitPositionsInt(firstBitPos, lastBitPosExcl);
+        return appendBits_bitPosAlreadyChecked(32, bits, firstBitPos, lastBitPosExcl, bigEndian, padding, dst);
+    }
+
+    /**
+     * @param firstBitPos First bit position (inclusive).
+     * @param lastBitPosExcl Last bit position (exclusive).
+     * @param bigEndian True for bits to be added in big endian order (MSBit to LSBit)
+     *                  false for little endian order.
+     * @param padding True if underscores must be added instead of out-of-range bits,
+     *                false to just add characters corresponding to in-range bits.
+     * @param dst StringBuilder to append the characters to.
+     * @return The number of characters appended.
+     * @throws IllegalArgumentException if the specified bit range does not fit in a long.
+     */
+    public static int appendBits(
+            long bits,
+            int firstBitPos,
+            int lastBitPosExcl,
+            boolean bigEndian,
+            boolean padding,
+            StringBuilder dst) {
+        checkBitPositionsLong(firstBitPos, lastBitPosExcl);
+        return appendBits_bitPosAlreadyChecked(64, bits, firstBitPos, lastBitPosExcl, bigEndian, padding, dst);
+    }
+
+    /**
+     * Big endian, without padding.
+     * 
+     * @param dst Appendable to append the characters to.
+     * @return The number of characters appended.
+     * @throws IOException if thrown by the specified Appendable.
+     */
+    public static int appendBits(byte bits, Appendable dst) throws IOException {
+        return appendBits_bitPosAlreadyChecked(8, bits, 0, 8, true, false, dst);
+    }
+
+    /**
+     * Big endian, without padding.
+     * 
+     * @param dst Appendable to append the characters to.
+     * @return The number of characters appended.
+     * @throws IOException if thrown by the specified Appendable.
+     */
+    public static int appendBits(short bits, Appendable dst) throws IOException {
+        return appendBits_bitPosAlreadyChecked(16, bits, 0, 16, true, false, dst);
+    }
+
+    /**
+     * Big endian, without padding.
+     * 
+     * @param dst Appendable to append the characters to.
+     * @return The number of characters appended.
+     * @throws IOException if thrown by the specified Appendable.
+     */
+    public static int appendBits(int bits, Appendable dst) throws IOException {
+        return appendBits_bitPosAlreadyChecked(32, bits, 0, 32, true, false, dst);
+    }
+
+    /**
+     * Big endian, without padding.
+     * 
+     * @param dst Appendable to append the characters to.
+     * @return The number of characters appended.
+     * @throws IOException if thrown by the specified Appendable.
+     */
+    public static int appendBits(long bits, Appendable dst) throws IOException {
+        return appendBits_bitPosAlreadyChecked(64, bits, 0, 64, true, false, dst);
+    }
+
+    /**
+     * @param firstBitPos First bit position (inclusive).
+     * @param lastBitPosExcl Last bit position (exclusive).
+     * @param bigEndian True for bits to be added in big endian order (MSBit to LSBit)
+     *                  false for little endian order.
+     * @param padding True if underscores must be added instead of out-of-range bits,
+     *                false to just add characters corresponding to in-range bits.
+     * @param dst Appendable to append the characters to.
+     * @return The number of characters appended.
+     * @throws IllegalArgumentException if the specified bit range does not fit in a byte.
+     * @throws IOException if thrown by the specified Appendable.
+     */
+    public static int appendBits(
+            byte bits,
+            int firstBitPos,
+            int lastBitPosExcl,
+            boolean bigEndian,
+            boolean padding,
+            Appendable dst) throws IOException {
+        checkBitPositionsByte(firstBitPos, lastBitPosExcl);
+        return appendBits_bitPosAlreadyChecked(8, bits, firstBitPos, lastBitPosExcl, bigEndian, padding, dst);
+    }
+
+    /**
+     * @param firstBitPos First bit position (inclusive).
+     * @param lastBitPosExcl Last bit position (exclusive).
+     * @param bigEndian True for bits to be added in big endian order (MSBit to LSBit)
+     *                  false for little endian order.
+     * @param padding True if underscores must be added instead of out-of-range bits,
+     *                false to just add characters corresponding to in-range bits.
+     * @param dst Appendable to append the characters to.
+     * @return The number of characters appended.
+     * @throws IllegalArgumentException if the specified bit range does not fit in a short.
+     * @throws IOException if thrown by the specified Appendable.
+     */
+    public static int appendBits(
+            short bits,
+            int firstBitPos,
+            int lastBitPosExcl,
+            boolean bigEndian,
+            boolean padding,
+            Appendable dst) throws IOException {
+        checkBitPositionsShort(firstBitPos, lastBitPosExcl);
+        return appendBits_bitPosAlreadyChecked(16, bits, firstBitPos, lastBitPosExcl, bigEndian, padding, dst);
+    }
+
+    /**
+     * @param firstBitPos First bit position (inclusive).
+     * @param lastBitPosExcl Last bit position (exclusive).
+     * @param bigEndian True for bits to be added in big endian order (MSBit to LSBit)
+     *                  false for little endian order.
+     * @param padding True if underscores must be added instead of out-of-range bits,
+     *                false to just add characters corresponding to in-range bits.
+     * @param dst Appendable to append the characters to.
+     * @return The number of characters appended.
+     * @throws IllegalArgumentException if the specified bit range does not fit in a int.
+     * @throws IOException if thrown by the specified Appendable.
+     */
+    public static int appendBits(
+            int bits,
+            int firstBitPos,
+            int lastBitPosExcl,
+            boolean bigEndian,
+            boolean padding,
+            Appendable dst) throws IOException {
+        checkBitPositionsInt(firstBitPos, lastBitPosExcl);
+        return appendBits_bitPosAlreadyChecked(32, bits, firstBitPos, lastBitPosExcl, bigEndian, padding, dst);
+    }
+
+    /**
+     * @param firstBitPos First bit position (inclusive).
+     * @param lastBitPosExcl Last bit position (exclusive).
+     * @param bigEndian True for bits to be added in big endian order (MSBit to LSBit)
+     *                  false for little endian order.
+     * @param padding True if underscores must be added instead of out-of-range bits,
+     *                false to just add characters corresponding to in-range bits.
+     * @param dst Appendable to append the characters to.
+     * @return The number of characters appended.
+     * @throws IllegalArgumentException if the specified bit range does not fit in a long.
+     * @throws IOException if thrown by the specified Appendable.
+     */
+    public static int appendBits(
+            long bits,
+            int firstBitPos,
+            int lastBitPosExcl,
+            boolean bigEndian,
+            boolean padding,
+            Appendable dst) throws IOException {
+        checkBitPositionsLong(firstBitPos, lastBitPosExcl);
+        return appendBits_bitPosAlreadyChecked(64, bits, firstBitPos, lastBitPosExcl, bigEndian, padding, dst);
+    }
+
+    /**
+     * Big endian, without padding.
+     * 
+     * @param dst ByteBuffer where to write the characters, one byte per character,
+     *        starting at its position, which is incremented accordingly.
+     * @return The number of bytes written.
+     * @throws BufferOverflowException if the characters do not fit
+     *         in the remaining bytes of the specified buffer.
+     */
+    public static int putAsciiBits(byte bits, ByteBuffer dst) {
+        return putAsciiBits_bitPosAlreadyChecked(8, bits, 0, 8, true, false, dst);
+    }
+
+    /**
+     * Big endian, without padding.
+     * 
+     * @param dst ByteBuffer where to write the characters, one byte per character,
+     *        starting at its position, which is incremented accordingly.
+     * @return The number of bytes written.
+     * @throws BufferOverflowException if the characters do not fit
+     *         in the remaining bytes of the specified buffer.
+     */
+    public static int putAsciiBits(short bits, ByteBuffer dst) {
+        return putAsciiBits_bitPosAlreadyChecked(16, bits, 0, 16, true, false, dst);
+    }
+
+    /**
+     * Big endian, without padding.
+     * 
+     * @param dst ByteBuffer where to write the characters, one byte per character,
+     *        starting at its position, which is incremented accordingly.
+     * @return The number of bytes written.
+     * @throws BufferOverflowException if the characters do not fit
+     *         in the remaining bytes of the specified buffer.
+     */
+    public static int putAsciiBits(int bits, ByteBuffer dst) {
+        return putAsciiBits_bitPosAlreadyChecked(32, bits, 0, 32, true, false, dst);
+    }
+
+    /**
+     * Big endian, without padding.
+     * 
+     * @param dst ByteBuffer where to write the characters, one byte per character,
+     *        starting at its position, which is incremented accordingly.
+     * @return The number of bytes written.
+     * @throws BufferOverflowException if the characters do not fit
+     *         in the remaining bytes of the specified buffer.
+     */
+    public static int putAsciiBits(long bits, ByteBuffer dst) {
+        return putAsciiBits_bitPosAlreadyChecked(64, bits, 0, 64, true, false, dst);
+    }
+
+    /**
+     * @param firstBitPos First bit position (inclusive).
+     * @param lastBitPosExcl Last bit position (exclusive).
+     * @param bigEndian True for bits to be added in big endian order (MSBit to LSBit)
+     *                  false for little endian order.
+     * @param padding True if underscores must be added instead of out-of-range bits,
+     *                false to just add characters corresponding to in-range bits.
+     * @param dst ByteBuffer where to write the characters, one byte per character,
+     *        starting at its position, which is incremented accordingly.
+     * @return The number of bytes written.
+     * @throws IllegalArgumentException if the specified bit range does not fit in a byte.
+     * @throws BufferOverflowException if the characters do not fit
+     *         in the remaining bytes of the specified buffer.
+     */
+    public static int putAsciiBits(
+            byte bits,
+            int firstBitPos,
+            int lastBitPosExcl,
+            boolean bigEndian,
+            boolean padding,
+            ByteBuffer dst) {
+        checkBitPositionsByte(firstBitPos, lastBitPosExcl);
+        return putAsciiBits_bitPosAlreadyChecked(8, bits, firstBitPos, lastBitPosExcl, bigEndian, padding, dst);
+    }
+
+    /**
+     * @param firstBitPos First bit position (inclusive).
+     * @param lastBitPosExcl Last bit position (exclusive).
+     * @param bigEndian True for bits to be added in big endian order (MSBit to LSBit)
+     *                  false for little endian order.
+     * @param padding True if underscores must be added instead of out-of-range bits,
+     *                false to just add characters corresponding to in-range bits.
+     * @param dst ByteBuffer where to write the characters, one byte per character,
+     *        starting at its position, which is incremented accordingly.
+     * @return The number of bytes written.
+     * @throws IllegalArgumentException if the specified bit range does not fit in a short.
+     * @throws BufferOverflowException if the characters do not fit
+     *         in the remaining bytes of the specified buffer.
+     */
+    public static int putAsciiBits(
+            short bits,
+            int firstBitPos,
+            int lastBitPosExcl,
+            boolean bigEndian,
+            boolean padding,
+            ByteBuffer dst) {
+        checkBitPositionsShort(firstBitPos, lastBitPosExcl);
+        return putAsciiBits_bitPosAlreadyChecked(16, bits, firstBitPos, lastBitPosExcl, bigEndian, padding, dst);
+    }
+
+    /**
+     * @param firstBitPos First bit position (inclusive).
+     * @param lastBitPosExcl Last bit position (exclusive).
+     * @param bigEndian True for bits to be added in big endian order (MSBit to LSBit)
+     *                  false for little endian order.
+     * @param padding True if underscores must be added instead of out-of-range bits,
+     *                false to just add characters corresponding to in-range bits.
+     * @param dst ByteBuffer where to write the characters, one byte per character,
+     *        starting at its position, which is incremented accordingly.
+     * @return The number of bytes written.
+     * @throws IllegalArgumentException if the specified bit range does not fit in a int.
+     * @throws BufferOverflowException if the characters do not fit
+     *         in the remaining bytes of the specified buffer.
+     */
+    public static int putAsciiBits(
+            int bits,
+            int firstBitPos,
+            int lastBitPosExcl,
+            boolean bigEndian,
+            boolean padding,
+            ByteBuffer dst) {
+        checkBitPositionsInt(firstBitPos, lastBitPosExcl);
+        return putAsciiBits_bitPosAlreadyChecked(32, bits, firstBitPos, lastBitPosExcl, bigEndian, padding, dst);
+    }
+
+    /**
+     * @param firstBitPos First bit position (inclusive).
+     * @param lastBitPosExcl Last bit position (exclusive).
+     * @param bigEndian True for bits to be added in big endian order (MSBit to LSBit)
+     *                  false for little endian order.
+     * @param padding True if underscores must be added instead of out-of-range bits,
+     *                false to just add characters corresponding to in-range bits.
+     * @param dst ByteBuffer where to write the characters, one byte per character,
+     *        starting at its position, which is incremented accordingly.
+     * @return The number of bytes written.
+     * @throws IllegalArgumentException if the specified bit range does not fit in a long.
+     * @throws BufferOverflowException if the characters do not fit
+     *         in the remaining bytes of the specified buffer.
+     */
+    public static int putAsciiBits(
+            long bits,
+            int firstBitPos,
+            int lastBitPosExcl,
+            boolean bigEndian,
+            boolean padding,
+            ByteBuffer dst) {
+        checkBitPositionsLong(firstBitPos, lastBitPosExcl);
+        return putAsciiBits_bitPosAlreadyChecked(64, bits, firstBitPos, lastBitPosExcl, bigEndian, padding, dst);
+    }
+
+    /*
+     * toString (floating points)
+     * 
+     * These methods use the shortest decimal that rounds to the specified
+     * value (among which the closest to it), as Double.toString(double)
+     * does since Java 19, computed with the Schubfach algorithm, and written
+     * directly into chars, without going through Double.toString(double).
+     * 
+     * Allocation-free versions behave like those for toString (radix).
+     */
+    
+    /**
+     * @param value A double value.
+     * @return String representing the specified value,
+     *         using "computerized scientific notation",
+     *         which Double.toString(double) uses for non-infinite
+     *         values, when |value| < 1e-3 or |value| >= 1e7.
+     */
+    public static String toStringCSN(double value) {
+        final char[] chars = new char[DoubleToDecimal.MAX_NBR_OF_CHARS_CSN];
+        final int nbrOfChars = DoubleToDecimal.toChars(value, true, chars, 0, null);
+        return new String(chars, 0, nbrOfChars);
+    }
+    
+    /**
+     * @param value A double value.
+     * @return String representing the specified value,
+     *         not in "computerized scientific notation",
+     *         which Double.toString(double) uses for non-infinite
+     *         values, when |value| < 1e-3 or |value| >= 1e7.
+     */
+    public static String toStringNoCSN(double value) {
+        final char[] chars = new char[DoubleToDecimal.maxNbrOfCharsNoCSN(value)];
+        final int nbrOfChars = DoubleToDecimal.toChars(value, false, chars, 0, null);
+        return new String(chars, 0, nbrOfChars);
+    }
+
+    /**
+     * @param value A double value.
+     * @param dst Array where to write the characters, which are
+     *        the same as those of toStringCSN(double).
+     * @param dstPos Index in the array of the first character to write.
+     * @return The number of characters written (at most 24).
+     * @throws IndexOutOfBoundsException if the characters do not fit
+     *         in the specified array from the specified index.
+     */
+    public static int toCharsCSN(double value, char[] dst, int dstPos) {
+        return DoubleToDecimal.toChars(value, true, dst, dstPos, null);
+    }
+
+    /**
+     * @param value A double value.
+     * @param dst Array where to write the characters, which are
+     *        the same as those of toStringNoCSN(double).
+     * @param dstPos Index in the array of the first character to write.
+     * @return The number of characters written (at most 328).
+     * @throws IndexOutOfBoundsException if the characters do not fit
+     *         in the specified array from the specified index.
+     */
+    public static int toCharsNoCSN(double value, char[] dst, int dstPos) {
+        return DoubleToDecimal.toChars(value, false, dst, dstPos, null);
+    }
+
+    /**
+     * @param value A double value.
+     * @param dst ByteBuffer where to write the characters, which are
+     *        the same as those of toStringCSN(double), one byte per character,
+     *        starting at its position, which is incremented accordingly.
+     * @return The number of bytes written (at most 24).
+     * @throws BufferOverflowException if the characters do not fit
+     *         in the remaining bytes of the specified buffer.
+     */
+    public static int putAsciiCSN(double value, ByteBuffer dst) {
+        return DoubleToDecimal.toChars(value, true, null, 0, dst);
+    }
+
+    /**
+     * @param value A double value.
+     * @param dst ByteBuffer where to write the characters, which are
+     *        the same as those of toStringNoCSN(double), one byte per character,
+     *        starting at its position, which is incremented accordingly.
+     * @return The number of bytes written (at most 328).
+     * @throws BufferOverflowException if the characters do not fit
+     *         in the remaining bytes of the specified buffer.
+     */
+    public static int putAsciiNoCSN(double value, ByteBuffer dst) {
+        return DoubleToDecimal.toChars(value, false, null, 0, dst);
+    }
+
+    /*
+     * parsing
+     * 
+     * These methods give the same results, and throw the same exceptions,
+     * than corresponding JDK's parsing methods for Strings (CharSequences
+     * with Java 9+ for int and long), without creating any object (but in
+     * rare cases for parseDouble, and for exceptions).
+     * 
+     * For CharSequences, the range is specified with begin and end indexes,
+     * as in Integer.parseInt(CharSequence,int,int,int) of Java 9+, and for
+     * byte arrays, with an offset and a length, as in String(byte[],int,int).
+     * Bytes are considered as ISO-8859-1 characters (i.e. ASCII if < 128).
+     */
+
+    /**
+     * @param cs Characters to parse.
+     * @param beginIndex Index of first character to parse (inclusive).
+     * @param endIndex Index of last character to parse (exclusive).
+     * @param radix A radix in [2,36].
+     * @return The int value represented by the specified characters.
+     * @throws IndexOutOfBoundsException if the specified range is out of bounds.
+     * @throws NumberFormatException if the specified radix is out of range,
+     *         or the specified characters do not represent an int value.
+     */
+    public static int parseInt(CharSequence cs, int beginIndex, int endIndex, int radix) {
+        checkParseRange(cs.length(), beginIndex, endIndex);
+        checkParseRadix(radix);
+        int i = beginIndex;
+        if (i == endIndex) {
+            throw newNumberFormatException(cs, beginIndex, endIndex);
+        }
+        boolean negative = false;
+        int limit = -Integer.MAX_VALUE;
+        final char firstChar = cs.charAt(i);
+        if (firstChar < '0') {
+            if (firstChar == '-') {
+                negative = true;
+                limit = Integer.MIN_VALUE;
+            } else if (firstChar != '+') {
+                throw newNumberFormatException(cs, beginIndex, endIndex);
+            }
+            if (++i == endIndex) {
+                throw newNumberFormatException(cs, beginIndex, endIndex);
+            }
+        }
+        // Accumulating negatively, to handle MIN_VALUE.
+        final int multMin = limit / radix;
+        int negResult = 0;
+        while (i < endIndex) {
+            final int digit = digit(cs.charAt(i++), radix);
+            if ((digit < 0) || (negResult < multMin)) {
+                throw newNumberFormatException(cs, beginIndex, endIndex);
+            }
+            negResult *= radix;
+            if (negResult < limit + digit) {
+                throw newNumberFormatException(cs, beginIndex, endIndex);
+            }
+            negResult -= digit;
+        }
+        return (negative ? negResult : -negResult);
+    }
+
+    /**
+     * @param buf Bytes to parse.
+     * @param offset Index of first byte to parse.
+     * @param length Number of bytes to parse.
+     * @param radix A radix in [2,36].
+     * @return The int value represented by the specified bytes.
+     * @throws IndexOutOfBoundsException if the specified range is out of bounds.
+     * @throws NumberFormatException if the specified radix is out of range,
+     *         or the specified bytes do not represent an int value.
+     */
+    public static int parseInt(byte[] buf, int offset, int length, int radix) {
+        checkParseRange(buf.length, offset, offset + length);
+        checkParseRadix(radix);
+        final int endIndex = offset + length;
+        int i = offset;
+        if (i == endIndex) {
+            throw newNumberFormatException(buf, offset, length);
+        }
+        boolean negative = false;
+        int limit = -Integer.MAX_VALUE;
+        final int firstChar = (buf[i] & 0xFF);
+        if (firstChar < '0') {
+            if (firstChar == '-') {
+                negative = true;
+                limit = Integer.MIN_VALUE;
+            } else if (firstChar != '+') {
+                throw newNumberFormatException(buf, offset, length);
+            }
+            if (++i == endIndex) {
+                throw newNumberFormatException(buf, offset, length);
+            }
+        }
+        // Accumulating negatively, to handle MIN_VALUE.
+        final int multMin = limit / radix;
+        int negResult = 0;
+        while (i < endIndex) {
+            final int digit = digit((char)(buf[i++] & 0xFF), radix);
+            if ((digit < 0) || (negResult < multMin)) {
+                throw newNumberFormatException(buf, offset, length);
+            }
+            negResult *= radix;
+            if (negResult < limit + digit) {
+                throw newNumberFormatException(buf, offset, length);
+            }
+            negResult -= digit;
+        }
+        return (negative ? negResult : -negResult);
+    }
+
+    /**
+     * @param cs Characters to parse.
+     * @param beginIndex Index of first character to parse (inclusive).
+     * @param endIndex Index of last character to parse (exclusive).
+     * @param radix A radix in [2,36].
+     * @return The long value represented by the specified characters.
+     * @throws IndexOutOfBoundsException if the specified range is out of bounds.
+     * @throws NumberFormatException if the specified radix is out of range,
+     *         or the specified characters do not represent a long value.
+     */
+    public static long parseLong(CharSequence cs, int beginIndex, int endIndex, int radix) {
+        checkParseRange(cs.length(), beginIndex, endIndex);
+        checkParseRadix(radix);
+        int i = beginIndex;
+        if (i == endIndex) {
+            throw newNumberFormatException(cs, beginIndex, endIndex);
+        }
+        boolean negative = false;
+        long limit = -Long.MAX_VALUE;
+        final char firstChar = cs.charAt(i);
+        if (firstChar < '0') {
+            if (firstChar == '-') {
+                negative = true;
+                limit = Long.MIN_VALUE;
+            } else if (firstChar != '+') {
+                throw newNumberFormatException(cs, beginIndex, endIndex);
+            }
+            if (++i == endIndex) {
+                throw newNumberFormatException(cs, beginIndex, endIndex);
+            }
+        }
+        // Accumulating negatively, to handle MIN_VALUE.
+        final long multMin = limit / radix;
+        long negResult = 0;
+        while (i < endIndex) {
+            final int digit = digit(cs.charAt(i++), radix);
+            if ((digit < 0) || (negResult < multMin)) {
+                throw newNumberFormatException(cs, beginIndex, endIndex);
+            }
+            negResult *= radix;
+            if (negResult < limit + digit) {
+                throw newNumberFormatException(cs, beginIndex, endIndex);
+            }
+            negResult -= digit;
+        }
+        return (negative ? negResult : -negResult);
+    }
+
+    /**
+     * @param buf Bytes to parse.
+     * @param offset Index of first byte to parse.
+     * @param length Number of bytes to parse.
+     * @param radix A radix in [2,36].
+     * @return The long value represented by the specified bytes.
+     * @throws IndexOutOfBoundsException if the specified range is out of bounds.
+     * @throws NumberFormatException if the specified radix is out of range,
+     *         or the specified bytes do not represent a long value.
+     */
+    public static long parseLong(byte[] buf, int offset, int length, int radix) {
+        checkParseRange(buf.length, offset, offset + length);
+        checkParseRadix(radix);
+        final int endIndex = offset + length;
+        int i = offset;
+        if (i == endIndex) {
+            throw newNumberFormatException(buf, offset, length);
+        }
+        boolean negative = false;
+        long limit = -Long.MAX_VALUE;
+        final int firstChar = (buf[i] & 0xFF);
+        if (firstChar < '0') {
+            if (firstChar == '-') {
+                negative = true;
+                limit = Long.MIN_VALUE;
+            } else if (firstChar != '+') {
+                throw newNumberFormatException(buf, offset, length);
+            }
+            if (++i == endIndex) {
+                throw newNumberFormatException(buf, offset, length);
+            }
+        }
+        // Accumulating negatively, to handle MIN_VALUE.
+        final long multMin = limit / radix;
+        long negResult = 0;
+        while (i < endIndex) {
+            final int digit = digit((char)(buf[i++] & 0xFF), radix);
+            if ((digit < 0) || (negResult < multMin)) {
+                throw newNumberFormatException(buf, offset, length);
+            }
+            negResult *= radix;
+            if (negResult < limit + digit) {
+                throw newNumberFormatException(buf, offset, length);
+            }
+            negResult -= digit;
+        }
+        return (negative ? negResult : -negResult);
+    }
+
+    /**
+     * Plain decimals (optional sign, digits with optional dot, optional
+     * exponent) are parsed directly, and other inputs (with surrounding
+     * whitespaces, hexadecimal, "NaN", "Infinity", type suffix, invalid)
+     * with Double.parseDouble(String).
+     * 
+     * @param cs Characters to parse.
+     * @param beginIndex Index of first character to parse (inclusive).
+     * @param endIndex Index of last character to parse (exclusive).
+     * @return The same value than Double.parseDouble(String)
+     *         for the specified characters.
+     * @throws IndexOutOfBoundsException if the specified range is out of bounds.
+     * @throws NumberFormatException if the specified characters
+     *         do not represent a double value.
+     */
+    public static double parseDouble(CharSequence cs, int beginIndex, int endIndex) {
+        checkParseRange(cs.length(), beginIndex, endIndex);
+        int i = beginIndex;
+        boolean negative = false;
+        if (i < endIndex) {
+            final char c = cs.charAt(i);
+            if ((c == '-') || (c == '+')) {
+                negative = (c == '-');
+                i++;
+            }
+        }
+        long w = 0;
+        int nbrOfDigits = 0;
+        int nbrOfSignificantDigits = 0;
+        int q = 0;
+        boolean truncated = false;
+        boolean dotFound = false;
+        while (i < endIndex) {
+            final char c = cs.charAt(i);
+            if ((c >= '0') && (c <= '9')) {
+                nbrOfDigits++;
+                if ((nbrOfSignificantDigits != 0) || (c != '0')) {
+                    if (nbrOfSignificantDigits < DecimalToDouble.MAX_NBR_OF_DIGITS) {
+                        w = w * 10 + (c - '0');
+                        if (dotFound) {
+                            q--;
+                        }
+                    } else {
+                        truncated |= (c != '0');
+                        if (!dotFound) {
+                            q++;
+                        }
+                    }
+                    nbrOfSignificantDigits++;
+                } else if (dotFound) {
+                    q--;
+                }
+            } else if ((c == '.') && (!dotFound)) {
+                dotFound = true;
+            } else {
+                break;
+            }
+            i++;
+        }
+        if ((nbrOfDigits != 0) && (i < endIndex) && ((cs.charAt(i) | 0x20) == 'e')) {
+            i++;
+            boolean negativeExp = false;
+            if (i < endIndex) {
+                final char c = cs.charAt(i);
+                if ((c == '-') || (c == '+')) {
+                    negativeExp = (c == '-');
+                    i++;
+                }
+            }
+            final int expDigitsStart = i;
+            int exp = 0;
+            while (i < endIndex) {
+                final char c = cs.charAt(i);
+                if ((c < '0') || (c > '9')) {
+                    break;
+                }
+                if (exp < PARSE_MAX_EXP) {
+                    exp = exp * 10 + (c - '0');
+                }
+                i++;
+            }
+            if ((i == expDigitsStart) || (exp >= PARSE_MAX_EXP)) {
+                // Invalid, or huge exponent (which could be compensated
+                // by a huge number of digits): letting JDK handle it.
+                i = -1;
+            }
+            q += (negativeExp ? -exp : exp);
+        }
+        if ((nbrOfDigits != 0) && (i == endIndex)) {
+            final double res = DecimalToDouble.toDouble(w, q, negative, truncated);
+            if (res == res) {
+                return res;
+            }
+        }
+        return Double.parseDouble(cs.subSequence(beginIndex, endIndex).toString());
+    }
+
+    /**
+     * Plain decimals (optional sign, digits with optional dot, optional
+     * exponent) are parsed directly, and other inputs (with surrounding
+     * whitespaces, hexadecimal, "NaN", "Infinity", type suffix, invalid)
+     * with Double.parseDouble(String).
+     * 
+     * @param buf Bytes to parse.
+     * @param offset Index of first byte to parse.
+     * @param length Number of bytes to parse.
+     * @return The same value than Double.parseDouble(String)
+     *         for the specified bytes.
+     * @throws IndexOutOfBoundsException if the specified range is out of bounds.
+     * @throws NumberFormatException if the specified bytes
+     *         do not represent a double value.
+     */
+    public static double parseDouble(byte[] buf, int offset, int length) {
+        checkParseRange(buf.length, offset, offset + length);
+        final int endIndex = offset + length;
+        int i = offset;
+        boolean negative = false;
+        if (i < endIndex) {
+            final int c = buf[i];
+            if ((c == '-') || (c == '+')) {
+                negative = (c == '-');
+                i++;
+            }
+        }
+        long w = 0;
+        int nbrOfDigits = 0;
+        int nbrOfSignificantDigits = 0;
+        int q = 0;
+        boolean truncated = false;
+        boolean dotFound = false;
+        while (i < endIndex) {
+            final int c = buf[i];
+            if ((c >= '0') && (c <= '9')) {
+                nbrOfDigits++;
+                if ((nbrOfSignificantDigits != 0) || (c != '0')) {
+                    if (nbrOfSignificantDigits < DecimalToDouble.MAX_NBR_OF_DIGITS) {
+                        w = w * 10 + (c - '0');
+                        if (dotFound) {
+                            q--;
+                        }
+                    } else {
+                        truncated |= (c != '0');
+                        if (!dotFound) {
+                            q++;
+                        }
+                    }
+                    nbrOfSignificantDigits++;
+                } else if (dotFound) {
+                    q--;
+                }
+            } else if ((c == '.') && (!dotFound)) {
+                dotFound = true;
+            } else {
+                break;
+            }
+            i++;
+        }
+        if ((nbrOfDigits != 0) && (i < endIndex) && ((buf[i] | 0x20) == 'e')) {
+            i++;
+            boolean negativeExp = false;
+            if (i < endIndex) {
+                final int c = buf[i];
+                if ((c == '-') || (c == '+')) {
+                    negativeExp = (c == '-');
+                    i++;
+                }
+            }
+            final int expDigitsStart = i;
+            int exp = 0;
+            while (i < endIndex) {
+                final int c = buf[i];
+                if ((c < '0') || (c > '9')) {
+                    break;
+                }
+                if (exp < PARSE_MAX_EXP) {
+                    exp = exp * 10 + (c - '0');
+                }
+                i++;
+            }
+            if ((i == expDigitsStart) || (exp >= PARSE_MAX_EXP)) {
+                // Invalid, or huge exponent (which could be compensated
+                // by a huge number of digits): letting JDK handle it.
+                i = -1;
+            }
+            q += (negativeExp ? -exp : exp);
+        }
+        if ((nbrOfDigits != 0) && (i == endIndex)) {
+            final double res = DecimalToDouble.toDouble(w, q, negative, truncated);
+            if (res == res) {
+                return res;
+            }
+        }
+        return Double.parseDouble(latin1ToString(buf, offset, length));
+    }
+
+    //--------------------------------------------------------------------------
+    // PACKAGE-PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    /**
+     * @return True if does not throw.
+     * @throws IndexOutOfBoundsException if the specified number of chars
+     *         does not fit in the specified array from the specified index.
+     */
+    static boolean checkCharsFit(char[] dst, int dstPos, int nbrOfChars) {
+        if ((dstPos < 0) || (nbrOfChars > dst.length - dstPos)) {
+            throw new IndexOutOfBoundsException(
+                    "cannot write "+nbrOfChars+" chars at index "+dstPos
+                    +" in an array of length "+dst.length);
+        }
+        return true;
+    }
+
+    //--------------------------------------------------------------------------
+    // PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    private NumbersUtils() {
+    }
+    
+    /*
+     * 
+     */
+    
+    /**
+     * Had such isInXXX methods, and corresponding checkXXX methods,
+     * but they seem actually slower in practice, so just keeping this
+     * code here in case some day it becomes faster than regular isInXXX.
+     * 
+     * Only works for non-empty ranges, i.e. such as min <= max.
+     * This treatment being designed for optimization, min <= max
+     * is not checked.
+     * 
+     * @return True if the specified value is in the specified range (inclusive), false otherwise.
+     */
+    private static boolean dontUseMe_isInNonEmptyRange_(int min, int max, int a) {
+        // Using modulo arithmetic.
+        return (Integer.MIN_VALUE+(a-min) <= Integer.MIN_VALUE+(max-min));
+    }
+
+    /*
+     * 
+     */
+    
+    private static int minSignedIntForBitSize_noCheck(int bitSize) {
+        // i.e. (-1<<(bitSize-1))
+        return (Integer.MIN_VALUE>>(32-bitSize));
+    }
+
+    private static long minSignedLongForBitSize_noCheck(int bitSize) {
+        // i.e. (-1L<<(bitSize-1))
+        return (Long.MIN_VALUE>>(64-bitSize));
+    }
+
+    private static int maxSignedIntForBitSize_noCheck(int bitSize) {
+        // i.e. (1<<(bitSize-1))-1
+        return (Integer.MAX_VALUE>>(32-bitSize));
+    }
+
+    private static long maxSignedLongForBitSize_noCheck(int bitSize) {
+        // i.e. (1L<<(bitSize-1))-1
+        return (Long.MAX_VALUE>>(64-bitSize));
+    }
+
+    /*
+     * 
+     */
+
+    /**
+     * @throws IllegalArgumentException if the specified radix is out of range.
+     */
+    private static int computeNbrOfDigits_negValue(int negValue, int radix) {
+        checkRadix(radix);
+        final int maxNbrOfDigits = MAX_NBR_OF_NEG_INT_DIGITS_BY_RADIX[radix];
+        int p = radix;
+        for (int i=1;i<maxNbrOfDigits;i++) {
+            if (negValue > -p) {
+                return i;
+            }
+            p *= radix;
+        }
+        return maxNbrOfDigits;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the specified radix is out of range.
+     */
+    private static int computeNbrOfDigits_negValue(long negValue, int radix) {
+        checkRadix(radix);
+        final int maxNbrOfDigits = MAX_NBR_OF_NEG_LONG_DIGITS_BY_RADIX[radix];
         long p = radix;
         for (int i=1;i<maxNbrOfDigits;i++) {
             if (negValue > -p) {
@@ -2655,4 +3666,291 @@ public final class NumbersUtils {
             return new String(chars);
         }
     }
+
+    /*
+     * 
+     */
+
+    /**
+     * @throws IllegalArgumentException if the specified radix is out of range.
+     */
+    private static int computeNbrOfChars_negValue(int negValue, boolean negative, int radix, int paddingUpTo) {
+        return computeNbrOfChars_nbrOfDigits(computeNbrOfDigits_negValue(negValue, radix), negative, paddingUpTo);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the specified radix is out of range.
+     */
+    private static int computeNbrOfChars_negValue(long negValue, boolean negative, int radix, int paddingUpTo) {
+        return computeNbrOfChars_nbrOfDigits(computeNbrOfDigits_negValue(negValue, radix), negative, paddingUpTo);
+    }
+
+    private static int computeNbrOfChars_nbrOfDigits(int nbrOfDigits, boolean negative, int paddingUpTo) {
+        return (negative ? 1 : 0) + Math.max(paddingUpTo, nbrOfDigits);
+    }
+
+    /**
+     * @param exponent Must be such as radix^exponent fits in a long.
+     * @return radix^exponent.
+     */
+    private static long computePowerOfRadix(int radix, int exponent) {
+        long p = 1;
+        for (int i=0;i<exponent;i++) {
+            p *= radix;
+        }
+        return p;
+    }
+
+    /**
+     * Writes characters from the last one to the first one.
+     * 
+     * @param nbrOfChars Must be the number of characters (sign included)
+     *        to write for the specified value, radix and padding.
+     */
+    private static void toChars_negValue(
+            int negValue,
+            boolean negative,
+            int radix,
+            int nbrOfChars,
+            char[] dst,
+            int dstPos) {
+        final int signEnd = dstPos + (negative ? 1 : 0);
+        int charPos = dstPos + nbrOfChars;
+
+        final boolean radixIsPowerOfTwo = ((radix & (radix-1)) == 0);
+        // Not allowing Integer.MIN_VALUE so it can be negated.
+        if (radixIsPowerOfTwo && (negValue != Integer.MIN_VALUE)) {
+            final int mask = radix-1;
+            final int divShift = DIV_SHIFT_BY_RADIX[radix];
+            while (negValue <= -radix) {
+                dst[--charPos] = CHAR_BY_DIGIT[(int)((-negValue) & mask)];
+                negValue = -((-negValue) >> divShift);
+            }
+        } else {
+            while (negValue <= -radix) {
+                dst[--charPos] = CHAR_BY_DIGIT[(int)(-(negValue % radix))];
+                negValue /= radix;
+            }
+        }
+        dst[--charPos] = CHAR_BY_DIGIT[(int)(-negValue)];
+
+        while (charPos > signEnd) {
+            dst[--charPos] = '0';
+        }
+
+        if (negative) {
+            dst[dstPos] = '-';
+        }
+    }
+
+    /**
+     * Writes characters from the last one to the first one.
+     * 
+     * @param nbrOfChars Must be the number of characters (sign included)
+     *        to write for the specified value, radix and padding.
+     */
+    private static void toChars_negValue(
+            long negValue,
+            boolean negative,
+            int radix,
+            int nbrOfChars,
+            char[] dst,
+            int dstPos) {
+        final int signEnd = dstPos + (negative ? 1 : 0);
+        int charPos = dstPos + nbrOfChars;
+
+        final boolean radixIsPowerOfTwo = ((radix & (radix-1)) == 0);
+        // Not allowing Long.MIN_VALUE so it can be negated.
+        if (radixIsPowerOfTwo && (negValue != Long.MIN_VALUE)) {
+            final int mask = radix-1;
+            final int divShift = DIV_SHIFT_BY_RADIX[radix];
+            while (negValue <= -radix) {
+                dst[--charPos] = CHAR_BY_DIGIT[(int)((-negValue) & mask)];
+                negValue = -((-negValue) >> divShift);
+            }
+        } else {
+            while (negValue <= -radix) {
+                dst[--charPos] = CHAR_BY_DIGIT[(int)(-(negValue % radix))];
+                negValue /= radix;
+            }
+        }
+        dst[--charPos] = CHAR_BY_DIGIT[(int)(-negValue)];
+
+        while (charPos > signEnd) {
+            dst[--charPos] = '0';
+        }
+
+        if (negative) {
+            dst[dstPos] = '-';
+        }
+    }
+
+    /*
+     * 
+     */
+
+    /**
+     * For a same bit range, bit positions are counted from LSBit
+     * in little endian, and from MSBit in big endian
+     * (consistently with toStringBits methods).
+     * 
+     * @return Number of characters to write for the specified bit range.
+     */
+    private static int computeNbrOfCharsBits(
+            int bitSize,
+            int firstBitPos,
+            int lastBitPosExcl,
+            boolean padding) {
+        return (padding ? bitSize : (lastBitPosExcl - firstBitPos));
+    }
+
+    /**
+     * @param charIndex Index of the character, in [0,nbrOfChars[.
+     * @return The character at the specified index.
+     */
+    private static char charBit(
+            int bitSize,
+            long bits,
+            int firstBitPos,
+            int lastBitPosExcl,
+            boolean bigEndian,
+            boolean padding,
+            int charIndex) {
+        final int bitPos = (padding ? charIndex : firstBitPos + charIndex);
+        if ((bitPos < firstBitPos) || (bitPos >= lastBitPosExcl)) {
+            return '_';
+        }
+        final int bitIndex = (bigEndian ? (bitSize-1) - bitPos : bitPos);
+        return (char)('0'+((bits>>bitIndex)&1));
+    }
+
+    private static int toCharsBits_bitPosAlreadyChecked(
+            int bitSize,
+            long bits,
+            int firstBitPos,
+            int lastBitPosExcl,
+            boolean bigEndian,
+            boolean padding,
+            char[] dst,
+            int dstPos) {
+        final int nbrOfChars = computeNbrOfCharsBits(bitSize, firstBitPos, lastBitPosExcl, padding);
+        checkCharsFit(dst, dstPos, nbrOfChars);
+        for (int i=0;i<nbrOfChars;i++) {
+            dst[dstPos+i] = charBit(bitSize, bits, firstBitPos, lastBitPosExcl, bigEndian, padding, i);
+        }
+        return nbrOfChars;
+    }
+
+    private static int appendBits_bitPosAlreadyChecked(
+            int bitSize,
+            long bits,
+            int firstBitPos,
+            int lastBitPosExcl,
+            boolean bigEndian,
+            boolean padding,
+            StringBuilder dst) {
+        final int nbrOfChars = computeNbrOfCharsBits(bitSize, firstBitPos, lastBitPosExcl, padding);
+        dst.ensureCapacity(dst.length() + nbrOfChars);
+        for (int i=0;i<nbrOfChars;i++) {
+            dst.append(charBit(bitSize, bits, firstBitPos, lastBitPosExcl, bigEndian, padding, i));
+        }
+        return nbrOfChars;
+    }
+
+    private static int appendBits_bitPosAlreadyChecked(
+            int bitSize,
+            long bits,
+            int firstBitPos,
+            int lastBitPosExcl,
+            boolean bigEndian,
+            boolean padding,
+            Appendable dst) throws IOException {
+        final int nbrOfChars = computeNbrOfCharsBits(bitSize, firstBitPos, lastBitPosExcl, padding);
+        for (int i=0;i<nbrOfChars;i++) {
+            dst.append(charBit(bitSize, bits, firstBitPos, lastBitPosExcl, bigEndian, padding, i));
+        }
+        return nbrOfChars;
+    }
+
+    private static int putAsciiBits_bitPosAlreadyChecked(
+            int bitSize,
+            long bits,
+            int firstBitPos,
+            int lastBitPosExcl,
+            boolean bigEndian,
+            boolean padding,
+            ByteBuffer dst) {
+        final int nbrOfChars = computeNbrOfCharsBits(bitSize, firstBitPos, lastBitPosExcl, padding);
+        if (dst.remaining() < nbrOfChars) {
+            throw new BufferOverflowException();
+        }
+        for (int i=0;i<nbrOfChars;i++) {
+            dst.put((byte)charBit(bitSize, bits, firstBitPos, lastBitPosExcl, bigEndian, padding, i));
+        }
+        return nbrOfChars;
+    }
+
+    /*
+     * 
+     */
+
+    /**
+     * @throws IndexOutOfBoundsException if the specified range
+     *         is out of [0,length].
+     */
+    private static void checkParseRange(int length, int beginIndex, int endIndex) {
+        if ((beginIndex < 0) || (beginIndex > endIndex) || (endIndex > length)) {
+            throw new IndexOutOfBoundsException(
+                    "range [" + beginIndex + "," + endIndex
+                    + "[ out of [0," + length + "]");
+        }
+    }
+
+    /**
+     * Throws NumberFormatException, as Integer.parseInt(String,int).
+     * 
+     * @throws NumberFormatException if the specified radix is not in [2,36].
+     */
+    private static void checkParseRadix(int radix) {
+        if (!isInRange(Character.MIN_RADIX, Character.MAX_RADIX, radix)) {
+            throw new NumberFormatException("radix ["+radix+"] must be in ["+Character.MIN_RADIX+","+Character.MAX_RADIX+"]");
+        }
+    }
+
+    /**
+     * Same as Character.digit(char,int), with a fast path for ASCII chars.
+     */
+    private static int digit(char c, int radix) {
+        final int digit;
+        if (c < 128) {
+            if ((c >= '0') && (c <= '9')) {
+                digit = c - '0';
+            } else if ((c >= 'a') && (c <= 'z')) {
+                digit = c - ('a' - 10);
+            } else if ((c >= 'A') && (c <= 'Z')) {
+                digit = c - ('A' - 10);
+            } else {
+                return -1;
+            }
+            return ((digit < radix) ? digit : -1);
+        } else {
+            return Character.digit(c, radix);
+        }
+    }
+
+    private static NumberFormatException newNumberFormatException(CharSequence cs, int beginIndex, int endIndex) {
+        return new NumberFormatException("For input string: \"" + cs.subSequence(beginIndex, endIndex) + "\"");
+    }
+
+    private static NumberFormatException newNumberFormatException(byte[] buf, int offset, int length) {
+        return new NumberFormatException("For input string: \"" + latin1ToString(buf, offset, length) + "\"");
+    }
+
+    private static String latin1ToString(byte[] buf, int offset, int length) {
+        final char[] chars = new char[length];
+        for (int i=0;i<length;i++) {
+            chars[i] = (char)(buf[offset+i] & 0xFF);
+        }
+        return new String(chars);
+    }
 }
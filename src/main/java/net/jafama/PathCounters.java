@@ -0,0 +1,206 @@
+/*
+ * Copyright 2012-2017 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Counts of table path and slow path hits of (Strict)FastMath
+ * sin, cos, tan, asin and atan methods (and of methods using them,
+ * such as acos, atan2, or bulk methods), to know how often arguments
+ * are outside look-up tables range.
+ * 
+ * Counting is enabled by setting jafama.countpaths property to true,
+ * and is otherwise removed by the JIT (it's done under a static final
+ * boolean). When enabled, counts are exposed through JMX, as a standard
+ * MBean (with PathCountersMBean as management interface), under
+ * OBJECT_NAME, as soon as a counted path is hit.
+ * 
+ * Slow paths are:
+ * - for sin, cos and tan: reduction of large angles (remainder computation),
+ *   which is then followed by a table path hit for the reduced angle
+ *   (of sin or cos, depending on the quadrant, for sin and cos),
+ * - for asin and atan: polynomial evaluation, outside tables range.
+ * For sin, cos and tan, slow path hits are therefore counted in addition
+ * to table path hits, not instead of them (table path counts include
+ * calls that went through slow path), while for asin and atan a call
+ * either hits the table path or the slow path.
+ * 
+ * Counters are striped by thread, to limit contention.
+ */
+public final class PathCounters implements PathCountersMBean {
+
+    //--------------------------------------------------------------------------
+    // CONFIGURATION
+    //--------------------------------------------------------------------------
+
+    public static final String OBJECT_NAME = "net.jafama:type=PathCounters";
+
+    /**
+     * Power of two.
+     */
+    private static final int NBR_OF_STRIPES = NumbersUtils.ceilingPowerOfTwo(
+            Math.min(64, Runtime.getRuntime().availableProcessors()));
+
+    //--------------------------------------------------------------------------
+    // MEMBERS
+    //--------------------------------------------------------------------------
+
+    /*
+     * Paths.
+     */
+
+    static final int SIN_TABLE = 0;
+    static final int SIN_SLOW = 1;
+    static final int COS_TABLE = 2;
+    static final int COS_SLOW = 3;
+    static final int TAN_TABLE = 4;
+    static final int TAN_SLOW = 5;
+    static final int ASIN_TABLE = 6;
+    static final int ASIN_SLOW = 7;
+    static final int ATAN_TABLE = 8;
+    static final int ATAN_SLOW = 9;
+
+    private static final int NBR_OF_PATHS = 10;
+
+    /**
+     * Number of longs per stripe, at least NBR_OF_PATHS, and such as
+     * different stripes are on different cache lines (and not on adjacent ones).
+     */
+    private static final int STRIPE_SIZE = 16;
+
+    private static final AtomicLongArray COUNTS = new AtomicLongArray(NBR_OF_STRIPES * STRIPE_SIZE);
+
+    private static final PathCounters INSTANCE = new PathCounters();
+    static {
+        if (CmnFastMath.CMN_COUNT_PATHS) {
+            try {
+                registerMBean();
+            } catch (JMException e) {
+                // Can happen if already registered, for example
+                // by another class loader: just not exposing counts.
+            } catch (SecurityException e) {
+                // Not allowed to register.
+            }
+        }
+    }
+
+    //--------------------------------------------------------------------------
+    // PUBLIC METHODS
+    //--------------------------------------------------------------------------
+
+    /**
+     * @return The instance holding counts.
+     */
+    public static PathCounters getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers the instance into the platform MBean server, under OBJECT_NAME.
+     * Done automatically when counting is enabled, so only useful after an
+     * unregistration.
+     * 
+     * @throws JMException if registration failed.
+     */
+    public static void registerMBean() throws JMException {
+        ManagementFactory.getPlatformMBeanServer().registerMBean(INSTANCE, new ObjectName(OBJECT_NAME));
+    }
+
+    public boolean isEnabled() {
+        return CmnFastMath.CMN_COUNT_PATHS;
+    }
+
+    public long getSinTablePathCount() {
+        return sum(SIN_TABLE);
+    }
+
+    public long getSinSlowPathCount() {
+        return sum(SIN_SLOW);
+    }
+
+    public long getCosTablePathCount() {
+        return sum(COS_TABLE);
+    }
+
+    public long getCosSlowPathCount() {
+        return sum(COS_SLOW);
+    }
+
+    public long getTanTablePathCount() {
+        return sum(TAN_TABLE);
+    }
+
+    public long getTanSlowPathCount() {
+        return sum(TAN_SLOW);
+    }
+
+    public long getAsinTablePathCount() {
+        return sum(ASIN_TABLE);
+    }
+
+    public long getAsinSlowPathCount() {
+        return sum(ASIN_SLOW);
+    }
+
+    public long getAtanTablePathCount() {
+        return sum(ATAN_TABLE);
+    }
+
+    public long getAtanSlowPathCount() {
+        return sum(ATAN_SLOW);
+    }
+
+    /**
+     * Not atomic with concurrent hits.
+     */
+    public void reset() {
+        for (int i=0;i<COUNTS.length();i++) {
+            COUNTS.set(i, 0L);
+        }
+    }
+
+    //--------------------------------------------------------------------------
+    // PACKAGE-PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    /**
+     * @param path A path, such as SIN_TABLE.
+     */
+    static void increment(int path) {
+        final int stripe = ((int)Thread.currentThread().getId()) & (NBR_OF_STRIPES-1);
+        COUNTS.incrementAndGet(stripe * STRIPE_SIZE + path);
+    }
+
+    //--------------------------------------------------------------------------
+    // PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    private PathCounters() {
+    }
+
+    private static long sum(int path) {
+        long sum = 0;
+        for (int i=0;i<NBR_OF_STRIPES;i++) {
+            sum += COUNTS.get(i * STRIPE_SIZE + path);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2012-2017 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+/**
+ * Management interface of PathCounters, which is registered
+ * as a standard MBean (not as an MXBean, since all attributes
+ * are of primitive types anyway).
+ */
+public interface PathCountersMBean {
+    /**
+     * @return True if paths hits are counted (jafama.countpaths property),
+     *         false otherwise, in which case all counts are zero.
+     */
+    public boolean isEnabled();
+    public long getSinTablePathCount();
+    public long getSinSlowPathCount();
+    public long getCosTablePathCount();
+    public long getCosSlowPathCount();
+    public long getTanTablePathCount();
+    public long getTanSlowPathCount();
+    public long getAsinTablePathCount();
+    public long getAsinSlowPathCount();
+    public long getAtanTablePathCount();
+    public long getAtanSlowPathCount();
+    /**
+     * Sets all counts to zero.
+     */
+    public void reset();
+}
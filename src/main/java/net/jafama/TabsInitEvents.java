@@ -0,0 +1,54 @@
+/*
+ * Copyright 2012-2017 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+/**
+ * Hooks around initialization of each family of look-up tables.
+ * 
+ * This version does nothing. The Java 11+ version (src/main/java11, used
+ * from the multi-release jar) emits JDK Flight Recorder events, to know when,
+ * in which thread, and how long, tables initialization blocked a first call.
+ */
+final class TabsInitEvents {
+
+    //--------------------------------------------------------------------------
+    // PACKAGE-PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    /**
+     * @param family Name of the family of tables (as for tables resources).
+     * @return Object to give to end(...), or null if nothing to record.
+     */
+    static Object begin(String family) {
+        return null;
+    }
+
+    /**
+     * @param event Object returned by begin(...).
+     * @param loaded True if tables have been loaded from resources,
+     *        false if they have been computed.
+     * @param tabs Tables of the family.
+     */
+    static void end(Object event, boolean loaded, double[]... tabs) {
+    }
+
+    //--------------------------------------------------------------------------
+    // PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    private TabsInitEvents() {
+    }
+}
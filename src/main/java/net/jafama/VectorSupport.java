@@ -0,0 +1,73 @@
+/*
+ * Copyright 2012-2017 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+/**
+ * Vectorized versions of some bulk methods of (Strict)FastMath,
+ * which give identical results.
+ * 
+ * Methods compute values from the first one, and return the number of values
+ * computed, the remaining ones being for the caller to compute.
+ * 
+ * This version computes no value. The Java 17+ version (src/main/java17,
+ * used from the multi-release jar) uses the Vector API, if the
+ * jdk.incubator.vector module is available (--add-modules option).
+ */
+final class VectorSupport {
+
+    //--------------------------------------------------------------------------
+    // PACKAGE-PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    /**
+     * Ranges must have been checked, and tables must be used
+     * (i.e. not USE_JDK_MATH).
+     * 
+     * @param strict True if called from StrictFastMath, false if from FastMath.
+     * @return The number of values computed, from the first one.
+     */
+    static int exp(double[] src, int srcOff, double[] dst, int dstOff, int len, boolean strict) {
+        return 0;
+    }
+
+    /**
+     * Ranges must have been checked, and redefined log must be used.
+     * 
+     * @param strict True if called from StrictFastMath, false if from FastMath.
+     * @return The number of values computed, from the first one.
+     */
+    static int log(double[] src, int srcOff, double[] dst, int dstOff, int len, boolean strict) {
+        return 0;
+    }
+
+    /**
+     * Ranges must have been checked, redefined log must be used,
+     * and power must not be 0 or 1.
+     * 
+     * @param strict True if called from StrictFastMath, false if from FastMath.
+     * @return The number of values computed, from the first one.
+     */
+    static int pow(double[] src, int srcOff, double power, double[] dst, int dstOff, int len, boolean strict) {
+        return 0;
+    }
+
+    //--------------------------------------------------------------------------
+    // PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    private VectorSupport() {
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2012-2017 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JDK Flight Recorder event for the initialization of a family of look-up
+ * tables, which duration is the time the initializing thread was blocked
+ * (as well as other threads using the same tables meanwhile).
+ * Thread and stack trace are recorded by JFR.
+ * 
+ * Only to be used through TabsInitEvents, which checks that jdk.jfr
+ * is available.
+ */
+@Name("net.jafama.TabsInit")
+@Label("Jafama Tables Initialization")
+@Category("Jafama")
+@Description("Initialization of a family of FastMath/StrictFastMath look-up tables")
+final class TabsInitEvent extends Event {
+
+    //--------------------------------------------------------------------------
+    // MEMBERS
+    //--------------------------------------------------------------------------
+
+    @Label("Family")
+    @Description("Family of tables, such as sincos or exp")
+    String family;
+
+    @Label("Loaded")
+    @Description("True if loaded from precomputed resources, false if computed")
+    boolean loaded;
+
+    @Label("Size")
+    @Description("Total size of the tables of the family")
+    @DataAmount
+    long bytes;
+
+    //--------------------------------------------------------------------------
+    // PACKAGE-PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    /**
+     * @param family Name of the family of tables.
+     * @return The begun event, or null if not enabled.
+     */
+    static Object begin(String family) {
+        final TabsInitEvent event = new TabsInitEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.family = family;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * @param event A non-null event returned by begin(String).
+     */
+    static void end(Object event, boolean loaded, double[]... tabs) {
+        final TabsInitEvent tabsInitEvent = (TabsInitEvent) event;
+        tabsInitEvent.end();
+        long bytes = 0;
+        for (double[] tab : tabs) {
+            bytes += 8L * tab.length;
+        }
+        tabsInitEvent.loaded = loaded;
+        tabsInitEvent.bytes = bytes;
+        tabsInitEvent.commit();
+    }
+}
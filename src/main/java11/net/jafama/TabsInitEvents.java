@@ -0,0 +1,69 @@
+/*
+ * Copyright 2012-2017 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+/**
+ * Java 11+ version, which emits a TabsInitEvent for each family
+ * of look-up tables, if JDK Flight Recorder is recording it.
+ * 
+ * TabsInitEvent extends jdk.jfr.Event, so it is only loaded if the jdk.jfr
+ * module is available (it might not be, for jlinked images or when using
+ * --limit-modules), not to have tables initialization (and then the math)
+ * fail with a NoClassDefFoundError.
+ */
+final class TabsInitEvents {
+
+    //--------------------------------------------------------------------------
+    // MEMBERS
+    //--------------------------------------------------------------------------
+
+    private static final boolean JFR_AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+    //--------------------------------------------------------------------------
+    // PACKAGE-PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    /**
+     * @param family Name of the family of tables (as for tables resources).
+     * @return Object to give to end(...), or null if nothing to record.
+     */
+    static Object begin(String family) {
+        if (!JFR_AVAILABLE) {
+            return null;
+        }
+        return TabsInitEvent.begin(family);
+    }
+
+    /**
+     * @param event Object returned by begin(...).
+     * @param loaded True if tables have been loaded from resources,
+     *        false if they have been computed.
+     * @param tabs Tables of the family.
+     */
+    static void end(Object event, boolean loaded, double[]... tabs) {
+        if (event == null) {
+            return;
+        }
+        TabsInitEvent.end(event, loaded, tabs);
+    }
+
+    //--------------------------------------------------------------------------
+    // PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    private TabsInitEvents() {
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright 2012-2017 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vectorized bulk exp, log and pow, using the Vector API
+ * (jdk.incubator.vector), with gather loads from look-up tables.
+ * 
+ * Computations are the same than in non-vectorized bulk methods of
+ * (Strict)FastMath, operation by operation (no fma), so results are
+ * identical.
+ * For each chunk of values containing a value which these methods don't
+ * treat with tables (overflows, underflows, values close to 1 for log,
+ * NaN, etc.), the scalar method is used for all values of the chunk.
+ * 
+ * Each chunk is computed by a method which only takes and returns arrays
+ * and primitives: vectors must not escape compiled code, else they get
+ * allocated, and the JIT stops inlining in methods which become too big
+ * (which, with vector methods, happens quickly), so chunk methods must be
+ * small compilation units by themselves.
+ * Also, conversions that change lanes count, and conversions from doubles
+ * to integers, are not intrinsified (at least in JDK 17), so we only use
+ * conversions from longs with same lanes count, and round doubles
+ * to integers by adding 1.5*2^52.
+ * 
+ * Only to be used through VectorSupport, which checks that
+ * jdk.incubator.vector is available.
+ */
+final class VectorOps extends CmnFastMath {
+
+    //--------------------------------------------------------------------------
+    // CONFIGURATION
+    //--------------------------------------------------------------------------
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private static final int LANE_COUNT = SPECIES.length();
+
+    /**
+     * Species with as many ints as doubles, for gathers indexes.
+     */
+    private static final VectorSpecies<Integer> INDEX_SPECIES = VectorSpecies.of(
+            int.class,
+            VectorShape.forBitSize(Math.max(64, SPECIES.vectorBitSize()/2)));
+
+    /**
+     * Adding it to a double of magnitude < 2^51 rounds it to nearest integer,
+     * which is in low bits.
+     */
+    private static final double ROUNDING_SHIFT = 1.5 * TWO_POW_52;
+
+    //--------------------------------------------------------------------------
+    // MEMBERS
+    //--------------------------------------------------------------------------
+
+    /**
+     * Per thread, not to create arrays on each call.
+     */
+    private static final ThreadLocal<MyScratch> SCRATCH = new ThreadLocal<MyScratch>() {
+        @Override
+        protected MyScratch initialValue() {
+            return new MyScratch();
+        }
+    };
+
+    //--------------------------------------------------------------------------
+    // PRIVATE CLASSES
+    //--------------------------------------------------------------------------
+
+    private static class MyScratch {
+        /**
+         * Gathers indexes, which can only be given as an int array
+         * (at least in JDK 17): two sets of LANE_COUNT indexes.
+         */
+        final int[] indexes = new int[2*LANE_COUNT];
+        /**
+         * For pow, log of a chunk times power, before its exp.
+         */
+        final double[] values = new double[LANE_COUNT];
+        /**
+         * For exp, arguments reduced with tables.
+         */
+        final double[] eps = new double[LANE_COUNT];
+    }
+
+    //--------------------------------------------------------------------------
+    // PACKAGE-PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    /**
+     * @return True if vectors have multiple lanes of doubles,
+     *         false otherwise, in which case there is nothing to gain.
+     */
+    static boolean isWorthIt() {
+        return (LANE_COUNT >= 2) && (INDEX_SPECIES.length() == LANE_COUNT);
+    }
+
+    static int exp(double[] src, int srcOff, double[] dst, int dstOff, int len, boolean strict) {
+        final MyScratch scratch = SCRATCH.get();
+        final int[] indexes = scratch.indexes;
+        final double[] eps = scratch.eps;
+        final int bound = SPECIES.loopBound(len);
+        for (int i=0;i<bound;i+=LANE_COUNT) {
+            if (!expChunk(src, srcOff+i, dst, dstOff+i, indexes, eps)) {
+                for (int j=i;j<i+LANE_COUNT;j++) {
+                    final double value = src[srcOff+j];
+                    dst[dstOff+j] = (strict ? StrictFastMath.exp(value) : FastMath.exp(value));
+                }
+            }
+        }
+        return bound;
+    }
+
+    static int log(double[] src, int srcOff, double[] dst, int dstOff, int len, boolean strict) {
+        final int[] indexes = SCRATCH.get().indexes;
+        final int bound = SPECIES.loopBound(len);
+        for (int i=0;i<bound;i+=LANE_COUNT) {
+            if (!logChunk(src, srcOff+i, 1.0, dst, dstOff+i, indexes)) {
+                for (int j=i;j<i+LANE_COUNT;j++) {
+                    final double value = src[srcOff+j];
+                    dst[dstOff+j] = (strict ? StrictFastMath.log(value) : FastMath.log(value));
+                }
+            }
+        }
+        return bound;
+    }
+
+    static int pow(double[] src, int srcOff, double power, double[] dst, int dstOff, int len, boolean strict) {
+        final MyScratch scratch = SCRATCH.get();
+        final int[] indexes = scratch.indexes;
+        final double[] x = scratch.values;
+        final double[] eps = scratch.eps;
+        final int bound = SPECIES.loopBound(len);
+        for (int i=0;i<bound;i+=LANE_COUNT) {
+            // Here pow(double,double) computes exp(power*log(value)),
+            // as in non-vectorized bulk method.
+            if (!(logChunk(src, srcOff+i, power, x, 0, indexes)
+                    && expChunk(x, 0, dst, dstOff+i, indexes, eps))) {
+                for (int j=i;j<i+LANE_COUNT;j++) {
+                    final double value = src[srcOff+j];
+                    dst[dstOff+j] = (strict ? StrictFastMath.pow(value, power) : FastMath.pow(value, power));
+                }
+            }
+        }
+        return bound;
+    }
+
+    //--------------------------------------------------------------------------
+    // PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    private VectorOps() {
+    }
+
+    /**
+     * @param indexes Scratch array for gathers indexes.
+     * @param eps Scratch array for exp arguments reduced with tables.
+     * @return True if exp was computed for the LANE_COUNT values from srcPos,
+     *         false if some of them must go through scalar treatment,
+     *         in which case dst is not modified.
+     */
+    private static boolean expChunk(double[] src, int srcPos, double[] dst, int dstPos, int[] indexes, double[] eps) {
+        // In two steps, for each to be small enough to get fully inlined.
+        if (!expReduce(src, srcPos, indexes, eps)) {
+            return false;
+        }
+        expFromReduced(indexes, eps, dst, dstPos);
+        return true;
+    }
+
+    /**
+     * Computes tables indexes and reduced arguments.
+     * 
+     * @return True if values are all in table range, false otherwise,
+     *         in which case indexes and eps are not modified.
+     */
+    private static boolean expReduce(double[] src, int srcPos, int[] indexes, double[] eps) {
+        final DoubleVector value = DoubleVector.fromArray(SPECIES, src, srcPos);
+        final VectorMask<Double> inRange = value.compare(VectorOperators.GE, EXP_UNDERFLOW_LIMIT).and(
+                value.compare(VectorOperators.LE, EXP_OVERFLOW_LIMIT));
+        if (!inRange.allTrue()) {
+            return false;
+        }
+        // (int)(value*EXP_LO_INDEXING), and integer part and z index from it,
+        // rounding toward zero as (int) does.
+        final DoubleVector scaled = value.mul((double)EXP_LO_INDEXING);
+        DoubleVector loIndexing = scaled.add(ROUNDING_SHIFT).sub(ROUNDING_SHIFT);
+        loIndexing = loIndexing.sub(1.0, loIndexing.compare(VectorOperators.GT, scaled).and(scaled.compare(VectorOperators.GT, 0.0)));
+        loIndexing = loIndexing.add(1.0, loIndexing.compare(VectorOperators.LT, scaled).and(scaled.compare(VectorOperators.LT, 0.0)));
+        final DoubleVector divided = loIndexing.mul(1.0/EXP_LO_INDEXING);
+        DoubleVector valueInt = divided.add(ROUNDING_SHIFT).sub(ROUNDING_SHIFT);
+        valueInt = valueInt.sub(1.0, valueInt.compare(VectorOperators.GT, divided).and(divided.compare(VectorOperators.GT, 0.0)));
+        valueInt = valueInt.add(1.0, valueInt.compare(VectorOperators.LT, divided).and(divided.compare(VectorOperators.LT, 0.0)));
+        final DoubleVector zIndex = loIndexing.sub(valueInt.mul((double)EXP_LO_INDEXING));
+        // Adding ROUNDING_SHIFT puts integers in low bits.
+        ((IntVector)valueInt.add(ROUNDING_SHIFT - (int)EXP_UNDERFLOW_LIMIT).viewAsIntegralLanes().convertShape(
+                VectorOperators.L2I, INDEX_SPECIES, 0)).intoArray(indexes, 0);
+        ((IntVector)zIndex.add(ROUNDING_SHIFT + EXP_LO_TAB_MID_INDEX).viewAsIntegralLanes().convertShape(
+                VectorOperators.L2I, INDEX_SPECIES, 0)).intoArray(indexes, LANE_COUNT);
+        value.sub(valueInt).sub(zIndex.mul(1.0/EXP_LO_INDEXING)).intoArray(eps, 0);
+        return true;
+    }
+
+    private static void expFromReduced(int[] indexes, double[] eps, double[] dst, int dstPos) {
+        final DoubleVector hiTerm = DoubleVector.fromArray(SPECIES, MyTExp.expHiTab, 0, indexes, 0);
+        final DoubleVector expZ = DoubleVector.fromArray(SPECIES, MyTExp.expLoPosTab, 0, indexes, LANE_COUNT);
+        final DoubleVector e = DoubleVector.fromArray(SPECIES, eps, 0);
+        DoubleVector p;
+        if (EXP_USE_MORE_TERMS) {
+            p = e.mul(1.0/720).add(1.0/120);
+            p = e.mul(p).add(1.0/24);
+        } else {
+            p = DoubleVector.broadcast(SPECIES, 1.0/24);
+        }
+        p = e.mul(p).add(1.0/6);
+        p = e.mul(p).add(1.0/2);
+        p = e.mul(p).add(1.0);
+        final DoubleVector expEps = e.mul(p).add(1.0);
+        hiTerm.mul(expZ.mul(expEps)).intoArray(dst, dstPos);
+    }
+
+    /**
+     * @param factor Factor for log results (exact if 1.0).
+     * @param indexes Scratch array for gathers indexes.
+     * @return True if factor*log was computed for the LANE_COUNT values
+     *         from srcPos, false if some of them must go through scalar
+     *         treatment, in which case dst is not modified.
+     */
+    private static boolean logChunk(double[] src, int srcPos, double factor, double[] dst, int dstPos, int[] indexes) {
+        final DoubleVector value = DoubleVector.fromArray(SPECIES, src, srcPos);
+        final VectorMask<Double> inRange = value.compare(VectorOperators.GE, DOUBLE_MIN_NORMAL).and(
+                value.compare(VectorOperators.LT, Double.POSITIVE_INFINITY)).and(
+                        value.compare(VectorOperators.LE, 0.95).or(
+                                value.compare(VectorOperators.GE, 1.14)));
+        if (!inRange.allTrue()) {
+            return false;
+        }
+        final LongVector bits = value.viewAsIntegralLanes();
+        final LongVector valueExp = bits.lanewise(VectorOperators.LSHR, 52).sub((long)MAX_DOUBLE_EXPONENT);
+        ((IntVector)bits.lanewise(VectorOperators.LSHR, 52-LOG_BITS).and((long)(LOG_TAB_SIZE-1)).convertShape(
+                VectorOperators.L2I, INDEX_SPECIES, 0)).intoArray(indexes, 0);
+        // Value divided by 2^valueExp, which is exact
+        // (same as multiplying by twoPowNormalOrSubnormal(-valueExp)).
+        final DoubleVector mantissa = bits.and(0x000FFFFFFFFFFFFFL).or(0x3FF0000000000000L).viewAsFloatingLanes();
+        DoubleVector z = mantissa.mul(DoubleVector.fromArray(SPECIES, MyTLog.logXInvTab, 0, indexes, 0)).sub(1.0);
+        DoubleVector p;
+        if (LOG_USE_MORE_TERMS) {
+            p = DoubleVector.broadcast(SPECIES, 1.0/4).sub(z.mul(1.0/5));
+            p = DoubleVector.broadcast(SPECIES, 1.0/3).sub(z.mul(p));
+        } else {
+            p = DoubleVector.broadcast(SPECIES, 1.0/3);
+        }
+        p = DoubleVector.broadcast(SPECIES, 1.0/2).sub(z.mul(p));
+        p = DoubleVector.broadcast(SPECIES, 1.0).sub(z.mul(p));
+        z = z.mul(p);
+        final DoubleVector logXLog = DoubleVector.fromArray(SPECIES, MyTLog.logXLogTab, 0, indexes, 0);
+        final DoubleVector log = ((DoubleVector)valueExp.convert(VectorOperators.L2D, 0)).mul(LOG_2).add(logXLog.add(z));
+        if (factor == 1.0) {
+            log.intoArray(dst, dstPos);
+        } else {
+            log.mul(factor).intoArray(dst, dstPos);
+        }
+        return true;
+    }
+}
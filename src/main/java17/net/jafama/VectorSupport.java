@@ -0,0 +1,67 @@
+/*
+ * Copyright 2012-2017 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+/**
+ * Java 17+ version, which delegates to VectorOps, using the Vector API,
+ * if the jdk.incubator.vector module is available (--add-modules option),
+ * and computes no value otherwise.
+ * 
+ * VectorOps uses jdk.incubator.vector classes, so it is only loaded
+ * if the module is available, not to fail with a NoClassDefFoundError.
+ */
+final class VectorSupport {
+
+    //--------------------------------------------------------------------------
+    // MEMBERS
+    //--------------------------------------------------------------------------
+
+    private static final boolean VECTOR_AVAILABLE =
+            ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()
+            && VectorOps.isWorthIt();
+
+    //--------------------------------------------------------------------------
+    // PACKAGE-PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    static int exp(double[] src, int srcOff, double[] dst, int dstOff, int len, boolean strict) {
+        if (!VECTOR_AVAILABLE) {
+            return 0;
+        }
+        return VectorOps.exp(src, srcOff, dst, dstOff, len, strict);
+    }
+
+    static int log(double[] src, int srcOff, double[] dst, int dstOff, int len, boolean strict) {
+        if (!VECTOR_AVAILABLE) {
+            return 0;
+        }
+        return VectorOps.log(src, srcOff, dst, dstOff, len, strict);
+    }
+
+    static int pow(double[] src, int srcOff, double power, double[] dst, int dstOff, int len, boolean strict) {
+        if (!VECTOR_AVAILABLE) {
+            return 0;
+        }
+        return VectorOps.pow(src, srcOff, power, dst, dstOff, len, strict);
+    }
+
+    //--------------------------------------------------------------------------
+    // PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    private VectorSupport() {
+    }
+}
@@ -594,6 +594,10 @@ abstract class AbstractFastMathPerf {
         return "{"+toStringSmart(args1)+","+toStringSmart(args2)+"}";
     }
 
+    static String toStringSmart(float[] args1, float[] args2) {
+        return "{"+toStringSmart(args1)+","+toStringSmart(args2)+"}";
+    }
+
     static String toStringSmart(double[] args1, int[] args2) {
         return "{"+toStringSmart(args1)+","+toStringSmart(args2)+"}";
     }
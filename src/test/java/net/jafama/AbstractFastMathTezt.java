@@ -46,7 +46,11 @@ abstract class AbstractFastMathTezt extends TestCase {
     // CONFIGURATION
     //--------------------------------------------------------------------------
     
-    static final int NBR_OF_VALUES = 10 * 1000 * 1000;
+    /**
+     * Can be reduced with jafama.test.nbrofvalues property,
+     * for tests run for many configurations (cf. TabSizePowersTest).
+     */
+    static final int NBR_OF_VALUES = Integer.getInteger("jafama.test.nbrofvalues", 10 * 1000 * 1000);
     
     static final int NBR_OF_VALUES_SMALL = 100 * 1000;
     
@@ -60,6 +64,14 @@ abstract class AbstractFastMathTezt extends TestCase {
     // PACKAGE-PRIVATE CLASSES
     //--------------------------------------------------------------------------
     
+    interface InterfaceDoubleFunction {
+        public double apply(double value);
+    }
+    
+    interface InterfaceDoubleBulkFunction {
+        public void apply(double[] src, int srcOff, double[] dst, int dstOff, int len);
+    }
+    
     static class MyDoubleResHelper {
         private final String name;
         private final MyDeltaHelper absHelper = new MyDeltaHelper("abs");
@@ -242,6 +254,14 @@ abstract class AbstractFastMathTezt extends TestCase {
 
     static final double TOL_1EM15 = 1e-15;
     static final double TOL_1EM14 = 1e-14;
+
+    /**
+     * For pow of small integers, which results are exact or about so.
+     * With exp tables smaller than default (jafama.tabsizepower.exp),
+     * results can be a few ulps off (as for random arguments, for any
+     * tables size), which exceeds 1e-15 for 8.0.
+     */
+    static final double TOL_POW_SMALL_INTS_ABS = (CmnFastMath.EXP_USE_MORE_TERMS ? 4e-15 : TOL_1EM15);
     
     static final double TOL_TRIG_NORM_REL = 2e-6;
     static final double MAX_VALUE_FAST_TRIG_NORM = ((1L<<52) * (Math.PI/2)) / 1e2;
@@ -250,10 +270,20 @@ abstract class AbstractFastMathTezt extends TestCase {
     static final double TOL_SIN_COS_ABS = 1e-15;
     static final double TOL_SIN_COS_REL = 1e-13;
     static final double TOL_SIN_COS_REL_BAD = TOL_TRIG_NORM_REL;
+    static final double SIN_ONE_DEG = StrictMath.sin(StrictMath.toRadians(1.0));
+    static final double TOL_ATAN2_QUICK_ABS = 8.2e-5;
 
     static final double TOL_SINQUICK_COSQUICK_ABS = 1.6e-3;
 
     static final double TOL_SINH_COSH_REL = 2e-15;
+
+    /**
+     * Special values first in bulk tests arguments.
+     */
+    static final double[] BULK_SPECIAL_VALUES = new double[]{
+        Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+        0.0, -0.0, Double.MIN_VALUE, -Double.MIN_VALUE, DOUBLE_MIN_NORMAL,
+        1.0, -1.0, 0.95, 1.14, -745.0, 709.0, Double.MAX_VALUE, -Double.MAX_VALUE};
     
     final NumbersTestUtils utils = new NumbersTestUtils(this.random);
 
@@ -410,6 +440,105 @@ abstract class AbstractFastMathTezt extends TestCase {
         }
     }
 
+    /*
+     * bulk
+     */
+
+    /**
+     * @return An array of angles, starting with known bad values.
+     */
+    double[] newBulkTrigArgs() {
+        final double[] args = new double[NBR_OF_VALUES_SMALL];
+        for (int i=0;i<args.length;i++) {
+            args[i] = knownBadValues_trigNorm(i, randomDoubleWhateverOrPiIsh());
+        }
+        return args;
+    }
+
+    /**
+     * @return An array of values for exp, starting with special values.
+     */
+    double[] newBulkExpArgs() {
+        final double[] args = new double[NBR_OF_VALUES_SMALL];
+        for (int i=0;i<args.length;i++) {
+            if (i < BULK_SPECIAL_VALUES.length) {
+                args[i] = BULK_SPECIAL_VALUES[i];
+            } else {
+                args[i] = this.random.nextBoolean() ? randomDoubleWhatever() : randomDoubleWhatever(-746.0, 710.0);
+            }
+        }
+        return args;
+    }
+
+    /**
+     * @return An array of values for log or pow, starting with special values,
+     *         and with many values close to 1.
+     */
+    double[] newBulkLogArgs() {
+        final double[] args = new double[NBR_OF_VALUES_SMALL];
+        for (int i=0;i<args.length;i++) {
+            if (i < BULK_SPECIAL_VALUES.length) {
+                args[i] = BULK_SPECIAL_VALUES[i];
+            } else {
+                args[i] = this.random.nextBoolean() ? randomDoubleWhatever() : randomDoubleUniform(0.5, 2.0);
+            }
+        }
+        return args;
+    }
+
+    /**
+     * Checks that the bulk function gives identical results than the non-bulk
+     * one, including when used in-place, that it doesn't write outside of the
+     * specified range, and that it checks ranges before writing anything.
+     */
+    static void checkBulkIdenticalToNonBulk(
+            InterfaceDoubleFunction function,
+            InterfaceDoubleBulkFunction bulkFunction,
+            double[] args) {
+        final int n = args.length;
+        
+        final double[] dst = new double[n+2];
+        bulkFunction.apply(args, 1, dst, 2, n-1);
+        assertEquals(0.0, dst[0]);
+        assertEquals(0.0, dst[1]);
+        for (int i=1;i<n;i++) {
+            final double ref = function.apply(args[i]);
+            final double res = dst[i+1];
+            if (!equivalent(ref, res)) {
+                assertEquals("arg = "+args[i], ref, res);
+            }
+        }
+        
+        final double[] inPlace = args.clone();
+        bulkFunction.apply(inPlace, 1, inPlace, 0, n-1);
+        assertEquals(args[n-1], inPlace[n-1]);
+        for (int i=1;i<n;i++) {
+            assertTrue(equivalent(dst[i+1], inPlace[i-1]));
+        }
+        
+        final double[] dstKo = new double[n];
+        for (int[] offsAndLen : new int[][]{
+                {-1,0,1},
+                {0,-1,1},
+                {0,0,-1},
+                {0,1,n},
+                {1,0,n},
+                {0,0,n+1}}) {
+            try {
+                bulkFunction.apply(args, offsAndLen[0], dstKo, offsAndLen[1], offsAndLen[2]);
+                assertTrue(false);
+            } catch (IndexOutOfBoundsException e) {
+                // ok
+            }
+        }
+        for (int i=0;i<n;i++) {
+            assertEquals(0.0, dstKo[i]);
+        }
+        
+        // Empty range.
+        bulkFunction.apply(args, n, dstKo, n, 0);
+    }
+
     /*
      * uniform
      */
@@ -484,6 +613,50 @@ abstract class AbstractFastMathTezt extends TestCase {
         return ref;
     }
     
+    /*
+     * 
+     */
+    
+    /**
+     * For angles in a unit in which a quarter-turn is exact: reduction is
+     * exact, and the remaining angle, in [-quarterTurn/2,quarterTurn/2],
+     * is converted into radians with only one rounding.
+     * 
+     * @param quarterTurn Quarter-turn in angle unit (ex.: 90.0 for degrees).
+     * @param cosine True for cosine, false for sine.
+     */
+    static double getExpectedResult_sinOrCos(double angle, double quarterTurn, boolean cosine) {
+        final double rem = angle % (4 * quarterTurn);
+        final double k = Math.rint(rem / quarterTurn);
+        final double angrad = (rem - k * quarterTurn) * (Math.PI / (2 * quarterTurn));
+        final int q = (((int) k) + (cosine ? 1 : 0)) & 3;
+        if (q == 0) {
+            return StrictMath.sin(angrad);
+        } else if (q == 1) {
+            return StrictMath.cos(angrad);
+        } else if (q == 2) {
+            return -StrictMath.sin(angrad);
+        } else {
+            return -StrictMath.cos(angrad);
+        }
+    }
+
+    /**
+     * @return Relative tolerance for sine or cosine, bad near zero.
+     */
+    static double getTolRel_sinOrCos(double ref) {
+        return (Math.abs(ref) < SIN_ONE_DEG) ? TOL_SIN_COS_REL_BAD : TOL_SIN_COS_REL;
+    }
+
+    /**
+     * @return Relative tolerance for tangent computed from sine and cosine,
+     *         bad near zero and near infinity.
+     */
+    static double getTolRel_tan(double ref) {
+        final double absRef = Math.abs(ref);
+        return ((absRef < SIN_ONE_DEG) || (absRef > 1/SIN_ONE_DEG)) ? TOL_SIN_COS_REL_BAD : TOL_SIN_COS_REL;
+    }
+
     /*
      * 
      */
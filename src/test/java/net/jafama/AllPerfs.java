@@ -26,6 +26,8 @@ public class AllPerfs {
 
         CmnFastMathPerf.newRun(args);
         FastMathPerf.newRun(args);
+        FastMathFPerf.newRun(args);
+        FastRandomPerf.newRun(args);
         NumbersUtilsPerf.newRun(args);
         StrictFastMathPerf.newRun(args);
     }
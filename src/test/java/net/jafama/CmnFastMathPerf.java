@@ -107,6 +107,14 @@ public class CmnFastMathPerf extends AbstractFastMathPerf {
         test_multiplyBounded_long_int();
         settle();
         test_multiplyBounded_2long();
+        settle();
+        test_multiplyHigh_2long();
+        settle();
+        test_unsignedMultiplyHigh_2long();
+        settle();
+        test_multiplyFull_2long_longArray();
+        settle();
+        test_multiplyHigh_longArr_int_longArr_int_longArr_2int();
 
         /*
          * binary operators (/,%)
@@ -550,6 +558,101 @@ public class CmnFastMathPerf extends AbstractFastMathPerf {
         useDummy(dummy);
     }
 
+    private void test_multiplyHigh_2long() {
+        long dummy = 0;
+
+        System.out.println("--- testing multiplyHigh(long,long) ---");
+
+        for (long[] args : new long[][]{
+                new long[]{Long.MIN_VALUE,Long.MAX_VALUE}}) {
+
+            final long[] values = randomLongTabSmart(args);
+
+            startTimer();
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += CmnFastMath.multiplyHigh(values[j],values[MASK-j]);
+            }
+            System.out.println("Loop on CmnFastMath.multiplyHigh(long,long), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+
+            startTimer();
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += CmnFastMath.multiplyHighSoftware(values[j],values[MASK-j]);
+            }
+            System.out.println("Loop on CmnFastMath.multiplyHighSoftware(long,long), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+        }
+
+        useDummy(dummy);
+    }
+
+    private void test_unsignedMultiplyHigh_2long() {
+        long dummy = 0;
+
+        System.out.println("--- testing unsignedMultiplyHigh(long,long) ---");
+
+        for (long[] args : new long[][]{
+                new long[]{Long.MIN_VALUE,Long.MAX_VALUE}}) {
+
+            final long[] values = randomLongTabSmart(args);
+
+            startTimer();
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += CmnFastMath.unsignedMultiplyHigh(values[j],values[MASK-j]);
+            }
+            System.out.println("Loop on CmnFastMath.unsignedMultiplyHigh(long,long), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+        }
+
+        useDummy(dummy);
+    }
+
+    private void test_multiplyFull_2long_longArray() {
+        long dummy = 0;
+
+        System.out.println("--- testing multiplyFull(long,long,long[]) ---");
+
+        final long[] hiLo = new long[2];
+        for (long[] args : new long[][]{
+                new long[]{Long.MIN_VALUE,Long.MAX_VALUE}}) {
+
+            final long[] values = randomLongTabSmart(args);
+
+            startTimer();
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            CmnFastMath.multiplyFull(values[j],values[MASK-j],hiLo);
+            dummy += hiLo[0] + hiLo[1];
+            }
+            System.out.println("Loop on CmnFastMath.multiplyFull(long,long,long[]), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+        }
+
+        useDummy(dummy);
+    }
+
+    private void test_multiplyHigh_longArr_int_longArr_int_longArr_2int() {
+        long dummy = 0;
+
+        System.out.println("--- testing multiplyHigh(long[],int,long[],int,long[],int,int) ---");
+
+        for (long[] args : new long[][]{
+                new long[]{Long.MIN_VALUE,Long.MAX_VALUE}}) {
+
+            final long[] values = randomLongTabSmart(args);
+            final long[] reversed = new long[values.length];
+            for (int i=0;i<values.length;i++) {
+                reversed[i] = values[MASK-i];
+            }
+            final long[] dst = new long[values.length];
+            final int nbrOfBulkCalls = NBR_OF_CALLS / values.length;
+
+            startTimer();
+            for (int k=0;k<nbrOfBulkCalls;k++) {
+                CmnFastMath.multiplyHigh(values, 0, reversed, 0, dst, 0, values.length);
+                dummy += dst[k&MASK];
+            }
+            System.out.println("Loop on CmnFastMath.multiplyHigh(long[],int,long[],int,long[],int,int), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+        }
+
+        useDummy(dummy);
+    }
+
     /*
      * binary operators (/,%)
      */
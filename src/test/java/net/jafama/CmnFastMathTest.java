@@ -15,12 +15,45 @@
  */
 package net.jafama;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class CmnFastMathTest extends AbstractFastMathTezt {
 
+    //--------------------------------------------------------------------------
+    // PUBLIC CLASSES
+    //--------------------------------------------------------------------------
+
+    /**
+     * To run in a new JVM, with both FastMath and StrictFastMath
+     * delegating to JDK.
+     */
+    public static class MyUseJdkMathMain {
+        public static void main(String[] args) {
+            FastMath.initTables();
+            StrictFastMath.initTables();
+            final double angle = 0.7;
+            System.out.println("sin=" + (FastMath.sin(angle) == StrictMath.sin(angle)));
+            System.out.println("sinPi=" + (StrictFastMath.sinPi(0.25) == StrictMath.sin(Math.PI/4)));
+            try {
+                checkPiAndDegSpecialCases();
+                System.out.println("specialCases=ok");
+            } catch (Throwable e) {
+                System.out.println("specialCases=" + e);
+            }
+        }
+    }
+
     //--------------------------------------------------------------------------
     // PUBLIC METHODS
     //--------------------------------------------------------------------------
@@ -658,6 +691,123 @@ public class CmnFastMathTest extends AbstractFastMathTezt {
         }
     }
 
+    public void test_multiplyHighSoftware_2long() {
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final long x = randomLongWhatever();
+            final long y = randomLongWhatever();
+            assertEquals(CmnFastMath.multiplyHigh(x, y), CmnFastMath.multiplyHighSoftware(x, y));
+        }
+    }
+
+    public void test_unsignedMultiplyHigh_2long() {
+        assertEquals(0L, CmnFastMath.unsignedMultiplyHigh(-1L, 1L));
+        assertEquals(-2L, CmnFastMath.unsignedMultiplyHigh(-1L, -1L));
+        assertEquals(Long.MIN_VALUE >>> 1, CmnFastMath.unsignedMultiplyHigh(Long.MIN_VALUE, Long.MIN_VALUE));
+        
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final long x = randomLongWhatever();
+            final long y = randomLongWhatever();
+            final BigInteger prod = toUnsignedBig(x).multiply(toUnsignedBig(y));
+            assertEquals(prod.shiftRight(64).longValue(), CmnFastMath.unsignedMultiplyHigh(x, y));
+        }
+    }
+
+    public void test_multiplyFull_2long_longArray() {
+        final long[] hiLo = new long[3];
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final long x = randomLongWhatever();
+            final long y = randomLongWhatever();
+            final BigInteger prod = BigInteger.valueOf(x).multiply(BigInteger.valueOf(y));
+            hiLo[2] = 123L;
+            CmnFastMath.multiplyFull(x, y, hiLo);
+            assertEquals(prod.shiftRight(64).longValue(), hiLo[0]);
+            assertEquals(prod.longValue(), hiLo[1]);
+            assertEquals(123L, hiLo[2]);
+        }
+        
+        try {
+            CmnFastMath.multiplyFull(1L, 2L, new long[1]);
+            assertTrue(false);
+        } catch (IndexOutOfBoundsException e) {
+            // ok
+        }
+    }
+
+    public void test_unsignedMultiplyFull_2long_longArray() {
+        final long[] hiLo = new long[2];
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final long x = randomLongWhatever();
+            final long y = randomLongWhatever();
+            final BigInteger prod = toUnsignedBig(x).multiply(toUnsignedBig(y));
+            CmnFastMath.unsignedMultiplyFull(x, y, hiLo);
+            assertEquals(prod.shiftRight(64).longValue(), hiLo[0]);
+            assertEquals(prod.longValue(), hiLo[1]);
+        }
+        
+        try {
+            CmnFastMath.unsignedMultiplyFull(1L, 2L, new long[1]);
+            assertTrue(false);
+        } catch (IndexOutOfBoundsException e) {
+            // ok
+        }
+    }
+
+    public void test_multiplyHigh_longArr_int_longArr_int_longArr_2int() {
+        for (boolean unsigned : new boolean[]{false,true}) {
+            final int len = 100;
+            final long[] x = new long[len+1];
+            final long[] y = new long[len+2];
+            for (int i=0;i<x.length;i++) {
+                x[i] = randomLongWhatever();
+            }
+            for (int i=0;i<y.length;i++) {
+                y[i] = randomLongWhatever();
+            }
+            final long[] dst = new long[len+3];
+            if (unsigned) {
+                CmnFastMath.unsignedMultiplyHigh(x, 1, y, 2, dst, 3, len);
+            } else {
+                CmnFastMath.multiplyHigh(x, 1, y, 2, dst, 3, len);
+            }
+            for (int i=0;i<3;i++) {
+                assertEquals(0L, dst[i]);
+            }
+            for (int i=0;i<len;i++) {
+                final long expected = (unsigned ? CmnFastMath.unsignedMultiplyHigh(x[1+i], y[2+i]) : CmnFastMath.multiplyHigh(x[1+i], y[2+i]));
+                assertEquals(expected, dst[3+i]);
+            }
+            
+            // In place.
+            final long[] expected = new long[len];
+            for (int i=0;i<len;i++) {
+                expected[i] = (unsigned ? CmnFastMath.unsignedMultiplyHigh(x[i], y[i]) : CmnFastMath.multiplyHigh(x[i], y[i]));
+            }
+            if (unsigned) {
+                CmnFastMath.unsignedMultiplyHigh(x, 0, y, 0, x, 0, len);
+            } else {
+                CmnFastMath.multiplyHigh(x, 0, y, 0, x, 0, len);
+            }
+            for (int i=0;i<len;i++) {
+                assertEquals(expected[i], x[i]);
+            }
+            
+            for (int[] offs : new int[][]{{-1,0,0},{0,1,0},{0,0,-1},{1,0,0}}) {
+                final long[] tooShortOrNot = new long[len];
+                try {
+                    if (unsigned) {
+                        CmnFastMath.unsignedMultiplyHigh(tooShortOrNot, offs[0], y, offs[1], dst, offs[2], len);
+                    } else {
+                        CmnFastMath.multiplyHigh(tooShortOrNot, offs[0], y, offs[1], dst, offs[2], len);
+                    }
+                    // y and dst long enough for offset 1.
+                    assertTrue((offs[0] == 0) && (offs[2] >= 0));
+                } catch (IndexOutOfBoundsException e) {
+                    // ok
+                }
+            }
+        }
+    }
+
     /*
      * binary operators (/,%)
      */
@@ -859,6 +1009,105 @@ public class CmnFastMathTest extends AbstractFastMathTezt {
         }
     }
     
+    /*
+     * fused multiply-add
+     */
+
+    public void test_fma_3double() {
+        final double nan = Double.NaN;
+        final double inf = Double.POSITIVE_INFINITY;
+        final double max = Double.MAX_VALUE;
+        final double[][] specialCases = new double[][]{
+                // {a, b, c, expected}
+                {nan, 1.0, 1.0, nan},
+                {1.0, nan, 1.0, nan},
+                {1.0, 1.0, nan, nan},
+                {inf, 0.0, 1.0, nan},
+                {inf, 1.0, -inf, nan},
+                {inf, -1.0, 1.0, -inf},
+                {max, 2.0, -inf, -inf},
+                {max, 2.0, -max, max},
+                {max, -2.0, max, -max},
+                {-0.0, 1.0, -0.0, -0.0},
+                {-0.0, 1.0, 0.0, 0.0},
+                {Double.MIN_VALUE, -0.5, 0.0, -0.0},
+                {Double.MIN_VALUE, 0.5, -0.0, 0.0},
+                {Double.MIN_VALUE, 0.75, -0.0, Double.MIN_VALUE},
+                {1.0, 1.0, -1.0, 0.0},
+                // (1+2^-52)*(1-2^-52) = 1-2^-104
+                {1.0+Math.ulp(1.0), 1.0-Math.ulp(1.0), -1.0, -Math.ulp(1.0)*Math.ulp(1.0)},
+                // 0.1*10 is rounded to 1
+                {0.1, 10.0, -1.0, 5.551115123125783E-17},
+        };
+        for (double[] specialCase : specialCases) {
+            check_fma_3double(specialCase[3], specialCase[0], specialCase[1], specialCase[2]);
+        }
+
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final double a = randomDoubleWhatever();
+            final double b = randomDoubleWhatever();
+            final double c;
+            if (this.random.nextBoolean()) {
+                c = randomDoubleWhatever();
+            } else {
+                // Near cancellation, and halfway cases.
+                c = -(a * b) * (1.0 + (this.random.nextInt(5) - 2) * Math.ulp(1.0)/2);
+            }
+            if (NumbersUtils.isNaNOrInfinite(a)
+                    || NumbersUtils.isNaNOrInfinite(b)
+                    || NumbersUtils.isNaNOrInfinite(c)
+                    || (a == 0.0) || (b == 0.0) || (c == 0.0)) {
+                continue;
+            }
+            final double expected = new BigDecimal(a).multiply(new BigDecimal(b)).add(new BigDecimal(c)).doubleValue();
+            check_fma_3double(expected, a, b, c);
+        }
+    }
+
+    public void test_fma_3float() {
+        final float nan = Float.NaN;
+        final float inf = Float.POSITIVE_INFINITY;
+        final float max = Float.MAX_VALUE;
+        final float[][] specialCases = new float[][]{
+                // {a, b, c, expected}
+                {nan, 1.0f, 1.0f, nan},
+                {1.0f, 1.0f, nan, nan},
+                {inf, 0.0f, 1.0f, nan},
+                {inf, -1.0f, 1.0f, -inf},
+                {max, 2.0f, -inf, -inf},
+                {max, 2.0f, -max, max},
+                {-0.0f, 1.0f, -0.0f, -0.0f},
+                {-0.0f, 1.0f, 0.0f, 0.0f},
+                {Float.MIN_VALUE, -0.5f, 0.0f, -0.0f},
+                {Float.MIN_VALUE, 0.75f, -0.0f, Float.MIN_VALUE},
+                // (1+2^-23)*(1-2^-23) = 1-2^-46
+                {1.0f+Math.ulp(1.0f), 1.0f-Math.ulp(1.0f), -1.0f, -Math.ulp(1.0f)*Math.ulp(1.0f)},
+        };
+        for (float[] specialCase : specialCases) {
+            check_fma_3float(specialCase[3], specialCase[0], specialCase[1], specialCase[2]);
+        }
+
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final float a = randomFloatWhatever();
+            final float b = randomFloatWhatever();
+            final float c;
+            if (this.random.nextBoolean()) {
+                c = randomFloatWhatever();
+            } else {
+                // Near cancellation, and halfway cases.
+                c = -(a * b) * (1.0f + (this.random.nextInt(5) - 2) * Math.ulp(1.0f)/2);
+            }
+            if (NumbersUtils.isNaNOrInfinite(a)
+                    || NumbersUtils.isNaNOrInfinite(b)
+                    || NumbersUtils.isNaNOrInfinite(c)
+                    || (a == 0.0f) || (b == 0.0f) || (c == 0.0f)) {
+                continue;
+            }
+            final float expected = new BigDecimal(a).multiply(new BigDecimal(b)).add(new BigDecimal(c)).floatValue();
+            check_fma_3float(expected, a, b, c);
+        }
+    }
+
     /*
      * Non-redefined public values and treatments.
      */
@@ -907,10 +1156,212 @@ public class CmnFastMathTest extends AbstractFastMathTezt {
         }
     }
 
+    /*
+     * tables initialization
+     */
+
+    public void test_initTables_Executor() {
+        final AtomicInteger count = new AtomicInteger();
+        CmnFastMath.initTables(new Executor() {
+            public void execute(Runnable command) {
+                count.incrementAndGet();
+                new Thread(command).start();
+            }
+        });
+        assertEquals(CmnFastMath.TABS_INIT_TASK_COUNT, count.get());
+    }
+
+    public void test_initTables_withUseJdkMath() {
+        final String output = TestUtils.runInNewJvm(
+                Arrays.asList(new String[]{"-Djafama.usejdk=true", "-Djafama.strict.usejdk=true"}),
+                MyUseJdkMathMain.class.getName());
+        final List<String> lines = Arrays.asList(output.split("\\r?\\n"));
+        assertTrue(output, lines.contains("sin=true"));
+        assertTrue(output, lines.contains("sinPi=true"));
+        assertTrue(output, lines.contains("specialCases=ok"));
+    }
+
+    public void test_piAndDegSpecialCases() {
+        checkPiAndDegSpecialCases();
+    }
+
+    public void test_initTablesParallel() {
+        CmnFastMath.initTablesParallel();
+        assertEquals(2*CmnFastMath.SIN_COS_TABS_SIZE, CmnFastMath.MyTSinCos.sinCosTab.length);
+    }
+
+    /*
+     * tables layout
+     */
+
+    public void test_MyTSinCos_layout() {
+        final double[] sinCosTab = CmnFastMath.MyTSinCos.sinCosTab;
+        for (int i=0;i<CmnFastMath.SIN_COS_TABS_SIZE;i++) {
+            final double angle = i * CmnFastMath.SIN_COS_DELTA_HI + i * CmnFastMath.SIN_COS_DELTA_LO;
+            assertEquals(StrictMath.sin(angle), sinCosTab[2*i], 1e-15);
+            assertEquals(StrictMath.cos(angle), sinCosTab[2*i+1], 1e-15);
+        }
+    }
+
+    public void test_MyTAtan_layout() {
+        final double[] atanDersTab = CmnFastMath.MyTAtan.atanDersTab;
+        for (int i=0;i<CmnFastMath.ATAN_TABS_SIZE;i++) {
+            final double x = i * CmnFastMath.ATAN_DELTA;
+            assertEquals(StrictMath.atan(x), atanDersTab[CmnFastMath.DERS_TAB_STRIDE*i]);
+            assertEquals(1/(1+x*x), atanDersTab[CmnFastMath.DERS_TAB_STRIDE*i+1], 1e-15);
+        }
+    }
+
+    /*
+     * tables resources
+     */
+
+    public void test_writeTabs_readTabs() throws IOException {
+        final double[] tab1 = new double[]{0.0, -0.0, 1.1, Double.NaN, Double.NEGATIVE_INFINITY};
+        final double[] tab2 = new double[]{Double.MIN_VALUE, Double.MAX_VALUE};
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        CmnFastMath.writeTabs(baos, tab1, tab2);
+        final byte[] bytes = baos.toByteArray();
+
+        final double[] res1 = new double[tab1.length];
+        final double[] res2 = new double[tab2.length];
+        assertTrue(CmnFastMath.readTabs(new ByteArrayInputStream(bytes), res1, res2));
+        for (int i=0;i<tab1.length;i++) {
+            assertEquals(Double.doubleToRawLongBits(tab1[i]), Double.doubleToRawLongBits(res1[i]));
+        }
+        for (int i=0;i<tab2.length;i++) {
+            assertEquals(Double.doubleToRawLongBits(tab2[i]), Double.doubleToRawLongBits(res2[i]));
+        }
+
+        // Bad number of tables.
+        final double[] bad1 = new double[tab1.length];
+        assertFalse(CmnFastMath.readTabs(new ByteArrayInputStream(bytes), bad1));
+        assertEquals(0.0, bad1[2]);
+
+        // Bad length.
+        final double[] bad2 = new double[tab2.length+1];
+        assertFalse(CmnFastMath.readTabs(new ByteArrayInputStream(bytes), bad1, bad2));
+        assertEquals(0.0, bad1[2]);
+    }
+
+    public void test_writeTabsResources() throws IOException {
+        final File dir = new File(System.getProperty("java.io.tmpdir"), "jafama_tabs_" + System.nanoTime());
+        assertTrue(dir.mkdirs());
+        try {
+            CmnFastMath.writeTabsResources(dir);
+
+            final double[] sinCosTab = new double[CmnFastMath.MyTSinCos.sinCosTab.length];
+            final FileInputStream fis = new FileInputStream(new File(dir, "sincos.tabs"));
+            try {
+                assertTrue(CmnFastMath.readTabs(fis, sinCosTab));
+            } finally {
+                fis.close();
+            }
+            for (int i=0;i<sinCosTab.length;i++) {
+                assertEquals(Double.doubleToRawLongBits(CmnFastMath.MyTSinCos.sinCosTab[i]), Double.doubleToRawLongBits(sinCosTab[i]));
+            }
+        } finally {
+            for (File file : dir.listFiles()) {
+                file.delete();
+            }
+            dir.delete();
+        }
+    }
+
+    //--------------------------------------------------------------------------
+    // PACKAGE-PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    /**
+     * Checks special cases of (Strict)FastMath methods taking angles
+     * in half-turns or in degrees, which must hold with tables
+     * as well as when delegating to JDK.
+     */
+    static void checkPiAndDegSpecialCases() {
+        final DoubleWrapper tmpCos = new DoubleWrapper();
+        for (double zero : new double[]{0.0, -0.0}) {
+            assertTrue(equivalent(zero, FastMath.sinPi(zero)));
+            assertTrue(equivalent(zero, FastMath.tanPi(zero)));
+            assertTrue(equivalent(zero, FastMath.sinDeg(zero)));
+            assertTrue(equivalent(zero, FastMath.tanDeg(zero)));
+            assertTrue(equivalent(zero, FastMath.sinAndCosDeg(zero, tmpCos)));
+            assertTrue(equivalent(zero, StrictFastMath.sinPi(zero)));
+            assertTrue(equivalent(zero, StrictFastMath.tanPi(zero)));
+            assertTrue(equivalent(zero, StrictFastMath.sinDeg(zero)));
+            assertTrue(equivalent(zero, StrictFastMath.tanDeg(zero)));
+            assertTrue(equivalent(zero, StrictFastMath.sinAndCosDeg(zero, tmpCos)));
+        }
+        for (int k=-8;k<=8;k++) {
+            final double sin = (((k&1) == 0) ? 0.0 : (((k&3) == 1) ? 1.0 : -1.0));
+            final double cos = (((k&1) == 1) ? 0.0 : (((k&3) == 0) ? 1.0 : -1.0));
+            assertEquals(sin, FastMath.sinPi(k * 0.5), 0.0);
+            assertEquals(cos, FastMath.cosPi(k * 0.5), 0.0);
+            assertEquals(sin, FastMath.sinDeg(k * 90.0), 0.0);
+            assertEquals(cos, FastMath.cosDeg(k * 90.0), 0.0);
+            assertEquals(sin, StrictFastMath.sinPi(k * 0.5), 0.0);
+            assertEquals(cos, StrictFastMath.cosPi(k * 0.5), 0.0);
+            assertEquals(sin, StrictFastMath.sinDeg(k * 90.0), 0.0);
+            assertEquals(cos, StrictFastMath.cosDeg(k * 90.0), 0.0);
+            assertEquals(0.0, FastMath.tanPi(k), 0.0);
+            assertEquals(1.0, FastMath.tanPi(k + 0.25), 0.0);
+            assertEquals(-1.0, FastMath.tanPi(k - 0.25), 0.0);
+            assertEquals(Double.POSITIVE_INFINITY, Math.abs(FastMath.tanPi(k + 0.5)), 0.0);
+            assertEquals(0.0, FastMath.tanDeg(k * 180.0), 0.0);
+            assertEquals(1.0, FastMath.tanDeg(k * 180.0 + 45.0), 0.0);
+            assertEquals(-1.0, FastMath.tanDeg(k * 180.0 - 45.0), 0.0);
+            assertEquals(Double.POSITIVE_INFINITY, Math.abs(FastMath.tanDeg(k * 180.0 + 90.0)), 0.0);
+            assertEquals(0.0, StrictFastMath.tanPi(k), 0.0);
+            assertEquals(1.0, StrictFastMath.tanPi(k + 0.25), 0.0);
+            assertEquals(-1.0, StrictFastMath.tanPi(k - 0.25), 0.0);
+            assertEquals(Double.POSITIVE_INFINITY, Math.abs(StrictFastMath.tanPi(k + 0.5)), 0.0);
+            assertEquals(0.0, StrictFastMath.tanDeg(k * 180.0), 0.0);
+            assertEquals(1.0, StrictFastMath.tanDeg(k * 180.0 + 45.0), 0.0);
+            assertEquals(-1.0, StrictFastMath.tanDeg(k * 180.0 - 45.0), 0.0);
+            assertEquals(Double.POSITIVE_INFINITY, Math.abs(StrictFastMath.tanDeg(k * 180.0 + 90.0)), 0.0);
+            // Close to poles: tan(PI/2-x) = 1/tan(x), and sign changes across the pole.
+            final double eps = 1.0/(1L<<40);
+            final double expected = 1.0/StrictMath.tan(eps * Math.PI);
+            for (double res : new double[]{
+                    FastMath.tanPi(k + 0.5 - eps),
+                    StrictFastMath.tanPi(k + 0.5 - eps),
+                    -FastMath.tanPi(k + 0.5 + eps),
+                    -StrictFastMath.tanPi(k + 0.5 + eps)}) {
+                assertEquals(expected, res, expected * 1e-12);
+            }
+        }
+    }
+
     //--------------------------------------------------------------------------
     // PRIVATE METHODS
     //--------------------------------------------------------------------------
     
+    private static void check_fma_3double(double expected, double a, double b, double c) {
+        final double res = CmnFastMath.fmaSoftware(a, b, c);
+        if (Double.doubleToLongBits(res) != Double.doubleToLongBits(expected)) {
+            System.out.println("a = " + a + ", b = " + b + ", c = " + c);
+            System.out.println("expected = " + expected);
+            System.out.println("res      = " + res);
+        }
+        assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(res));
+        assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(CmnFastMath.fma(a, b, c)));
+    }
+
+    private static void check_fma_3float(float expected, float a, float b, float c) {
+        final float res = CmnFastMath.fmaSoftware(a, b, c);
+        if (Float.floatToIntBits(res) != Float.floatToIntBits(expected)) {
+            System.out.println("a = " + a + ", b = " + b + ", c = " + c);
+            System.out.println("expected = " + expected);
+            System.out.println("res      = " + res);
+        }
+        assertEquals(Float.floatToIntBits(expected), Float.floatToIntBits(res));
+        assertEquals(Float.floatToIntBits(expected), Float.floatToIntBits(CmnFastMath.fma(a, b, c)));
+    }
+
+    private static BigInteger toUnsignedBig(long value) {
+        final BigInteger big = BigInteger.valueOf(value & Long.MAX_VALUE);
+        return ((value < 0) ? big.setBit(63) : big);
+    }
+
     private static void check_multiplyHigh_2long_bothWays(long ref, long v1, long v2) {
         check_multiplyHigh_2long(ref, v1, v2);
         check_multiplyHigh_2long(ref, v2, v1);
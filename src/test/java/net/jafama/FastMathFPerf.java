@@ -0,0 +1,473 @@
+/*
+ * Copyright 2012-2017 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+/**
+ * FastMathF micro benchmarks, compared to Math and FastMath double
+ * treatments with results rounded into float.
+ */
+public class FastMathFPerf extends AbstractFastMathPerf {
+
+    //--------------------------------------------------------------------------
+    // PUBLIC METHODS
+    //--------------------------------------------------------------------------
+
+    public static void main(String[] args) {
+        System.out.println(TestUtils.getJVMInfo());
+        newRun(args);
+    }
+
+    public static void newRun(String[] args) {
+        new FastMathFPerf().run(args);
+    }
+
+    public FastMathFPerf() {
+    }
+
+    //--------------------------------------------------------------------------
+    // PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    private static void settle() {
+        TestUtils.settleAndNewLine();
+    }
+
+    private void run(String[] args) {
+        System.out.println("--- "+FastMathFPerf.class.getSimpleName()+"... ---");
+        System.out.println("number of calls = "+NBR_OF_CALLS);
+        System.out.println("number of random values = "+NBR_OF_VALUES);
+        printLoopOverhead();
+
+        settle();
+        testClassLoad();
+
+        /*
+         * trigonometry
+         */
+
+        settle();
+        test_sin_float();
+        settle();
+        test_cos_float();
+        settle();
+        test_tan_float();
+
+        settle();
+        test_atan_float();
+        settle();
+        test_atan2_2float();
+        settle();
+        test_atan2Quick_2float();
+
+        /*
+         * exponentials
+         */
+
+        settle();
+        test_exp_float();
+
+        /*
+         * logarithms
+         */
+
+        settle();
+        test_log_float();
+
+        System.out.println("--- ..."+FastMathFPerf.class.getSimpleName()+" ---");
+    }
+
+    private void testClassLoad() {
+        int dummy = 0;
+
+        System.out.println("--- testing FastMathF class load (if not loaded already) ---");
+
+        // Making sure Math and StrictMath are loaded already.
+        if (Math.sin(0.0) != StrictMath.sin(0.0)) {
+            System.out.println("can't happen");
+        }
+
+        startTimer();
+        dummy += FastMathF.abs(0); // Does not use tables.
+        System.out.println("FastMathF class load without tables init took "+getElapsedSeconds()+" s");
+
+        startTimer();
+        FastMathF.initTables();
+        System.out.println("FastMathF.initTables() took "+getElapsedSeconds()+" s");
+
+        useDummy(dummy);
+    }
+
+    /*
+     * trigonometry
+     */
+
+    private void test_sin_float() {
+        float dummy = 0.0f;
+
+        System.out.println("--- testing sin(float) ---");
+
+        for (float[] args : new float[][]{
+                new float[]{-(float)Math.PI,(float)Math.PI},
+                new float[]{-1000.0f,1000.0f},
+                new float[]{0}}) {
+
+            final float[] values = randomFloatTabSmart(args);
+
+            startTimer();
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += (float)Math.sin(values[j]);
+            }
+            System.out.println("Loop on      Math.sin(double), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+
+            startTimer();
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += (float)FastMath.sin(values[j]);
+            }
+            System.out.println("Loop on  FastMath.sin(double), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+
+            startTimer();
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += FastMathF.sin(values[j]);
+            }
+            System.out.println("Loop on FastMathF.sin(float), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+        }
+
+        // NaN-crash test.
+        {
+            final float[] values = randomFloatTabSmart(new float[]{});
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += FastMathF.sin(values[j]);
+            }
+        }
+
+        useDummy(dummy);
+    }
+
+    private void test_cos_float() {
+        float dummy = 0.0f;
+
+        System.out.println("--- testing cos(float) ---");
+
+        for (float[] args : new float[][]{
+                new float[]{-(float)Math.PI,(float)Math.PI},
+                new float[]{-1000.0f,1000.0f},
+                new float[]{0}}) {
+
+            final float[] values = randomFloatTabSmart(args);
+
+            startTimer();
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += (float)Math.cos(values[j]);
+            }
+            System.out.println("Loop on      Math.cos(double), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+
+            startTimer();
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += (float)FastMath.cos(values[j]);
+            }
+            System.out.println("Loop on  FastMath.cos(double), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+
+            startTimer();
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += FastMathF.cos(values[j]);
+            }
+            System.out.println("Loop on FastMathF.cos(float), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+        }
+
+        // NaN-crash test.
+        {
+            final float[] values = randomFloatTabSmart(new float[]{});
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += FastMathF.cos(values[j]);
+            }
+        }
+
+        useDummy(dummy);
+    }
+
+    private void test_tan_float() {
+        float dummy = 0.0f;
+
+        System.out.println("--- testing tan(float) ---");
+
+        for (float[] args : new float[][]{
+                new float[]{-(float)Math.PI,(float)Math.PI},
+                new float[]{-1000.0f,1000.0f},
+                new float[]{0}}) {
+
+            final float[] values = randomFloatTabSmart(args);
+
+            startTimer();
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += (float)Math.tan(values[j]);
+            }
+            System.out.println("Loop on      Math.tan(double), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+
+            startTimer();
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += (float)FastMath.tan(values[j]);
+            }
+            System.out.println("Loop on  FastMath.tan(double), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+
+            startTimer();
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += FastMathF.tan(values[j]);
+            }
+            System.out.println("Loop on FastMathF.tan(float), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+        }
+
+        // NaN-crash test.
+        {
+            final float[] values = randomFloatTabSmart(new float[]{});
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += FastMathF.tan(values[j]);
+            }
+        }
+
+        useDummy(dummy);
+    }
+
+    private void test_atan_float() {
+        float dummy = 0.0f;
+
+        System.out.println("--- testing atan(float) ---");
+
+        for (float[] args : new float[][]{
+                new float[]{-10.0f,10.0f},
+                new float[]{0}}) {
+
+            final float[] values = randomFloatTabSmart(args);
+
+            startTimer();
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += (float)Math.atan(values[j]);
+            }
+            System.out.println("Loop on      Math.atan(double), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+
+            startTimer();
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += (float)FastMath.atan(values[j]);
+            }
+            System.out.println("Loop on  FastMath.atan(double), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+
+            startTimer();
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += FastMathF.atan(values[j]);
+            }
+            System.out.println("Loop on FastMathF.atan(float), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+        }
+
+        // NaN-crash test.
+        {
+            final float[] values = randomFloatTabSmart(new float[]{});
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += FastMathF.atan(values[j]);
+            }
+        }
+
+        useDummy(dummy);
+    }
+
+    private void test_atan2_2float() {
+        float dummy = 0.0f;
+
+        System.out.println("--- testing atan2(float,float) ---");
+
+        for (float[][] args12 : new float[][][]{
+                new float[][]{new float[]{-10.0f,10.0f},new float[]{-10.0f,10.0f}},
+                new float[][]{new float[]{0},new float[]{0}}}) {
+
+            final float[] args1 = args12[0];
+            final float[] args2 = args12[1];
+
+            final float[] values1 = randomFloatTabSmart(args1);
+            final float[] values2 = randomFloatTabSmart(args2);
+
+            startTimer();
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += (float)Math.atan2(values1[j],values2[j]);
+            }
+            System.out.println("Loop on      Math.atan2(double,double), args in "+toStringSmart(args1,args2)+", took "+getElapsedSeconds()+" s");
+
+            startTimer();
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += (float)FastMath.atan2(values1[j],values2[j]);
+            }
+            System.out.println("Loop on  FastMath.atan2(double,double), args in "+toStringSmart(args1,args2)+", took "+getElapsedSeconds()+" s");
+
+            startTimer();
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += FastMathF.atan2(values1[j],values2[j]);
+            }
+            System.out.println("Loop on FastMathF.atan2(float,float), args in "+toStringSmart(args1,args2)+", took "+getElapsedSeconds()+" s");
+        }
+
+        // NaN-crash test.
+        {
+            final float[] values1 = randomFloatTabSmart(new float[]{});
+            final float[] values2 = randomFloatTabSmart(new float[]{});
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += FastMathF.atan2(values1[j],values2[j]);
+            }
+        }
+
+        useDummy(dummy);
+    }
+
+    private void test_atan2Quick_2float() {
+        float dummy = 0.0f;
+
+        System.out.println("--- testing atan2Quick(float,float) ---");
+
+        for (float[][] args12 : new float[][][]{
+                new float[][]{new float[]{-10.0f,10.0f},new float[]{-10.0f,10.0f}},
+                new float[][]{new float[]{0},new float[]{0}}}) {
+
+            final float[] args1 = args12[0];
+            final float[] args2 = args12[1];
+
+            final float[] values1 = randomFloatTabSmart(args1);
+            final float[] values2 = randomFloatTabSmart(args2);
+
+            startTimer();
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += (float)Math.atan2(values1[j],values2[j]);
+            }
+            System.out.println("Loop on           Math.atan2(double,double), args in "+toStringSmart(args1,args2)+", took "+getElapsedSeconds()+" s");
+
+            startTimer();
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += (float)FastMath.atan2(values1[j],values2[j]);
+            }
+            System.out.println("Loop on       FastMath.atan2(double,double), args in "+toStringSmart(args1,args2)+", took "+getElapsedSeconds()+" s");
+
+            startTimer();
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += FastMathF.atan2(values1[j],values2[j]);
+            }
+            System.out.println("Loop on      FastMathF.atan2(float,float), args in "+toStringSmart(args1,args2)+", took "+getElapsedSeconds()+" s");
+
+            startTimer();
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += FastMathF.atan2Quick(values1[j],values2[j]);
+            }
+            System.out.println("Loop on FastMathF.atan2Quick(float,float), args in "+toStringSmart(args1,args2)+", took "+getElapsedSeconds()+" s");
+        }
+
+        // NaN-crash test.
+        {
+            final float[] values1 = randomFloatTabSmart(new float[]{});
+            final float[] values2 = randomFloatTabSmart(new float[]{});
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += FastMathF.atan2Quick(values1[j],values2[j]);
+            }
+        }
+
+        useDummy(dummy);
+    }
+
+    /*
+     * exponentials
+     */
+
+    private void test_exp_float() {
+        float dummy = 0.0f;
+
+        System.out.println("--- testing exp(float) ---");
+
+        for (float[] args : new float[][]{
+                new float[]{-10.0f,10.0f},
+                new float[]{-100.0f,88.0f},
+                new float[]{0}}) {
+
+            final float[] values = randomFloatTabSmart(args);
+
+            startTimer();
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += (float)Math.exp(values[j]);
+            }
+            System.out.println("Loop on      Math.exp(double), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+
+            startTimer();
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += (float)FastMath.exp(values[j]);
+            }
+            System.out.println("Loop on  FastMath.exp(double), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+
+            startTimer();
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += FastMathF.exp(values[j]);
+            }
+            System.out.println("Loop on FastMathF.exp(float), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+        }
+
+        // NaN-crash test.
+        {
+            final float[] values = randomFloatTabSmart(new float[]{});
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += FastMathF.exp(values[j]);
+            }
+        }
+
+        useDummy(dummy);
+    }
+
+    /*
+     * logarithms
+     */
+
+    private void test_log_float() {
+        float dummy = 0.0f;
+
+        System.out.println("--- testing log(float) ---");
+
+        for (float[] args : new float[][]{
+                new float[]{0.1f,10.0f},
+                new float[]{Float.MIN_VALUE,Float.MAX_VALUE},
+                new float[]{1}}) {
+
+            final float[] values = randomFloatTabSmart(args);
+
+            startTimer();
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += (float)Math.log(values[j]);
+            }
+            System.out.println("Loop on      Math.log(double), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+
+            startTimer();
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += (float)FastMath.log(values[j]);
+            }
+            System.out.println("Loop on  FastMath.log(double), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+
+            startTimer();
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += FastMathF.log(values[j]);
+            }
+            System.out.println("Loop on FastMathF.log(float), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+        }
+
+        // NaN-crash test.
+        {
+            final float[] values = randomFloatTabSmart(new float[]{});
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += FastMathF.log(values[j]);
+            }
+        }
+
+        useDummy(dummy);
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2012-2017 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+public class FastMathFTest extends AbstractFastMathTezt {
+
+    //--------------------------------------------------------------------------
+    // MEMBERS
+    //--------------------------------------------------------------------------
+
+    /**
+     * Float.MIN_NORMAL since Java 6.
+     */
+    private static final float FLOAT_MIN_NORMAL = 0x1.0p-126f;
+
+    /**
+     * About 2.5 float ulps.
+     */
+    private static final double TOL_FLOAT_REL = 3e-7;
+
+    //--------------------------------------------------------------------------
+    // PUBLIC METHODS
+    //--------------------------------------------------------------------------
+
+    /*
+     * trigonometry
+     */
+
+    public void test_sin_float() {
+        assertEquals(Float.NaN, FastMathF.sin(Float.NaN));
+        assertEquals(Float.NaN, FastMathF.sin(Float.POSITIVE_INFINITY));
+        assertEquals(Float.NaN, FastMathF.sin(Float.NEGATIVE_INFINITY));
+        assertEquals(0.0f, FastMathF.sin(0.0f));
+        assertEquals(Float.MIN_VALUE, FastMathF.sin(Float.MIN_VALUE));
+        final MyDoubleResHelper helper = new MyDoubleResHelper();
+        for (int i=0;i<NBR_OF_VALUES;i++) {
+            float value = randomFloatTrigArg();
+            double ref = StrictMath.sin(value);
+            float res = FastMathF.sin(value);
+            processFloatRes(helper, ref, res, value);
+            assertTrue(helper.lastOK());
+        }
+        helper.finalLogIfNeeded();
+    }
+
+    public void test_cos_float() {
+        assertEquals(Float.NaN, FastMathF.cos(Float.NaN));
+        assertEquals(Float.NaN, FastMathF.cos(Float.POSITIVE_INFINITY));
+        assertEquals(Float.NaN, FastMathF.cos(Float.NEGATIVE_INFINITY));
+        assertEquals(1.0f, FastMathF.cos(0.0f));
+        assertEquals(1.0f, FastMathF.cos(-0.0f));
+        final MyDoubleResHelper helper = new MyDoubleResHelper();
+        for (int i=0;i<NBR_OF_VALUES;i++) {
+            float value = randomFloatTrigArg();
+            double ref = StrictMath.cos(value);
+            float res = FastMathF.cos(value);
+            processFloatRes(helper, ref, res, value);
+            assertTrue(helper.lastOK());
+        }
+        helper.finalLogIfNeeded();
+    }
+
+    public void test_tan_float() {
+        assertEquals(Float.NaN, FastMathF.tan(Float.NaN));
+        assertEquals(Float.NaN, FastMathF.tan(Float.POSITIVE_INFINITY));
+        assertEquals(Float.NaN, FastMathF.tan(Float.NEGATIVE_INFINITY));
+        assertEquals(0.0f, FastMathF.tan(0.0f));
+        assertEquals(-Float.MIN_VALUE, FastMathF.tan(-Float.MIN_VALUE));
+        final MyDoubleResHelper helper = new MyDoubleResHelper();
+        for (int i=0;i<NBR_OF_VALUES;i++) {
+            float value = randomFloatTrigArg();
+            double ref = StrictMath.tan(value);
+            float res = FastMathF.tan(value);
+            processFloatRes(helper, ref, res, value);
+            assertTrue(helper.lastOK());
+        }
+        helper.finalLogIfNeeded();
+    }
+
+    public void test_atan_float() {
+        assertEquals(Float.NaN, FastMathF.atan(Float.NaN));
+        assertEquals((float)(Math.PI/2), FastMathF.atan(Float.POSITIVE_INFINITY));
+        assertEquals((float)(-Math.PI/2), FastMathF.atan(Float.NEGATIVE_INFINITY));
+        assertEquals(0.0f, FastMathF.atan(0.0f));
+        assertEquals(-0.0f, FastMathF.atan(-0.0f));
+        assertEquals((float)(Math.PI/4), FastMathF.atan(1.0f));
+        final MyDoubleResHelper helper = new MyDoubleResHelper();
+        for (int i=0;i<NBR_OF_VALUES;i++) {
+            float value = this.random.nextBoolean() ? randomFloatWhatever() : (float)randomDoubleWhatever(-10.0, 10.0);
+            double ref = StrictMath.atan(value);
+            float res = FastMathF.atan(value);
+            processFloatRes(helper, ref, res, value);
+            assertTrue(helper.lastOK());
+        }
+        helper.finalLogIfNeeded();
+    }
+
+    public void test_atan2_2float() {
+        final float[] specialValues = new float[]{
+                Float.NaN, Float.NEGATIVE_INFINITY, -1.0f, -0.0f, 0.0f, 1.0f, Float.POSITIVE_INFINITY};
+        for (float y : specialValues) {
+            for (float x : specialValues) {
+                assertEquals((float)StrictMath.atan2(y, x), FastMathF.atan2(y, x));
+            }
+        }
+        final MyDoubleResHelper helper = new MyDoubleResHelper();
+        for (int i=0;i<NBR_OF_VALUES;i++) {
+            float y = randomFloatWhatever();
+            float x = randomFloatWhatever();
+            double ref = StrictMath.atan2(y, x);
+            float res = FastMathF.atan2(y, x);
+            processFloatRes(helper, ref, res, y, x);
+            assertTrue(helper.lastOK());
+        }
+        helper.finalLogIfNeeded();
+    }
+
+    public void test_atan2Quick_2float() {
+        final float[] specialValues = new float[]{
+                Float.NaN, Float.NEGATIVE_INFINITY, -1.0f, -0.0f, 0.0f, 1.0f, Float.POSITIVE_INFINITY};
+        for (float y : specialValues) {
+            for (float x : specialValues) {
+                final float ref = (float)StrictMath.atan2(y, x);
+                final float res = FastMathF.atan2Quick(y, x);
+                if ((Math.abs(y) == Math.abs(x)) && (Math.abs(y) == 1.0f)) {
+                    // Not exact, but within tolerance.
+                    assertEquals(ref, res, TOL_ATAN2_QUICK_ABS);
+                } else {
+                    assertEquals(ref, res);
+                }
+            }
+        }
+        final MyDoubleResHelper helper = new MyDoubleResHelper();
+        for (int i=0;i<NBR_OF_VALUES;i++) {
+            float y = randomFloatWhatever();
+            float x = randomFloatWhatever();
+            double ref = StrictMath.atan2(y, x);
+            float res = FastMathF.atan2Quick(y, x);
+            helper.process(
+                    ref,
+                    res,
+                    TOL_ATAN2_QUICK_ABS,
+                    Double.NaN,
+                    y,
+                    x);
+            assertTrue(helper.lastOK());
+        }
+        helper.finalLogIfNeeded();
+    }
+
+    /*
+     * exponentials
+     */
+
+    public void test_exp_float() {
+        assertEquals(Float.NaN, FastMathF.exp(Float.NaN));
+        assertEquals(Float.POSITIVE_INFINITY, FastMathF.exp(Float.POSITIVE_INFINITY));
+        assertEquals(0.0f, FastMathF.exp(Float.NEGATIVE_INFINITY));
+        assertEquals(1.0f, FastMathF.exp(0.0f));
+        assertEquals(Float.POSITIVE_INFINITY, FastMathF.exp(89.0f));
+        assertEquals(0.0f, FastMathF.exp(-104.0f));
+        final MyDoubleResHelper helper = new MyDoubleResHelper();
+        for (int i=0;i<NBR_OF_VALUES;i++) {
+            float value = this.random.nextBoolean() ? randomFloatWhatever() : (float)randomDoubleWhatever(-110.0, 90.0);
+            double ref = StrictMath.exp(value);
+            float res = FastMathF.exp(value);
+            processFloatRes(helper, ref, res, value);
+            assertTrue(helper.lastOK());
+        }
+        helper.finalLogIfNeeded();
+    }
+
+    /*
+     * logarithms
+     */
+
+    public void test_log_float() {
+        assertEquals(Float.NaN, FastMathF.log(Float.NaN));
+        assertEquals(Float.NaN, FastMathF.log(-1.0f));
+        assertEquals(Float.NaN, FastMathF.log(Float.NEGATIVE_INFINITY));
+        assertEquals(Float.POSITIVE_INFINITY, FastMathF.log(Float.POSITIVE_INFINITY));
+        assertEquals(Float.NEGATIVE_INFINITY, FastMathF.log(0.0f));
+        assertEquals(Float.NEGATIVE_INFINITY, FastMathF.log(-0.0f));
+        assertEquals(0.0f, FastMathF.log(1.0f));
+        final MyDoubleResHelper helper = new MyDoubleResHelper();
+        for (int i=0;i<NBR_OF_VALUES;i++) {
+            float value = this.random.nextBoolean() ? randomFloatWhatever() : (float)randomDoubleUniform(0.5, 2.0);
+            double ref = StrictMath.log(value);
+            float res = FastMathF.log(value);
+            processFloatRes(helper, ref, res, value);
+            assertTrue(helper.lastOK());
+        }
+        helper.finalLogIfNeeded();
+    }
+
+    //--------------------------------------------------------------------------
+    // PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    /**
+     * @param ref Exact result, not rounded into float.
+     */
+    private static void processFloatRes(
+            MyDoubleResHelper helper,
+            double ref,
+            float res,
+            Object... args) {
+        final float refF = (float)ref;
+        if (Float.isInfinite(refF)) {
+            // Float overflow.
+            helper.process(refF, res, Double.NaN, TOL_FLOAT_REL, args);
+        } else if (Math.abs(refF) < FLOAT_MIN_NORMAL) {
+            // Gradual underflow: only checking absolute error.
+            helper.process(ref, res, Float.MIN_VALUE, Double.NaN, args);
+        } else {
+            helper.process(ref, res, Double.NaN, TOL_FLOAT_REL, args);
+        }
+    }
+
+    /**
+     * @return Whatever float, or a float close to k*PI/4.
+     */
+    private float randomFloatTrigArg() {
+        if (this.random.nextBoolean()) {
+            return randomFloatWhatever();
+        } else {
+            return (float)((1 + this.random.nextInt(64)) * (Math.PI/4) * (1 + (this.random.nextDouble() - 0.5) * 1e-3));
+        }
+    }
+}
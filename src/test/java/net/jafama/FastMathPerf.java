@@ -67,15 +67,23 @@ public class FastMathPerf extends AbstractFastMathPerf {
         settle();
         test_sin_double();
         settle();
+        test_sin_doubleArr_int_doubleArr_2int();
+        settle();
         test_sinQuick_double();
         settle();
         test_cos_double();
         settle();
+        test_cos_doubleArr_int_doubleArr_2int();
+        settle();
         test_cosQuick_double();
         settle();
         test_sinAndCos_double_DoubleWrapper();
         settle();
+        test_sinAndCos_doubleArr_doubleArr_doubleArr_2int();
+        settle();
         test_tan_double();
+        settle();
+        test_tan_doubleArr_int_doubleArr_2int();
 
         settle();
         test_asin_double();
@@ -85,6 +93,8 @@ public class FastMathPerf extends AbstractFastMathPerf {
         test_atan_double();
         settle();
         test_atan2_2double();
+        settle();
+        test_atan2Quick_2double();
 
         settle();
         test_toRadians_double();
@@ -125,6 +135,8 @@ public class FastMathPerf extends AbstractFastMathPerf {
         settle();
         test_exp_double();
         settle();
+        test_exp_doubleArr_int_doubleArr_2int();
+        settle();
         test_expQuick_double();
         settle();
         test_expm1_double();
@@ -136,6 +148,8 @@ public class FastMathPerf extends AbstractFastMathPerf {
         settle();
         test_log_double();
         settle();
+        test_log_doubleArr_int_doubleArr_2int();
+        settle();
         test_logQuick_double();
         settle();
         test_log10_double();
@@ -149,6 +163,8 @@ public class FastMathPerf extends AbstractFastMathPerf {
         settle();
         test_pow_2double();
         settle();
+        test_pow_doubleArr_int_double_doubleArr_2int();
+        settle();
         test_powQuick_2double();
         settle();
         test_powFast_double_int();
@@ -352,6 +368,57 @@ public class FastMathPerf extends AbstractFastMathPerf {
         useDummy(dummy);
     }
 
+    private void test_sin_doubleArr_int_doubleArr_2int() {
+        final double[] dst = new double[NBR_OF_VALUES];
+        double dummy = 0.0;
+
+        System.out.println("--- testing sin(double[],int,double[],int,int) ---");
+
+        for (double[] args : new double[][]{
+                new double[]{0,2*Math.PI},
+                new double[]{-DOUBLE_1E6,DOUBLE_1E6},
+                new double[]{-DOUBLE_1E12,DOUBLE_1E12}}) {
+
+            final double[] values = randomDoubleTabSmart(args);
+
+            startTimer();
+            for (int k=0;k<NBR_OF_CALLS;k+=NBR_OF_VALUES) {
+                for (int j=0;j<NBR_OF_VALUES;j++) {
+                    dst[j] = Math.sin(values[j]);
+                }
+                dummy += dst[k&MASK];
+            }
+            System.out.println("Loop on     Math.sin(double), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+
+            startTimer();
+            for (int k=0;k<NBR_OF_CALLS;k+=NBR_OF_VALUES) {
+                for (int j=0;j<NBR_OF_VALUES;j++) {
+                    dst[j] = FastMath.sin(values[j]);
+                }
+                dummy += dst[k&MASK];
+            }
+            System.out.println("Loop on FastMath.sin(double), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+
+            startTimer();
+            for (int k=0;k<NBR_OF_CALLS;k+=NBR_OF_VALUES) {
+                FastMath.sin(values, 0, dst, 0, NBR_OF_VALUES);
+                dummy += dst[k&MASK];
+            }
+            System.out.println("Loop on FastMath.sin(double[],int,double[],int,int), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+        }
+
+        // NaN-crash test.
+        {
+            final double[] values = randomDoubleTabSmart(new double[]{});
+            for (int k=0;k<NBR_OF_CALLS;k+=NBR_OF_VALUES) {
+                FastMath.sin(values, 0, dst, 0, NBR_OF_VALUES);
+                dummy += dst[k&MASK];
+            }
+        }
+
+        useDummy(dummy);
+    }
+
     private void test_sinQuick_double() {
         double dummy = 0.0;
 
@@ -425,6 +492,57 @@ public class FastMathPerf extends AbstractFastMathPerf {
         useDummy(dummy);
     }
 
+    private void test_cos_doubleArr_int_doubleArr_2int() {
+        final double[] dst = new double[NBR_OF_VALUES];
+        double dummy = 0.0;
+
+        System.out.println("--- testing cos(double[],int,double[],int,int) ---");
+
+        for (double[] args : new double[][]{
+                new double[]{0,2*Math.PI},
+                new double[]{-DOUBLE_1E6,DOUBLE_1E6},
+                new double[]{-DOUBLE_1E12,DOUBLE_1E12}}) {
+
+            final double[] values = randomDoubleTabSmart(args);
+
+            startTimer();
+            for (int k=0;k<NBR_OF_CALLS;k+=NBR_OF_VALUES) {
+                for (int j=0;j<NBR_OF_VALUES;j++) {
+                    dst[j] = Math.cos(values[j]);
+                }
+                dummy += dst[k&MASK];
+            }
+            System.out.println("Loop on     Math.cos(double), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+
+            startTimer();
+            for (int k=0;k<NBR_OF_CALLS;k+=NBR_OF_VALUES) {
+                for (int j=0;j<NBR_OF_VALUES;j++) {
+                    dst[j] = FastMath.cos(values[j]);
+                }
+                dummy += dst[k&MASK];
+            }
+            System.out.println("Loop on FastMath.cos(double), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+
+            startTimer();
+            for (int k=0;k<NBR_OF_CALLS;k+=NBR_OF_VALUES) {
+                FastMath.cos(values, 0, dst, 0, NBR_OF_VALUES);
+                dummy += dst[k&MASK];
+            }
+            System.out.println("Loop on FastMath.cos(double[],int,double[],int,int), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+        }
+
+        // NaN-crash test.
+        {
+            final double[] values = randomDoubleTabSmart(new double[]{});
+            for (int k=0;k<NBR_OF_CALLS;k+=NBR_OF_VALUES) {
+                FastMath.cos(values, 0, dst, 0, NBR_OF_VALUES);
+                dummy += dst[k&MASK];
+            }
+        }
+
+        useDummy(dummy);
+    }
+
     private void test_cosQuick_double() {
         double dummy = 0.0;
 
@@ -494,6 +612,51 @@ public class FastMathPerf extends AbstractFastMathPerf {
         useDummy(dummy);
     }
 
+    private void test_sinAndCos_doubleArr_doubleArr_doubleArr_2int() {
+        final DoubleWrapper cosine = new DoubleWrapper();
+        final double[] sinOut = new double[NBR_OF_VALUES];
+        final double[] cosOut = new double[NBR_OF_VALUES];
+        double dummy = 0.0;
+
+        System.out.println("--- testing sinAndCos(double[],double[],double[],int,int) ---");
+
+        for (double[] args : new double[][]{
+                new double[]{0,2*Math.PI},
+                new double[]{-DOUBLE_1E6,DOUBLE_1E6},
+                new double[]{-DOUBLE_1E12,DOUBLE_1E12}}) {
+
+            final double[] values = randomDoubleTabSmart(args);
+
+            startTimer();
+            for (int k=0;k<NBR_OF_CALLS;k+=NBR_OF_VALUES) {
+                for (int j=0;j<NBR_OF_VALUES;j++) {
+                    sinOut[j] = FastMath.sinAndCos(values[j],cosine);
+                    cosOut[j] = cosine.value;
+                }
+                dummy += sinOut[k&MASK] + cosOut[k&MASK];
+            }
+            System.out.println("Loop on FastMath.sinAndCos(double,DoubleWrapper), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+
+            startTimer();
+            for (int k=0;k<NBR_OF_CALLS;k+=NBR_OF_VALUES) {
+                FastMath.sinAndCos(values, sinOut, cosOut, 0, NBR_OF_VALUES);
+                dummy += sinOut[k&MASK] + cosOut[k&MASK];
+            }
+            System.out.println("Loop on FastMath.sinAndCos(double[],double[],double[],int,int), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+        }
+
+        // NaN-crash test.
+        {
+            final double[] values = randomDoubleTabSmart(new double[]{});
+            for (int k=0;k<NBR_OF_CALLS;k+=NBR_OF_VALUES) {
+                FastMath.sinAndCos(values, sinOut, cosOut, 0, NBR_OF_VALUES);
+                dummy += sinOut[k&MASK] + cosOut[k&MASK];
+            }
+        }
+
+        useDummy(dummy);
+    }
+
     private void test_tan_double() {
         double dummy = 0.0;
 
@@ -533,6 +696,57 @@ public class FastMathPerf extends AbstractFastMathPerf {
         useDummy(dummy);
     }
 
+    private void test_tan_doubleArr_int_doubleArr_2int() {
+        final double[] dst = new double[NBR_OF_VALUES];
+        double dummy = 0.0;
+
+        System.out.println("--- testing tan(double[],int,double[],int,int) ---");
+
+        for (double[] args : new double[][]{
+                new double[]{-Math.PI/2,Math.PI/2},
+                new double[]{-DOUBLE_1E6,DOUBLE_1E6},
+                new double[]{-DOUBLE_1E12,DOUBLE_1E12}}) {
+
+            final double[] values = randomDoubleTabSmart(args);
+
+            startTimer();
+            for (int k=0;k<NBR_OF_CALLS;k+=NBR_OF_VALUES) {
+                for (int j=0;j<NBR_OF_VALUES;j++) {
+                    dst[j] = Math.tan(values[j]);
+                }
+                dummy += dst[k&MASK];
+            }
+            System.out.println("Loop on     Math.tan(double), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+
+            startTimer();
+            for (int k=0;k<NBR_OF_CALLS;k+=NBR_OF_VALUES) {
+                for (int j=0;j<NBR_OF_VALUES;j++) {
+                    dst[j] = FastMath.tan(values[j]);
+                }
+                dummy += dst[k&MASK];
+            }
+            System.out.println("Loop on FastMath.tan(double), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+
+            startTimer();
+            for (int k=0;k<NBR_OF_CALLS;k+=NBR_OF_VALUES) {
+                FastMath.tan(values, 0, dst, 0, NBR_OF_VALUES);
+                dummy += dst[k&MASK];
+            }
+            System.out.println("Loop on FastMath.tan(double[],int,double[],int,int), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+        }
+
+        // NaN-crash test.
+        {
+            final double[] values = randomDoubleTabSmart(new double[]{});
+            for (int k=0;k<NBR_OF_CALLS;k+=NBR_OF_VALUES) {
+                FastMath.tan(values, 0, dst, 0, NBR_OF_VALUES);
+                dummy += dst[k&MASK];
+            }
+        }
+
+        useDummy(dummy);
+    }
+
     private void test_asin_double() {
         double dummy = 0.0;
 
@@ -676,6 +890,47 @@ public class FastMathPerf extends AbstractFastMathPerf {
         useDummy(dummy);
     }
 
+    private void test_atan2Quick_2double() {
+        double dummy = 0.0;
+
+        System.out.println("--- testing atan2Quick(double,double) ---");
+
+        for (double[] args : new double[][]{
+                new double[]{-10,10},
+                new double[]{0}}) {
+
+            final double[] values = randomDoubleTabSmart(args);
+
+            startTimer();
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += Math.atan2(values[j],values[MASK-j]);
+            }
+            System.out.println("Loop on          Math.atan2(double,double), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+
+            startTimer();
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += FastMath.atan2(values[j],values[MASK-j]);
+            }
+            System.out.println("Loop on      FastMath.atan2(double,double), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+
+            startTimer();
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += FastMath.atan2Quick(values[j],values[MASK-j]);
+            }
+            System.out.println("Loop on FastMath.atan2Quick(double,double), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+        }
+
+        // NaN-crash test.
+        {
+            final double[] values = randomDoubleTabSmart(new double[]{});
+            for (int i=0;i<NBR_OF_CALLS;i++) { int j=(i&MASK);
+            dummy += FastMath.atan2Quick(values[j],values[MASK-j]);
+            }
+        }
+
+        useDummy(dummy);
+    }
+
     private void test_toRadians_double() {
         double dummy = 0.0;
 
@@ -1135,6 +1390,57 @@ public class FastMathPerf extends AbstractFastMathPerf {
         useDummy(dummy);
     }
 
+    private void test_exp_doubleArr_int_doubleArr_2int() {
+        final double[] dst = new double[NBR_OF_VALUES];
+        double dummy = 0.0;
+
+        System.out.println("--- testing exp(double[],int,double[],int,int) ---");
+
+        for (double[] args : new double[][]{
+                new double[]{-10,10},
+                new double[]{-700,700},
+                new double[]{-750,720}}) {
+
+            final double[] values = randomDoubleTabSmart(args);
+
+            startTimer();
+            for (int k=0;k<NBR_OF_CALLS;k+=NBR_OF_VALUES) {
+                for (int j=0;j<NBR_OF_VALUES;j++) {
+                    dst[j] = Math.exp(values[j]);
+                }
+                dummy += dst[k&MASK];
+            }
+            System.out.println("Loop on     Math.exp(double), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+
+            startTimer();
+            for (int k=0;k<NBR_OF_CALLS;k+=NBR_OF_VALUES) {
+                for (int j=0;j<NBR_OF_VALUES;j++) {
+                    dst[j] = FastMath.exp(values[j]);
+                }
+                dummy += dst[k&MASK];
+            }
+            System.out.println("Loop on FastMath.exp(double), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+
+            startTimer();
+            for (int k=0;k<NBR_OF_CALLS;k+=NBR_OF_VALUES) {
+                FastMath.exp(values, 0, dst, 0, NBR_OF_VALUES);
+                dummy += dst[k&MASK];
+            }
+            System.out.println("Loop on FastMath.exp(double[],int,double[],int,int), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+        }
+
+        // NaN-crash test.
+        {
+            final double[] values = randomDoubleTabSmart(new double[]{});
+            for (int k=0;k<NBR_OF_CALLS;k+=NBR_OF_VALUES) {
+                FastMath.exp(values, 0, dst, 0, NBR_OF_VALUES);
+                dummy += dst[k&MASK];
+            }
+        }
+
+        useDummy(dummy);
+    }
+
     private void test_expQuick_double() {
         double dummy = 0.0;
 
@@ -1248,6 +1554,56 @@ public class FastMathPerf extends AbstractFastMathPerf {
         useDummy(dummy);
     }
 
+    private void test_log_doubleArr_int_doubleArr_2int() {
+        final double[] dst = new double[NBR_OF_VALUES];
+        double dummy = 0.0;
+
+        System.out.println("--- testing log(double[],int,double[],int,int) ---");
+
+        for (double[] args : new double[][]{
+                new double[]{0.1,10}, // values around 1, such as log(x) goes around -1 and 0
+                new double[]{Double.MIN_VALUE,Double.MAX_VALUE}}) {
+
+            final double[] values = randomDoubleTabSmart(args);
+
+            startTimer();
+            for (int k=0;k<NBR_OF_CALLS;k+=NBR_OF_VALUES) {
+                for (int j=0;j<NBR_OF_VALUES;j++) {
+                    dst[j] = Math.log(values[j]);
+                }
+                dummy += dst[k&MASK];
+            }
+            System.out.println("Loop on     Math.log(double), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+
+            startTimer();
+            for (int k=0;k<NBR_OF_CALLS;k+=NBR_OF_VALUES) {
+                for (int j=0;j<NBR_OF_VALUES;j++) {
+                    dst[j] = FastMath.log(values[j]);
+                }
+                dummy += dst[k&MASK];
+            }
+            System.out.println("Loop on FastMath.log(double), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+
+            startTimer();
+            for (int k=0;k<NBR_OF_CALLS;k+=NBR_OF_VALUES) {
+                FastMath.log(values, 0, dst, 0, NBR_OF_VALUES);
+                dummy += dst[k&MASK];
+            }
+            System.out.println("Loop on FastMath.log(double[],int,double[],int,int), args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+        }
+
+        // NaN-crash test.
+        {
+            final double[] values = randomDoubleTabSmart(new double[]{});
+            for (int k=0;k<NBR_OF_CALLS;k+=NBR_OF_VALUES) {
+                FastMath.log(values, 0, dst, 0, NBR_OF_VALUES);
+                dummy += dst[k&MASK];
+            }
+        }
+
+        useDummy(dummy);
+    }
+
     private void test_logQuick_double() {
         double dummy = 0.0;
 
@@ -1397,6 +1753,57 @@ public class FastMathPerf extends AbstractFastMathPerf {
         useDummy(dummy);
     }
 
+    private void test_pow_doubleArr_int_double_doubleArr_2int() {
+        final double[] dst = new double[NBR_OF_VALUES];
+        final double power = 2.5;
+        double dummy = 0.0;
+
+        System.out.println("--- testing pow(double[],int,double,double[],int,int) ---");
+
+        for (double[] args : new double[][]{
+                new double[]{0.1,10}, // for comparison with pow(double,double)
+                new double[]{0,100}}) {
+
+            final double[] values = randomDoubleTabSmart(args);
+
+            startTimer();
+            for (int k=0;k<NBR_OF_CALLS;k+=NBR_OF_VALUES) {
+                for (int j=0;j<NBR_OF_VALUES;j++) {
+                    dst[j] = Math.pow(values[j],power);
+                }
+                dummy += dst[k&MASK];
+            }
+            System.out.println("Loop on     Math.pow(double,double), power = "+power+", args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+
+            startTimer();
+            for (int k=0;k<NBR_OF_CALLS;k+=NBR_OF_VALUES) {
+                for (int j=0;j<NBR_OF_VALUES;j++) {
+                    dst[j] = FastMath.pow(values[j],power);
+                }
+                dummy += dst[k&MASK];
+            }
+            System.out.println("Loop on FastMath.pow(double,double), power = "+power+", args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+
+            startTimer();
+            for (int k=0;k<NBR_OF_CALLS;k+=NBR_OF_VALUES) {
+                FastMath.pow(values, 0, power, dst, 0, NBR_OF_VALUES);
+                dummy += dst[k&MASK];
+            }
+            System.out.println("Loop on FastMath.pow(double[],int,double,double[],int,int), power = "+power+", args in "+toStringSmart(args)+", took "+getElapsedSeconds()+" s");
+        }
+
+        // NaN-crash test.
+        {
+            final double[] values = randomDoubleTabSmart(new double[]{});
+            for (int k=0;k<NBR_OF_CALLS;k+=NBR_OF_VALUES) {
+                FastMath.pow(values, 0, power, dst, 0, NBR_OF_VALUES);
+                dummy += dst[k&MASK];
+            }
+        }
+
+        useDummy(dummy);
+    }
+
     private void test_powQuick_2double() {
         double dummy = 0.0;
 
@@ -47,6 +47,21 @@ public class FastMathTest extends AbstractFastMathTezt {
         helper.finalLogIfNeeded();
     }
 
+    public void test_sin_doubleArr_int_doubleArr_2int() {
+        checkBulkIdenticalToNonBulk(
+                new InterfaceDoubleFunction() {
+                    public double apply(double value) {
+                        return FastMath.sin(value);
+                    }
+                },
+                new InterfaceDoubleBulkFunction() {
+                    public void apply(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+                        FastMath.sin(src, srcOff, dst, dstOff, len);
+                    }
+                },
+                newBulkTrigArgs());
+    }
+
     public void test_sinQuick_double() {
         final double bound = Integer.MAX_VALUE * (2*Math.PI/(1<<11)) - 2.0;
         final MyDoubleResHelper helper = new MyDoubleResHelper();
@@ -86,6 +101,21 @@ public class FastMathTest extends AbstractFastMathTezt {
         helper.finalLogIfNeeded();
     }
 
+    public void test_cos_doubleArr_int_doubleArr_2int() {
+        checkBulkIdenticalToNonBulk(
+                new InterfaceDoubleFunction() {
+                    public double apply(double value) {
+                        return FastMath.cos(value);
+                    }
+                },
+                new InterfaceDoubleBulkFunction() {
+                    public void apply(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+                        FastMath.cos(src, srcOff, dst, dstOff, len);
+                    }
+                },
+                newBulkTrigArgs());
+    }
+
     public void test_cosQuick_double() {
         final double bound = Integer.MAX_VALUE * (2*Math.PI/(1<<11));
         final MyDoubleResHelper helper = new MyDoubleResHelper();
@@ -139,6 +169,64 @@ public class FastMathTest extends AbstractFastMathTezt {
         cosHelper.finalLogIfNeeded();
     }
 
+    public void test_sinAndCos_doubleArr_doubleArr_doubleArr_2int() {
+        final double[] args = newBulkTrigArgs();
+        final int n = args.length;
+        final DoubleWrapper tmpCos = new DoubleWrapper();
+
+        final double[] sinOut = new double[n+1];
+        final double[] cosOut = new double[n+1];
+        FastMath.sinAndCos(args, sinOut, cosOut, 1, n-1);
+        assertEquals(0.0, sinOut[0]);
+        assertEquals(0.0, cosOut[0]);
+        assertEquals(0.0, sinOut[n]);
+        assertEquals(0.0, cosOut[n]);
+        for (int i=1;i<n;i++) {
+            final double refSin = FastMath.sinAndCos(args[i], tmpCos);
+            final double refCos = tmpCos.value;
+            if (!equivalent(refSin, sinOut[i])) {
+                assertEquals("arg = "+args[i], refSin, sinOut[i]);
+            }
+            if (!equivalent(refCos, cosOut[i])) {
+                assertEquals("arg = "+args[i], refCos, cosOut[i]);
+            }
+        }
+
+        // Angles array used for output.
+        final double[] inPlace = args.clone();
+        final double[] cosOut2 = new double[n];
+        FastMath.sinAndCos(inPlace, inPlace, cosOut2, 0, n);
+        for (int i=1;i<n;i++) {
+            assertTrue(equivalent(sinOut[i], inPlace[i]));
+            assertTrue(equivalent(cosOut[i], cosOut2[i]));
+        }
+
+        final double[] sinKo = new double[n];
+        final double[] cosKo = new double[n];
+        for (int[] offAndLen : new int[][]{
+                {-1,1},
+                {0,-1},
+                {1,n},
+                {0,n+1}}) {
+            try {
+                FastMath.sinAndCos(args, sinKo, cosKo, offAndLen[0], offAndLen[1]);
+                assertTrue(false);
+            } catch (IndexOutOfBoundsException e) {
+                // ok
+            }
+        }
+        try {
+            FastMath.sinAndCos(args, sinKo, new double[n-1], 0, n);
+            assertTrue(false);
+        } catch (IndexOutOfBoundsException e) {
+            // ok
+        }
+        for (int i=0;i<n;i++) {
+            assertEquals(0.0, sinKo[i]);
+            assertEquals(0.0, cosKo[i]);
+        }
+    }
+
     public void test_tan_double() {
         final MyDoubleResHelper helper = new MyDoubleResHelper();
         for (int i=0;i<NBR_OF_VALUES;i++) {
@@ -171,6 +259,196 @@ public class FastMathTest extends AbstractFastMathTezt {
         helper.finalLogIfNeeded();
     }
 
+    public void test_tan_doubleArr_int_doubleArr_2int() {
+        checkBulkIdenticalToNonBulk(
+                new InterfaceDoubleFunction() {
+                    public double apply(double value) {
+                        return FastMath.tan(value);
+                    }
+                },
+                new InterfaceDoubleBulkFunction() {
+                    public void apply(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+                        FastMath.tan(src, srcOff, dst, dstOff, len);
+                    }
+                },
+                newBulkTrigArgs());
+    }
+
+    public void test_sinPi_double() {
+        final MyDoubleResHelper helper = new MyDoubleResHelper();
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final double value = ((i&1) == 0) ? randomDoubleWhatever() : randomDoubleWhatever(-4.0, 4.0);
+            final double ref = getExpectedResult_sinOrCos(value, 0.5, false);
+            final double res = FastMath.sinPi(value);
+            helper.process(
+                    ref,
+                    res,
+                    TOL_SIN_COS_ABS,
+                    getTolRel_sinOrCos(ref),
+                    value);
+            assertTrue(helper.lastOK());
+        }
+        helper.finalLogIfNeeded();
+
+        for (int k=-8;k<=8;k++) {
+            final double value = k * 0.5;
+            assertEquals(getExpectedResult_sinOrCos(value, 0.5, false), FastMath.sinPi(value), 0.0);
+            assertEquals(getExpectedResult_sinOrCos(value, 0.5, false), FastMath.sinPi(value + 2e15), 0.0);
+        }
+
+        // Sign of zero preserved.
+        assertTrue(equivalent(0.0, FastMath.sinPi(0.0)));
+        assertTrue(equivalent(-0.0, FastMath.sinPi(-0.0)));
+    }
+
+    public void test_cosPi_double() {
+        final MyDoubleResHelper helper = new MyDoubleResHelper();
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final double value = ((i&1) == 0) ? randomDoubleWhatever() : randomDoubleWhatever(-4.0, 4.0);
+            final double ref = getExpectedResult_sinOrCos(value, 0.5, true);
+            final double res = FastMath.cosPi(value);
+            helper.process(
+                    ref,
+                    res,
+                    TOL_SIN_COS_ABS,
+                    getTolRel_sinOrCos(ref),
+                    value);
+            assertTrue(helper.lastOK());
+        }
+        helper.finalLogIfNeeded();
+
+        for (int k=-8;k<=8;k++) {
+            final double value = k * 0.5;
+            assertEquals(getExpectedResult_sinOrCos(value, 0.5, true), FastMath.cosPi(value), 0.0);
+            assertEquals(getExpectedResult_sinOrCos(value, 0.5, true), FastMath.cosPi(value + 2e15), 0.0);
+        }
+    }
+
+    public void test_tanPi_double() {
+        final MyDoubleResHelper helper = new MyDoubleResHelper();
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final double value = ((i&1) == 0) ? randomDoubleWhatever() : randomDoubleWhatever(-4.0, 4.0);
+            final double ref = getExpectedResult_sinOrCos(value, 0.5, false) / getExpectedResult_sinOrCos(value, 0.5, true);
+            final double res = FastMath.tanPi(value);
+            if (Double.isInfinite(ref)) {
+                // Sign at poles depends on reduction.
+                assertEquals(Double.POSITIVE_INFINITY, Math.abs(res));
+                continue;
+            }
+            helper.process(
+                    ref,
+                    res,
+                    Double.NaN,
+                    getTolRel_tan(ref),
+                    value);
+            assertTrue(helper.lastOK());
+        }
+        helper.finalLogIfNeeded();
+
+        for (int k=-8;k<=8;k++) {
+            assertEquals(0.0, FastMath.tanPi(k), 0.0);
+            assertEquals(1.0, FastMath.tanPi(k + 0.25));
+            assertEquals(-1.0, FastMath.tanPi(k - 0.25));
+            assertEquals(Double.POSITIVE_INFINITY, Math.abs(FastMath.tanPi(k + 0.5)));
+        }
+
+        // Sign of zero preserved.
+        assertTrue(equivalent(0.0, FastMath.tanPi(0.0)));
+        assertTrue(equivalent(-0.0, FastMath.tanPi(-0.0)));
+    }
+
+    public void test_sinDeg_double() {
+        final MyDoubleResHelper helper = new MyDoubleResHelper();
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final double value = ((i&1) == 0) ? randomDoubleWhatever() : randomDoubleWhatever(-720.0, 720.0);
+            final double ref = getExpectedResult_sinOrCos(value, 90.0, false);
+            final double res = FastMath.sinDeg(value);
+            helper.process(
+                    ref,
+                    res,
+                    TOL_SIN_COS_ABS,
+                    getTolRel_sinOrCos(ref),
+                    value);
+            assertTrue(helper.lastOK());
+        }
+        helper.finalLogIfNeeded();
+
+        for (int k=-8;k<=8;k++) {
+            final double value = k * 90.0;
+            assertEquals(getExpectedResult_sinOrCos(value, 90.0, false), FastMath.sinDeg(value), 0.0);
+            assertEquals(getExpectedResult_sinOrCos(value, 90.0, false), FastMath.sinDeg(value + 360e12), 0.0);
+        }
+
+        // Sign of zero preserved.
+        assertTrue(equivalent(0.0, FastMath.sinDeg(0.0)));
+        assertTrue(equivalent(-0.0, FastMath.sinDeg(-0.0)));
+    }
+
+    public void test_cosDeg_double() {
+        final MyDoubleResHelper helper = new MyDoubleResHelper();
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final double value = ((i&1) == 0) ? randomDoubleWhatever() : randomDoubleWhatever(-720.0, 720.0);
+            final double ref = getExpectedResult_sinOrCos(value, 90.0, true);
+            final double res = FastMath.cosDeg(value);
+            helper.process(
+                    ref,
+                    res,
+                    TOL_SIN_COS_ABS,
+                    getTolRel_sinOrCos(ref),
+                    value);
+            assertTrue(helper.lastOK());
+        }
+        helper.finalLogIfNeeded();
+
+        for (int k=-8;k<=8;k++) {
+            final double value = k * 90.0;
+            assertEquals(getExpectedResult_sinOrCos(value, 90.0, true), FastMath.cosDeg(value), 0.0);
+            assertEquals(getExpectedResult_sinOrCos(value, 90.0, true), FastMath.cosDeg(value + 360e12), 0.0);
+        }
+    }
+
+    public void test_tanDeg_double() {
+        final MyDoubleResHelper helper = new MyDoubleResHelper();
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final double value = ((i&1) == 0) ? randomDoubleWhatever() : randomDoubleWhatever(-720.0, 720.0);
+            final double ref = getExpectedResult_sinOrCos(value, 90.0, false) / getExpectedResult_sinOrCos(value, 90.0, true);
+            final double res = FastMath.tanDeg(value);
+            if (Double.isInfinite(ref)) {
+                // Sign at poles depends on reduction.
+                assertEquals(Double.POSITIVE_INFINITY, Math.abs(res));
+                continue;
+            }
+            helper.process(
+                    ref,
+                    res,
+                    Double.NaN,
+                    getTolRel_tan(ref),
+                    value);
+            assertTrue(helper.lastOK());
+        }
+        helper.finalLogIfNeeded();
+
+        for (int k=-8;k<=8;k++) {
+            assertEquals(0.0, FastMath.tanDeg(k * 180.0), 0.0);
+            assertEquals(((k&1) == 0) ? 1.0 : -1.0, FastMath.tanDeg(k * 90.0 + 45.0));
+            assertEquals(Double.POSITIVE_INFINITY, Math.abs(FastMath.tanDeg(k * 180.0 + 90.0)));
+        }
+
+        // Sign of zero preserved.
+        assertTrue(equivalent(0.0, FastMath.tanDeg(0.0)));
+        assertTrue(equivalent(-0.0, FastMath.tanDeg(-0.0)));
+    }
+
+    public void test_sinAndCosDeg_double_DoubleWrapper() {
+        final DoubleWrapper tmpCos = new DoubleWrapper();
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final double value = ((i&1) == 0) ? randomDoubleWhatever() : randomDoubleWhatever(-720.0, 720.0);
+            final double resSin = FastMath.sinAndCosDeg(value, tmpCos);
+            assertTrue(equivalent(FastMath.sinDeg(value), resSin));
+            assertTrue(equivalent(FastMath.cosDeg(value), tmpCos.value));
+        }
+    }
+
     public void test_asin_double() {
         assertEquals(Math.PI/2, FastMath.asin(1.0));
         assertEquals(-Math.PI/2, FastMath.asin(-1.0));
@@ -271,6 +549,39 @@ public class FastMathTest extends AbstractFastMathTezt {
         }
         helper.finalLogIfNeeded();
     }
+
+    public void test_atan2Quick_2double() {
+        final double[] specialValues = new double[]{
+                Double.NaN, Double.NEGATIVE_INFINITY, -1.0, -0.0, 0.0, 1.0, Double.POSITIVE_INFINITY};
+        for (double y : specialValues) {
+            for (double x : specialValues) {
+                final double ref = StrictMath.atan2(y, x);
+                final double res = FastMath.atan2Quick(y, x);
+                if ((Math.abs(y) == Math.abs(x)) && (Math.abs(y) == 1.0)) {
+                    // Not exact, but within tolerance.
+                    assertEquals(ref, res, TOL_ATAN2_QUICK_ABS);
+                } else {
+                    assertTrue(equivalent(ref, res));
+                }
+            }
+        }
+        final MyDoubleResHelper helper = new MyDoubleResHelper();
+        for (int i=0;i<NBR_OF_VALUES;i++) {
+            double y = randomDoubleWhatever();
+            double x = randomDoubleWhatever();
+            double ref = StrictMath.atan2(y,x);
+            double res = FastMath.atan2Quick(y,x);
+            helper.process(
+                    ref,
+                    res,
+                    TOL_ATAN2_QUICK_ABS,
+                    Double.NaN,
+                    y,
+                    x);
+            assertTrue(helper.lastOK());
+        }
+        helper.finalLogIfNeeded();
+    }
     
     public void test_toRadians_double() {
         final MyDoubleResHelper helper = new MyDoubleResHelper();
@@ -816,6 +1127,21 @@ public class FastMathTest extends AbstractFastMathTezt {
         helper.finalLogIfNeeded();
     }
 
+    public void test_exp_doubleArr_int_doubleArr_2int() {
+        checkBulkIdenticalToNonBulk(
+                new InterfaceDoubleFunction() {
+                    public double apply(double value) {
+                        return FastMath.exp(value);
+                    }
+                },
+                new InterfaceDoubleBulkFunction() {
+                    public void apply(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+                        FastMath.exp(src, srcOff, dst, dstOff, len);
+                    }
+                },
+                newBulkExpArgs());
+    }
+
     public void test_expQuick_double() {
         final MyDoubleResHelper helper = new MyDoubleResHelper();
         for (int i=0;i<NBR_OF_VALUES;i++) {
@@ -873,6 +1199,21 @@ public class FastMathTest extends AbstractFastMathTezt {
         helper.finalLogIfNeeded();
     }
 
+    public void test_log_doubleArr_int_doubleArr_2int() {
+        checkBulkIdenticalToNonBulk(
+                new InterfaceDoubleFunction() {
+                    public double apply(double value) {
+                        return FastMath.log(value);
+                    }
+                },
+                new InterfaceDoubleBulkFunction() {
+                    public void apply(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+                        FastMath.log(src, srcOff, dst, dstOff, len);
+                    }
+                },
+                newBulkLogArgs());
+    }
+
     public void test_logQuick_double() {
         final MyDoubleResHelper helper = new MyDoubleResHelper();
         for (int i=0;i<NBR_OF_VALUES;i++) {
@@ -936,8 +1277,8 @@ public class FastMathTest extends AbstractFastMathTezt {
         assertEquals(0.0, FastMath.pow(0.0,3.0));
         assertEquals(-0.0, FastMath.pow(-0.0,3.0));
         assertEquals(Double.POSITIVE_INFINITY, FastMath.pow(0.0,-3.0));
-        assertEquals(4.0, FastMath.pow(2.0,2.0), TOL_1EM15);
-        assertEquals(8.0, FastMath.pow(2.0,3.0), TOL_1EM15);
+        assertEquals(4.0, FastMath.pow(2.0,2.0), TOL_POW_SMALL_INTS_ABS);
+        assertEquals(8.0, FastMath.pow(2.0,3.0), TOL_POW_SMALL_INTS_ABS);
         assertEquals(1.0/4.0, FastMath.pow(2.0,-2.0), TOL_1EM15);
         assertEquals(1.0/8.0, FastMath.pow(2.0,-3.0), TOL_1EM15);
         assertEquals(Double.POSITIVE_INFINITY, FastMath.pow(Double.NEGATIVE_INFINITY,2.0));
@@ -971,6 +1312,27 @@ public class FastMathTest extends AbstractFastMathTezt {
         helper.finalLogIfNeeded();
     }
 
+    public void test_pow_doubleArr_int_double_doubleArr_2int() {
+        final double[] args = newBulkLogArgs();
+        for (final double power : new double[]{
+                0.0, -0.0, 1.0, -1.0, 2.0, 3.0, 0.5, -2.5, 1e-3, 123.456, -1e5,
+                Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+                randomDoubleWhatever()}) {
+            checkBulkIdenticalToNonBulk(
+                    new InterfaceDoubleFunction() {
+                        public double apply(double value) {
+                            return FastMath.pow(value, power);
+                        }
+                    },
+                    new InterfaceDoubleBulkFunction() {
+                        public void apply(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+                            FastMath.pow(src, srcOff, power, dst, dstOff, len);
+                        }
+                    },
+                    args);
+        }
+    }
+
     public void test_powQuick_2double() {
         final MyDoubleResHelper helper = new MyDoubleResHelper();
         for (int i=0;i<NBR_OF_VALUES;i++) {
@@ -2230,4 +2592,118 @@ IEEE = -4.55688172866467E-305
             assertTrue((res >= 0.0) && (res < 1.0));
         }
     }
+
+    /*
+     * accuracy tiers
+     */
+
+    public void test_accuracyTiers() {
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final double a = randomDoubleWhatever();
+            final double b = randomDoubleWhatever();
+            assertTrue(equivalent(Math.sin(a), FastMath.sin(a, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(FastMath.sin(a), FastMath.sin(a, AccuracyTier.FAST)));
+            assertTrue(equivalent((Math.abs(a) <= 6588395.0) ? FastMath.sinQuick(a) : FastMath.sin(a), FastMath.sin(a, AccuracyTier.QUICK)));
+            assertTrue(equivalent(Math.cos(a), FastMath.cos(a, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(FastMath.cos(a), FastMath.cos(a, AccuracyTier.FAST)));
+            assertTrue(equivalent((Math.abs(a) <= 6588395.0) ? FastMath.cosQuick(a) : FastMath.cos(a), FastMath.cos(a, AccuracyTier.QUICK)));
+            assertTrue(equivalent(Math.tan(a), FastMath.tan(a, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(FastMath.tan(a), FastMath.tan(a, AccuracyTier.FAST)));
+            assertTrue(equivalent(FastMath.tan(a), FastMath.tan(a, AccuracyTier.QUICK)));
+            assertTrue(equivalent(Math.asin(a), FastMath.asin(a, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(FastMath.asin(a), FastMath.asin(a, AccuracyTier.FAST)));
+            assertTrue(equivalent(FastMath.asin(a), FastMath.asin(a, AccuracyTier.QUICK)));
+            assertTrue(equivalent(Math.acos(a), FastMath.acos(a, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(FastMath.acos(a), FastMath.acos(a, AccuracyTier.FAST)));
+            assertTrue(equivalent(FastMath.acos(a), FastMath.acos(a, AccuracyTier.QUICK)));
+            assertTrue(equivalent(Math.atan(a), FastMath.atan(a, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(FastMath.atan(a), FastMath.atan(a, AccuracyTier.FAST)));
+            assertTrue(equivalent(FastMath.atan(a), FastMath.atan(a, AccuracyTier.QUICK)));
+            assertTrue(equivalent(Math.atan2(a, b), FastMath.atan2(a, b, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(FastMath.atan2(a, b), FastMath.atan2(a, b, AccuracyTier.FAST)));
+            assertTrue(equivalent(FastMath.atan2Quick(a, b), FastMath.atan2(a, b, AccuracyTier.QUICK)));
+            assertTrue(equivalent(Math.sinh(a), FastMath.sinh(a, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(FastMath.sinh(a), FastMath.sinh(a, AccuracyTier.FAST)));
+            assertTrue(equivalent(FastMath.sinh(a), FastMath.sinh(a, AccuracyTier.QUICK)));
+            assertTrue(equivalent(Math.cosh(a), FastMath.cosh(a, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(FastMath.cosh(a), FastMath.cosh(a, AccuracyTier.FAST)));
+            assertTrue(equivalent(FastMath.cosh(a), FastMath.cosh(a, AccuracyTier.QUICK)));
+            assertTrue(equivalent(Math.tanh(a), FastMath.tanh(a, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(FastMath.tanh(a), FastMath.tanh(a, AccuracyTier.FAST)));
+            assertTrue(equivalent(FastMath.tanh(a), FastMath.tanh(a, AccuracyTier.QUICK)));
+            assertTrue(equivalent(Math.exp(a), FastMath.exp(a, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(FastMath.exp(a), FastMath.exp(a, AccuracyTier.FAST)));
+            assertTrue(equivalent((Math.abs(a) <= 700.0) ? FastMath.expQuick(a) : FastMath.exp(a), FastMath.exp(a, AccuracyTier.QUICK)));
+            assertTrue(equivalent(Math.expm1(a), FastMath.expm1(a, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(FastMath.expm1(a), FastMath.expm1(a, AccuracyTier.FAST)));
+            assertTrue(equivalent(FastMath.expm1(a), FastMath.expm1(a, AccuracyTier.QUICK)));
+            assertTrue(equivalent(Math.log(a), FastMath.log(a, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(FastMath.log(a), FastMath.log(a, AccuracyTier.FAST)));
+            assertTrue(equivalent(((a >= Double.MIN_NORMAL) && (a <= Double.MAX_VALUE)) ? FastMath.logQuick(a) : FastMath.log(a), FastMath.log(a, AccuracyTier.QUICK)));
+            assertTrue(equivalent(Math.log10(a), FastMath.log10(a, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(FastMath.log10(a), FastMath.log10(a, AccuracyTier.FAST)));
+            assertTrue(equivalent(FastMath.log10(a), FastMath.log10(a, AccuracyTier.QUICK)));
+            assertTrue(equivalent(Math.log1p(a), FastMath.log1p(a, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(FastMath.log1p(a), FastMath.log1p(a, AccuracyTier.FAST)));
+            assertTrue(equivalent(FastMath.log1p(a), FastMath.log1p(a, AccuracyTier.QUICK)));
+            assertTrue(equivalent(Math.pow(a, b), FastMath.pow(a, b, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(FastMath.pow(a, b), FastMath.pow(a, b, AccuracyTier.FAST)));
+            {
+                final double powQuick = FastMath.powQuick(a, b);
+                final boolean quickOk = (a >= Double.MIN_NORMAL) && (a <= Double.MAX_VALUE)
+                        && (powQuick > 1e-10) && (powQuick < 1e10);
+                assertTrue(equivalent(quickOk ? powQuick : FastMath.pow(a, b), FastMath.pow(a, b, AccuracyTier.QUICK)));
+            }
+            assertTrue(equivalent(Math.sqrt(a), FastMath.sqrt(a, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(FastMath.sqrt(a), FastMath.sqrt(a, AccuracyTier.FAST)));
+            assertTrue(equivalent(((a >= Double.MIN_NORMAL) && (a <= Double.MAX_VALUE)) ? FastMath.sqrtQuick(a) : FastMath.sqrt(a), FastMath.sqrt(a, AccuracyTier.QUICK)));
+            assertTrue(equivalent(Math.cbrt(a), FastMath.cbrt(a, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(FastMath.cbrt(a), FastMath.cbrt(a, AccuracyTier.FAST)));
+            assertTrue(equivalent(FastMath.cbrt(a), FastMath.cbrt(a, AccuracyTier.QUICK)));
+            assertTrue(equivalent(Math.hypot(a, b), FastMath.hypot(a, b, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(FastMath.hypot(a, b), FastMath.hypot(a, b, AccuracyTier.FAST)));
+            assertTrue(equivalent(FastMath.hypot(a, b), FastMath.hypot(a, b, AccuracyTier.QUICK)));
+        }
+    }
+
+    public void test_accuracyTiers_quickOutOfRange() {
+        // Out of "Quick" treatments accuracy range: same as FAST.
+        for (double a : new double[]{6588396.0, -1e10, Double.MAX_VALUE}) {
+            assertEquals(FastMath.sin(a), FastMath.sin(a, AccuracyTier.QUICK));
+            assertEquals(FastMath.cos(a), FastMath.cos(a, AccuracyTier.QUICK));
+        }
+        for (double a : new double[]{-745.0, -701.0, 701.0, 709.0}) {
+            assertEquals(FastMath.exp(a), FastMath.exp(a, AccuracyTier.QUICK));
+        }
+        for (double a : new double[]{Double.MIN_VALUE, Double.MIN_NORMAL/2, Double.POSITIVE_INFINITY}) {
+            assertEquals(FastMath.log(a), FastMath.log(a, AccuracyTier.QUICK));
+            assertEquals(FastMath.sqrt(a), FastMath.sqrt(a, AccuracyTier.QUICK));
+        }
+        assertEquals(FastMath.pow(Double.MIN_VALUE, 0.5), FastMath.pow(Double.MIN_VALUE, 0.5, AccuracyTier.QUICK));
+        assertEquals(FastMath.pow(-2.0, 3.0), FastMath.pow(-2.0, 3.0, AccuracyTier.QUICK));
+        assertEquals(FastMath.pow(10.0, 20.0), FastMath.pow(10.0, 20.0, AccuracyTier.QUICK));
+        assertEquals(FastMath.pow(10.0, -20.0), FastMath.pow(10.0, -20.0, AccuracyTier.QUICK));
+        // In range: "Quick" treatments.
+        assertEquals(FastMath.sinQuick(6588395.0), FastMath.sin(6588395.0, AccuracyTier.QUICK));
+        assertEquals(FastMath.cosQuick(-6588395.0), FastMath.cos(-6588395.0, AccuracyTier.QUICK));
+        assertEquals(FastMath.expQuick(700.0), FastMath.exp(700.0, AccuracyTier.QUICK));
+        assertEquals(FastMath.logQuick(Double.MIN_NORMAL), FastMath.log(Double.MIN_NORMAL, AccuracyTier.QUICK));
+        assertEquals(FastMath.sqrtQuick(Double.MAX_VALUE), FastMath.sqrt(Double.MAX_VALUE, AccuracyTier.QUICK));
+        assertEquals(FastMath.powQuick(10.0, 9.0), FastMath.pow(10.0, 9.0, AccuracyTier.QUICK));
+    }
+
+    public void test_accuracyTiers_null() {
+        try {
+            FastMath.sin(0.0, null);
+            fail();
+        } catch (NullPointerException e) {
+            // ok
+        }
+        try {
+            FastMath.tan(0.0, null);
+            fail();
+        } catch (NullPointerException e) {
+            // ok
+        }
+    }
 }
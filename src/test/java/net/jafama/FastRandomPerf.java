@@ -0,0 +1,186 @@
+/*
+ * Copyright 2012-2015 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * FastRandom micro benchmarks, in particular throughput of concurrent calls
+ * to FastMath.random() (per-thread generator), compared to Math.random()
+ * (shared generator), with increasing numbers of threads.
+ */
+public class FastRandomPerf {
+
+    //--------------------------------------------------------------------------
+    // CONFIGURATION
+    //--------------------------------------------------------------------------
+
+    private static final int NBR_OF_CALLS_PER_THREAD = 10 * 1000 * 1000;
+
+    private static final int NBR_OF_VALUES_PER_FILL = 1024;
+
+    //--------------------------------------------------------------------------
+    // PRIVATE CLASSES
+    //--------------------------------------------------------------------------
+
+    private interface InterfaceBench {
+        public double run(int nbrOfCalls);
+    }
+
+    //--------------------------------------------------------------------------
+    // PUBLIC METHODS
+    //--------------------------------------------------------------------------
+
+    public static void main(String[] args) {
+        System.out.println(TestUtils.getJVMInfo());
+        newRun(args);
+    }
+
+    public static void newRun(String[] args) {
+        new FastRandomPerf().run(args);
+    }
+
+    public FastRandomPerf() {
+    }
+
+    //--------------------------------------------------------------------------
+    // PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    private static void settle() {
+        TestUtils.settleAndNewLine();
+    }
+
+    private void run(String[] args) {
+        System.out.println("--- "+FastRandomPerf.class.getSimpleName()+"... ---");
+        System.out.println("number of calls per thread = "+NBR_OF_CALLS_PER_THREAD);
+
+        final int maxNbrOfThreads = Runtime.getRuntime().availableProcessors();
+
+        for (int nbrOfThreads=1;;nbrOfThreads*=2) {
+            nbrOfThreads = Math.min(nbrOfThreads, maxNbrOfThreads);
+
+            settle();
+            test("Math.random()", nbrOfThreads, new InterfaceBench() {
+                public double run(int nbrOfCalls) {
+                    double dummy = 0.0;
+                    for (int i=0;i<nbrOfCalls;i++) {
+                        dummy += Math.random();
+                    }
+                    return dummy;
+                }
+            });
+            settle();
+            test("FastMath.random()", nbrOfThreads, new InterfaceBench() {
+                public double run(int nbrOfCalls) {
+                    double dummy = 0.0;
+                    for (int i=0;i<nbrOfCalls;i++) {
+                        dummy += FastMath.random();
+                    }
+                    return dummy;
+                }
+            });
+            settle();
+            test("FastRandom.nextDouble()", nbrOfThreads, new InterfaceBench() {
+                public double run(int nbrOfCalls) {
+                    final FastRandom random = FastRandom.current();
+                    double dummy = 0.0;
+                    for (int i=0;i<nbrOfCalls;i++) {
+                        dummy += random.nextDouble();
+                    }
+                    return dummy;
+                }
+            });
+            settle();
+            test("FastRandom.nextInt(int)", nbrOfThreads, new InterfaceBench() {
+                public double run(int nbrOfCalls) {
+                    final FastRandom random = FastRandom.current();
+                    double dummy = 0.0;
+                    for (int i=0;i<nbrOfCalls;i++) {
+                        dummy += random.nextInt(1000);
+                    }
+                    return dummy;
+                }
+            });
+            settle();
+            test("FastRandom.fill(double[],int,int)", nbrOfThreads, new InterfaceBench() {
+                public double run(int nbrOfCalls) {
+                    final FastRandom random = FastRandom.current();
+                    final double[] values = new double[NBR_OF_VALUES_PER_FILL];
+                    double dummy = 0.0;
+                    for (int i=0;i<nbrOfCalls;i+=values.length) {
+                        random.fill(values, 0, values.length);
+                        dummy += values[i&(values.length-1)];
+                    }
+                    return dummy;
+                }
+            });
+
+            if (nbrOfThreads == maxNbrOfThreads) {
+                break;
+            }
+        }
+
+        System.out.println("--- ..."+FastRandomPerf.class.getSimpleName()+" ---");
+    }
+
+    /**
+     * Prints the duration and the total throughput, which should grow
+     * linearly with the number of threads if there is no contention
+     * (and up to the number of physical cores).
+     */
+    private static void test(String name, int nbrOfThreads, final InterfaceBench bench) {
+        final CountDownLatch readyLatch = new CountDownLatch(nbrOfThreads);
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final CountDownLatch endLatch = new CountDownLatch(nbrOfThreads);
+        final double[] dummies = new double[nbrOfThreads];
+        for (int t=0;t<nbrOfThreads;t++) {
+            final int index = t;
+            new Thread(new Runnable() {
+                public void run() {
+                    // Warmup.
+                    bench.run(NBR_OF_CALLS_PER_THREAD/10);
+                    readyLatch.countDown();
+                    try {
+                        startLatch.await();
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                    dummies[index] = bench.run(NBR_OF_CALLS_PER_THREAD);
+                    endLatch.countDown();
+                }
+            }).start();
+        }
+        try {
+            readyLatch.await();
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+        final long startNS = System.nanoTime();
+        startLatch.countDown();
+        try {
+            endLatch.await();
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+        final double s = (System.nanoTime() - startNS) / 1e9;
+        final double callsPerS = (nbrOfThreads * (double)NBR_OF_CALLS_PER_THREAD) / s;
+        System.out.println("Loop on "+name+", "+nbrOfThreads+" thread(s), took "+s+" s ("+(long)(callsPerS/1e6)+" M calls/s)");
+        for (double dummy : dummies) {
+            AbstractFastMathPerf.useDummy(dummy);
+        }
+    }
+}
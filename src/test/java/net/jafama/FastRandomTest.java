@@ -0,0 +1,178 @@
+/*
+ * Copyright 2012-2015 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+import junit.framework.TestCase;
+
+public class FastRandomTest extends TestCase {
+
+    //--------------------------------------------------------------------------
+    // CONFIGURATION
+    //--------------------------------------------------------------------------
+
+    private static final int NBR_OF_VALUES = 1000 * 1000;
+
+    //--------------------------------------------------------------------------
+    // PUBLIC METHODS
+    //--------------------------------------------------------------------------
+
+    public void test_FastRandom_long() {
+        final FastRandom r1 = new FastRandom(123L);
+        final FastRandom r2 = new FastRandom(123L);
+        final FastRandom r3 = new FastRandom(124L);
+        int nbrOfSameAsR3 = 0;
+        for (int i=0;i<1000;i++) {
+            final long value = r1.nextLong();
+            assertEquals(value, r2.nextLong());
+            if (value == r3.nextLong()) {
+                nbrOfSameAsR3++;
+            }
+        }
+        assertEquals(0, nbrOfSameAsR3);
+    }
+
+    public void test_FastRandom() {
+        final FastRandom r1 = new FastRandom();
+        final FastRandom r2 = new FastRandom();
+        int nbrOfSame = 0;
+        for (int i=0;i<1000;i++) {
+            if (r1.nextLong() == r2.nextLong()) {
+                nbrOfSame++;
+            }
+        }
+        assertEquals(0, nbrOfSame);
+    }
+
+    public void test_current() {
+        final FastRandom current = FastRandom.current();
+        assertSame(current, FastRandom.current());
+        
+        final FastRandom[] otherThreadCurrent = new FastRandom[1];
+        final Thread thread = new Thread(new Runnable() {
+            public void run() {
+                otherThreadCurrent[0] = FastRandom.current();
+            }
+        });
+        thread.start();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+        assertNotNull(otherThreadCurrent[0]);
+        assertNotSame(current, otherThreadCurrent[0]);
+    }
+
+    public void test_nextInt() {
+        final FastRandom random = new FastRandom(123L);
+        final int[] countByBit = new int[32];
+        for (int i=0;i<NBR_OF_VALUES;i++) {
+            final int value = random.nextInt();
+            for (int b=0;b<32;b++) {
+                countByBit[b] += ((value>>>b)&1);
+            }
+        }
+        for (int b=0;b<32;b++) {
+            assertEquals(0.5, countByBit[b] / (double)NBR_OF_VALUES, 0.005);
+        }
+    }
+
+    public void test_nextInt_int() {
+        final FastRandom random = new FastRandom(123L);
+        for (int bound : new int[]{0,-1,Integer.MIN_VALUE}) {
+            try {
+                random.nextInt(bound);
+                assertTrue(false);
+            } catch (IllegalArgumentException e) {
+                // ok
+            }
+        }
+        for (int i=0;i<1000;i++) {
+            assertEquals(0, random.nextInt(1));
+        }
+        
+        // Small bound: each value about equally likely.
+        final int[] countByValue = new int[7];
+        for (int i=0;i<NBR_OF_VALUES;i++) {
+            countByValue[random.nextInt(countByValue.length)]++;
+        }
+        for (int count : countByValue) {
+            assertEquals(1.0/countByValue.length, count / (double)NBR_OF_VALUES, 0.005);
+        }
+        
+        // Bound for which modulo bias would be large (about 2/3 of
+        // values in lower half of range, instead of 1/2).
+        final int bound = (int)((1L<<32)/3);
+        int nbrInLowerHalf = 0;
+        for (int i=0;i<NBR_OF_VALUES;i++) {
+            final int value = random.nextInt(bound);
+            assertTrue((value >= 0) && (value < bound));
+            if (value < bound/2) {
+                nbrInLowerHalf++;
+            }
+        }
+        assertEquals(0.5, nbrInLowerHalf / (double)NBR_OF_VALUES, 0.005);
+        
+        for (int i=0;i<1000;i++) {
+            final int value = random.nextInt(Integer.MAX_VALUE);
+            assertTrue((value >= 0) && (value < Integer.MAX_VALUE));
+        }
+    }
+
+    public void test_nextDouble() {
+        final FastRandom random = new FastRandom(123L);
+        double sum = 0.0;
+        for (int i=0;i<NBR_OF_VALUES;i++) {
+            final double value = random.nextDouble();
+            assertTrue((value >= 0.0) && (value < 1.0));
+            // Multiple of 2^-53.
+            assertEquals(value, (double)(long)(value * (1L<<53)) / (1L<<53));
+            sum += value;
+        }
+        assertEquals(0.5, sum / NBR_OF_VALUES, 0.005);
+    }
+
+    public void test_fill_doubleArray_2int() {
+        final FastRandom r1 = new FastRandom(123L);
+        final FastRandom r2 = new FastRandom(123L);
+        final double[] dst = new double[10];
+        r1.fill(dst, 2, 7);
+        assertEquals(0.0, dst[0]);
+        assertEquals(0.0, dst[1]);
+        for (int i=2;i<9;i++) {
+            assertEquals(r2.nextDouble(), dst[i]);
+        }
+        assertEquals(0.0, dst[9]);
+        // State updated.
+        assertEquals(r2.nextLong(), r1.nextLong());
+        
+        r1.fill(dst);
+        for (int i=0;i<dst.length;i++) {
+            assertEquals(r2.nextDouble(), dst[i]);
+        }
+        
+        for (int[] offLen : new int[][]{{-1,1},{0,11},{10,1},{5,-1}}) {
+            try {
+                r1.fill(dst, offLen[0], offLen[1]);
+                assertTrue(false);
+            } catch (IndexOutOfBoundsException e) {
+                // ok
+            }
+        }
+        // State not updated.
+        assertEquals(r2.nextLong(), r1.nextLong());
+    }
+}
@@ -0,0 +1,394 @@
+/*
+ * Copyright 2012-2015 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Exhaustive accuracy check, over all the 2^32 float arguments, of
+ * FastMath and StrictFastMath functions (for arguments converted to double)
+ * and of FastMathF functions, against StrictMath.
+ * 
+ * Unit tests use random arguments, which can miss worst cases in small
+ * areas (near PI/2 for tan, near 1 for acos, etc.), so this tool is meant
+ * to check the accuracy of each look-up tables configuration
+ * (jafama.tabsizepower.<family> properties) in a few minutes,
+ * on a machine with enough cores.
+ * 
+ * For each function, prints the max error in ulps (of the reference value)
+ * and the argument where it occurs, the mean error, and a histogram of
+ * errors. Wrong NaN or infinite results count as infinite errors, which are
+ * counted apart and not taken into account for the mean error.
+ * 
+ * Usage (all arguments are optional):
+ * java [-Djafama.tabsizepower.<family>=<power>] net.jafama.FloatDomainAccuracyScan
+ *      [-impl FastMath|StrictFastMath|FastMathF] [-fn <function name>]
+ *      [-stride <n> (to only scan one float out of n)] [-threads <n>]
+ */
+public class FloatDomainAccuracyScan {
+
+    //--------------------------------------------------------------------------
+    // CONFIGURATION
+    //--------------------------------------------------------------------------
+
+    private static final String[] IMPLS = new String[]{"FastMath","StrictFastMath","FastMathF"};
+
+    /**
+     * Functions of FastMath and StrictFastMath that have a StrictMath equivalent.
+     */
+    private static final String[] DOUBLE_FUNCTIONS = new String[]{
+        "sin","cos","tan","asin","acos","atan",
+        "sinh","cosh","tanh",
+        "exp","expm1","log","log10","log1p",
+        "sqrt","cbrt"};
+
+    private static final String[] FLOAT_FUNCTIONS = new String[]{
+        "sin","cos","tan","atan","exp","log"};
+
+    private static final int NBR_OF_CHUNKS = 4096;
+
+    /**
+     * Histogram upper bounds (inclusive), in ulps: 0, 0.5, 1, 2, 4, ..., 2^20,
+     * plus a last bucket for larger (or infinite) errors.
+     */
+    private static final double[] BUCKETS_UPPER_BOUNDS = newBucketsUpperBounds(20);
+
+    //--------------------------------------------------------------------------
+    // PRIVATE CLASSES
+    //--------------------------------------------------------------------------
+
+    private static class MyStats {
+        long count;
+        /**
+         * Number of infinite errors, which are not taken into account
+         * for the mean error.
+         */
+        long infErrCount;
+        double sumUlpErr;
+        double maxUlpErr = -1.0;
+        int argBitsAtMax;
+        final long[] countByBucket = new long[BUCKETS_UPPER_BOUNDS.length+1];
+        void process(int argBits, double ulpErr) {
+            this.count++;
+            if (ulpErr == Double.POSITIVE_INFINITY) {
+                this.infErrCount++;
+            } else {
+                this.sumUlpErr += ulpErr;
+            }
+            if (ulpErr > this.maxUlpErr) {
+                this.maxUlpErr = ulpErr;
+                this.argBitsAtMax = argBits;
+            }
+            int i = 0;
+            while ((i < BUCKETS_UPPER_BOUNDS.length) && (ulpErr > BUCKETS_UPPER_BOUNDS[i])) {
+                i++;
+            }
+            this.countByBucket[i]++;
+        }
+        void merge(MyStats other) {
+            this.count += other.count;
+            this.infErrCount += other.infErrCount;
+            this.sumUlpErr += other.sumUlpErr;
+            // Strict comparison and chunks merged in order,
+            // for reported argument not to depend on scheduling.
+            if (other.maxUlpErr > this.maxUlpErr) {
+                this.maxUlpErr = other.maxUlpErr;
+                this.argBitsAtMax = other.argBitsAtMax;
+            }
+            for (int i=0;i<this.countByBucket.length;i++) {
+                this.countByBucket[i] += other.countByBucket[i];
+            }
+        }
+    }
+
+    private static class MyChunkScan implements Callable<MyStats> {
+        private final String impl;
+        private final int fn;
+        private final long fromBits;
+        private final long toBitsExcl;
+        private final int stride;
+        public MyChunkScan(String impl, int fn, long fromBits, long toBitsExcl, int stride) {
+            this.impl = impl;
+            this.fn = fn;
+            this.fromBits = fromBits;
+            this.toBitsExcl = toBitsExcl;
+            this.stride = stride;
+        }
+        public MyStats call() {
+            final MyStats stats = new MyStats();
+            final int fn = this.fn;
+            final boolean isFloat = this.impl.equals("FastMathF");
+            final boolean isStrict = this.impl.equals("StrictFastMath");
+            for (long bits=this.fromBits;bits<this.toBitsExcl;bits+=this.stride) {
+                final int argBits = (int)bits;
+                final float arg = Float.intBitsToFloat(argBits);
+                final double ulpErr;
+                if (isFloat) {
+                    final float ref = applyStrictMathF(fn, arg);
+                    ulpErr = ulpErr(ref, applyFastMathF(fn, arg), Math.ulp(ref));
+                } else {
+                    final double ref = applyStrictMath(fn, arg);
+                    final double res = (isStrict ? applyStrictFastMath(fn, arg) : applyFastMath(fn, arg));
+                    ulpErr = ulpErr(ref, res, Math.ulp(ref));
+                }
+                stats.process(argBits, ulpErr);
+            }
+            return stats;
+        }
+    }
+
+    //--------------------------------------------------------------------------
+    // PUBLIC METHODS
+    //--------------------------------------------------------------------------
+
+    public static void main(String[] args) {
+        System.out.println(TestUtils.getJVMInfo());
+
+        String implArg = null;
+        String fnArg = null;
+        int stride = 1;
+        int nbrOfThreads = Runtime.getRuntime().availableProcessors();
+        for (int i=0;i<args.length;i+=2) {
+            if (i+1 >= args.length) {
+                throw new IllegalArgumentException("missing value for " + args[i]);
+            }
+            if (args[i].equals("-impl")) {
+                implArg = args[i+1];
+            } else if (args[i].equals("-fn")) {
+                fnArg = args[i+1];
+            } else if (args[i].equals("-stride")) {
+                stride = Integer.parseInt(args[i+1]);
+            } else if (args[i].equals("-threads")) {
+                nbrOfThreads = Integer.parseInt(args[i+1]);
+            } else {
+                throw new IllegalArgumentException("unknown option: " + args[i]);
+            }
+        }
+        if ((stride < 1) || (nbrOfThreads < 1)) {
+            throw new IllegalArgumentException("stride and threads must be >= 1");
+        }
+
+        System.out.println("--- "+FloatDomainAccuracyScan.class.getSimpleName()+"... ---");
+        System.out.println("stride = "+stride+", threads = "+nbrOfThreads);
+        final ExecutorService executor = Executors.newFixedThreadPool(nbrOfThreads);
+        try {
+            for (String impl : IMPLS) {
+                if ((implArg != null) && (!implArg.equals(impl))) {
+                    continue;
+                }
+                final String[] functions = (impl.equals("FastMathF") ? FLOAT_FUNCTIONS : DOUBLE_FUNCTIONS);
+                for (int fn=0;fn<functions.length;fn++) {
+                    if ((fnArg != null) && (!fnArg.equals(functions[fn]))) {
+                        continue;
+                    }
+                    scan(executor, impl, fn, functions[fn], stride);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        System.out.println("--- ..."+FloatDomainAccuracyScan.class.getSimpleName()+" ---");
+    }
+
+    //--------------------------------------------------------------------------
+    // PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    private static void scan(ExecutorService executor, String impl, int fn, String fnName, int stride) {
+        final long startNS = System.nanoTime();
+
+        // Chunks bounds multiple of stride, to scan the same
+        // floats whatever the number of chunks.
+        final long nbrOfArgs = ((1L<<32) + stride - 1) / stride;
+        final long argsPerChunk = (nbrOfArgs + NBR_OF_CHUNKS - 1) / NBR_OF_CHUNKS;
+        final List<Future<MyStats>> futures = new ArrayList<Future<MyStats>>();
+        for (long from=0;from<nbrOfArgs;from+=argsPerChunk) {
+            final long to = Math.min(nbrOfArgs, from + argsPerChunk);
+            futures.add(executor.submit(new MyChunkScan(impl, fn, from * stride, Math.min(1L<<32, to * stride), stride)));
+        }
+        final MyStats stats = new MyStats();
+        for (Future<MyStats> future : futures) {
+            try {
+                stats.merge(future.get());
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            } catch (ExecutionException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        final double s = (System.nanoTime() - startNS) / 1e9;
+        final float argAtMax = Float.intBitsToFloat(stats.argBitsAtMax);
+        final String sig = (impl.equals("FastMathF") ? "(float)" : "(double)");
+        final long finiteErrCount = stats.count - stats.infErrCount;
+        System.out.println(impl+"."+fnName+sig+": "+stats.count+" args"
+                +", max ulp err = "+stats.maxUlpErr
+                +" at "+argAtMax+" (0x"+Integer.toHexString(stats.argBitsAtMax)+")"
+                +", mean ulp err = "+(stats.sumUlpErr / finiteErrCount)
+                +" (over "+finiteErrCount+" finite errors)"
+                +", inf ulp err count = "+stats.infErrCount
+                +", took "+s+" s");
+        for (int i=0;i<stats.countByBucket.length;i++) {
+            final long count = stats.countByBucket[i];
+            if (count == 0) {
+                continue;
+            }
+            final String bucket;
+            if (i == 0) {
+                bucket = "0";
+            } else if (i < BUCKETS_UPPER_BOUNDS.length) {
+                bucket = "]"+BUCKETS_UPPER_BOUNDS[i-1]+","+BUCKETS_UPPER_BOUNDS[i]+"]";
+            } else {
+                bucket = "> "+BUCKETS_UPPER_BOUNDS[i-1]+" (or wrong NaN/Infinity)";
+            }
+            System.out.println("   ulp err in "+bucket+": "+count+" ("+(100.0 * count / stats.count)+" %)");
+        }
+    }
+
+    /**
+     * @param ulp Ulp of ref.
+     * @return Error of res in ulps, or +Infinity if ref or res is NaN
+     *         or infinite and they are not the same.
+     */
+    private static double ulpErr(double ref, double res, double ulp) {
+        if (NumbersUtils.isNaNOrInfinite(ref) || NumbersUtils.isNaNOrInfinite(res)) {
+            return (NumbersUtils.equal(ref, res) ? 0.0 : Double.POSITIVE_INFINITY);
+        }
+        return Math.abs(res - ref) / ulp;
+    }
+
+    private static double[] newBucketsUpperBounds(int maxPower) {
+        final double[] bounds = new double[maxPower+3];
+        bounds[0] = 0.0;
+        bounds[1] = 0.5;
+        for (int i=2;i<bounds.length;i++) {
+            bounds[i] = (double)(1L<<(i-2));
+        }
+        return bounds;
+    }
+
+    /**
+     * @param fn Index in DOUBLE_FUNCTIONS.
+     */
+    private static double applyStrictMath(int fn, double x) {
+        switch (fn) {
+        case 0: return StrictMath.sin(x);
+        case 1: return StrictMath.cos(x);
+        case 2: return StrictMath.tan(x);
+        case 3: return StrictMath.asin(x);
+        case 4: return StrictMath.acos(x);
+        case 5: return StrictMath.atan(x);
+        case 6: return StrictMath.sinh(x);
+        case 7: return StrictMath.cosh(x);
+        case 8: return StrictMath.tanh(x);
+        case 9: return StrictMath.exp(x);
+        case 10: return StrictMath.expm1(x);
+        case 11: return StrictMath.log(x);
+        case 12: return StrictMath.log10(x);
+        case 13: return StrictMath.log1p(x);
+        case 14: return StrictMath.sqrt(x);
+        case 15: return StrictMath.cbrt(x);
+        default: throw new IllegalArgumentException(""+fn);
+        }
+    }
+
+    /**
+     * @param fn Index in FLOAT_FUNCTIONS.
+     * @return StrictMath result, rounded to float.
+     */
+    private static float applyStrictMathF(int fn, float x) {
+        switch (fn) {
+        case 0: return (float)StrictMath.sin(x);
+        case 1: return (float)StrictMath.cos(x);
+        case 2: return (float)StrictMath.tan(x);
+        case 3: return (float)StrictMath.atan(x);
+        case 4: return (float)StrictMath.exp(x);
+        case 5: return (float)StrictMath.log(x);
+        default: throw new IllegalArgumentException(""+fn);
+        }
+    }
+
+    /**
+     * @param fn Index in DOUBLE_FUNCTIONS.
+     */
+    private static double applyFastMath(int fn, double x) {
+        switch (fn) {
+        case 0: return FastMath.sin(x);
+        case 1: return FastMath.cos(x);
+        case 2: return FastMath.tan(x);
+        case 3: return FastMath.asin(x);
+        case 4: return FastMath.acos(x);
+        case 5: return FastMath.atan(x);
+        case 6: return FastMath.sinh(x);
+        case 7: return FastMath.cosh(x);
+        case 8: return FastMath.tanh(x);
+        case 9: return FastMath.exp(x);
+        case 10: return FastMath.expm1(x);
+        case 11: return FastMath.log(x);
+        case 12: return FastMath.log10(x);
+        case 13: return FastMath.log1p(x);
+        case 14: return FastMath.sqrt(x);
+        case 15: return FastMath.cbrt(x);
+        default: throw new IllegalArgumentException(""+fn);
+        }
+    }
+
+    /**
+     * @param fn Index in DOUBLE_FUNCTIONS.
+     */
+    private static double applyStrictFastMath(int fn, double x) {
+        switch (fn) {
+        case 0: return StrictFastMath.sin(x);
+        case 1: return StrictFastMath.cos(x);
+        case 2: return StrictFastMath.tan(x);
+        case 3: return StrictFastMath.asin(x);
+        case 4: return StrictFastMath.acos(x);
+        case 5: return StrictFastMath.atan(x);
+        case 6: return StrictFastMath.sinh(x);
+        case 7: return StrictFastMath.cosh(x);
+        case 8: return StrictFastMath.tanh(x);
+        case 9: return StrictFastMath.exp(x);
+        case 10: return StrictFastMath.expm1(x);
+        case 11: return StrictFastMath.log(x);
+        case 12: return StrictFastMath.log10(x);
+        case 13: return StrictFastMath.log1p(x);
+        case 14: return StrictFastMath.sqrt(x);
+        case 15: return StrictFastMath.cbrt(x);
+        default: throw new IllegalArgumentException(""+fn);
+        }
+    }
+
+    /**
+     * @param fn Index in FLOAT_FUNCTIONS.
+     */
+    private static float applyFastMathF(int fn, float x) {
+        switch (fn) {
+        case 0: return FastMathF.sin(x);
+        case 1: return FastMathF.cos(x);
+        case 2: return FastMathF.tan(x);
+        case 3: return FastMathF.atan(x);
+        case 4: return FastMathF.exp(x);
+        case 5: return FastMathF.log(x);
+        default: throw new IllegalArgumentException(""+fn);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2012-2015 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+public class IntDivisorTest extends TestCase {
+
+    //--------------------------------------------------------------------------
+    // CONFIGURATION
+    //--------------------------------------------------------------------------
+
+    private static final int NBR_OF_RANDOM_DIVISORS = 1000;
+
+    private static final int NBR_OF_VALUES_PER_DIVISOR = 1000;
+
+    //--------------------------------------------------------------------------
+    // MEMBERS
+    //--------------------------------------------------------------------------
+
+    private final Random random = new Random(123456789L);
+
+    private final NumbersTestUtils utils = new NumbersTestUtils(this.random);
+
+    //--------------------------------------------------------------------------
+    // PUBLIC METHODS
+    //--------------------------------------------------------------------------
+
+    public void test_IntDivisor_int() {
+        try {
+            new IntDivisor(0);
+            assertTrue(false);
+        } catch (ArithmeticException e) {
+            // ok
+        }
+        for (int divisor : newDivisors()) {
+            assertEquals(divisor, new IntDivisor(divisor).getDivisor());
+        }
+    }
+
+    public void test_divide_remainder_floorDiv_floorMod_int() {
+        for (int divisor : newDivisors()) {
+            final IntDivisor id = new IntDivisor(divisor);
+            for (int x : newDividends()) {
+                assertEquals(x / divisor, id.divide(x));
+                assertEquals(x % divisor, id.remainder(x));
+                assertEquals(CmnFastMath.floorDiv(x, divisor), id.floorDiv(x));
+                assertEquals(CmnFastMath.floorMod(x, divisor), id.floorMod(x));
+            }
+        }
+    }
+
+    public void test_bulk() {
+        final int len = 100;
+        for (int divisor : newDivisors()) {
+            final IntDivisor id = new IntDivisor(divisor);
+            final int[] src = new int[len+2];
+            for (int i=0;i<src.length;i++) {
+                src[i] = this.utils.randomIntWhatever();
+            }
+            final int[] dst = new int[len+3];
+            
+            id.divide(src, 2, dst, 1, len);
+            for (int i=0;i<len;i++) {
+                assertEquals(src[2+i] / divisor, dst[1+i]);
+            }
+            id.remainder(src, 2, dst, 1, len);
+            for (int i=0;i<len;i++) {
+                assertEquals(src[2+i] % divisor, dst[1+i]);
+            }
+            id.floorDiv(src, 2, dst, 1, len);
+            for (int i=0;i<len;i++) {
+                assertEquals(CmnFastMath.floorDiv(src[2+i], divisor), dst[1+i]);
+            }
+            id.floorMod(src, 2, dst, 1, len);
+            for (int i=0;i<len;i++) {
+                assertEquals(CmnFastMath.floorMod(src[2+i], divisor), dst[1+i]);
+            }
+            
+            // In place.
+            final int[] expected = new int[len];
+            for (int i=0;i<len;i++) {
+                expected[i] = src[i] / divisor;
+            }
+            id.divide(src, 0, src, 0, len);
+            for (int i=0;i<len;i++) {
+                assertEquals(expected[i], src[i]);
+            }
+        }
+        
+        final IntDivisor id = new IntDivisor(3);
+        final int[] dst = new int[2];
+        try {
+            id.divide(new int[3], 0, dst, 0, 3);
+            assertTrue(false);
+        } catch (IndexOutOfBoundsException e) {
+            // ok
+        }
+        try {
+            id.floorMod(new int[3], 2, dst, 0, 2);
+            assertTrue(false);
+        } catch (IndexOutOfBoundsException e) {
+            // ok
+        }
+        try {
+            id.remainder(new int[3], 0, dst, 0, -1);
+            assertTrue(false);
+        } catch (IndexOutOfBoundsException e) {
+            // ok
+        }
+    }
+
+    //--------------------------------------------------------------------------
+    // PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    private List<Integer> newDivisors() {
+        final List<Integer> divisors = new ArrayList<Integer>();
+        for (int i=1;i<=100;i++) {
+            divisors.add(i);
+            divisors.add(-i);
+        }
+        for (int p=7;p<=30;p++) {
+            for (int d=(1<<p)-1;d<=(1<<p)+1;d++) {
+                divisors.add(d);
+                divisors.add(-d);
+            }
+        }
+        divisors.add(641);
+        divisors.add(6700417);
+        divisors.add(1000 * 1000 * 1000);
+        divisors.add(Integer.MAX_VALUE);
+        divisors.add(-Integer.MAX_VALUE);
+        divisors.add(Integer.MIN_VALUE);
+        for (int i=0;i<NBR_OF_RANDOM_DIVISORS;i++) {
+            final int divisor = this.utils.randomIntWhatever();
+            if (divisor != 0) {
+                divisors.add(divisor);
+            }
+        }
+        return divisors;
+    }
+
+    private List<Integer> newDividends() {
+        final List<Integer> dividends = new ArrayList<Integer>();
+        for (int i=-100;i<=100;i++) {
+            dividends.add(i);
+            dividends.add(Integer.MIN_VALUE + 100 + i);
+            dividends.add(Integer.MAX_VALUE - 100 + i);
+        }
+        for (int i=0;i<NBR_OF_VALUES_PER_DIVISOR;i++) {
+            dividends.add(this.utils.randomIntWhatever());
+        }
+        return dividends;
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2012-2015 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+public class LongDivisorTest extends TestCase {
+
+    //--------------------------------------------------------------------------
+    // CONFIGURATION
+    //--------------------------------------------------------------------------
+
+    private static final int NBR_OF_RANDOM_DIVISORS = 1000;
+
+    private static final int NBR_OF_VALUES_PER_DIVISOR = 1000;
+
+    //--------------------------------------------------------------------------
+    // MEMBERS
+    //--------------------------------------------------------------------------
+
+    private final Random random = new Random(123456789L);
+
+    private final NumbersTestUtils utils = new NumbersTestUtils(this.random);
+
+    //--------------------------------------------------------------------------
+    // PUBLIC METHODS
+    //--------------------------------------------------------------------------
+
+    public void test_LongDivisor_long() {
+        try {
+            new LongDivisor(0L);
+            assertTrue(false);
+        } catch (ArithmeticException e) {
+            // ok
+        }
+        for (long divisor : newDivisors()) {
+            assertEquals(divisor, new LongDivisor(divisor).getDivisor());
+        }
+    }
+
+    public void test_divide_remainder_floorDiv_floorMod_long() {
+        for (long divisor : newDivisors()) {
+            final LongDivisor id = new LongDivisor(divisor);
+            for (long x : newDividends()) {
+                assertEquals(x / divisor, id.divide(x));
+                assertEquals(x % divisor, id.remainder(x));
+                assertEquals(CmnFastMath.floorDiv(x, divisor), id.floorDiv(x));
+                assertEquals(CmnFastMath.floorMod(x, divisor), id.floorMod(x));
+            }
+        }
+    }
+
+    public void test_bulk() {
+        final int len = 100;
+        for (long divisor : newDivisors()) {
+            final LongDivisor id = new LongDivisor(divisor);
+            final long[] src = new long[len+2];
+            for (int i=0;i<src.length;i++) {
+                src[i] = this.utils.randomLongWhatever();
+            }
+            final long[] dst = new long[len+3];
+            
+            id.divide(src, 2, dst, 1, len);
+            for (int i=0;i<len;i++) {
+                assertEquals(src[2+i] / divisor, dst[1+i]);
+            }
+            id.remainder(src, 2, dst, 1, len);
+            for (int i=0;i<len;i++) {
+                assertEquals(src[2+i] % divisor, dst[1+i]);
+            }
+            id.floorDiv(src, 2, dst, 1, len);
+            for (int i=0;i<len;i++) {
+                assertEquals(CmnFastMath.floorDiv(src[2+i], divisor), dst[1+i]);
+            }
+            id.floorMod(src, 2, dst, 1, len);
+            for (int i=0;i<len;i++) {
+                assertEquals(CmnFastMath.floorMod(src[2+i], divisor), dst[1+i]);
+            }
+            
+            // In place.
+            final long[] expected = new long[len];
+            for (int i=0;i<len;i++) {
+                expected[i] = src[i] / divisor;
+            }
+            id.divide(src, 0, src, 0, len);
+            for (int i=0;i<len;i++) {
+                assertEquals(expected[i], src[i]);
+            }
+        }
+        
+        final LongDivisor id = new LongDivisor(3L);
+        final long[] dst = new long[2];
+        try {
+            id.divide(new long[3], 0, dst, 0, 3);
+            assertTrue(false);
+        } catch (IndexOutOfBoundsException e) {
+            // ok
+        }
+        try {
+            id.floorMod(new long[3], 2, dst, 0, 2);
+            assertTrue(false);
+        } catch (IndexOutOfBoundsException e) {
+            // ok
+        }
+        try {
+            id.remainder(new long[3], 0, dst, 0, -1);
+            assertTrue(false);
+        } catch (IndexOutOfBoundsException e) {
+            // ok
+        }
+    }
+
+    //--------------------------------------------------------------------------
+    // PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    private List<Long> newDivisors() {
+        final List<Long> divisors = new ArrayList<Long>();
+        for (long i=1;i<=100;i++) {
+            divisors.add(i);
+            divisors.add(-i);
+        }
+        for (int p=7;p<=62;p++) {
+            for (long d=(1L<<p)-1;d<=(1L<<p)+1;d++) {
+                divisors.add(d);
+                divisors.add(-d);
+            }
+        }
+        divisors.add(274177L);
+        divisors.add(67280421310721L);
+        divisors.add(1000L * 1000 * 1000 * 1000 * 1000 * 1000);
+        divisors.add((long)Integer.MAX_VALUE);
+        divisors.add((long)Integer.MIN_VALUE);
+        divisors.add(Long.MAX_VALUE);
+        divisors.add(-Long.MAX_VALUE);
+        divisors.add(Long.MIN_VALUE);
+        for (int i=0;i<NBR_OF_RANDOM_DIVISORS;i++) {
+            final long divisor = this.utils.randomLongWhatever();
+            if (divisor != 0) {
+                divisors.add(divisor);
+            }
+        }
+        return divisors;
+    }
+
+    private List<Long> newDividends() {
+        final List<Long> dividends = new ArrayList<Long>();
+        for (long i=-100;i<=100;i++) {
+            dividends.add(i);
+            dividends.add(Long.MIN_VALUE + 100 + i);
+            dividends.add(Long.MAX_VALUE - 100 + i);
+        }
+        for (int i=0;i<NBR_OF_VALUES_PER_DIVISOR;i++) {
+            dividends.add(this.utils.randomLongWhatever());
+        }
+        return dividends;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2012-2017 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+import java.lang.reflect.Method;
+
+public class MathProvidersTest extends AbstractFastMathTezt {
+
+    //--------------------------------------------------------------------------
+    // PUBLIC METHODS
+    //--------------------------------------------------------------------------
+
+    public void test_forName_String() {
+        assertSame(MathProviders.FAST_MATH, MathProviders.forName("FastMath"));
+        assertSame(MathProviders.STRICT_FAST_MATH, MathProviders.forName("StrictFastMath"));
+        assertSame(MathProviders.MATH, MathProviders.forName("Math"));
+        assertSame(MathProviders.STRICT_MATH, MathProviders.forName("StrictMath"));
+
+        try {
+            MathProviders.forName(null);
+            fail();
+        } catch (NullPointerException e) {
+            // ok
+        }
+        try {
+            MathProviders.forName("FastMathF");
+            fail();
+        } catch (IllegalArgumentException e) {
+            // ok
+        }
+    }
+
+    public void test_toString() {
+        assertEquals("FastMath", MathProviders.FAST_MATH.toString());
+        assertEquals("StrictFastMath", MathProviders.STRICT_FAST_MATH.toString());
+        assertEquals("Math", MathProviders.MATH.toString());
+        assertEquals("StrictMath", MathProviders.STRICT_MATH.toString());
+    }
+
+    public void test_delegation() throws Exception {
+        test_delegation(MathProviders.FAST_MATH, FastMath.class);
+        test_delegation(MathProviders.STRICT_FAST_MATH, StrictFastMath.class);
+        test_delegation(MathProviders.MATH, Math.class);
+        test_delegation(MathProviders.STRICT_MATH, StrictMath.class);
+    }
+
+    //--------------------------------------------------------------------------
+    // PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    /**
+     * Checks that each method of the specified provider gives the same result
+     * than the static method of same signature in the specified class.
+     */
+    private void test_delegation(MathProvider provider, Class<?> clazz) throws Exception {
+        final Object[] args1 = new Object[1];
+        final Object[] args2 = new Object[2];
+        for (Method method : MathProvider.class.getMethods()) {
+            final Method staticMethod = clazz.getMethod(method.getName(), method.getParameterTypes());
+            final Object[] args = (method.getParameterTypes().length == 1) ? args1 : args2;
+            for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+                for (int j=0;j<args.length;j++) {
+                    args[j] = randomDoubleWhatever();
+                }
+                final Object expected = staticMethod.invoke(null, args);
+                final Object actual = method.invoke(provider, args);
+                // Double.equals handles NaN and signed zeros.
+                assertEquals(expected, actual);
+            }
+        }
+    }
+}
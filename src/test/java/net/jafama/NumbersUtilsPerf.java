@@ -757,6 +757,16 @@ public class NumbersUtilsPerf {
                 long b = System.nanoTime();
                 System.out.println("Loop(/100) on NumbersUtils.toStringCSN(double), values of all magnitudes, took "+TestUtils.nsToSRounded(b-a)+" s");
             }
+
+            final char[] chars = new char[24];
+            for (int k=0;k<NBR_OF_RUNS;k++) {
+                long a = System.nanoTime();
+                for (int i=0;i<NBR_OF_CALLS/100;i++) {
+                    dummy += NumbersUtils.toCharsCSN(values[i&(NBR_OF_VALUES-1)], chars, 0);
+                }
+                long b = System.nanoTime();
+                System.out.println("Loop(/100) on  NumbersUtils.toCharsCSN(double,char[],int), values of all magnitudes, took "+TestUtils.nsToSRounded(b-a)+" s");
+            }
         }
         
         /*
@@ -15,7 +15,15 @@
  */
 package net.jafama;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
@@ -112,6 +120,27 @@ public class NumbersUtilsTest extends TestCase {
         ODD_LONG_VALUES = Collections.unmodifiableList(values);
     }
 
+    private static final String[] PARSE_INTEGER_SPECIAL_STRINGS = new String[]{
+        "", "-", "+", "+-1", "--1", " 1", "1 ", "1_0", "0", "-0", "+0", "0000000000000000000000000000001",
+        "2147483647", "2147483648", "-2147483648", "-2147483649", "+2147483647",
+        "9223372036854775807", "9223372036854775808", "-9223372036854775808", "-9223372036854775809",
+        "zz", "ZZ", "1a", "1A", "7fffffff", "80000000", "-80000000",
+        // Non-ASCII digits, accepted by Character.digit(char,int).
+        "1\u0661\u0662", "\uFF11\uFF12", "\u00B2"};
+
+    private static final String[] PARSE_DOUBLE_SPECIAL_STRINGS = new String[]{
+        "", "-", "+", ".", "e5", "1e", "1e+", "1..5", "1e5.5", "--1", "+-1", "1_0", "1.5 ", " 1.5", "\t1.5\n",
+        "1.e5", ".5", "5.", "-.5e-3", "NaN", "-Infinity", "+Infinity", "0x1.8p3", "-0X1P-1074", "1.5d", "1.5F",
+        "0", "-0", "-0.0e-999999999999", "0e99999", "1e99999", "1e-99999",
+        "1e-400", "1e400", "-1e400", "1e22", "1e23", "8.41e21", "1e37", "123456e30", "3.0540412E5",
+        "4.9e-324", "2.4703282292062327e-324", "2.4703282292062328e-324",
+        "2.2250738585072011e-308", "2.2250738585072012e-308",
+        "1.7976931348623157e308", "1.7976931348623158e308", "1.7976931348623159e308",
+        "9007199254740993", "9007199254740992.5", "9007199254740993.0000000000000000000001",
+        "123456789012345678901234567890", "0.000000000000000000000000000000000001234567890123456789012",
+        "0.0000000000000000000000000000000000000000000000000000000000000000000000001e73",
+        "1\u0661"};
+
     private final Random random = new Random(123456789L);
     
     private final NumbersTestUtils utils = new NumbersTestUtils(this.random);
@@ -3344,6 +3373,227 @@ public class NumbersUtilsTest extends TestCase {
         assertEquals("0FF",NumbersUtils.toString(255L, 16, 3));
     }
 
+    public void test_toChars_int_2int_charArray_int() {
+        final char[] dst = new char[2+33+2];
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final int value = randomIntForToString(i);
+            final int radix = Character.MIN_RADIX + random.nextInt(Character.MAX_RADIX-Character.MIN_RADIX+1);
+            final int paddingUpTo = random.nextInt(33);
+            final String expected = NumbersUtils.toString(value, radix, paddingUpTo);
+            Arrays.fill(dst, '#');
+            assertEquals(expected.length(), NumbersUtils.toChars(value, radix, paddingUpTo, dst, 2));
+            assertEquals("##"+expected, new String(dst, 0, 2+expected.length()));
+            assertEquals('#', dst[2+expected.length()]);
+        }
+        
+        Arrays.fill(dst, '#');
+        try {
+            NumbersUtils.toChars(-255, 16, 0, dst, dst.length-2);
+            assertTrue(false);
+        } catch (IndexOutOfBoundsException e) {
+            // ok
+        }
+        try {
+            NumbersUtils.toChars(-255, 16, 0, dst, -1);
+            assertTrue(false);
+        } catch (IndexOutOfBoundsException e) {
+            // ok
+        }
+        // Nothing written.
+        assertEquals(new String(new char[dst.length]).replace('\0', '#'), new String(dst));
+        assertEquals(3, NumbersUtils.toChars(-255, 16, 0, dst, dst.length-3));
+    }
+
+    public void test_toChars_long_2int_charArray_int() {
+        final char[] dst = new char[2+65+2];
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final long value = randomLongForToString(i);
+            final int radix = Character.MIN_RADIX + random.nextInt(Character.MAX_RADIX-Character.MIN_RADIX+1);
+            final int paddingUpTo = random.nextInt(65);
+            final String expected = NumbersUtils.toString(value, radix, paddingUpTo);
+            Arrays.fill(dst, '#');
+            assertEquals(expected.length(), NumbersUtils.toChars(value, radix, paddingUpTo, dst, 2));
+            assertEquals("##"+expected, new String(dst, 0, 2+expected.length()));
+            assertEquals('#', dst[2+expected.length()]);
+        }
+        
+        try {
+            NumbersUtils.toChars(-255L, 16, 0, dst, dst.length-2);
+            assertTrue(false);
+        } catch (IndexOutOfBoundsException e) {
+            // ok
+        }
+        try {
+            NumbersUtils.toChars(0L, 1, 0, dst, 0);
+            assertTrue(false);
+        } catch (IllegalArgumentException e) {
+            // ok
+        }
+    }
+
+    public void test_append_int_2int_StringBuilder() {
+        final StringBuilder sb = new StringBuilder();
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final int value = randomIntForToString(i);
+            final int radix = Character.MIN_RADIX + random.nextInt(Character.MAX_RADIX-Character.MIN_RADIX+1);
+            final int paddingUpTo = random.nextInt(33);
+            final String expected = NumbersUtils.toString(value, radix, paddingUpTo);
+            sb.setLength(0);
+            sb.append("##");
+            assertEquals(expected.length(), NumbersUtils.append(value, radix, paddingUpTo, sb));
+            assertEquals("##"+expected, sb.toString());
+        }
+    }
+
+    public void test_append_long_2int_StringBuilder() {
+        final StringBuilder sb = new StringBuilder();
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final long value = randomLongForToString(i);
+            final int radix = Character.MIN_RADIX + random.nextInt(Character.MAX_RADIX-Character.MIN_RADIX+1);
+            final int paddingUpTo = random.nextInt(65);
+            final String expected = NumbersUtils.toString(value, radix, paddingUpTo);
+            sb.setLength(0);
+            sb.append("##");
+            assertEquals(expected.length(), NumbersUtils.append(value, radix, paddingUpTo, sb));
+            assertEquals("##"+expected, sb.toString());
+        }
+    }
+
+    public void test_append_int_2int_Appendable() throws IOException {
+        final StringWriter sw = new StringWriter();
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final int value = randomIntForToString(i);
+            final int radix = Character.MIN_RADIX + random.nextInt(Character.MAX_RADIX-Character.MIN_RADIX+1);
+            final int paddingUpTo = random.nextInt(33);
+            final String expected = NumbersUtils.toString(value, radix, paddingUpTo);
+            sw.getBuffer().setLength(0);
+            assertEquals(expected.length(), NumbersUtils.append(value, radix, paddingUpTo, (Appendable)sw));
+            assertEquals(expected, sw.toString());
+        }
+    }
+
+    public void test_append_long_2int_Appendable() throws IOException {
+        final StringWriter sw = new StringWriter();
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final long value = randomLongForToString(i);
+            final int radix = Character.MIN_RADIX + random.nextInt(Character.MAX_RADIX-Character.MIN_RADIX+1);
+            final int paddingUpTo = random.nextInt(65);
+            final String expected = NumbersUtils.toString(value, radix, paddingUpTo);
+            sw.getBuffer().setLength(0);
+            assertEquals(expected.length(), NumbersUtils.append(value, radix, paddingUpTo, (Appendable)sw));
+            assertEquals(expected, sw.toString());
+        }
+    }
+
+    public void test_putAscii_int_2int_ByteBuffer() {
+        final ByteBuffer bb = ByteBuffer.allocate(2+33);
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final int value = randomIntForToString(i);
+            final int radix = Character.MIN_RADIX + random.nextInt(Character.MAX_RADIX-Character.MIN_RADIX+1);
+            final int paddingUpTo = random.nextInt(33);
+            final String expected = NumbersUtils.toString(value, radix, paddingUpTo);
+            bb.clear();
+            bb.position(2);
+            assertEquals(expected.length(), NumbersUtils.putAscii(value, radix, paddingUpTo, bb));
+            assertEquals(2+expected.length(), bb.position());
+            assertEquals(expected, asciiToString(bb.array(), 2, expected.length()));
+        }
+        
+        bb.clear();
+        bb.limit(2);
+        try {
+            NumbersUtils.putAscii(-255, 16, 0, bb);
+            assertTrue(false);
+        } catch (BufferOverflowException e) {
+            // ok
+        }
+        assertEquals(0, bb.position());
+    }
+
+    public void test_putAscii_long_2int_ByteBuffer() {
+        final ByteBuffer bb = ByteBuffer.allocateDirect(2+65);
+        final byte[] bytes = new byte[65];
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final long value = randomLongForToString(i);
+            final int radix = Character.MIN_RADIX + random.nextInt(Character.MAX_RADIX-Character.MIN_RADIX+1);
+            final int paddingUpTo = random.nextInt(65);
+            final String expected = NumbersUtils.toString(value, radix, paddingUpTo);
+            bb.clear();
+            bb.position(2);
+            assertEquals(expected.length(), NumbersUtils.putAscii(value, radix, paddingUpTo, bb));
+            assertEquals(2+expected.length(), bb.position());
+            bb.position(2);
+            bb.get(bytes, 0, expected.length());
+            assertEquals(expected, asciiToString(bytes, 0, expected.length()));
+        }
+    }
+
+    /**
+     * Extreme values, for which digits computations are most likely
+     * to overflow, in all radixes, for all allocation-free methods.
+     */
+    public void test_toChars_append_putAscii_minMaxValues() throws IOException {
+        final long[] values = new long[]{
+                Integer.MIN_VALUE, Integer.MAX_VALUE,
+                Long.MIN_VALUE, Long.MAX_VALUE};
+        final char[] chars = new char[65];
+        final StringBuilder sb = new StringBuilder();
+        final StringWriter sw = new StringWriter();
+        final ByteBuffer bb = ByteBuffer.allocate(65);
+        for (int radix=Character.MIN_RADIX;radix<=Character.MAX_RADIX;radix++) {
+            for (int k=0;k<values.length;k++) {
+                final long value = values[k];
+                final boolean isInt = (k < 2);
+                final String expected = Long.toString(value, radix).toUpperCase();
+                final int n = expected.length();
+                
+                assertEquals(n, (isInt ? NumbersUtils.toChars((int)value, radix, 0, chars, 0) : NumbersUtils.toChars(value, radix, 0, chars, 0)));
+                assertEquals(expected, new String(chars, 0, n));
+                
+                sb.setLength(0);
+                assertEquals(n, (isInt ? NumbersUtils.append((int)value, radix, 0, sb) : NumbersUtils.append(value, radix, 0, sb)));
+                assertEquals(expected, sb.toString());
+                
+                sw.getBuffer().setLength(0);
+                assertEquals(n, (isInt ? NumbersUtils.append((int)value, radix, 0, (Appendable)sw) : NumbersUtils.append(value, radix, 0, (Appendable)sw)));
+                assertEquals(expected, sw.toString());
+                
+                bb.clear();
+                assertEquals(n, (isInt ? NumbersUtils.putAscii((int)value, radix, 0, bb) : NumbersUtils.putAscii(value, radix, 0, bb)));
+                assertEquals(n, bb.position());
+                assertEquals(expected, asciiToString(bb.array(), 0, n));
+            }
+        }
+        
+        // Nothing written on failure.
+        sb.setLength(0);
+        sw.getBuffer().setLength(0);
+        bb.clear();
+        for (int radix : new int[]{Character.MIN_RADIX-1, Character.MAX_RADIX+1}) {
+            try {
+                NumbersUtils.append(Long.MIN_VALUE, radix, 0, sb);
+                assertTrue(false);
+            } catch (IllegalArgumentException e) {
+                // ok
+            }
+            try {
+                NumbersUtils.append(Long.MIN_VALUE, radix, 0, (Appendable)sw);
+                assertTrue(false);
+            } catch (IllegalArgumentException e) {
+                // ok
+            }
+            try {
+                NumbersUtils.putAscii(Long.MIN_VALUE, radix, 0, bb);
+                assertTrue(false);
+            } catch (IllegalArgumentException e) {
+                // ok
+            }
+        }
+        assertEquals(0, sb.length());
+        assertEquals(0, sw.getBuffer().length());
+        assertEquals(0, bb.position());
+    }
+
     /*
      * 
      */
@@ -3572,6 +3822,170 @@ public class NumbersUtilsTest extends TestCase {
         assertEquals("1001000000000000000000000000000000000000000000000000000000000",NumbersUtils.toStringBits(bits, first = 1, lastExcl = maxBitPosExcl-2, bigEndian = false, padding = false));
     }
     
+    public void test_toCharsBits_allTypes() {
+        final char[] dst = new char[1+64+1];
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final long bits = random.nextLong();
+            final int bitSize = (8<<random.nextInt(4));
+            final int first = random.nextInt(bitSize+1);
+            final int lastExcl = first + random.nextInt(bitSize-first+1);
+            final boolean bigEndian = random.nextBoolean();
+            final boolean padding = random.nextBoolean();
+            
+            String expected;
+            int n;
+            
+            Arrays.fill(dst, '#');
+            if (bitSize == 8) {
+                expected = NumbersUtils.toStringBits((byte)bits);
+                n = NumbersUtils.toCharsBits((byte)bits, dst, 1);
+            } else if (bitSize == 16) {
+                expected = NumbersUtils.toStringBits((short)bits);
+                n = NumbersUtils.toCharsBits((short)bits, dst, 1);
+            } else if (bitSize == 32) {
+                expected = NumbersUtils.toStringBits((int)bits);
+                n = NumbersUtils.toCharsBits((int)bits, dst, 1);
+            } else {
+                expected = NumbersUtils.toStringBits(bits);
+                n = NumbersUtils.toCharsBits(bits, dst, 1);
+            }
+            assertEquals(expected.length(), n);
+            assertEquals("#"+expected+"#", new String(dst, 0, 2+n));
+            
+            Arrays.fill(dst, '#');
+            if (bitSize == 8) {
+                expected = NumbersUtils.toStringBits((byte)bits, first, lastExcl, bigEndian, padding);
+                n = NumbersUtils.toCharsBits((byte)bits, first, lastExcl, bigEndian, padding, dst, 1);
+            } else if (bitSize == 16) {
+                expected = NumbersUtils.toStringBits((short)bits, first, lastExcl, bigEndian, padding);
+                n = NumbersUtils.toCharsBits((short)bits, first, lastExcl, bigEndian, padding, dst, 1);
+            } else if (bitSize == 32) {
+                expected = NumbersUtils.toStringBits((int)bits, first, lastExcl, bigEndian, padding);
+                n = NumbersUtils.toCharsBits((int)bits, first, lastExcl, bigEndian, padding, dst, 1);
+            } else {
+                expected = NumbersUtils.toStringBits(bits, first, lastExcl, bigEndian, padding);
+                n = NumbersUtils.toCharsBits(bits, first, lastExcl, bigEndian, padding, dst, 1);
+            }
+            assertEquals(expected.length(), n);
+            assertEquals("#"+expected+"#", new String(dst, 0, 2+n));
+        }
+        
+        try {
+            NumbersUtils.toCharsBits(0L, dst, 3);
+            assertTrue(false);
+        } catch (IndexOutOfBoundsException e) {
+            // ok
+        }
+        try {
+            NumbersUtils.toCharsBits((byte)0, 0, 9, true, false, dst, 0);
+            assertTrue(false);
+        } catch (IllegalArgumentException e) {
+            // ok
+        }
+    }
+
+    public void test_appendBits_allTypes() throws IOException {
+        final StringBuilder sb = new StringBuilder();
+        final StringWriter sw = new StringWriter();
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final long bits = random.nextLong();
+            final int bitSize = (8<<random.nextInt(4));
+            final int first = random.nextInt(bitSize+1);
+            final int lastExcl = first + random.nextInt(bitSize-first+1);
+            final boolean bigEndian = random.nextBoolean();
+            final boolean padding = random.nextBoolean();
+            
+            sb.setLength(0);
+            sw.getBuffer().setLength(0);
+            String expected;
+            int n1;
+            int n2;
+            if (bitSize == 8) {
+                expected = NumbersUtils.toStringBits((byte)bits)
+                        + NumbersUtils.toStringBits((byte)bits, first, lastExcl, bigEndian, padding);
+                n1 = NumbersUtils.appendBits((byte)bits, sb);
+                n1 += NumbersUtils.appendBits((byte)bits, first, lastExcl, bigEndian, padding, sb);
+                n2 = NumbersUtils.appendBits((byte)bits, (Appendable)sw);
+                n2 += NumbersUtils.appendBits((byte)bits, first, lastExcl, bigEndian, padding, (Appendable)sw);
+            } else if (bitSize == 16) {
+                expected = NumbersUtils.toStringBits((short)bits)
+                        + NumbersUtils.toStringBits((short)bits, first, lastExcl, bigEndian, padding);
+                n1 = NumbersUtils.appendBits((short)bits, sb);
+                n1 += NumbersUtils.appendBits((short)bits, first, lastExcl, bigEndian, padding, sb);
+                n2 = NumbersUtils.appendBits((short)bits, (Appendable)sw);
+                n2 += NumbersUtils.appendBits((short)bits, first, lastExcl, bigEndian, padding, (Appendable)sw);
+            } else if (bitSize == 32) {
+                expected = NumbersUtils.toStringBits((int)bits)
+                        + NumbersUtils.toStringBits((int)bits, first, lastExcl, bigEndian, padding);
+                n1 = NumbersUtils.appendBits((int)bits, sb);
+                n1 += NumbersUtils.appendBits((int)bits, first, lastExcl, bigEndian, padding, sb);
+                n2 = NumbersUtils.appendBits((int)bits, (Appendable)sw);
+                n2 += NumbersUtils.appendBits((int)bits, first, lastExcl, bigEndian, padding, (Appendable)sw);
+            } else {
+                expected = NumbersUtils.toStringBits(bits)
+                        + NumbersUtils.toStringBits(bits, first, lastExcl, bigEndian, padding);
+                n1 = NumbersUtils.appendBits(bits, sb);
+                n1 += NumbersUtils.appendBits(bits, first, lastExcl, bigEndian, padding, sb);
+                n2 = NumbersUtils.appendBits(bits, (Appendable)sw);
+                n2 += NumbersUtils.appendBits(bits, first, lastExcl, bigEndian, padding, (Appendable)sw);
+            }
+            assertEquals(expected.length(), n1);
+            assertEquals(expected, sb.toString());
+            assertEquals(expected.length(), n2);
+            assertEquals(expected, sw.toString());
+        }
+    }
+
+    public void test_putAsciiBits_allTypes() {
+        final ByteBuffer bb = ByteBuffer.allocate(2*64);
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final long bits = random.nextLong();
+            final int bitSize = (8<<random.nextInt(4));
+            final int first = random.nextInt(bitSize+1);
+            final int lastExcl = first + random.nextInt(bitSize-first+1);
+            final boolean bigEndian = random.nextBoolean();
+            final boolean padding = random.nextBoolean();
+            
+            bb.clear();
+            String expected;
+            int n;
+            if (bitSize == 8) {
+                expected = NumbersUtils.toStringBits((byte)bits)
+                        + NumbersUtils.toStringBits((byte)bits, first, lastExcl, bigEndian, padding);
+                n = NumbersUtils.putAsciiBits((byte)bits, bb);
+                n += NumbersUtils.putAsciiBits((byte)bits, first, lastExcl, bigEndian, padding, bb);
+            } else if (bitSize == 16) {
+                expected = NumbersUtils.toStringBits((short)bits)
+                        + NumbersUtils.toStringBits((short)bits, first, lastExcl, bigEndian, padding);
+                n = NumbersUtils.putAsciiBits((short)bits, bb);
+                n += NumbersUtils.putAsciiBits((short)bits, first, lastExcl, bigEndian, padding, bb);
+            } else if (bitSize == 32) {
+                expected = NumbersUtils.toStringBits((int)bits)
+                        + NumbersUtils.toStringBits((int)bits, first, lastExcl, bigEndian, padding);
+                n = NumbersUtils.putAsciiBits((int)bits, bb);
+                n += NumbersUtils.putAsciiBits((int)bits, first, lastExcl, bigEndian, padding, bb);
+            } else {
+                expected = NumbersUtils.toStringBits(bits)
+                        + NumbersUtils.toStringBits(bits, first, lastExcl, bigEndian, padding);
+                n = NumbersUtils.putAsciiBits(bits, bb);
+                n += NumbersUtils.putAsciiBits(bits, first, lastExcl, bigEndian, padding, bb);
+            }
+            assertEquals(expected.length(), n);
+            assertEquals(expected.length(), bb.position());
+            assertEquals(expected, asciiToString(bb.array(), 0, n));
+        }
+        
+        bb.clear();
+        bb.limit(63);
+        try {
+            NumbersUtils.putAsciiBits(0L, bb);
+            assertTrue(false);
+        } catch (BufferOverflowException e) {
+            // ok
+        }
+        assertEquals(0, bb.position());
+    }
+
     /*
      * 
      */
@@ -3667,10 +4081,456 @@ public class NumbersUtilsTest extends TestCase {
         }
     }
 
+    public void test_toStringCSN_double_shortest() {
+        assertEquals("1.0E2",NumbersUtils.toStringCSN(100.0));
+        assertEquals("1.23E2",NumbersUtils.toStringCSN(123.0));
+        assertEquals("2.0E-3",NumbersUtils.toStringCSN(0.002));
+        assertEquals("1.0E23",NumbersUtils.toStringCSN(1e23));
+        assertEquals("-1.7976931348623157E308",NumbersUtils.toStringCSN(-Double.MAX_VALUE));
+        assertEquals("4.9E-324",NumbersUtils.toStringCSN(Double.MIN_VALUE));
+        // At least two digits, closest one among these.
+        assertEquals("9.9E-324",NumbersUtils.toStringCSN(2*Double.MIN_VALUE));
+        assertEquals("NaN",NumbersUtils.toStringCSN(Double.NaN));
+        assertEquals("-Infinity",NumbersUtils.toStringCSN(Double.NEGATIVE_INFINITY));
+        
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final double value = this.utils.randomDoubleWhatever();
+            if (NumbersUtils.isNaNOrInfinite(value) || (value == 0.0)) {
+                continue;
+            }
+            final String resString = NumbersUtils.toStringCSN(value);
+            final String mantissa = resString.substring(0, resString.indexOf('E'));
+            final BigDecimal decimal = new BigDecimal(mantissa).abs().stripTrailingZeros();
+            final int nbrOfDigits = decimal.precision();
+            if (nbrOfDigits > 2) {
+                // No decimal with one less digit rounds to value.
+                final BigDecimal exact = new BigDecimal(resString).abs();
+                for (RoundingMode mode : new RoundingMode[]{RoundingMode.FLOOR,RoundingMode.CEILING}) {
+                    final double shorter = exact.round(new MathContext(nbrOfDigits-1, mode)).doubleValue();
+                    assertTrue(shorter != Math.abs(value));
+                }
+            }
+        }
+    }
+
+    public void test_toStringNoCSN_double_shortest() {
+        assertEquals("100.0",NumbersUtils.toStringNoCSN(100.0));
+        assertEquals("0.002",NumbersUtils.toStringNoCSN(0.002));
+        assertEquals("100000000000000000000000.0",NumbersUtils.toStringNoCSN(1e23));
+        assertEquals("-0.000012",NumbersUtils.toStringNoCSN(-1.2e-5));
+        assertEquals("NaN",NumbersUtils.toStringNoCSN(Double.NaN));
+        assertEquals("Infinity",NumbersUtils.toStringNoCSN(Double.POSITIVE_INFINITY));
+        
+        final String minValueString = NumbersUtils.toStringNoCSN(-Double.MIN_VALUE);
+        assertEquals(328, minValueString.length());
+        assertTrue(minValueString.startsWith("-0.000"));
+        assertTrue(minValueString.endsWith("00049"));
+        
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final double value = this.utils.randomDoubleWhatever();
+            // Same digits as in CSN.
+            final String csn = NumbersUtils.toStringCSN(value);
+            final String noCsn = NumbersUtils.toStringNoCSN(value);
+            if (NumbersUtils.isNaNOrInfinite(value)) {
+                assertEquals(csn, noCsn);
+            } else {
+                assertEquals(0, new BigDecimal(csn).compareTo(new BigDecimal(noCsn)));
+            }
+        }
+    }
+
+    public void test_toCharsCSN_double_charArray_int() {
+        final char[] dst = new char[1+24+1];
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final double value = this.utils.randomDoubleWhatever();
+            final String expected = NumbersUtils.toStringCSN(value);
+            Arrays.fill(dst, '#');
+            assertEquals(expected.length(), NumbersUtils.toCharsCSN(value, dst, 1));
+            assertEquals("#"+expected+"#", new String(dst, 0, 2+expected.length()));
+        }
+        
+        Arrays.fill(dst, '#');
+        try {
+            NumbersUtils.toCharsCSN(-0.0, dst, dst.length-5);
+            assertTrue(false);
+        } catch (IndexOutOfBoundsException e) {
+            // ok
+        }
+        assertEquals(new String(new char[dst.length]).replace('\0', '#'), new String(dst));
+        assertEquals(6, NumbersUtils.toCharsCSN(-0.0, dst, dst.length-6));
+    }
+
+    public void test_toCharsNoCSN_double_charArray_int() {
+        final char[] dst = new char[1+328+1];
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final double value = this.utils.randomDoubleWhatever();
+            final String expected = NumbersUtils.toStringNoCSN(value);
+            Arrays.fill(dst, '#');
+            assertEquals(expected.length(), NumbersUtils.toCharsNoCSN(value, dst, 1));
+            assertEquals("#"+expected+"#", new String(dst, 0, 2+expected.length()));
+        }
+        
+        try {
+            NumbersUtils.toCharsNoCSN(1.5, dst, -1);
+            assertTrue(false);
+        } catch (IndexOutOfBoundsException e) {
+            // ok
+        }
+    }
+
+    public void test_putAsciiCSN_double_ByteBuffer() {
+        final ByteBuffer bb = ByteBuffer.allocate(1+24);
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final double value = this.utils.randomDoubleWhatever();
+            final String expected = NumbersUtils.toStringCSN(value);
+            bb.clear();
+            bb.position(1);
+            assertEquals(expected.length(), NumbersUtils.putAsciiCSN(value, bb));
+            assertEquals(1+expected.length(), bb.position());
+            assertEquals(expected, asciiToString(bb.array(), 1, expected.length()));
+        }
+        
+        bb.clear();
+        bb.limit(2);
+        try {
+            NumbersUtils.putAsciiCSN(Double.NaN, bb);
+            assertTrue(false);
+        } catch (BufferOverflowException e) {
+            // ok
+        }
+        assertEquals(0, bb.position());
+    }
+
+    public void test_putAsciiNoCSN_double_ByteBuffer() {
+        final ByteBuffer bb = ByteBuffer.allocateDirect(328);
+        final byte[] bytes = new byte[328];
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final double value = this.utils.randomDoubleWhatever();
+            final String expected = NumbersUtils.toStringNoCSN(value);
+            bb.clear();
+            assertEquals(expected.length(), NumbersUtils.putAsciiNoCSN(value, bb));
+            assertEquals(expected.length(), bb.position());
+            bb.flip();
+            bb.get(bytes, 0, expected.length());
+            assertEquals(expected, asciiToString(bytes, 0, expected.length()));
+        }
+        
+        bb.clear();
+        bb.limit(5);
+        try {
+            NumbersUtils.putAsciiNoCSN(123.25, bb);
+            assertTrue(false);
+        } catch (BufferOverflowException e) {
+            // ok
+        }
+        assertEquals(0, bb.position());
+    }
+
+    /*
+     * 
+     */
+
+    public void test_parseInt_CharSequence_3int() {
+        for (String s : PARSE_INTEGER_SPECIAL_STRINGS) {
+            for (int radix=Character.MIN_RADIX;radix<=Character.MAX_RADIX;radix++) {
+                assertEquals(jdkParseInt(s, radix), ourParseInt(s, radix, false));
+            }
+        }
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final int value = randomIntForToString(i);
+            final int radix = Character.MIN_RADIX + random.nextInt(Character.MAX_RADIX-Character.MIN_RADIX+1);
+            final String s = Integer.toString(value, radix);
+            assertEquals(value, NumbersUtils.parseInt(s, 0, s.length(), radix));
+            assertEquals(value, NumbersUtils.parseInt("#"+s+"#", 1, 1+s.length(), radix));
+        }
+        
+        try {
+            NumbersUtils.parseInt("12", 1, 3, 10);
+            assertTrue(false);
+        } catch (IndexOutOfBoundsException e) {
+            // ok
+        }
+        try {
+            NumbersUtils.parseInt("12", 0, 2, 37);
+            assertTrue(false);
+        } catch (NumberFormatException e) {
+            // ok
+        }
+    }
+
+    public void test_parseInt_byteArray_3int() {
+        for (String s : PARSE_INTEGER_SPECIAL_STRINGS) {
+            if (!isLatin1(s)) {
+                continue;
+            }
+            for (int radix=Character.MIN_RADIX;radix<=Character.MAX_RADIX;radix++) {
+                assertEquals(jdkParseInt(s, radix), ourParseInt(s, radix, true));
+            }
+        }
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final int value = randomIntForToString(i);
+            final int radix = Character.MIN_RADIX + random.nextInt(Character.MAX_RADIX-Character.MIN_RADIX+1);
+            final byte[] buf = latin1Bytes("#"+Integer.toString(value, radix)+"#");
+            assertEquals(value, NumbersUtils.parseInt(buf, 1, buf.length-2, radix));
+        }
+        
+        try {
+            NumbersUtils.parseInt(new byte[2], 1, 2, 10);
+            assertTrue(false);
+        } catch (IndexOutOfBoundsException e) {
+            // ok
+        }
+    }
+
+    public void test_parseLong_CharSequence_3int() {
+        for (String s : PARSE_INTEGER_SPECIAL_STRINGS) {
+            for (int radix=Character.MIN_RADIX;radix<=Character.MAX_RADIX;radix++) {
+                assertEquals(jdkParseLong(s, radix), ourParseLong(s, radix, false));
+            }
+        }
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final long value = randomLongForToString(i);
+            final int radix = Character.MIN_RADIX + random.nextInt(Character.MAX_RADIX-Character.MIN_RADIX+1);
+            final String s = Long.toString(value, radix);
+            assertEquals(value, NumbersUtils.parseLong(s, 0, s.length(), radix));
+            assertEquals(value, NumbersUtils.parseLong(new StringBuilder("#").append(s), 1, 1+s.length(), radix));
+        }
+        
+        try {
+            NumbersUtils.parseLong("12", -1, 2, 10);
+            assertTrue(false);
+        } catch (IndexOutOfBoundsException e) {
+            // ok
+        }
+        try {
+            NumbersUtils.parseLong("12", 0, 2, 1);
+            assertTrue(false);
+        } catch (NumberFormatException e) {
+            // ok
+        }
+    }
+
+    public void test_parseLong_byteArray_3int() {
+        for (String s : PARSE_INTEGER_SPECIAL_STRINGS) {
+            if (!isLatin1(s)) {
+                continue;
+            }
+            for (int radix=Character.MIN_RADIX;radix<=Character.MAX_RADIX;radix++) {
+                assertEquals(jdkParseLong(s, radix), ourParseLong(s, radix, true));
+            }
+        }
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final long value = randomLongForToString(i);
+            final int radix = Character.MIN_RADIX + random.nextInt(Character.MAX_RADIX-Character.MIN_RADIX+1);
+            final byte[] buf = latin1Bytes("#"+Long.toString(value, radix)+"#");
+            assertEquals(value, NumbersUtils.parseLong(buf, 1, buf.length-2, radix));
+        }
+        
+        try {
+            NumbersUtils.parseLong(new byte[2], 0, -1, 10);
+            assertTrue(false);
+        } catch (IndexOutOfBoundsException e) {
+            // ok
+        }
+    }
+
+    public void test_parseDouble_CharSequence_2int() {
+        for (String s : PARSE_DOUBLE_SPECIAL_STRINGS) {
+            assertEquals(s, jdkParseDouble(s), ourParseDouble(s, false));
+        }
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final String s = randomStringForParseDouble();
+            assertEquals(s, jdkParseDouble(s), ourParseDouble(s, false));
+        }
+        
+        try {
+            NumbersUtils.parseDouble("1.5", 0, 4);
+            assertTrue(false);
+        } catch (IndexOutOfBoundsException e) {
+            // ok
+        }
+    }
+
+    public void test_parseDouble_byteArray_2int() {
+        for (String s : PARSE_DOUBLE_SPECIAL_STRINGS) {
+            if (!isLatin1(s)) {
+                continue;
+            }
+            assertEquals(s, jdkParseDouble(s), ourParseDouble(s, true));
+        }
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final String s = randomStringForParseDouble();
+            assertEquals(s, jdkParseDouble(s), ourParseDouble(s, true));
+        }
+        
+        try {
+            NumbersUtils.parseDouble(new byte[3], 2, 2);
+            assertTrue(false);
+        } catch (IndexOutOfBoundsException e) {
+            // ok
+        }
+    }
+
     //--------------------------------------------------------------------------
     // PRIVATE METHODS
     //--------------------------------------------------------------------------
 
+    /**
+     * @return Min or max value for the first calls, a random value otherwise.
+     */
+    private int randomIntForToString(int i) {
+        if (i < 2) {
+            return (i == 0) ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+        }
+        return random.nextInt() >> random.nextInt(32);
+    }
+
+    /**
+     * @return Min or max value for the first calls, a random value otherwise.
+     */
+    private long randomLongForToString(int i) {
+        if (i < 2) {
+            return (i == 0) ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+        return random.nextLong() >> random.nextInt(64);
+    }
+
+    private static String asciiToString(byte[] bytes, int offset, int length) {
+        final char[] chars = new char[length];
+        for (int i=0;i<length;i++) {
+            chars[i] = (char)bytes[offset+i];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * @return Representation of JDK's result, or "NFE" if it threw.
+     */
+    private static String jdkParseInt(String s, int radix) {
+        try {
+            return Integer.toString(Integer.parseInt(s, radix));
+        } catch (NumberFormatException e) {
+            return "NFE";
+        }
+    }
+
+    /**
+     * @return Representation of our result, or "NFE" if it threw.
+     */
+    private static String ourParseInt(String s, int radix, boolean bytes) {
+        try {
+            if (bytes) {
+                return Integer.toString(NumbersUtils.parseInt(latin1Bytes("##"+s+"#"), 2, s.length(), radix));
+            } else {
+                return Integer.toString(NumbersUtils.parseInt("##"+s+"#", 2, 2+s.length(), radix));
+            }
+        } catch (NumberFormatException e) {
+            return "NFE";
+        }
+    }
+
+    private static String jdkParseLong(String s, int radix) {
+        try {
+            return Long.toString(Long.parseLong(s, radix));
+        } catch (NumberFormatException e) {
+            return "NFE";
+        }
+    }
+
+    private static String ourParseLong(String s, int radix, boolean bytes) {
+        try {
+            if (bytes) {
+                return Long.toString(NumbersUtils.parseLong(latin1Bytes("##"+s+"#"), 2, s.length(), radix));
+            } else {
+                return Long.toString(NumbersUtils.parseLong("##"+s+"#", 2, 2+s.length(), radix));
+            }
+        } catch (NumberFormatException e) {
+            return "NFE";
+        }
+    }
+
+    /**
+     * @return Bits of JDK's result, in hex, or "NFE" if it threw.
+     */
+    private static String jdkParseDouble(String s) {
+        try {
+            return Long.toHexString(Double.doubleToRawLongBits(Double.parseDouble(s)));
+        } catch (NumberFormatException e) {
+            return "NFE";
+        }
+    }
+
+    private static String ourParseDouble(String s, boolean bytes) {
+        try {
+            final double value;
+            if (bytes) {
+                value = NumbersUtils.parseDouble(latin1Bytes("##"+s+"#"), 2, s.length());
+            } else {
+                value = NumbersUtils.parseDouble("##"+s+"#", 2, 2+s.length());
+            }
+            return Long.toHexString(Double.doubleToRawLongBits(value));
+        } catch (NumberFormatException e) {
+            return "NFE";
+        }
+    }
+
+    /**
+     * @return A string representing a double, of various forms
+     *         (many digits, halfway cases, etc.), or an invalid one.
+     */
+    private String randomStringForParseDouble() {
+        final int type = this.random.nextInt(4);
+        if (type == 0) {
+            return Double.toString(this.utils.randomDoubleWhatever());
+        } else if (type == 1) {
+            // Exactly halfway between two adjacent doubles.
+            final double value = Math.abs(this.utils.randomDoubleWhatever());
+            if ((value >= Double.MAX_VALUE) || (value != value)) {
+                return "1e309";
+            }
+            final BigDecimal halfway = new BigDecimal(value).add(new BigDecimal(Math.nextUp(value))).divide(BigDecimal.valueOf(2));
+            return halfway.toString();
+        } else {
+            final StringBuilder sb = new StringBuilder();
+            if (this.random.nextInt(4) == 0) {
+                sb.append(this.random.nextBoolean() ? '-' : '+');
+            }
+            final int nbrOfDigits = this.random.nextInt(30);
+            final int dotIndex = (this.random.nextBoolean() ? this.random.nextInt(nbrOfDigits+1) : -1);
+            for (int i=0;i<nbrOfDigits;i++) {
+                if (i == dotIndex) {
+                    sb.append('.');
+                }
+                sb.append((char)('0' + this.random.nextInt(10)));
+            }
+            if (this.random.nextBoolean()) {
+                sb.append(this.random.nextBoolean() ? 'e' : 'E');
+                if (this.random.nextBoolean()) {
+                    sb.append(this.random.nextBoolean() ? '-' : '+');
+                }
+                sb.append(this.random.nextInt(this.random.nextBoolean() ? 30 : 700));
+            }
+            return sb.toString();
+        }
+    }
+
+    private static boolean isLatin1(String s) {
+        for (int i=0;i<s.length();i++) {
+            if (s.charAt(i) > 255) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] latin1Bytes(String s) {
+        final byte[] bytes = new byte[s.length()];
+        for (int i=0;i<bytes.length;i++) {
+            bytes[i] = (byte)s.charAt(i);
+        }
+        return bytes;
+    }
+
     /**
      * Useful not to each time test both foo(a,b) and foo(b,a):
      * foo(a,b) suffices.
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2012-2017 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+public class PathCountersTest extends AbstractFastMathTezt {
+
+    //--------------------------------------------------------------------------
+    // PUBLIC METHODS
+    //--------------------------------------------------------------------------
+
+    public void test_isEnabled() {
+        assertEquals(CmnFastMath.CMN_COUNT_PATHS, PathCounters.getInstance().isEnabled());
+    }
+
+    public void test_increment_int_and_getters() {
+        final PathCounters counters = PathCounters.getInstance();
+        counters.reset();
+
+        final int nbrOfThreads = 4;
+        final int nbrOfIncrementsPerThread = 1000;
+        final Thread[] threads = new Thread[nbrOfThreads];
+        for (int t=0;t<nbrOfThreads;t++) {
+            threads[t] = new Thread(new Runnable() {
+                public void run() {
+                    for (int i=0;i<nbrOfIncrementsPerThread;i++) {
+                        PathCounters.increment(PathCounters.SIN_TABLE);
+                        PathCounters.increment(PathCounters.ATAN_SLOW);
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        final long expected = nbrOfThreads * (long)nbrOfIncrementsPerThread;
+        assertEquals(expected, counters.getSinTablePathCount());
+        assertEquals(expected, counters.getAtanSlowPathCount());
+        assertEquals(0L, counters.getSinSlowPathCount());
+        assertEquals(0L, counters.getCosTablePathCount());
+
+        counters.reset();
+        assertEquals(0L, counters.getSinTablePathCount());
+        assertEquals(0L, counters.getAtanSlowPathCount());
+    }
+}
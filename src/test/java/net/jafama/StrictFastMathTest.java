@@ -51,6 +51,21 @@ public class StrictFastMathTest extends AbstractFastMathTezt {
         helper.finalLogIfNeeded();
     }
 
+    public void test_sin_doubleArr_int_doubleArr_2int() {
+        checkBulkIdenticalToNonBulk(
+                new InterfaceDoubleFunction() {
+                    public double apply(double value) {
+                        return StrictFastMath.sin(value);
+                    }
+                },
+                new InterfaceDoubleBulkFunction() {
+                    public void apply(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+                        StrictFastMath.sin(src, srcOff, dst, dstOff, len);
+                    }
+                },
+                newBulkTrigArgs());
+    }
+
     public void test_sinQuick_double() {
         final double bound = Integer.MAX_VALUE * (2*Math.PI/(1<<11)) - 2.0;
         final MyDoubleResHelper helper = new MyDoubleResHelper();
@@ -90,6 +105,21 @@ public class StrictFastMathTest extends AbstractFastMathTezt {
         helper.finalLogIfNeeded();
     }
 
+    public void test_cos_doubleArr_int_doubleArr_2int() {
+        checkBulkIdenticalToNonBulk(
+                new InterfaceDoubleFunction() {
+                    public double apply(double value) {
+                        return StrictFastMath.cos(value);
+                    }
+                },
+                new InterfaceDoubleBulkFunction() {
+                    public void apply(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+                        StrictFastMath.cos(src, srcOff, dst, dstOff, len);
+                    }
+                },
+                newBulkTrigArgs());
+    }
+
     public void test_cosQuick_double() {
         final double bound = Integer.MAX_VALUE * (2*Math.PI/(1<<11));
         final MyDoubleResHelper helper = new MyDoubleResHelper();
@@ -143,6 +173,64 @@ public class StrictFastMathTest extends AbstractFastMathTezt {
         cosHelper.finalLogIfNeeded();
     }
 
+    public void test_sinAndCos_doubleArr_doubleArr_doubleArr_2int() {
+        final double[] args = newBulkTrigArgs();
+        final int n = args.length;
+        final DoubleWrapper tmpCos = new DoubleWrapper();
+
+        final double[] sinOut = new double[n+1];
+        final double[] cosOut = new double[n+1];
+        StrictFastMath.sinAndCos(args, sinOut, cosOut, 1, n-1);
+        assertEquals(0.0, sinOut[0]);
+        assertEquals(0.0, cosOut[0]);
+        assertEquals(0.0, sinOut[n]);
+        assertEquals(0.0, cosOut[n]);
+        for (int i=1;i<n;i++) {
+            final double refSin = StrictFastMath.sinAndCos(args[i], tmpCos);
+            final double refCos = tmpCos.value;
+            if (!equivalent(refSin, sinOut[i])) {
+                assertEquals("arg = "+args[i], refSin, sinOut[i]);
+            }
+            if (!equivalent(refCos, cosOut[i])) {
+                assertEquals("arg = "+args[i], refCos, cosOut[i]);
+            }
+        }
+
+        // Angles array used for output.
+        final double[] inPlace = args.clone();
+        final double[] cosOut2 = new double[n];
+        StrictFastMath.sinAndCos(inPlace, inPlace, cosOut2, 0, n);
+        for (int i=1;i<n;i++) {
+            assertTrue(equivalent(sinOut[i], inPlace[i]));
+            assertTrue(equivalent(cosOut[i], cosOut2[i]));
+        }
+
+        final double[] sinKo = new double[n];
+        final double[] cosKo = new double[n];
+        for (int[] offAndLen : new int[][]{
+                {-1,1},
+                {0,-1},
+                {1,n},
+                {0,n+1}}) {
+            try {
+                StrictFastMath.sinAndCos(args, sinKo, cosKo, offAndLen[0], offAndLen[1]);
+                assertTrue(false);
+            } catch (IndexOutOfBoundsException e) {
+                // ok
+            }
+        }
+        try {
+            StrictFastMath.sinAndCos(args, sinKo, new double[n-1], 0, n);
+            assertTrue(false);
+        } catch (IndexOutOfBoundsException e) {
+            // ok
+        }
+        for (int i=0;i<n;i++) {
+            assertEquals(0.0, sinKo[i]);
+            assertEquals(0.0, cosKo[i]);
+        }
+    }
+
     public void test_tan_double() {
         final MyDoubleResHelper helper = new MyDoubleResHelper();
         for (int i=0;i<NBR_OF_VALUES;i++) {
@@ -175,6 +263,196 @@ public class StrictFastMathTest extends AbstractFastMathTezt {
         helper.finalLogIfNeeded();
     }
 
+    public void test_tan_doubleArr_int_doubleArr_2int() {
+        checkBulkIdenticalToNonBulk(
+                new InterfaceDoubleFunction() {
+                    public double apply(double value) {
+                        return StrictFastMath.tan(value);
+                    }
+                },
+                new InterfaceDoubleBulkFunction() {
+                    public void apply(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+                        StrictFastMath.tan(src, srcOff, dst, dstOff, len);
+                    }
+                },
+                newBulkTrigArgs());
+    }
+
+    public void test_sinPi_double() {
+        final MyDoubleResHelper helper = new MyDoubleResHelper();
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final double value = ((i&1) == 0) ? randomDoubleWhatever() : randomDoubleWhatever(-4.0, 4.0);
+            final double ref = getExpectedResult_sinOrCos(value, 0.5, false);
+            final double res = StrictFastMath.sinPi(value);
+            helper.process(
+                    ref,
+                    res,
+                    TOL_SIN_COS_ABS,
+                    getTolRel_sinOrCos(ref),
+                    value);
+            assertTrue(helper.lastOK());
+        }
+        helper.finalLogIfNeeded();
+
+        for (int k=-8;k<=8;k++) {
+            final double value = k * 0.5;
+            assertEquals(getExpectedResult_sinOrCos(value, 0.5, false), StrictFastMath.sinPi(value), 0.0);
+            assertEquals(getExpectedResult_sinOrCos(value, 0.5, false), StrictFastMath.sinPi(value + 2e15), 0.0);
+        }
+
+        // Sign of zero preserved.
+        assertTrue(equivalent(0.0, StrictFastMath.sinPi(0.0)));
+        assertTrue(equivalent(-0.0, StrictFastMath.sinPi(-0.0)));
+    }
+
+    public void test_cosPi_double() {
+        final MyDoubleResHelper helper = new MyDoubleResHelper();
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final double value = ((i&1) == 0) ? randomDoubleWhatever() : randomDoubleWhatever(-4.0, 4.0);
+            final double ref = getExpectedResult_sinOrCos(value, 0.5, true);
+            final double res = StrictFastMath.cosPi(value);
+            helper.process(
+                    ref,
+                    res,
+                    TOL_SIN_COS_ABS,
+                    getTolRel_sinOrCos(ref),
+                    value);
+            assertTrue(helper.lastOK());
+        }
+        helper.finalLogIfNeeded();
+
+        for (int k=-8;k<=8;k++) {
+            final double value = k * 0.5;
+            assertEquals(getExpectedResult_sinOrCos(value, 0.5, true), StrictFastMath.cosPi(value), 0.0);
+            assertEquals(getExpectedResult_sinOrCos(value, 0.5, true), StrictFastMath.cosPi(value + 2e15), 0.0);
+        }
+    }
+
+    public void test_tanPi_double() {
+        final MyDoubleResHelper helper = new MyDoubleResHelper();
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final double value = ((i&1) == 0) ? randomDoubleWhatever() : randomDoubleWhatever(-4.0, 4.0);
+            final double ref = getExpectedResult_sinOrCos(value, 0.5, false) / getExpectedResult_sinOrCos(value, 0.5, true);
+            final double res = StrictFastMath.tanPi(value);
+            if (Double.isInfinite(ref)) {
+                // Sign at poles depends on reduction.
+                assertEquals(Double.POSITIVE_INFINITY, Math.abs(res));
+                continue;
+            }
+            helper.process(
+                    ref,
+                    res,
+                    Double.NaN,
+                    getTolRel_tan(ref),
+                    value);
+            assertTrue(helper.lastOK());
+        }
+        helper.finalLogIfNeeded();
+
+        for (int k=-8;k<=8;k++) {
+            assertEquals(0.0, StrictFastMath.tanPi(k), 0.0);
+            assertEquals(1.0, StrictFastMath.tanPi(k + 0.25));
+            assertEquals(-1.0, StrictFastMath.tanPi(k - 0.25));
+            assertEquals(Double.POSITIVE_INFINITY, Math.abs(StrictFastMath.tanPi(k + 0.5)));
+        }
+
+        // Sign of zero preserved.
+        assertTrue(equivalent(0.0, StrictFastMath.tanPi(0.0)));
+        assertTrue(equivalent(-0.0, StrictFastMath.tanPi(-0.0)));
+    }
+
+    public void test_sinDeg_double() {
+        final MyDoubleResHelper helper = new MyDoubleResHelper();
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final double value = ((i&1) == 0) ? randomDoubleWhatever() : randomDoubleWhatever(-720.0, 720.0);
+            final double ref = getExpectedResult_sinOrCos(value, 90.0, false);
+            final double res = StrictFastMath.sinDeg(value);
+            helper.process(
+                    ref,
+                    res,
+                    TOL_SIN_COS_ABS,
+                    getTolRel_sinOrCos(ref),
+                    value);
+            assertTrue(helper.lastOK());
+        }
+        helper.finalLogIfNeeded();
+
+        for (int k=-8;k<=8;k++) {
+            final double value = k * 90.0;
+            assertEquals(getExpectedResult_sinOrCos(value, 90.0, false), StrictFastMath.sinDeg(value), 0.0);
+            assertEquals(getExpectedResult_sinOrCos(value, 90.0, false), StrictFastMath.sinDeg(value + 360e12), 0.0);
+        }
+
+        // Sign of zero preserved.
+        assertTrue(equivalent(0.0, StrictFastMath.sinDeg(0.0)));
+        assertTrue(equivalent(-0.0, StrictFastMath.sinDeg(-0.0)));
+    }
+
+    public void test_cosDeg_double() {
+        final MyDoubleResHelper helper = new MyDoubleResHelper();
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final double value = ((i&1) == 0) ? randomDoubleWhatever() : randomDoubleWhatever(-720.0, 720.0);
+            final double ref = getExpectedResult_sinOrCos(value, 90.0, true);
+            final double res = StrictFastMath.cosDeg(value);
+            helper.process(
+                    ref,
+                    res,
+                    TOL_SIN_COS_ABS,
+                    getTolRel_sinOrCos(ref),
+                    value);
+            assertTrue(helper.lastOK());
+        }
+        helper.finalLogIfNeeded();
+
+        for (int k=-8;k<=8;k++) {
+            final double value = k * 90.0;
+            assertEquals(getExpectedResult_sinOrCos(value, 90.0, true), StrictFastMath.cosDeg(value), 0.0);
+            assertEquals(getExpectedResult_sinOrCos(value, 90.0, true), StrictFastMath.cosDeg(value + 360e12), 0.0);
+        }
+    }
+
+    public void test_tanDeg_double() {
+        final MyDoubleResHelper helper = new MyDoubleResHelper();
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final double value = ((i&1) == 0) ? randomDoubleWhatever() : randomDoubleWhatever(-720.0, 720.0);
+            final double ref = getExpectedResult_sinOrCos(value, 90.0, false) / getExpectedResult_sinOrCos(value, 90.0, true);
+            final double res = StrictFastMath.tanDeg(value);
+            if (Double.isInfinite(ref)) {
+                // Sign at poles depends on reduction.
+                assertEquals(Double.POSITIVE_INFINITY, Math.abs(res));
+                continue;
+            }
+            helper.process(
+                    ref,
+                    res,
+                    Double.NaN,
+                    getTolRel_tan(ref),
+                    value);
+            assertTrue(helper.lastOK());
+        }
+        helper.finalLogIfNeeded();
+
+        for (int k=-8;k<=8;k++) {
+            assertEquals(0.0, StrictFastMath.tanDeg(k * 180.0), 0.0);
+            assertEquals(((k&1) == 0) ? 1.0 : -1.0, StrictFastMath.tanDeg(k * 90.0 + 45.0));
+            assertEquals(Double.POSITIVE_INFINITY, Math.abs(StrictFastMath.tanDeg(k * 180.0 + 90.0)));
+        }
+
+        // Sign of zero preserved.
+        assertTrue(equivalent(0.0, StrictFastMath.tanDeg(0.0)));
+        assertTrue(equivalent(-0.0, StrictFastMath.tanDeg(-0.0)));
+    }
+
+    public void test_sinAndCosDeg_double_DoubleWrapper() {
+        final DoubleWrapper tmpCos = new DoubleWrapper();
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final double value = ((i&1) == 0) ? randomDoubleWhatever() : randomDoubleWhatever(-720.0, 720.0);
+            final double resSin = StrictFastMath.sinAndCosDeg(value, tmpCos);
+            assertTrue(equivalent(StrictFastMath.sinDeg(value), resSin));
+            assertTrue(equivalent(StrictFastMath.cosDeg(value), tmpCos.value));
+        }
+    }
+
     public void test_asin_double() {
         assertEquals(Math.PI/2, StrictFastMath.asin(1.0));
         assertEquals(-Math.PI/2, StrictFastMath.asin(-1.0));
@@ -275,6 +553,39 @@ public class StrictFastMathTest extends AbstractFastMathTezt {
         }
         helper.finalLogIfNeeded();
     }
+
+    public void test_atan2Quick_2double() {
+        final double[] specialValues = new double[]{
+                Double.NaN, Double.NEGATIVE_INFINITY, -1.0, -0.0, 0.0, 1.0, Double.POSITIVE_INFINITY};
+        for (double y : specialValues) {
+            for (double x : specialValues) {
+                final double ref = StrictMath.atan2(y, x);
+                final double res = StrictFastMath.atan2Quick(y, x);
+                if ((Math.abs(y) == Math.abs(x)) && (Math.abs(y) == 1.0)) {
+                    // Not exact, but within tolerance.
+                    assertEquals(ref, res, TOL_ATAN2_QUICK_ABS);
+                } else {
+                    assertTrue(equivalent(ref, res));
+                }
+            }
+        }
+        final MyDoubleResHelper helper = new MyDoubleResHelper();
+        for (int i=0;i<NBR_OF_VALUES;i++) {
+            double y = randomDoubleWhatever();
+            double x = randomDoubleWhatever();
+            double ref = StrictMath.atan2(y,x);
+            double res = StrictFastMath.atan2Quick(y,x);
+            helper.process(
+                    ref,
+                    res,
+                    TOL_ATAN2_QUICK_ABS,
+                    Double.NaN,
+                    y,
+                    x);
+            assertTrue(helper.lastOK());
+        }
+        helper.finalLogIfNeeded();
+    }
     
     public void test_toRadians_double() {
         final MyDoubleResHelper helper = new MyDoubleResHelper();
@@ -820,6 +1131,21 @@ public class StrictFastMathTest extends AbstractFastMathTezt {
         helper.finalLogIfNeeded();
     }
 
+    public void test_exp_doubleArr_int_doubleArr_2int() {
+        checkBulkIdenticalToNonBulk(
+                new InterfaceDoubleFunction() {
+                    public double apply(double value) {
+                        return StrictFastMath.exp(value);
+                    }
+                },
+                new InterfaceDoubleBulkFunction() {
+                    public void apply(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+                        StrictFastMath.exp(src, srcOff, dst, dstOff, len);
+                    }
+                },
+                newBulkExpArgs());
+    }
+
     public void test_expQuick_double() {
         final MyDoubleResHelper helper = new MyDoubleResHelper();
         for (int i=0;i<NBR_OF_VALUES;i++) {
@@ -877,6 +1203,21 @@ public class StrictFastMathTest extends AbstractFastMathTezt {
         helper.finalLogIfNeeded();
     }
 
+    public void test_log_doubleArr_int_doubleArr_2int() {
+        checkBulkIdenticalToNonBulk(
+                new InterfaceDoubleFunction() {
+                    public double apply(double value) {
+                        return StrictFastMath.log(value);
+                    }
+                },
+                new InterfaceDoubleBulkFunction() {
+                    public void apply(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+                        StrictFastMath.log(src, srcOff, dst, dstOff, len);
+                    }
+                },
+                newBulkLogArgs());
+    }
+
     public void test_logQuick_double() {
         final MyDoubleResHelper helper = new MyDoubleResHelper();
         for (int i=0;i<NBR_OF_VALUES;i++) {
@@ -940,8 +1281,8 @@ public class StrictFastMathTest extends AbstractFastMathTezt {
         assertEquals(0.0, StrictFastMath.pow(0.0,3.0));
         assertEquals(-0.0, StrictFastMath.pow(-0.0,3.0));
         assertEquals(Double.POSITIVE_INFINITY, StrictFastMath.pow(0.0,-3.0));
-        assertEquals(4.0, StrictFastMath.pow(2.0,2.0), TOL_1EM15);
-        assertEquals(8.0, StrictFastMath.pow(2.0,3.0), TOL_1EM15);
+        assertEquals(4.0, StrictFastMath.pow(2.0,2.0), TOL_POW_SMALL_INTS_ABS);
+        assertEquals(8.0, StrictFastMath.pow(2.0,3.0), TOL_POW_SMALL_INTS_ABS);
         assertEquals(1.0/4.0, StrictFastMath.pow(2.0,-2.0), TOL_1EM15);
         assertEquals(1.0/8.0, StrictFastMath.pow(2.0,-3.0), TOL_1EM15);
         assertEquals(Double.POSITIVE_INFINITY, StrictFastMath.pow(Double.NEGATIVE_INFINITY,2.0));
@@ -975,6 +1316,27 @@ public class StrictFastMathTest extends AbstractFastMathTezt {
         helper.finalLogIfNeeded();
     }
 
+    public void test_pow_doubleArr_int_double_doubleArr_2int() {
+        final double[] args = newBulkLogArgs();
+        for (final double power : new double[]{
+                0.0, -0.0, 1.0, -1.0, 2.0, 3.0, 0.5, -2.5, 1e-3, 123.456, -1e5,
+                Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+                randomDoubleWhatever()}) {
+            checkBulkIdenticalToNonBulk(
+                    new InterfaceDoubleFunction() {
+                        public double apply(double value) {
+                            return StrictFastMath.pow(value, power);
+                        }
+                    },
+                    new InterfaceDoubleBulkFunction() {
+                        public void apply(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+                            StrictFastMath.pow(src, srcOff, power, dst, dstOff, len);
+                        }
+                    },
+                    args);
+        }
+    }
+
     public void test_powQuick_2double() {
         final MyDoubleResHelper helper = new MyDoubleResHelper();
         for (int i=0;i<NBR_OF_VALUES;i++) {
@@ -2224,4 +2586,118 @@ IEEE = -4.55688172866467E-305
             assertTrue((res >= 0.0) && (res < 1.0));
         }
     }
+
+    /*
+     * accuracy tiers
+     */
+
+    public void test_accuracyTiers() {
+        for (int i=0;i<NBR_OF_VALUES_SMALL;i++) {
+            final double a = randomDoubleWhatever();
+            final double b = randomDoubleWhatever();
+            assertTrue(equivalent(StrictMath.sin(a), StrictFastMath.sin(a, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(StrictFastMath.sin(a), StrictFastMath.sin(a, AccuracyTier.FAST)));
+            assertTrue(equivalent((Math.abs(a) <= 6588395.0) ? StrictFastMath.sinQuick(a) : StrictFastMath.sin(a), StrictFastMath.sin(a, AccuracyTier.QUICK)));
+            assertTrue(equivalent(StrictMath.cos(a), StrictFastMath.cos(a, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(StrictFastMath.cos(a), StrictFastMath.cos(a, AccuracyTier.FAST)));
+            assertTrue(equivalent((Math.abs(a) <= 6588395.0) ? StrictFastMath.cosQuick(a) : StrictFastMath.cos(a), StrictFastMath.cos(a, AccuracyTier.QUICK)));
+            assertTrue(equivalent(StrictMath.tan(a), StrictFastMath.tan(a, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(StrictFastMath.tan(a), StrictFastMath.tan(a, AccuracyTier.FAST)));
+            assertTrue(equivalent(StrictFastMath.tan(a), StrictFastMath.tan(a, AccuracyTier.QUICK)));
+            assertTrue(equivalent(StrictMath.asin(a), StrictFastMath.asin(a, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(StrictFastMath.asin(a), StrictFastMath.asin(a, AccuracyTier.FAST)));
+            assertTrue(equivalent(StrictFastMath.asin(a), StrictFastMath.asin(a, AccuracyTier.QUICK)));
+            assertTrue(equivalent(StrictMath.acos(a), StrictFastMath.acos(a, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(StrictFastMath.acos(a), StrictFastMath.acos(a, AccuracyTier.FAST)));
+            assertTrue(equivalent(StrictFastMath.acos(a), StrictFastMath.acos(a, AccuracyTier.QUICK)));
+            assertTrue(equivalent(StrictMath.atan(a), StrictFastMath.atan(a, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(StrictFastMath.atan(a), StrictFastMath.atan(a, AccuracyTier.FAST)));
+            assertTrue(equivalent(StrictFastMath.atan(a), StrictFastMath.atan(a, AccuracyTier.QUICK)));
+            assertTrue(equivalent(StrictMath.atan2(a, b), StrictFastMath.atan2(a, b, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(StrictFastMath.atan2(a, b), StrictFastMath.atan2(a, b, AccuracyTier.FAST)));
+            assertTrue(equivalent(StrictFastMath.atan2Quick(a, b), StrictFastMath.atan2(a, b, AccuracyTier.QUICK)));
+            assertTrue(equivalent(StrictMath.sinh(a), StrictFastMath.sinh(a, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(StrictFastMath.sinh(a), StrictFastMath.sinh(a, AccuracyTier.FAST)));
+            assertTrue(equivalent(StrictFastMath.sinh(a), StrictFastMath.sinh(a, AccuracyTier.QUICK)));
+            assertTrue(equivalent(StrictMath.cosh(a), StrictFastMath.cosh(a, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(StrictFastMath.cosh(a), StrictFastMath.cosh(a, AccuracyTier.FAST)));
+            assertTrue(equivalent(StrictFastMath.cosh(a), StrictFastMath.cosh(a, AccuracyTier.QUICK)));
+            assertTrue(equivalent(StrictMath.tanh(a), StrictFastMath.tanh(a, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(StrictFastMath.tanh(a), StrictFastMath.tanh(a, AccuracyTier.FAST)));
+            assertTrue(equivalent(StrictFastMath.tanh(a), StrictFastMath.tanh(a, AccuracyTier.QUICK)));
+            assertTrue(equivalent(StrictMath.exp(a), StrictFastMath.exp(a, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(StrictFastMath.exp(a), StrictFastMath.exp(a, AccuracyTier.FAST)));
+            assertTrue(equivalent((Math.abs(a) <= 700.0) ? StrictFastMath.expQuick(a) : StrictFastMath.exp(a), StrictFastMath.exp(a, AccuracyTier.QUICK)));
+            assertTrue(equivalent(StrictMath.expm1(a), StrictFastMath.expm1(a, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(StrictFastMath.expm1(a), StrictFastMath.expm1(a, AccuracyTier.FAST)));
+            assertTrue(equivalent(StrictFastMath.expm1(a), StrictFastMath.expm1(a, AccuracyTier.QUICK)));
+            assertTrue(equivalent(StrictMath.log(a), StrictFastMath.log(a, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(StrictFastMath.log(a), StrictFastMath.log(a, AccuracyTier.FAST)));
+            assertTrue(equivalent(((a >= Double.MIN_NORMAL) && (a <= Double.MAX_VALUE)) ? StrictFastMath.logQuick(a) : StrictFastMath.log(a), StrictFastMath.log(a, AccuracyTier.QUICK)));
+            assertTrue(equivalent(StrictMath.log10(a), StrictFastMath.log10(a, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(StrictFastMath.log10(a), StrictFastMath.log10(a, AccuracyTier.FAST)));
+            assertTrue(equivalent(StrictFastMath.log10(a), StrictFastMath.log10(a, AccuracyTier.QUICK)));
+            assertTrue(equivalent(StrictMath.log1p(a), StrictFastMath.log1p(a, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(StrictFastMath.log1p(a), StrictFastMath.log1p(a, AccuracyTier.FAST)));
+            assertTrue(equivalent(StrictFastMath.log1p(a), StrictFastMath.log1p(a, AccuracyTier.QUICK)));
+            assertTrue(equivalent(StrictMath.pow(a, b), StrictFastMath.pow(a, b, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(StrictFastMath.pow(a, b), StrictFastMath.pow(a, b, AccuracyTier.FAST)));
+            {
+                final double powQuick = StrictFastMath.powQuick(a, b);
+                final boolean quickOk = (a >= Double.MIN_NORMAL) && (a <= Double.MAX_VALUE)
+                        && (powQuick > 1e-10) && (powQuick < 1e10);
+                assertTrue(equivalent(quickOk ? powQuick : StrictFastMath.pow(a, b), StrictFastMath.pow(a, b, AccuracyTier.QUICK)));
+            }
+            assertTrue(equivalent(StrictMath.sqrt(a), StrictFastMath.sqrt(a, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(StrictFastMath.sqrt(a), StrictFastMath.sqrt(a, AccuracyTier.FAST)));
+            assertTrue(equivalent(((a >= Double.MIN_NORMAL) && (a <= Double.MAX_VALUE)) ? StrictFastMath.sqrtQuick(a) : StrictFastMath.sqrt(a), StrictFastMath.sqrt(a, AccuracyTier.QUICK)));
+            assertTrue(equivalent(StrictMath.cbrt(a), StrictFastMath.cbrt(a, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(StrictFastMath.cbrt(a), StrictFastMath.cbrt(a, AccuracyTier.FAST)));
+            assertTrue(equivalent(StrictFastMath.cbrt(a), StrictFastMath.cbrt(a, AccuracyTier.QUICK)));
+            assertTrue(equivalent(StrictMath.hypot(a, b), StrictFastMath.hypot(a, b, AccuracyTier.ACCURATE)));
+            assertTrue(equivalent(StrictFastMath.hypot(a, b), StrictFastMath.hypot(a, b, AccuracyTier.FAST)));
+            assertTrue(equivalent(StrictFastMath.hypot(a, b), StrictFastMath.hypot(a, b, AccuracyTier.QUICK)));
+        }
+    }
+
+    public void test_accuracyTiers_quickOutOfRange() {
+        // Out of "Quick" treatments accuracy range: same as FAST.
+        for (double a : new double[]{6588396.0, -1e10, Double.MAX_VALUE}) {
+            assertEquals(StrictFastMath.sin(a), StrictFastMath.sin(a, AccuracyTier.QUICK));
+            assertEquals(StrictFastMath.cos(a), StrictFastMath.cos(a, AccuracyTier.QUICK));
+        }
+        for (double a : new double[]{-745.0, -701.0, 701.0, 709.0}) {
+            assertEquals(StrictFastMath.exp(a), StrictFastMath.exp(a, AccuracyTier.QUICK));
+        }
+        for (double a : new double[]{Double.MIN_VALUE, Double.MIN_NORMAL/2, Double.POSITIVE_INFINITY}) {
+            assertEquals(StrictFastMath.log(a), StrictFastMath.log(a, AccuracyTier.QUICK));
+            assertEquals(StrictFastMath.sqrt(a), StrictFastMath.sqrt(a, AccuracyTier.QUICK));
+        }
+        assertEquals(StrictFastMath.pow(Double.MIN_VALUE, 0.5), StrictFastMath.pow(Double.MIN_VALUE, 0.5, AccuracyTier.QUICK));
+        assertEquals(StrictFastMath.pow(-2.0, 3.0), StrictFastMath.pow(-2.0, 3.0, AccuracyTier.QUICK));
+        assertEquals(StrictFastMath.pow(10.0, 20.0), StrictFastMath.pow(10.0, 20.0, AccuracyTier.QUICK));
+        assertEquals(StrictFastMath.pow(10.0, -20.0), StrictFastMath.pow(10.0, -20.0, AccuracyTier.QUICK));
+        // In range: "Quick" treatments.
+        assertEquals(StrictFastMath.sinQuick(6588395.0), StrictFastMath.sin(6588395.0, AccuracyTier.QUICK));
+        assertEquals(StrictFastMath.cosQuick(-6588395.0), StrictFastMath.cos(-6588395.0, AccuracyTier.QUICK));
+        assertEquals(StrictFastMath.expQuick(700.0), StrictFastMath.exp(700.0, AccuracyTier.QUICK));
+        assertEquals(StrictFastMath.logQuick(Double.MIN_NORMAL), StrictFastMath.log(Double.MIN_NORMAL, AccuracyTier.QUICK));
+        assertEquals(StrictFastMath.sqrtQuick(Double.MAX_VALUE), StrictFastMath.sqrt(Double.MAX_VALUE, AccuracyTier.QUICK));
+        assertEquals(StrictFastMath.powQuick(10.0, 9.0), StrictFastMath.pow(10.0, 9.0, AccuracyTier.QUICK));
+    }
+
+    public void test_accuracyTiers_null() {
+        try {
+            StrictFastMath.sin(0.0, null);
+            fail();
+        } catch (NullPointerException e) {
+            // ok
+        }
+        try {
+            StrictFastMath.tan(0.0, null);
+            fail();
+        } catch (NullPointerException e) {
+            // ok
+        }
+    }
 }
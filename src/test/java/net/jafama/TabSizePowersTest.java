@@ -0,0 +1,217 @@
+/*
+ * Copyright 2012-2015 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+/**
+ * Runs accuracy tests of each look-up tables family with min and max
+ * jafama.tabsizepower.<family> values, in a new JVM since tables sizes
+ * are computed on class initialization.
+ * 
+ * Not to make tests run much longer, these new JVMs use ten times less
+ * random arguments than default (cf. jafama.test.nbrofvalues).
+ * For an exhaustive check of a configuration over float arguments,
+ * use FloatDomainAccuracyScan.
+ */
+public class TabSizePowersTest extends TestCase {
+
+    //--------------------------------------------------------------------------
+    // CONFIGURATION
+    //--------------------------------------------------------------------------
+
+    /**
+     * For log and sqrt tables to be used by FastMath too,
+     * and for less random arguments.
+     */
+    private static final String[] JVM_ARGS = new String[]{
+        "-Djafama.test.nbrofvalues=" + (AbstractFastMathTezt.NBR_OF_VALUES / 10),
+        "-Djafama.fastlog=true",
+        "-Djafama.fastsqrt=true",
+        "-Djafama.strict.fastsqrt=true",
+    };
+
+    //--------------------------------------------------------------------------
+    // PUBLIC CLASSES
+    //--------------------------------------------------------------------------
+
+    /**
+     * To run in a new JVM: args are family name, and names of test methods
+     * to run for both FastMath and StrictFastMath.
+     */
+    public static class MyMain {
+        public static void main(String[] args) {
+            final String family = args[0];
+            int failureCount = 0;
+            for (int i=1;i<args.length;i++) {
+                failureCount += runTest(new FastMathTest(), args[i]);
+                failureCount += runTest(new StrictFastMathTest(), args[i]);
+            }
+            System.out.println("tabSizePower=" + getTabSizePower(family));
+            System.out.println("failures=" + failureCount);
+        }
+    }
+
+    //--------------------------------------------------------------------------
+    // PUBLIC METHODS
+    //--------------------------------------------------------------------------
+
+    public void test_sincos() {
+        checkMinMaxTabSizePowers(
+                "sincos",
+                CmnFastMath.SIN_COS_MIN_TAB_SIZE_POWER,
+                "test_sin_double",
+                "test_cos_double",
+                "test_sinAndCos_double_DoubleWrapper",
+                "test_sin_doubleArr_int_doubleArr_2int",
+                "test_cos_doubleArr_int_doubleArr_2int",
+                "test_sinAndCos_doubleArr_doubleArr_doubleArr_2int");
+    }
+
+    public void test_tan() {
+        checkMinMaxTabSizePowers(
+                "tan",
+                CmnFastMath.TAN_MIN_TAB_SIZE_POWER,
+                "test_tan_double",
+                "test_tan_doubleArr_int_doubleArr_2int");
+    }
+
+    public void test_asin() {
+        checkMinMaxTabSizePowers(
+                "asin",
+                CmnFastMath.ASIN_MIN_TAB_SIZE_POWER,
+                "test_asin_double",
+                "test_acos_double");
+    }
+
+    public void test_atan() {
+        checkMinMaxTabSizePowers(
+                "atan",
+                CmnFastMath.ATAN_MIN_TAB_SIZE_POWER,
+                "test_atan_double",
+                "test_atan2_2double");
+    }
+
+    public void test_exp() {
+        checkMinMaxTabSizePowers(
+                "exp",
+                CmnFastMath.EXP_MIN_TAB_SIZE_POWER,
+                "test_exp_double",
+                "test_expm1_double",
+                "test_exp_doubleArr_int_doubleArr_2int",
+                "test_pow_2double",
+                "test_pow_doubleArr_int_double_doubleArr_2int");
+    }
+
+    public void test_log() {
+        checkMinMaxTabSizePowers(
+                "log",
+                CmnFastMath.LOG_MIN_TAB_SIZE_POWER,
+                "test_log_double",
+                "test_log10_double",
+                "test_log1p_double",
+                "test_log_doubleArr_int_doubleArr_2int",
+                "test_pow_2double",
+                "test_pow_doubleArr_int_double_doubleArr_2int");
+    }
+
+    public void test_sqrt() {
+        checkMinMaxTabSizePowers(
+                "sqrt",
+                CmnFastMath.SQRT_MIN_TAB_SIZE_POWER,
+                "test_sqrt_double");
+    }
+
+    public void test_cbrt() {
+        checkMinMaxTabSizePowers(
+                "cbrt",
+                CmnFastMath.CBRT_MIN_TAB_SIZE_POWER,
+                "test_cbrt_double");
+    }
+
+    //--------------------------------------------------------------------------
+    // PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    private static void checkMinMaxTabSizePowers(
+            String family,
+            int minTabSizePower,
+            String... testNames) {
+        final String[] args = new String[1 + testNames.length];
+        args[0] = family;
+        System.arraycopy(testNames, 0, args, 1, testNames.length);
+        for (int tabSizePower : new int[]{minTabSizePower, CmnFastMath.MAX_TAB_SIZE_POWER}) {
+            final String[] jvmArgs = Arrays.copyOf(JVM_ARGS, JVM_ARGS.length + 1);
+            jvmArgs[JVM_ARGS.length] = "-Djafama.tabsizepower." + family + "=" + tabSizePower;
+            final String output = TestUtils.runInNewJvm(
+                    Arrays.asList(jvmArgs),
+                    MyMain.class.getName(),
+                    args);
+            final List<String> lines = Arrays.asList(output.split("\\r?\\n"));
+            assertTrue(output, lines.contains("tabSizePower=" + tabSizePower));
+            assertTrue(output, lines.contains("failures=0"));
+        }
+    }
+
+    /**
+     * @return Number of failures (0 or 1).
+     */
+    private static int runTest(TestCase test, String testName) {
+        try {
+            test.getClass().getMethod(testName).invoke(test);
+            return 0;
+        } catch (InvocationTargetException e) {
+            System.out.println(test.getClass().getSimpleName() + "." + testName + " failed:");
+            e.getCause().printStackTrace(System.out);
+            return 1;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * @return Tables size power actually used for the specified family.
+     */
+    private static int getTabSizePower(String family) {
+        if (family.equals("sincos")) {
+            return CmnFastMath.SIN_COS_TABS_SIZE_POWER;
+        } else if (family.equals("tan")) {
+            return log2(CmnFastMath.TAN_VIRTUAL_TABS_SIZE - 1);
+        } else if (family.equals("asin")) {
+            return log2(CmnFastMath.ASIN_TABS_SIZE - 1);
+        } else if (family.equals("atan")) {
+            return log2(CmnFastMath.ATAN_TABS_SIZE - 1);
+        } else if (family.equals("exp")) {
+            return CmnFastMath.EXP_LO_TAB_SIZE_POT;
+        } else if (family.equals("log")) {
+            return CmnFastMath.LOG_BITS;
+        } else if (family.equals("sqrt")) {
+            return CmnFastMath.SQRT_LO_BITS;
+        } else if (family.equals("cbrt")) {
+            return CmnFastMath.CBRT_LO_BITS;
+        } else {
+            throw new IllegalArgumentException(family);
+        }
+    }
+
+    private static int log2(int powerOfTwo) {
+        return 31 - Integer.numberOfLeadingZeros(powerOfTwo);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2012-2015 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+
+public class TabsInitEventsTest extends TestCase {
+
+    //--------------------------------------------------------------------------
+    // PUBLIC CLASSES
+    //--------------------------------------------------------------------------
+
+    /**
+     * To run in a new JVM.
+     */
+    public static class MyMain {
+        public static void main(String[] args) {
+            System.out.println(computeValues());
+        }
+    }
+
+    //--------------------------------------------------------------------------
+    // PUBLIC METHODS
+    //--------------------------------------------------------------------------
+
+    public void test_begin_end() {
+        // Must do nothing bad, whether events are recorded or not.
+        final Object event = TabsInitEvents.begin("test");
+        TabsInitEvents.end(event, false, new double[3], new double[5]);
+    }
+
+    /**
+     * Tables initialization must work even if jdk.jfr module is not available
+     * (to test Java 11+ version, multi-release jar must be in class path).
+     */
+    public void test_tablesInitWithoutJfrModule() {
+        if (TestUtils.getJavaSpecVersion() < 9) {
+            // No modules.
+            return;
+        }
+        final String output = TestUtils.runInNewJvm(
+                Arrays.asList("--limit-modules", "java.base"),
+                MyMain.class.getName());
+        assertEquals(computeValues(), output.trim());
+    }
+
+    //--------------------------------------------------------------------------
+    // PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    /**
+     * @return Results of methods using various look-up tables.
+     */
+    private static String computeValues() {
+        return FastMath.sin(1.0)
+                + " " + FastMath.tan(1.0)
+                + " " + FastMath.asin(0.5)
+                + " " + FastMath.atan(2.0)
+                + " " + FastMath.exp(1.5)
+                + " " + FastMath.log(3.0)
+                + " " + FastMath.cbrt(3.0)
+                + " " + StrictFastMath.sin(1.0)
+                + " " + StrictFastMath.exp(1.5)
+                + " " + FastMathF.sin(1.0f);
+    }
+}
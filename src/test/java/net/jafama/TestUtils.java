@@ -15,7 +15,13 @@
  */
 package net.jafama;
 
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Utility treatments for tests or benches.
@@ -94,6 +100,68 @@ public class TestUtils {
         System.out.flush();
     }
 
+    /**
+     * @return Java specification version of current JVM, as an int
+     *         (ex.: 6 for "1.6", 11 for "11").
+     */
+    public static int getJavaSpecVersion() {
+        String version = System.getProperty("java.specification.version");
+        if (version.startsWith("1.")) {
+            version = version.substring(2);
+        }
+        return Integer.parseInt(version);
+    }
+
+    /**
+     * Runs the main method of the specified class in a new JVM, using
+     * the java executable and the class path of the current JVM.
+     * Useful to test configurations read into static final fields
+     * (such as properties), or JVM options.
+     * 
+     * @param jvmArgs JVM arguments (options, properties).
+     * @param mainClassName Name of the class which main method to run.
+     * @param args Arguments for the main method.
+     * @return What the new JVM wrote in standard output and error.
+     * @throws RuntimeException if the new JVM exit code is not 0.
+     */
+    public static String runInNewJvm(List<String> jvmArgs, String mainClassName, String... args) {
+        final List<String> command = new ArrayList<String>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.addAll(jvmArgs);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(mainClassName);
+        for (String arg : args) {
+            command.add(arg);
+        }
+        final ProcessBuilder pb = new ProcessBuilder(command);
+        pb.redirectErrorStream(true);
+        try {
+            final Process process = pb.start();
+            final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            final InputStream is = process.getInputStream();
+            try {
+                final byte[] buffer = new byte[4096];
+                int n;
+                while ((n = is.read(buffer)) >= 0) {
+                    baos.write(buffer, 0, n);
+                }
+            } finally {
+                is.close();
+            }
+            final int exitCode = process.waitFor();
+            final String output = baos.toString();
+            if (exitCode != 0) {
+                throw new RuntimeException("exit code " + exitCode + " for " + command + ":" + LINE_SEPARATOR + output);
+            }
+            return output;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     //--------------------------------------------------------------------------
     // PRIVATE METHODS
     //--------------------------------------------------------------------------
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2012-2015 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.jafama;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+public class VectorSupportTest extends TestCase {
+
+    //--------------------------------------------------------------------------
+    // PUBLIC CLASSES
+    //--------------------------------------------------------------------------
+
+    /**
+     * To run in a new JVM: runs bulk methods tests.
+     */
+    public static class MyMain {
+        public static void main(String[] args) {
+            int failureCount = 0;
+            try {
+                final FastMathTest test = new FastMathTest();
+                test.test_exp_doubleArr_int_doubleArr_2int();
+                test.test_log_doubleArr_int_doubleArr_2int();
+                test.test_pow_doubleArr_int_double_doubleArr_2int();
+            } catch (Throwable e) {
+                e.printStackTrace(System.out);
+                failureCount++;
+            }
+            try {
+                final StrictFastMathTest test = new StrictFastMathTest();
+                test.test_exp_doubleArr_int_doubleArr_2int();
+                test.test_log_doubleArr_int_doubleArr_2int();
+                test.test_pow_doubleArr_int_double_doubleArr_2int();
+            } catch (Throwable e) {
+                e.printStackTrace(System.out);
+                failureCount++;
+            }
+            // Tests arguments are mostly mixed with special values,
+            // so also checking with values all treated with tables.
+            failureCount += checkBulkInRange(false);
+            failureCount += checkBulkInRange(true);
+            System.out.println("vectorized=" + isVectorized());
+            System.out.println("failures=" + failureCount);
+        }
+    }
+
+    //--------------------------------------------------------------------------
+    // PUBLIC METHODS
+    //--------------------------------------------------------------------------
+
+    public void test_exp_log_pow_noValueComputedIfEmpty() {
+        final double[] src = new double[0];
+        final double[] dst = new double[0];
+        for (boolean strict : new boolean[]{false,true}) {
+            assertEquals(0, VectorSupport.exp(src, 0, dst, 0, 0, strict));
+            assertEquals(0, VectorSupport.log(src, 0, dst, 0, 0, strict));
+            assertEquals(0, VectorSupport.pow(src, 0, 2.0, dst, 0, 0, strict));
+        }
+    }
+
+    /**
+     * Bulk methods must give identical results when using the Vector API
+     * (to test Java 17+ version, multi-release jar must be in class path).
+     */
+    public void test_bulkMethods_withVectorModule() {
+        if (TestUtils.getJavaSpecVersion() < 17) {
+            // No Java 17+ version.
+            return;
+        }
+        final String output = TestUtils.runInNewJvm(
+                Arrays.asList(
+                        "--add-modules", "jdk.incubator.vector",
+                        // For bulk log and pow to use tables.
+                        "-Djafama.fastlog=true"),
+                MyMain.class.getName());
+        // Tests of bulk methods check identical results with non-bulk ones.
+        assertTrue(output, output.contains("failures=0"));
+    }
+
+    //--------------------------------------------------------------------------
+    // PRIVATE METHODS
+    //--------------------------------------------------------------------------
+
+    /**
+     * @return The number of bulk results not identical to non-bulk ones,
+     *         for arguments which bulk methods treat with tables.
+     */
+    private static int checkBulkInRange(boolean strict) {
+        final Random random = new Random(123456789L);
+        final int len = 1000 + 3;
+        final double[] expArgs = new double[len];
+        final double[] logArgs = new double[len];
+        for (int i=0;i<len;i++) {
+            expArgs[i] = -745.0 + (709.0 - -745.0) * random.nextDouble();
+            final double mag = Math.pow(10.0, 300 * random.nextDouble());
+            logArgs[i] = (random.nextBoolean() ? 1.2 * mag : 0.9 / mag);
+        }
+        final double power = 0.37;
+        final double[] expRes = new double[len];
+        final double[] logRes = new double[len];
+        final double[] powRes = new double[len];
+        if (strict) {
+            StrictFastMath.exp(expArgs, 0, expRes, 0, len);
+            StrictFastMath.log(logArgs, 0, logRes, 0, len);
+            StrictFastMath.pow(logArgs, 0, power, powRes, 0, len);
+        } else {
+            FastMath.exp(expArgs, 0, expRes, 0, len);
+            FastMath.log(logArgs, 0, logRes, 0, len);
+            FastMath.pow(logArgs, 0, power, powRes, 0, len);
+        }
+        int failureCount = 0;
+        for (int i=0;i<len;i++) {
+            final double expRef = (strict ? StrictFastMath.exp(expArgs[i]) : FastMath.exp(expArgs[i]));
+            final double logRef = (strict ? StrictFastMath.log(logArgs[i]) : FastMath.log(logArgs[i]));
+            final double powRef = (strict ? StrictFastMath.pow(logArgs[i], power) : FastMath.pow(logArgs[i], power));
+            if ((Double.doubleToRawLongBits(expRes[i]) != Double.doubleToRawLongBits(expRef))
+                    || (Double.doubleToRawLongBits(logRes[i]) != Double.doubleToRawLongBits(logRef))
+                    || (Double.doubleToRawLongBits(powRes[i]) != Double.doubleToRawLongBits(powRef))) {
+                System.out.println("strict = " + strict + ", i = " + i + ": bulk results differ");
+                failureCount++;
+            }
+        }
+        return failureCount;
+    }
+
+    /**
+     * @return True if VectorSupport computes values.
+     */
+    private static boolean isVectorized() {
+        final int len = 64;
+        return VectorSupport.exp(new double[len], 0, new double[len], 0, len, false) != 0;
+    }
+}